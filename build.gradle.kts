@@ -2,6 +2,8 @@ plugins {
 	java
 	id("org.springframework.boot") version "4.0.1"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.3"
+	id("org.graalvm.buildtools.native") version "0.11.3"
 }
 
 group = "com.weather"
@@ -36,3 +38,90 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+graalvmNative {
+	binaries {
+		named("main") {
+			// keep the custom Flight Recorder events available in the native image
+			buildArgs.add("--enable-monitoring=jfr")
+		}
+	}
+}
+
+// Class data sharing archive for the AOT-processed application: ./gradlew cdsArchive, then run
+// java -XX:SharedArchiveFile=build/cds/application.jsa -Dspring.aot.enabled=true -jar build/cds/station-0.0.1-SNAPSHOT.jar
+val cdsDirectory = layout.buildDirectory.dir("cds")
+
+val extractBootJar = tasks.register<JavaExec>("extractBootJar") {
+	description = "Extracts the boot jar into the layout required for class data sharing."
+	group = "build"
+	classpath = files(tasks.bootJar)
+	systemProperty("jarmode", "tools")
+	args("extract", "--force", "--destination", cdsDirectory.get().asFile.path)
+	outputs.dir(cdsDirectory)
+}
+
+tasks.register<JavaExec>("cdsArchive") {
+	description = "Trains a class data sharing archive by starting the extracted application up to context refresh."
+	group = "build"
+	dependsOn(extractBootJar)
+	workingDir = cdsDirectory.get().asFile
+	classpath = files(cdsDirectory.map { it.file("${project.name}-${project.version}.jar") })
+	jvmArgs("-XX:ArchiveClassesAtExit=${cdsDirectory.get().file("application.jsa").asFile.path}",
+		"-Dspring.aot.enabled=true", "-Dspring.context.exit=onRefresh")
+}
+
+jmh {
+	jmhVersion = "1.37"
+	benchmarkMode = listOf("thrpt", "avgt")
+	timeUnit = "us"
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	profilers = listOf("gc")
+	resultFormat = "JSON"
+	// Narrow the run with e.g. -PjmhIncludes=WeatherDataGenerator
+	includes = listOf(providers.gradleProperty("jmhIncludes").getOrElse(".*"))
+}
+
+tasks.register<JavaExec>("streamLoadTest") {
+	description = "Opens many live stream subscribers against a local instance and reports fan-out latency."
+	group = "verification"
+	classpath = sourceSets["jmh"].runtimeClasspath
+	mainClass = "com.weather.station.benchmark.StreamLoadTest"
+	// e.g. ./gradlew streamLoadTest -Psubscribers=10000 -Pseconds=30
+	args(providers.gradleProperty("subscribers").getOrElse("10000"), providers.gradleProperty("seconds").getOrElse("30"))
+}
+
+tasks.register<JavaExec>("udpLoadTest") {
+	description = "Blasts sensor datagrams at a local UDP listener and reports packets per second and drop rate."
+	group = "verification"
+	classpath = sourceSets["jmh"].runtimeClasspath
+	mainClass = "com.weather.station.benchmark.UdpLoadTest"
+	// e.g. ./gradlew udpLoadTest -Psenders=2 -Pseconds=10 -Prate=0
+	args(providers.gradleProperty("senders").getOrElse("2"), providers.gradleProperty("seconds").getOrElse("10"),
+		providers.gradleProperty("rate").getOrElse("0"))
+}
+
+tasks.register<JavaExec>("httpLoadTest") {
+	description = "Compares request throughput and latency on platform and virtual threads."
+	group = "verification"
+	classpath = sourceSets["jmh"].runtimeClasspath
+	mainClass = "com.weather.station.benchmark.HttpLoadTest"
+	// e.g. ./gradlew httpLoadTest -Pmodes=platform,virtual -Pconnections=1000,10000 -Pseconds=30
+	args(providers.gradleProperty("modes").getOrElse("platform,virtual"),
+		providers.gradleProperty("connections").getOrElse("1000,10000"),
+		providers.gradleProperty("seconds").getOrElse("30"),
+		providers.gradleProperty("path").getOrElse("/api/weather/{city}/current"))
+}
+
+tasks.register<JavaExec>("overloadTest") {
+	description = "Compares tail latency under overload with and without stale serving and load shedding."
+	group = "verification"
+	classpath = sourceSets["jmh"].runtimeClasspath
+	mainClass = "com.weather.station.benchmark.OverloadTest"
+	// e.g. ./gradlew overloadTest -Pconnections=2000 -Pseconds=30
+	args(providers.gradleProperty("connections").getOrElse("2000"),
+		providers.gradleProperty("seconds").getOrElse("30"),
+		providers.gradleProperty("path").getOrElse("/api/weather/{city}/forecast"))
+}
@@ -0,0 +1,112 @@
+#!/usr/bin/env bash
+#
+# Compares cold start of the application in its JVM, class data sharing (CDS), Spring AOT and
+# native image modes: wall time from launch to the first successful response, the latency of that
+# first request (lazy initialisation of the web stack happens there) and the resident set size.
+#
+# usage: scripts/startup-benchmark.sh [runs] [modes]
+#   runs   startups per mode; medians are reported (default 5)
+#   modes  comma-separated subset of jar,cds,aot,aot-cds,native (default: all)
+#
+#   jar      java -jar on the boot jar
+#   cds      extracted jar with a CDS archive
+#   aot      extracted jar with -Dspring.aot.enabled=true
+#   aot-cds  both, the artifact produced by ./gradlew cdsArchive
+#   native   GraalVM native image, built with ./gradlew nativeCompile when native-image is on the
+#            PATH; skipped otherwise
+#
+# CDS archives only work with the JVM that created them, so both are trained here with the java
+# the benchmark runs ($JAVA_HOME/bin/java, or java from the PATH). PORT overrides the HTTP port.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+MODES=${2:-jar,cds,aot,aot-cds,native}
+PORT=${PORT:-18080}
+URL="http://localhost:$PORT/api/weather/current"
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+JAR=station-0.0.1-SNAPSHOT.jar
+CDS_DIR=$PWD/build/cds
+NATIVE=$PWD/build/native/nativeCompile/station
+WORK=$(mktemp -d)
+APP_PID=
+
+cleanup() {
+    if [[ -n $APP_PID ]]; then
+        kill "$APP_PID" 2>/dev/null || true
+    fi
+    rm -rf "$WORK"
+}
+trap cleanup EXIT
+
+./gradlew -q extractBootJar
+for archive in jvm application; do
+    aot=false
+    [[ $archive == application ]] && aot=true
+    echo "Training $archive.jsa (spring.aot.enabled=$aot)"
+    (cd "$WORK" && "$JAVA" -XX:ArchiveClassesAtExit="$CDS_DIR/$archive.jsa" -Dspring.aot.enabled=$aot \
+        -Dspring.context.exit=onRefresh -jar "$CDS_DIR/$JAR" --weather.history.directory="$WORK/history" >/dev/null)
+done
+if [[ ,$MODES, == *,native,* && ! -x $NATIVE ]] && command -v native-image >/dev/null; then
+    ./gradlew -q nativeCompile
+fi
+
+command_for() {
+    case $1 in
+        jar) echo "$JAVA -jar $PWD/build/libs/$JAR" ;;
+        cds) echo "$JAVA -XX:SharedArchiveFile=$CDS_DIR/jvm.jsa -jar $CDS_DIR/$JAR" ;;
+        aot) echo "$JAVA -Dspring.aot.enabled=true -jar $CDS_DIR/$JAR" ;;
+        aot-cds) echo "$JAVA -XX:SharedArchiveFile=$CDS_DIR/application.jsa -Dspring.aot.enabled=true" \
+            "-jar $CDS_DIR/$JAR" ;;
+        native) echo "$NATIVE" ;;
+        *) echo "Unknown mode: $1" >&2; exit 1 ;;
+    esac
+}
+
+# Starts the application once and prints "<ms to first response> <first request ms> <rss kB>".
+measure() {
+    local launch start timing end rss
+    launch=$(command_for "$1")
+    start=$(date +%s%N)
+    # shellcheck disable=SC2086
+    (cd "$WORK" && exec $launch --server.port="$PORT" --weather.history.directory="$WORK/history" \
+        >"$WORK/$1.log" 2>&1) &
+    APP_PID=$!
+    until timing=$(curl -s -o /dev/null -w '%{http_code} %{time_total}' "$URL") && [[ $timing == 200* ]]; do
+        if ! kill -0 "$APP_PID" 2>/dev/null; then
+            echo "$1 exited before serving a request:" >&2
+            cat "$WORK/$1.log" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    end=$(date +%s%N)
+    rss=$(ps -o rss= -p "$APP_PID")
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null || true
+    APP_PID=
+    echo "$(( (end - start) / 1000000 )) $(awk -v t="${timing#* }" 'BEGIN { printf "%.1f", t * 1000 }') $rss"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+printf '\n%-8s %14s %18s %9s\n' mode "startup (ms)" "first request (ms)" "RSS (MB)"
+IFS=, read -ra selected <<<"$MODES"
+for mode in "${selected[@]}"; do
+    if [[ $mode == native && ! -x $NATIVE ]]; then
+        printf '%-8s %s\n' "$mode" "skipped: native-image not found"
+        continue
+    fi
+    : >"$WORK/results"
+    for ((run = 0; run < RUNS; run++)); do
+        measure "$mode" >>"$WORK/results"
+    done
+    printf '%-8s %14s %18s %9s\n' "$mode" \
+        "$(cut -d' ' -f1 "$WORK/results" | median)" \
+        "$(cut -d' ' -f2 "$WORK/results" | median)" \
+        "$(cut -d' ' -f3 "$WORK/results" | median | awk '{ printf "%.0f", $1 / 1024 }')"
+done
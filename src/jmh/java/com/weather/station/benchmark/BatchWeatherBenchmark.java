@@ -0,0 +1,77 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.model.dto.BatchWeatherResponse;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.BatchWeatherService;
+import com.weather.station.service.WeatherService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Multi-city current weather: one batch call versus one service call per city.
+ * <p>
+ * {@code simulation=false} makes every lookup pay the generation cost, which is where
+ * the virtual-thread fan-out pays off; with the simulation enabled lookups are snapshot
+ * reads and the benchmark mostly shows the fan-out overhead.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class BatchWeatherBenchmark {
+
+    @Param({"100", "10000"})
+    public int cities;
+
+    @Param({"true", "false"})
+    public boolean simulation;
+
+    private WeatherService weatherService;
+    private BatchWeatherService batchWeatherService;
+    private ExecutorService executor;
+    private List<String> names;
+
+    @Setup
+    public void setUp() {
+        WeatherConfig config = BenchmarkFixtures.defaultConfig();
+        config.getSimulation().setEnabled(simulation);
+        config.getBatch().setMaxCities(cities);
+        config.getBatch().setChunkSize(256);
+
+        StationRegistry registry = BenchmarkFixtures.syntheticRegistry(config, cities);
+        weatherService = BenchmarkFixtures.weatherService(config, registry);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        batchWeatherService = new BatchWeatherService(weatherService, registry, executor, config);
+
+        names = new ArrayList<>(cities);
+        for (int i = 0; i < cities; i++) {
+            names.add(registry.name(i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void sequentialPerCity(Blackhole blackhole) {
+        for (String city : names) {
+            blackhole.consume(weatherService.getCurrentWeather(city));
+        }
+    }
+
+    @Benchmark
+    public BatchWeatherResponse batch() {
+        return batchWeatherService.getCurrentWeather(names);
+    }
+}
@@ -0,0 +1,139 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.cache.ForecastCache;
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.dataset.DatasetFormat;
+import com.weather.station.metrics.WeatherMetrics;
+import com.weather.station.registry.StationDefinition;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.WeatherDataGenerator;
+import com.weather.station.service.WeatherService;
+import com.weather.station.simulation.WeatherSimulationEngine;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Shared fixtures for JMH benchmarks.
+ * <p>
+ * Benchmarks run outside the Spring context, so the configuration is assembled by hand
+ * with the same values as {@code application.properties}.
+ * </p>
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static WeatherConfig defaultConfig() {
+        WeatherConfig config = new WeatherConfig();
+
+        config.getCity().setName("Windholm");
+        config.getCity().setCountry("Fictionaland");
+        config.getCity().setTimezone("UTC");
+
+        config.getTemperature().setMin(-15.0);
+        config.getTemperature().setMax(35.0);
+        config.getTemperature().setForecastMin(-15.0);
+        config.getTemperature().setForecastMax(20.0);
+        config.getHumidity().setMin(20);
+        config.getHumidity().setMax(100);
+        config.getWindSpeed().setMin(0.0);
+        config.getWindSpeed().setMax(50.0);
+        config.getPrecipitation().setMin(0);
+        config.getPrecipitation().setMax(100);
+        config.getForecast().setDays(7);
+        config.getForecast().setMaxHours(384);
+        config.getForecast().setPageSize(48);
+
+        config.getFormat().setTimestamp("yyyy-MM-dd'T'HH:mm:ss");
+        config.getFormat().setDate("yyyy-MM-dd");
+        config.getFormat().setDecimalPlaces(1);
+
+        config.getSimulation().setEnabled(true);
+        config.getSimulation().setTickMillis(1000);
+        config.getSimulation().setPersistence(0.95);
+        config.getSimulation().setTemperatureVolatility(0.3);
+        config.getSimulation().setHumidityVolatility(1.0);
+        config.getSimulation().setWindSpeedVolatility(0.8);
+        config.getSimulation().setConditionPersistence(0.97);
+
+        config.getForecastCache().setEnabled(true);
+        config.getForecastCache().setTtl(Duration.ofHours(24));
+        config.getForecastCache().setMaxEntries(10000);
+        config.getForecastCache().setCoalesce(true);
+        config.getGeneration().setSeed(20250114L);
+        config.getGeneration().setBucket(Duration.ofMinutes(1));
+        config.getMetrics().setEnabled(true);
+        config.getMetrics().setFirstRequests(1000);
+
+        config.getIngest().setBufferCapacity(1 << 20);
+        config.getIngest().setMaxReadings(100000);
+        config.getIngest().setDrainBatch(4096);
+        config.getIngest().setSensorTimeout(Duration.ofMinutes(5));
+        config.getUdp().setEnabled(false);
+        config.getUdp().setAddress("0.0.0.0");
+        config.getUdp().setPort(9876);
+        config.getUdp().setReceiveBuffer(4 << 20);
+        config.getWarmup().setEnabled(false);
+        config.getWarmup().setIterations(20000);
+        config.getWarmup().setTimeBudget(Duration.ofSeconds(15));
+        config.getWarmup().setSample(500);
+        config.getOverload().setEnabled(false);
+        config.getOverload().setMaxInFlight(64);
+        config.getOverload().setLatencyThreshold(Duration.ofMillis(50));
+        config.getOverload().setFreshFor(Duration.ofSeconds(1));
+        config.getOverload().setMaxStale(Duration.ofSeconds(60));
+
+        config.getDataset().setEnabled(false);
+        config.getDataset().setStations(10000);
+        config.getDataset().setSteps(1440);
+        config.getDataset().setStart("2025-01-14T00:00:00Z");
+        config.getDataset().setFormat(DatasetFormat.CSV);
+        config.getDataset().setDirectory("data/dataset");
+        config.getDataset().setStationsPerPart(256);
+        config.getDataset().setParallelism(0);
+
+        return config;
+    }
+
+    static StationRegistry singleStationRegistry(WeatherConfig config) {
+        StationRegistry.Builder builder = StationRegistry.builder(1);
+        builder.add(StationDefinition.fromConfig(config));
+        return builder.build();
+    }
+
+    /**
+     * Registry with the default station followed by {@code count - 1} synthetic stations
+     * named {@code Station-1}, {@code Station-2}, ...
+     */
+    static StationRegistry syntheticRegistry(WeatherConfig config, int count) {
+        StationDefinition defaults = StationDefinition.fromConfig(config);
+        StationRegistry.Builder builder = StationRegistry.builder(count);
+        builder.add(defaults);
+        for (int i = 1; i < count; i++) {
+            builder.add(new StationDefinition("Station-" + i, defaults.country(), defaults.timezone(),
+                    defaults.temperatureMin(), defaults.temperatureMax(),
+                    defaults.forecastTemperatureMin(), defaults.forecastTemperatureMax(),
+                    defaults.humidityMin(), defaults.humidityMax(),
+                    defaults.windSpeedMin(), defaults.windSpeedMax()));
+        }
+        return builder.build();
+    }
+
+    static WeatherService weatherService(WeatherConfig config) {
+        return weatherService(config, singleStationRegistry(config));
+    }
+
+    static WeatherService weatherService(WeatherConfig config, StationRegistry registry) {
+        WeatherDataGenerator generator = new WeatherDataGenerator(config);
+        WeatherConfig.ForecastCacheConfig cache = config.getForecastCache();
+        ForecastCache forecastCache = cache.isEnabled()
+                ? new ForecastCache(registry, cache.getTtl(), cache.getMaxEntries(), Clock.systemUTC(),
+                        cache.isCoalesce())
+                : ForecastCache.disabled(registry, cache.isCoalesce());
+        return new WeatherService(generator, new WeatherSimulationEngine(generator, config, registry, List.of()),
+                registry, forecastCache, new WeatherMetrics(config.getMetrics().isEnabled()));
+    }
+}
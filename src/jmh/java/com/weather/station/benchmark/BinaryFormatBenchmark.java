@@ -0,0 +1,113 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.binary.WeatherBinaryDecoder;
+import com.weather.station.binary.WeatherBinaryEncoder;
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.model.dto.BatchWeatherResponse;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.WeatherService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encode and decode cost of the binary response format against Jackson JSON, for a forecast
+ * and a multi-city batch of {@code cities} current readings. Encoding reuses one encoder the
+ * way the HTTP converter does on platform threads.
+ */
+@State(Scope.Benchmark)
+public class BinaryFormatBenchmark {
+
+    @Param({"100", "10000"})
+    public int cities;
+
+    private JsonMapper jsonMapper;
+    private WeatherBinaryEncoder encoder;
+    private BatchWeatherResponse batch;
+    private ForecastResponse forecast;
+    private byte[] batchJson;
+    private byte[] batchBinary;
+    private byte[] forecastJson;
+    private byte[] forecastBinary;
+
+    @Setup
+    public void setUp() {
+        WeatherConfig config = BenchmarkFixtures.defaultConfig();
+        StationRegistry registry = BenchmarkFixtures.syntheticRegistry(config, cities);
+        WeatherService weatherService = BenchmarkFixtures.weatherService(config, registry);
+
+        List<CurrentWeatherResponse> results = new ArrayList<>(cities);
+        for (int i = 0; i < cities; i++) {
+            results.add(weatherService.getCurrentWeather(registry.name(i)));
+        }
+        batch = new BatchWeatherResponse(cities, results, List.of());
+        forecast = weatherService.getForecast();
+
+        jsonMapper = JsonMapper.builder().build();
+        encoder = new WeatherBinaryEncoder(1024);
+        batchJson = jsonMapper.writeValueAsBytes(batch);
+        forecastJson = jsonMapper.writeValueAsBytes(forecast);
+        batchBinary = encodeBatch();
+        forecastBinary = encodeForecast();
+    }
+
+    @Benchmark
+    public byte[] jsonEncodeBatch() {
+        return jsonMapper.writeValueAsBytes(batch);
+    }
+
+    @Benchmark
+    public byte[] binaryEncodeBatch() {
+        return encodeBatch();
+    }
+
+    @Benchmark
+    public BatchWeatherResponse jsonDecodeBatch() {
+        return jsonMapper.readValue(batchJson, BatchWeatherResponse.class);
+    }
+
+    @Benchmark
+    public BatchWeatherResponse binaryDecodeBatch() {
+        return WeatherBinaryDecoder.decodeBatch(batchBinary);
+    }
+
+    @Benchmark
+    public byte[] jsonEncodeForecast() {
+        return jsonMapper.writeValueAsBytes(forecast);
+    }
+
+    @Benchmark
+    public byte[] binaryEncodeForecast() {
+        return encodeForecast();
+    }
+
+    @Benchmark
+    public ForecastResponse jsonDecodeForecast() {
+        return jsonMapper.readValue(forecastJson, ForecastResponse.class);
+    }
+
+    @Benchmark
+    public ForecastResponse binaryDecodeForecast() {
+        return WeatherBinaryDecoder.decodeForecast(forecastBinary);
+    }
+
+    private byte[] encodeBatch() {
+        encoder.reset();
+        encoder.encode(batch);
+        return encoder.toByteArray();
+    }
+
+    private byte[] encodeForecast() {
+        encoder.reset();
+        encoder.encode(forecast);
+        return encoder.toByteArray();
+    }
+}
@@ -0,0 +1,105 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.WeatherService;
+import com.weather.station.version.ResponseVersion;
+import com.weather.station.version.Versioned;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+/**
+ * A client polling {@code /api/weather/current} or {@code /api/weather/forecast}, with and
+ * without conditional requests, measured at the level of the controller's work: looking up the
+ * version, building the response and serializing it with Jackson.
+ * <p>
+ * {@code pollsPerChange} is how many polls see the same version: one poll in that many carries
+ * an outdated {@code If-None-Match} and gets a full response, the others get a 304. A sensor
+ * reporting every minute polled every ten seconds is 6; a daily forecast polled every five
+ * minutes is 288. {@code unconditional} sends the full response on every poll. The
+ * {@code bodyBytes} counter reports the response body bytes written, {@code notModified} the
+ * polls answered with a 304; divided by the operation count they give egress per poll.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class ConditionalGetBenchmark {
+
+    private static final List<String> OUTDATED = List.of("\"outdated\"");
+
+    @Param({"current", "forecast"})
+    public String endpoint;
+
+    @Param({"1", "6", "288"})
+    public int pollsPerChange;
+
+    private WeatherService weatherService;
+    private JsonMapper jsonMapper;
+    private List<String> current;
+    private long polls;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        weatherService = BenchmarkFixtures.weatherService(BenchmarkFixtures.defaultConfig());
+        jsonMapper = JsonMapper.builder().build();
+        // the simulation engine is not started, so the snapshot and the cached forecast keep their version
+        current = List.of(versioned().version().etag());
+    }
+
+    /**
+     * Egress of one polling thread during the iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Egress {
+
+        public long bodyBytes;
+        public long notModified;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bodyBytes = 0;
+            notModified = 0;
+        }
+    }
+
+    @Benchmark
+    public int unconditional(Egress egress) {
+        return write(versioned().value(), egress);
+    }
+
+    @Benchmark
+    public int conditional(Egress egress) {
+        List<String> ifNoneMatch = polls++ % pollsPerChange == 0 ? OUTDATED : current;
+        ResponseVersion version = version();
+        if (version != null && version.notModified(ifNoneMatch, -1)) {
+            egress.notModified++;
+            return 0;
+        }
+        return write(versioned().value(), egress);
+    }
+
+    private ResponseVersion version() {
+        return endpoint.equals("current")
+                ? weatherService.currentWeatherVersion(StationRegistry.DEFAULT_STATION)
+                : weatherService.forecastVersion(StationRegistry.DEFAULT_STATION);
+    }
+
+    private Versioned<?> versioned() {
+        return endpoint.equals("current")
+                ? weatherService.getVersionedCurrentWeather(StationRegistry.DEFAULT_STATION)
+                : weatherService.getVersionedForecast(StationRegistry.DEFAULT_STATION);
+    }
+
+    private int write(Object response, Egress egress) {
+        byte[] body = jsonMapper.writeValueAsBytes(response);
+        egress.bodyBytes += body.length;
+        return body.length;
+    }
+}
@@ -0,0 +1,71 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.dataset.DatasetFormat;
+import com.weather.station.dataset.DatasetGenerator;
+import com.weather.station.dataset.DatasetOptions;
+import com.weather.station.dataset.DatasetStats;
+import com.weather.station.service.WeatherDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Bulk dataset generation throughput per reading, for every file format, on one worker and on
+ * one worker per core.
+ * <p>
+ * Each operation writes 1024 stations × 60 steps in four parts, so scores are readings per
+ * microsecond; multiply by 60M for readings per minute. Files are overwritten by every
+ * operation and go to the default temporary directory, which therefore bounds the result when
+ * it is slower than the encoders.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class DatasetGeneratorBenchmark {
+
+    private static final int STATIONS = 1024;
+    private static final int STEPS = 60;
+
+    @Param({"CSV", "NDJSON", "BINARY"})
+    public DatasetFormat format;
+
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private Path directory;
+    private DatasetGenerator datasetGenerator;
+    private DatasetOptions options;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        WeatherConfig config = BenchmarkFixtures.defaultConfig();
+        directory = Files.createTempDirectory("dataset-bench");
+        datasetGenerator = new DatasetGenerator(new WeatherDataGenerator(config),
+                BenchmarkFixtures.syntheticRegistry(config, 64), parallelism);
+        options = new DatasetOptions(STATIONS, STEPS, System.currentTimeMillis(), format, directory, STATIONS / 4);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STATIONS * STEPS)
+    public DatasetStats generate() throws IOException {
+        return datasetGenerator.generate(options);
+    }
+}
@@ -0,0 +1,72 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.cache.ForecastCache;
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.WeatherService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * A burst of identical forecast requests: eight request threads asking for the same station's
+ * forecast with caching disabled, so every request that does not join another's generation
+ * generates the forecast itself.
+ * <p>
+ * {@code coalesce=false} generates once per request. With {@code true}, requests arriving while
+ * a generation runs share its result. The {@code generations} counter reports how many
+ * forecasts were actually generated; divided by the operation count it is the fraction of the
+ * generation CPU still spent.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class ForecastBurstBenchmark {
+
+    @Param({"false", "true"})
+    public boolean coalesce;
+
+    private ForecastCache burst;
+    private WeatherService generator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WeatherConfig config = BenchmarkFixtures.defaultConfig();
+        config.getSimulation().setEnabled(false);
+        config.getForecastCache().setEnabled(false);
+        config.getForecastCache().setCoalesce(false);
+        config.getMetrics().setEnabled(false);
+        StationRegistry registry = BenchmarkFixtures.singleStationRegistry(config);
+        generator = BenchmarkFixtures.weatherService(config, registry);
+        burst = ForecastCache.disabled(registry, coalesce);
+    }
+
+    /**
+     * Forecasts generated by one request thread during the iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Generations {
+
+        public long generations;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            generations = 0;
+        }
+    }
+
+    @Benchmark
+    public ForecastResponse getForecast(Generations counter) {
+        return burst.get(StationRegistry.DEFAULT_STATION, (station, today) -> {
+            counter.generations++;
+            return generator.getForecast(station);
+        });
+    }
+}
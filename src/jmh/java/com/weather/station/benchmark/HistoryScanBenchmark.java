@@ -0,0 +1,89 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.history.HistoryStore;
+import com.weather.station.history.HistoryStoreOptions;
+import com.weather.station.model.enums.WeatherCondition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/**
+ * Full-scan throughput of sealed history segments, raw versus Gorilla-compressed.
+ * <p>
+ * Scores are per record; multiply the throughput by 32 bytes for the raw-equivalent MB/s
+ * decoded. The directory is reopened after writing so every segment is sealed and, when
+ * compression is on, compacted.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class HistoryScanBenchmark {
+
+    private static final int RECORDS = 1 << 20;
+    private static final int STATIONS = 64;
+
+    @Param({"false", "true"})
+    public boolean compress;
+
+    private Path directory;
+    private HistoryStore store;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("history-scan-bench");
+        HistoryStoreOptions options = new HistoryStoreOptions(RECORDS / 4, 0, compress, 1);
+        SplittableRandom random = new SplittableRandom(42);
+        double[] temperature = new double[STATIONS];
+        long epochMillis = System.currentTimeMillis();
+        try (HistoryStore writer = HistoryStore.open(directory, options)) {
+            for (int i = 0; i < RECORDS; i++) {
+                int station = i % STATIONS;
+                temperature[station] = 0.95 * temperature[station] + 0.3 * (random.nextDouble() - 0.5);
+                writer.append(epochMillis + (i / STATIONS) * 1000L, station, 12.0 + temperature[station],
+                        65, 10.0, WeatherCondition.CLOUDY);
+            }
+        }
+        // the last segment filled up without rolling; reopening seals and compacts it
+        HistoryStore.open(directory, options).close();
+        store = HistoryStore.open(directory, options);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void scanAll(Blackhole blackhole) {
+        store.scan(Long.MIN_VALUE, Long.MAX_VALUE, -1, (epochMillis, station, temperature, humidity, windSpeed, condition) -> {
+            blackhole.consume(temperature);
+            blackhole.consume(epochMillis);
+            return true;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS / STATIONS)
+    public void scanStation(Blackhole blackhole) {
+        store.scan(Long.MIN_VALUE, Long.MAX_VALUE, 7, (epochMillis, station, temperature, humidity, windSpeed, condition) -> {
+            blackhole.consume(temperature);
+            return true;
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.history.HistoryStore;
+import com.weather.station.model.enums.WeatherCondition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Single-threaded append throughput of the memory-mapped {@link HistoryStore}.
+ * <p>
+ * Retention is capped at four 1M-record segments so the benchmark does not fill the disk.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@Threads(1)
+public class HistoryStoreBenchmark {
+
+    private Path directory;
+    private HistoryStore store;
+    private long epochMillis;
+    private int station;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("history-bench");
+        store = HistoryStore.open(directory, 1 << 20, 4);
+        epochMillis = System.currentTimeMillis();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void append() {
+        store.append(epochMillis++, station++ & 1023, 12.5, 68, 14.2, WeatherCondition.CLOUDY);
+    }
+}
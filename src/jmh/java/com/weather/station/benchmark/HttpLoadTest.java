@@ -0,0 +1,127 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.StationApplication;
+import com.weather.station.metrics.LatencyHistogram;
+import com.weather.station.metrics.LatencySnapshot;
+import com.weather.station.registry.StationRegistry;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local closed-loop HTTP load test comparing request handling on Tomcat's platform worker
+ * pool with virtual threads ({@code spring.threads.virtual.enabled}).
+ * <p>
+ * For each mode the application is booted on a random port; for each connection count that
+ * many clients send requests back to back for a warm-up period and then a measured period,
+ * and throughput and latency percentiles are printed as one table. Client and server share
+ * the machine, so absolute numbers only compare the modes with each other. Not a JMH
+ * benchmark; run it with
+ * </p>
+ * <pre>
+ * ./gradlew httpLoadTest -Pmodes=platform,virtual -Pconnections=1000,10000 -Pseconds=30 \
+ *     -Ppath=/api/weather/{city}/current
+ * </pre>
+ * <p>
+ * {@code {city}} in the path rotates through the station catalog. Raise {@code ulimit -n}
+ * well above twice the largest connection count.
+ * </p>
+ */
+public final class HttpLoadTest {
+
+    private static final int WARMUP_SECONDS = 10;
+
+    private HttpLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> modes = List.of((args.length > 0 ? args[0] : "platform,virtual").split(","));
+        int[] connections = Arrays.stream((args.length > 1 ? args[1] : "1000,10000").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        String path = args.length > 3 ? args[3] : "/api/weather/{city}/current";
+        int maxConnections = Arrays.stream(connections).max().orElse(0);
+
+        List<String> rows = new ArrayList<>();
+        for (String mode : modes) {
+            ConfigurableApplicationContext context = SpringApplication.run(StationApplication.class,
+                    "--server.port=0",
+                    "--spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                    "--server.tomcat.max-connections=" + (maxConnections + 1_000),
+                    "--server.tomcat.accept-count=" + maxConnections,
+                    "--weather.history.enabled=false",
+                    "--logging.level.root=WARN");
+            try {
+                int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+                StationRegistry registry = context.getBean(StationRegistry.class);
+                for (int clients : connections) {
+                    rows.add(String.format("%-9s %11d %s", mode, clients,
+                            run(port, registry, path, clients, seconds)));
+                }
+            } finally {
+                context.close();
+            }
+        }
+
+        System.out.printf("%nGET %s, %d s measured after %d s warm-up%n", path, seconds, WARMUP_SECONDS);
+        System.out.printf("%-9s %11s %12s %9s %9s %9s %8s%n",
+                "mode", "connections", "requests/s", "p50 ms", "p99 ms", "p999 ms", "errors");
+        rows.forEach(System.out::println);
+    }
+
+    private static String run(int port, StationRegistry registry, String path, int clients, int seconds)
+            throws InterruptedException {
+        LatencyHistogram latencies = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long measureTo = measureFrom + TimeUnit.SECONDS.toNanos(seconds);
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(workers)
+                    .build();
+            for (int i = 0; i < clients; i++) {
+                URI uri = URI.create("http://localhost:" + port
+                        + path.replace("{city}", registry.name(i % registry.size())));
+                HttpRequest request = HttpRequest.newBuilder(uri).build();
+                workers.execute(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < measureTo) {
+                        boolean ok;
+                        try {
+                            ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                        } catch (Exception ex) {
+                            ok = false;
+                        }
+                        if (now >= measureFrom) {
+                            if (ok) {
+                                latencies.record(System.nanoTime() - now);
+                            } else {
+                                errors.increment();
+                            }
+                        }
+                    }
+                });
+            }
+        }
+        LatencySnapshot snapshot = latencies.snapshot();
+        return String.format("%12.0f %9.2f %9.2f %9.2f %8d",
+                snapshot.count() / (double) seconds,
+                snapshot.p50Micros() / 1_000, snapshot.p99Micros() / 1_000,
+                snapshot.p999Micros() / 1_000, errors.sum());
+    }
+}
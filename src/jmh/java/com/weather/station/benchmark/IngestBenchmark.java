@@ -0,0 +1,127 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.history.HistoryRecorder;
+import com.weather.station.history.HistoryStations;
+import com.weather.station.history.HistoryStore;
+import com.weather.station.history.HistoryStoreOptions;
+import com.weather.station.ingest.IngestPipeline;
+import com.weather.station.model.dto.SensorReading;
+import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.rollup.RollupRecorder;
+import com.weather.station.rollup.RollupStore;
+import com.weather.station.service.WeatherDataGenerator;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Sustained sensor ingestion throughput, in readings per second, from four request threads
+ * into the history store and rollups of 1,024 stations.
+ * <p>
+ * Producers retry a batch while the buffer is full, so once the buffer has filled up the score
+ * is the rate at which the single writer publishes readings rather than the enqueue rate.
+ * Request parsing and validation are not included. History retention is capped at four
+ * 1M-record segments so the benchmark does not fill the disk.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class IngestBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int STATIONS = 1024;
+
+    private Path directory;
+    private HistoryStore historyStore;
+    private IngestPipeline pipeline;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        WeatherConfig config = BenchmarkFixtures.defaultConfig();
+        config.getSimulation().setEnabled(false);
+        StationRegistry registry = BenchmarkFixtures.syntheticRegistry(config, STATIONS);
+        directory = Files.createTempDirectory("ingest-bench");
+        historyStore = HistoryStore.open(directory, new HistoryStoreOptions(1 << 20, 4, false, 1));
+        RollupStore rollupStore = new RollupStore(registry, Duration.ofDays(2), Duration.ofDays(400),
+                Duration.ofDays(3660));
+        WeatherSimulationEngine engine = new WeatherSimulationEngine(new WeatherDataGenerator(config), config,
+                registry, List.of(new HistoryRecorder(historyStore, HistoryStations.open(directory, registry)),
+                new RollupRecorder(rollupStore)));
+        pipeline = new IngestPipeline(engine, config.getIngest().getBufferCapacity(),
+                config.getIngest().getDrainBatch());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pipeline.close();
+        historyStore.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * One sensor's batch of readings, one second apart, as a request thread would hold it after
+     * parsing.
+     */
+    @State(Scope.Thread)
+    public static class Producer {
+
+        @Param({"1", "1000"})
+        public int batchSize;
+
+        int station;
+        List<SensorReading> readings;
+        long[] epochMillis;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            station = random.nextInt(STATIONS);
+            readings = new ArrayList<>(batchSize);
+            epochMillis = new long[batchSize];
+            long start = System.currentTimeMillis();
+            for (int i = 0; i < batchSize; i++) {
+                readings.add(SensorReading.builder()
+                        .temperature(random.nextDouble(-10.0, 30.0))
+                        .humidity(random.nextInt(20, 100))
+                        .windSpeed(random.nextDouble(0.0, 40.0))
+                        .condition(WeatherCondition.CLOUDY)
+                        .build());
+                epochMillis[i] = start + i * 1000L;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void ingest(Producer producer) {
+        // a single-reading batch is offered BATCH_SIZE times so both variants score per reading
+        int rounds = BATCH_SIZE / producer.batchSize;
+        for (int i = 0; i < rounds; i++) {
+            while (!pipeline.offer(producer.station, producer.readings, producer.epochMillis)) {
+                // leave the core to the writer, as a client backing off on 503 would
+                Thread.yield();
+            }
+        }
+    }
+}
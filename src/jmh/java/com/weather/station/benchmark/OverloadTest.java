@@ -0,0 +1,137 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.StationApplication;
+import com.weather.station.controller.WeatherController;
+import com.weather.station.metrics.LatencyHistogram;
+import com.weather.station.metrics.LatencySnapshot;
+import com.weather.station.registry.StationRegistry;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local overload test comparing tail latency with and without stale-while-revalidate serving
+ * and load shedding ({@code weather.overload.enabled}).
+ * <p>
+ * For each mode the application is booted on a random port with the simulation and the
+ * forecast cache off, so every request that is not served stale computes its response. Many
+ * more clients than Tomcat has worker threads then send requests back to back for a warm-up
+ * period and a measured period. The table shows throughput, latency percentiles of successful
+ * responses, the share of them served stale and the number shed with {@code 503}. Client and
+ * server share the machine, so absolute numbers only compare the modes with each other. Not a
+ * JMH benchmark; run it with
+ * </p>
+ * <pre>
+ * ./gradlew overloadTest -Pconnections=2000 -Pseconds=30 -Ppath=/api/weather/{city}/forecast
+ * </pre>
+ * <p>
+ * {@code {city}} in the path rotates through the station catalog. Raise {@code ulimit -n}
+ * well above twice the connection count.
+ * </p>
+ */
+public final class OverloadTest {
+
+    private static final int WARMUP_SECONDS = 10;
+    private static final List<String> MODES = List.of("off", "on");
+
+    private OverloadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        String path = args.length > 2 ? args[2] : "/api/weather/{city}/forecast";
+
+        List<String> rows = new ArrayList<>();
+        for (String mode : MODES) {
+            ConfigurableApplicationContext context = SpringApplication.run(StationApplication.class,
+                    "--server.port=0",
+                    "--server.tomcat.max-connections=" + (connections + 1_000),
+                    "--server.tomcat.accept-count=" + connections,
+                    "--weather.overload.enabled=" + "on".equals(mode),
+                    "--weather.simulation.enabled=false",
+                    "--weather.forecast-cache.enabled=false",
+                    "--weather.history.enabled=false",
+                    "--logging.level.root=WARN");
+            try {
+                int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+                StationRegistry registry = context.getBean(StationRegistry.class);
+                rows.add(String.format("%-8s %s", mode, run(port, registry, path, connections, seconds)));
+            } finally {
+                context.close();
+            }
+        }
+
+        System.out.printf("%nGET %s, %d connections, %d s measured after %d s warm-up%n",
+                path, connections, seconds, WARMUP_SECONDS);
+        System.out.printf("%-8s %12s %9s %9s %9s %9s %8s %9s %8s%n",
+                "overload", "requests/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "stale %", "shed", "errors");
+        rows.forEach(System.out::println);
+    }
+
+    private static String run(int port, StationRegistry registry, String path, int clients, int seconds)
+            throws InterruptedException {
+        LatencyHistogram latencies = new LatencyHistogram();
+        LongAdder stale = new LongAdder();
+        LongAdder shed = new LongAdder();
+        LongAdder errors = new LongAdder();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long measureTo = measureFrom + TimeUnit.SECONDS.toNanos(seconds);
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(workers)
+                    .build();
+            for (int i = 0; i < clients; i++) {
+                URI uri = URI.create("http://localhost:" + port
+                        + path.replace("{city}", registry.name(i % registry.size())));
+                HttpRequest request = HttpRequest.newBuilder(uri).build();
+                workers.execute(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < measureTo) {
+                        HttpResponse<Void> response;
+                        try {
+                            response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        } catch (Exception ex) {
+                            response = null;
+                        }
+                        if (now < measureFrom) {
+                            continue;
+                        }
+                        if (response == null) {
+                            errors.increment();
+                        } else if (response.statusCode() == 200) {
+                            latencies.record(System.nanoTime() - now);
+                            if (response.headers().firstValue(WeatherController.STALE_HEADER).isPresent()) {
+                                stale.increment();
+                            }
+                        } else if (response.statusCode() == 503) {
+                            shed.increment();
+                        } else {
+                            errors.increment();
+                        }
+                    }
+                });
+            }
+        }
+        LatencySnapshot snapshot = latencies.snapshot();
+        return String.format("%12.0f %9.2f %9.2f %9.2f %9.2f %8.1f %9d %8d",
+                snapshot.count() / (double) seconds,
+                snapshot.p50Micros() / 1_000, snapshot.p99Micros() / 1_000,
+                snapshot.p999Micros() / 1_000, snapshot.maxMicros() / 1_000,
+                snapshot.count() == 0 ? 0.0 : 100.0 * stale.sum() / snapshot.count(),
+                shed.sum(), errors.sum());
+    }
+}
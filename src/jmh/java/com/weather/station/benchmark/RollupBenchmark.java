@@ -0,0 +1,65 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.rollup.RollupBucket;
+import com.weather.station.rollup.RollupStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of {@link RollupStore} over a year of per-minute readings, and the cost
+ * of recording one reading into all tiers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RollupBenchmark {
+
+    private static final long MINUTE = 60_000L;
+    private static final long YEAR = Duration.ofDays(365).toMillis();
+
+    private RollupStore store;
+    private long end;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        store = new RollupStore(BenchmarkFixtures.singleStationRegistry(BenchmarkFixtures.defaultConfig()),
+                Duration.ofDays(2), Duration.ofDays(400), Duration.ofDays(3660));
+        long start = System.currentTimeMillis() - YEAR;
+        for (long t = start; t < start + YEAR; t += MINUTE) {
+            store.record(0, t, 10.0 + (t / MINUTE) % 20, 60, 12.5);
+        }
+        end = start + YEAR;
+        next = end;
+    }
+
+    @Benchmark
+    public List<RollupBucket> yearHourly() {
+        return store.query(0, end - YEAR, end, Duration.ofHours(1));
+    }
+
+    @Benchmark
+    public List<RollupBucket> yearDaily() {
+        return store.query(0, end - YEAR, end, Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public List<RollupBucket> dayByMinute() {
+        return store.query(0, end - Duration.ofDays(1).toMillis(), end, Duration.ofMinutes(1));
+    }
+
+    @Benchmark
+    public void record() {
+        store.record(0, next, 12.5, 68, 14.2);
+        next += 1000;
+    }
+}
@@ -0,0 +1,63 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.json.JsonOutput;
+import com.weather.station.json.WeatherJsonWriter;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.service.WeatherService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Serialization cost of the response DTOs, measured on pre-built instances so that generation
+ * does not leak into the numbers. Jackson's reflective serializers are compared with the
+ * hand-written {@link WeatherJsonWriter}, writing into a reused buffer the way the HTTP
+ * converter does on platform threads.
+ */
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private JsonMapper jsonMapper;
+    private CurrentWeatherResponse currentWeather;
+    private ForecastResponse forecast;
+    private WeatherJsonWriter jsonWriter;
+    private JsonOutput output;
+
+    @Setup
+    public void setUp() {
+        WeatherService weatherService = BenchmarkFixtures.weatherService(BenchmarkFixtures.defaultConfig());
+
+        jsonMapper = JsonMapper.builder().build();
+        currentWeather = weatherService.getCurrentWeather();
+        forecast = weatherService.getForecast();
+        jsonWriter = WeatherJsonWriter.matching(jsonMapper);
+        output = new JsonOutput();
+    }
+
+    @Benchmark
+    public byte[] serializeCurrentWeather() {
+        return jsonMapper.writeValueAsBytes(currentWeather);
+    }
+
+    @Benchmark
+    public byte[] serializeForecast() {
+        return jsonMapper.writeValueAsBytes(forecast);
+    }
+
+    @Benchmark
+    public byte[] writeCurrentWeather() {
+        output.reset();
+        jsonWriter.write(currentWeather, output);
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeForecast() {
+        output.reset();
+        jsonWriter.write(forecast, output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,37 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.registry.StationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Name lookup cost of {@link StationRegistry} at realistic catalog sizes.
+ */
+@State(Scope.Benchmark)
+public class StationRegistryBenchmark {
+
+    @Param({"1000", "100000"})
+    public int stations;
+
+    private StationRegistry registry;
+    private String[] queries;
+
+    @Setup
+    public void setUp() {
+        registry = BenchmarkFixtures.syntheticRegistry(BenchmarkFixtures.defaultConfig(), stations);
+        queries = new String[1024];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = "station-" + ThreadLocalRandom.current().nextInt(1, stations);
+        }
+    }
+
+    @Benchmark
+    public int lookupByName() {
+        return registry.indexOf(queries[ThreadLocalRandom.current().nextInt(queries.length)]);
+    }
+}
@@ -0,0 +1,169 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.StationApplication;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.stream.ReadingBroadcaster;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Local load test of {@code GET /api/weather/{city}/stream}.
+ * <p>
+ * Boots the application on a random port, opens {@code subscribers} SSE connections spread
+ * over the station catalog and, once all are connected, measures for {@code seconds} how many
+ * subscribers received each simulation tick and how long the fan-out of a tick took from the
+ * first to the last subscriber. Not a JMH benchmark; run it with
+ * </p>
+ * <pre>
+ * ./gradlew streamLoadTest -Psubscribers=10000 -Pseconds=30
+ * </pre>
+ * <p>
+ * Every connection holds a file descriptor on both the client and the server side, so
+ * {@code ulimit -n} must be well above twice the subscriber count.
+ * </p>
+ */
+public final class StreamLoadTest {
+
+    private StreamLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int subscribers = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+
+        ConfigurableApplicationContext context = SpringApplication.run(StationApplication.class,
+                "--server.port=0",
+                "--server.tomcat.max-connections=" + (subscribers + 1_000),
+                "--weather.stream.max-subscribers=" + subscribers,
+                "--weather.history.enabled=false",
+                "--logging.level.root=WARN");
+        try {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            run(port, context.getBean(StationRegistry.class), context.getBean(ReadingBroadcaster.class),
+                    subscribers, seconds);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void run(int port, StationRegistry registry, ReadingBroadcaster broadcaster,
+                            int subscribers, int seconds) throws InterruptedException {
+        Map<Long, Tick> ticks = new ConcurrentHashMap<>();
+        CountDownLatch connected = new CountDownLatch(subscribers);
+        AtomicInteger failed = new AtomicInteger();
+
+        try (ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(readers)
+                    .build();
+            long rampStart = System.nanoTime();
+            for (int i = 0; i < subscribers; i++) {
+                URI uri = URI.create("http://localhost:" + port + "/api/weather/"
+                        + registry.name(i % registry.size()) + "/stream");
+                HttpRequest request = HttpRequest.newBuilder(uri).header("Accept", "text/event-stream").build();
+                client.sendAsync(request, HttpResponse.BodyHandlers.ofLines())
+                        .thenAcceptAsync(response -> read(response.body(), ticks, connected), readers)
+                        .exceptionally(ex -> {
+                            failed.incrementAndGet();
+                            connected.countDown();
+                            return null;
+                        });
+            }
+            if (!connected.await(5, TimeUnit.MINUTES)) {
+                System.out.printf("Only %d of %d subscribers connected%n", subscribers - connected.getCount(),
+                        subscribers);
+            }
+            long measureStart = System.nanoTime();
+            System.out.printf("Connected %d subscribers (%d failed) in %d ms%n", subscribers - failed.get(),
+                    failed.get(), TimeUnit.NANOSECONDS.toMillis(measureStart - rampStart));
+
+            Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+            report(ticks, measureStart, subscribers - failed.get());
+            System.out.println("Server: " + broadcaster.stats());
+            readers.shutdownNow();
+        }
+    }
+
+    private static void read(Stream<String> lines, Map<Long, Tick> ticks, CountDownLatch connected) {
+        boolean first = true;
+        try (lines) {
+            for (String line : (Iterable<String>) lines::iterator) {
+                if (!line.startsWith("id:")) {
+                    continue;
+                }
+                long now = System.nanoTime();
+                if (first) {
+                    first = false;
+                    connected.countDown();
+                    continue;
+                }
+                ticks.computeIfAbsent(Long.parseLong(line.substring(3).trim()), sequence -> new Tick()).record(now);
+            }
+        } catch (RuntimeException ex) {
+            // connection closed on shutdown
+        }
+    }
+
+    private static void report(Map<Long, Tick> ticks, long measureStart, int subscribers) {
+        // the newest tick may still be in flight
+        long newest = ticks.keySet().stream().mapToLong(Long::longValue).max().orElse(-1);
+        List<Tick> measured = new ArrayList<>();
+        ticks.forEach((sequence, tick) -> {
+            if (sequence != newest && tick.first.get() > measureStart) {
+                measured.add(tick);
+            }
+        });
+        if (measured.isEmpty()) {
+            System.out.println("No ticks received; is weather.simulation.enabled=true?");
+            return;
+        }
+        long[] fanOutMicros = measured.stream()
+                .mapToLong(tick -> TimeUnit.NANOSECONDS.toMicros(tick.last.get() - tick.first.get()))
+                .sorted()
+                .toArray();
+        double coverage = measured.stream().mapToLong(tick -> tick.received.sum()).sum()
+                / ((double) measured.size() * subscribers);
+
+        System.out.printf("Ticks measured: %d, average coverage %.2f%% of %d subscribers%n",
+                measured.size(), coverage * 100, subscribers);
+        System.out.printf("Fan-out time first->last subscriber: p50=%d us, p99=%d us, max=%d us%n",
+                percentile(fanOutMicros, 0.50), percentile(fanOutMicros, 0.99), fanOutMicros[fanOutMicros.length - 1]);
+        System.out.println("Per-tick fan-out (us): " + Arrays.toString(fanOutMicros));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    private static final class Tick {
+
+        private final LongAdder received = new LongAdder();
+        private final LongAccumulator first = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator last = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        private void record(long nanos) {
+            received.increment();
+            first.accumulate(nanos);
+            last.accumulate(nanos);
+        }
+    }
+}
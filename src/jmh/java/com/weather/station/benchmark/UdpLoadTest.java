@@ -0,0 +1,145 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.StationApplication;
+import com.weather.station.ingest.IngestPipeline;
+import com.weather.station.ingest.SensorDatagramFormat;
+import com.weather.station.ingest.UdpReadingListener;
+import com.weather.station.ingest.UdpStats;
+import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.registry.StationRegistry;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Local packet blaster for the UDP sensor listener.
+ * <p>
+ * Boots the application with the listener on an ephemeral loopback port, then {@code senders}
+ * platform threads send {@link SensorDatagramFormat} datagrams for random stations for
+ * {@code seconds}, at {@code rate} datagrams per second in total or as fast as they can when
+ * the rate is 0. Reports the send and receive rates, the share of datagrams the operating
+ * system dropped before the listener saw them, and readings the ingest pipeline refused. Not a
+ * JMH benchmark; run it with
+ * </p>
+ * <pre>
+ * ./gradlew udpLoadTest -Psenders=2 -Pseconds=10 -Prate=0
+ * </pre>
+ * <p>
+ * Unthrottled senders on the same machine compete with the listener for CPU, so the drop rate
+ * at a fixed rate below the receive rate is the more telling number. On Linux the socket
+ * buffer is capped by {@code net.core.rmem_max}.
+ * </p>
+ */
+public final class UdpLoadTest {
+
+    private static final long SETTLE_MILLIS = 500;
+
+    private UdpLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int senders = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        long rate = args.length > 2 ? Long.parseLong(args[2]) : 0;
+
+        ConfigurableApplicationContext context = SpringApplication.run(StationApplication.class,
+                "--server.port=0",
+                "--weather.udp.enabled=true",
+                "--weather.udp.address=127.0.0.1",
+                "--weather.udp.port=0",
+                "--weather.history.enabled=false",
+                "--logging.level.root=WARN");
+        try {
+            run(context.getBean(UdpReadingListener.class), context.getBean(IngestPipeline.class),
+                    context.getBean(StationRegistry.class).size(), senders, seconds, rate);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void run(UdpReadingListener listener, IngestPipeline pipeline, int stations, int senders,
+                            int seconds, long rate) throws InterruptedException {
+        LongAdder sent = new LongAdder();
+        long intervalNanos = rate > 0 ? TimeUnit.SECONDS.toNanos(senders) / rate : 0;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < senders; i++) {
+            long seed = i;
+            threads.add(Thread.ofPlatform().name("udp-sender-" + i).start(
+                    () -> send(listener.localAddress(), stations, seed, intervalNanos, end, sent)));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long sendNanos = System.nanoTime() - start;
+
+        // let the listener drain the socket buffer before counting what was lost
+        UdpStats stats = listener.stats();
+        UdpStats previous;
+        do {
+            Thread.sleep(SETTLE_MILLIS);
+            previous = stats;
+            stats = listener.stats();
+        } while (stats.received() != previous.received());
+        pipeline.awaitWritten(Duration.ofSeconds(30));
+
+        long total = sent.sum();
+        double elapsed = sendNanos / 1e9;
+        long dropped = total - stats.received();
+        System.out.printf("Sent:     %,d datagrams from %d senders in %.1f s (%,.0f/s)%n", total, senders, elapsed,
+                total / elapsed);
+        System.out.printf("Received: %,d datagrams (%,.0f/s)%n", stats.received(), stats.received() / elapsed);
+        System.out.printf("Dropped by the OS: %,d (%.3f%%)%n", dropped, total == 0 ? 0.0 : dropped * 100.0 / total);
+        System.out.printf("Refused by the ingest pipeline: %,d, malformed: %,d%n", stats.rejected(),
+                stats.malformed());
+        System.out.println("Pipeline: " + pipeline.stats());
+    }
+
+    private static void send(InetSocketAddress target, int stations, long seed, long intervalNanos, long end,
+                             LongAdder sent) {
+        WeatherCondition[] conditions = WeatherCondition.values();
+        SplittableRandom random = new SplittableRandom(seed);
+        ByteBuffer datagram = ByteBuffer.allocateDirect(SensorDatagramFormat.DATAGRAM_BYTES);
+        long next = System.nanoTime();
+        long count = 0;
+        try (DatagramChannel channel = DatagramChannel.open().connect(target)) {
+            while (true) {
+                long now = System.nanoTime();
+                if (now - end >= 0) {
+                    break;
+                }
+                if (intervalNanos > 0) {
+                    if (now - next < 0) {
+                        LockSupport.parkNanos(next - now);
+                        continue;
+                    }
+                    next += intervalNanos;
+                }
+                datagram.clear();
+                SensorDatagramFormat.write(datagram, random.nextInt(stations), SensorDatagramFormat.RECEIPT_TIME,
+                        random.nextDouble(-10.0, 30.0), random.nextInt(20, 100), random.nextDouble(0.0, 40.0),
+                        conditions[random.nextInt(conditions.length)]);
+                channel.write(datagram.flip());
+                count++;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            sent.add(count);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.service.WeatherDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Per-method cost of {@link WeatherDataGenerator}.
+ */
+@State(Scope.Benchmark)
+public class WeatherDataGeneratorBenchmark {
+
+    private WeatherDataGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = new WeatherDataGenerator(BenchmarkFixtures.defaultConfig());
+    }
+
+    @Benchmark
+    public double generateTemperature() {
+        return generator.generateTemperature();
+    }
+
+    @Benchmark
+    public int generateHumidity() {
+        return generator.generateHumidity();
+    }
+
+    @Benchmark
+    public double generateWindSpeed() {
+        return generator.generateWindSpeed();
+    }
+
+    @Benchmark
+    public WeatherCondition generateCondition() {
+        return generator.generateCondition();
+    }
+
+    @Benchmark
+    public double generateTempMin() {
+        return generator.generateTempMin();
+    }
+
+    @Benchmark
+    public double generateTempMax() {
+        return generator.generateTempMax(10.0);
+    }
+
+    @Benchmark
+    public int generatePrecipitation() {
+        return generator.generatePrecipitation();
+    }
+
+    @Benchmark
+    public String generateCurrentTimestamp() {
+        return generator.generateCurrentTimestamp();
+    }
+
+    @Benchmark
+    public List<String> generateForecastDates() {
+        return generator.generateForecastDates();
+    }
+}
@@ -0,0 +1,60 @@
+package com.weather.station.benchmark;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.service.WeatherService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * End-to-end cost of the service layer behind {@code /api/weather/current} and
+ * {@code /api/weather/forecast}, excluding HTTP and serialization.
+ * <p>
+ * {@code simulation=true} serves current weather from the simulation snapshot,
+ * {@code false} generates it per call. {@code forecastCache=false} regenerates the
+ * forecast on every call. {@code deterministic=true} derives every value from a seed keyed by
+ * station, time bucket and field. {@code metrics=false} turns phase timing off, so the
+ * difference to {@code true} is the recording overhead.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class WeatherServiceBenchmark {
+
+    @Param({"true", "false"})
+    public boolean simulation;
+
+    @Param({"true", "false"})
+    public boolean forecastCache;
+
+    @Param({"false", "true"})
+    public boolean deterministic;
+
+    @Param({"true", "false"})
+    public boolean metrics;
+
+    private WeatherService weatherService;
+
+    @Setup
+    public void setUp() {
+        WeatherConfig config = BenchmarkFixtures.defaultConfig();
+        config.getSimulation().setEnabled(simulation);
+        config.getForecastCache().setEnabled(forecastCache);
+        config.getGeneration().setDeterministic(deterministic);
+        config.getMetrics().setEnabled(metrics);
+        weatherService = BenchmarkFixtures.weatherService(config);
+    }
+
+    @Benchmark
+    public CurrentWeatherResponse getCurrentWeather() {
+        return weatherService.getCurrentWeather();
+    }
+
+    @Benchmark
+    public ForecastResponse getForecast() {
+        return weatherService.getForecast();
+    }
+}
@@ -1,12 +1,25 @@
 package com.weather.station;
 
+import com.weather.station.config.WeatherRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.Arrays;
 
 @SpringBootApplication
+@ImportRuntimeHints(WeatherRuntimeHints.class)
 public class StationApplication {
 
+	/** First argument that runs the bulk dataset generator instead of the web server. */
+	static final String DATASET_COMMAND = "dataset";
+
 	public static void main(String[] args) {
+		if (args.length > 0 && DATASET_COMMAND.equals(args[0])) {
+			SpringApplication application = new SpringApplication(StationApplication.class);
+			application.setAdditionalProfiles(DATASET_COMMAND);
+			System.exit(SpringApplication.exit(application.run(Arrays.copyOfRange(args, 1, args.length))));
+		}
 		SpringApplication.run(StationApplication.class, args);
 	}
 
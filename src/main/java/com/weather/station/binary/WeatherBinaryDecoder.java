@@ -0,0 +1,215 @@
+package com.weather.station.binary;
+
+import com.weather.station.model.dto.BatchWeatherResponse;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ForecastDay;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.model.enums.WeatherCondition;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Client-side decoder for responses requested with {@code Accept: application/vnd.weather.binary}.
+ * <p>
+ * Depends only on the response DTOs and the JDK, so a Java client can use it with any HTTP
+ * library:
+ * </p>
+ * <pre>
+ * HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/weather/current?cities=Windholm,Frostmere"))
+ *         .header("Accept", WeatherBinaryFormat.MEDIA_TYPE_VALUE)
+ *         .build();
+ * byte[] body = client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body();
+ * BatchWeatherResponse batch = WeatherBinaryDecoder.decodeBatch(body);
+ * </pre>
+ *
+ * @since 1.1.0
+ */
+public final class WeatherBinaryDecoder {
+
+    private static final WeatherCondition[] CONDITIONS = WeatherCondition.values();
+
+    private WeatherBinaryDecoder() {
+    }
+
+    /**
+     * Decodes a message of any type.
+     *
+     * @param payload encoded message
+     * @return a {@link CurrentWeatherResponse}, {@link ForecastResponse} or {@link BatchWeatherResponse}
+     * @throws IllegalArgumentException if the message is malformed
+     */
+    public static Object decode(byte[] payload) {
+        ByteBuffer in = ByteBuffer.wrap(payload);
+        int type = readHeader(in);
+        try {
+            Object value = switch (type) {
+                case WeatherBinaryFormat.CURRENT_WEATHER -> readCurrent(in);
+                case WeatherBinaryFormat.FORECAST -> readForecast(in);
+                case WeatherBinaryFormat.BATCH -> readBatch(in);
+                default -> throw new IllegalArgumentException("Unknown message type: " + type);
+            };
+            if (in.hasRemaining()) {
+                throw new IllegalArgumentException(in.remaining() + " trailing bytes after message");
+            }
+            return value;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated message", e);
+        }
+    }
+
+    public static CurrentWeatherResponse decodeCurrentWeather(byte[] payload) {
+        return expect(payload, CurrentWeatherResponse.class);
+    }
+
+    public static ForecastResponse decodeForecast(byte[] payload) {
+        return expect(payload, ForecastResponse.class);
+    }
+
+    public static BatchWeatherResponse decodeBatch(byte[] payload) {
+        return expect(payload, BatchWeatherResponse.class);
+    }
+
+    private static <T> T expect(byte[] payload, Class<T> type) {
+        Object value = decode(payload);
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException("Expected " + type.getSimpleName() + " but got " + value.getClass().getSimpleName());
+        }
+        return type.cast(value);
+    }
+
+    private static int readHeader(ByteBuffer in) {
+        if (in.remaining() < 2) {
+            throw new IllegalArgumentException("Truncated message");
+        }
+        int version = Byte.toUnsignedInt(in.get());
+        if (version != WeatherBinaryFormat.VERSION) {
+            throw new IllegalArgumentException("Unsupported format version: " + version);
+        }
+        return Byte.toUnsignedInt(in.get());
+    }
+
+    private static CurrentWeatherResponse readCurrent(ByteBuffer in) {
+        int flags = Byte.toUnsignedInt(in.get());
+        String city = readString(in);
+        String timestamp = readString(in);
+        double temperature = in.getDouble();
+        int humidity = in.getInt();
+        double windSpeed = in.getDouble();
+        WeatherCondition condition = readCondition(in);
+
+        return CurrentWeatherResponse.builder()
+                .city(city)
+                .timestamp(timestamp)
+                .temperature((flags & WeatherBinaryFormat.TEMPERATURE_PRESENT) != 0 ? temperature : null)
+                .humidity((flags & WeatherBinaryFormat.HUMIDITY_PRESENT) != 0 ? humidity : null)
+                .windSpeed((flags & WeatherBinaryFormat.WIND_SPEED_PRESENT) != 0 ? windSpeed : null)
+                .condition(condition)
+                .build();
+    }
+
+    private static ForecastResponse readForecast(ByteBuffer in) {
+        String city = readString(in);
+        String generatedAt = readString(in);
+        int count = readCount(in, WeatherBinaryFormat.MIN_DAY_BYTES);
+        List<ForecastDay> days = null;
+        if (count != WeatherBinaryFormat.NULL_COUNT) {
+            days = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                days.add(readDay(in));
+            }
+        }
+        return ForecastResponse.builder()
+                .city(city)
+                .generatedAt(generatedAt)
+                .forecast(days)
+                .build();
+    }
+
+    private static ForecastDay readDay(ByteBuffer in) {
+        int flags = Byte.toUnsignedInt(in.get());
+        String date = readString(in);
+        double tempMin = in.getDouble();
+        double tempMax = in.getDouble();
+        WeatherCondition condition = readCondition(in);
+        int precipitation = in.getInt();
+
+        return ForecastDay.builder()
+                .date(date)
+                .tempMin((flags & WeatherBinaryFormat.TEMP_MIN_PRESENT) != 0 ? tempMin : null)
+                .tempMax((flags & WeatherBinaryFormat.TEMP_MAX_PRESENT) != 0 ? tempMax : null)
+                .condition(condition)
+                .precipitation((flags & WeatherBinaryFormat.PRECIPITATION_PRESENT) != 0 ? precipitation : null)
+                .build();
+    }
+
+    private static BatchWeatherResponse readBatch(ByteBuffer in) {
+        int requested = in.getInt();
+
+        int resultCount = readCount(in, WeatherBinaryFormat.MIN_CURRENT_BYTES);
+        List<CurrentWeatherResponse> results = null;
+        if (resultCount != WeatherBinaryFormat.NULL_COUNT) {
+            results = new ArrayList<>(resultCount);
+            for (int i = 0; i < resultCount; i++) {
+                results.add(readCurrent(in));
+            }
+        }
+
+        int unknownCount = readCount(in, WeatherBinaryFormat.MIN_STRING_BYTES);
+        List<String> unknownCities = null;
+        if (unknownCount != WeatherBinaryFormat.NULL_COUNT) {
+            unknownCities = new ArrayList<>(unknownCount);
+            for (int i = 0; i < unknownCount; i++) {
+                unknownCities.add(readString(in));
+            }
+        }
+
+        return BatchWeatherResponse.builder()
+                .requested(requested)
+                .results(results)
+                .unknownCities(unknownCities)
+                .build();
+    }
+
+    /**
+     * Reads a list count, rejecting counts the remaining bytes cannot hold so that a corrupt
+     * message cannot trigger a huge allocation.
+     */
+    private static int readCount(ByteBuffer in, int minElementBytes) {
+        int count = in.getInt();
+        if (count == WeatherBinaryFormat.NULL_COUNT) {
+            return count;
+        }
+        if (count < 0 || (long) count * minElementBytes > in.remaining()) {
+            throw new IllegalArgumentException("Invalid element count: " + count);
+        }
+        return count;
+    }
+
+    private static WeatherCondition readCondition(ByteBuffer in) {
+        int ordinal = Byte.toUnsignedInt(in.get());
+        if (ordinal == WeatherBinaryFormat.NULL_CONDITION) {
+            return null;
+        }
+        if (ordinal >= CONDITIONS.length) {
+            throw new IllegalArgumentException("Unknown condition ordinal: " + ordinal);
+        }
+        return CONDITIONS[ordinal];
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = Short.toUnsignedInt(in.getShort());
+        if (length == WeatherBinaryFormat.NULL_STRING) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+}
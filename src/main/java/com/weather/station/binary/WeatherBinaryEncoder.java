@@ -0,0 +1,258 @@
+package com.weather.station.binary;
+
+import com.weather.station.model.dto.BatchWeatherResponse;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ForecastDay;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.model.enums.WeatherCondition;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Encodes the weather responses in the {@link WeatherBinaryFormat} into a growable buffer.
+ * Meant to be reset and reused; not thread-safe.
+ *
+ * @since 1.1.0
+ */
+public final class WeatherBinaryEncoder {
+
+    private static final Set<Class<?>> SUPPORTED_TYPES =
+            Set.of(CurrentWeatherResponse.class, ForecastResponse.class, BatchWeatherResponse.class);
+
+    private static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private byte[] buffer;
+    private int size;
+
+    public WeatherBinaryEncoder(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * Returns whether values of the given type can be encoded.
+     *
+     * @param type value type
+     * @return true for the current weather, forecast and batch responses
+     */
+    public static boolean canEncode(Class<?> type) {
+        return SUPPORTED_TYPES.contains(type);
+    }
+
+    /**
+     * Discards the encoded content, keeping the allocated capacity.
+     */
+    public void reset() {
+        size = 0;
+    }
+
+    /**
+     * Returns the number of bytes encoded since the last reset.
+     *
+     * @return encoded byte count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies the encoded content to a stream.
+     *
+     * @param out destination
+     * @throws IOException if the stream fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    /**
+     * Returns a copy of the encoded content.
+     *
+     * @return encoded bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Encodes any supported value as one message.
+     *
+     * @param value the value to encode
+     * @throws IllegalArgumentException if the type is not supported
+     */
+    public void encode(Object value) {
+        if (value instanceof CurrentWeatherResponse current) {
+            encode(current);
+        } else if (value instanceof ForecastResponse forecast) {
+            encode(forecast);
+        } else if (value instanceof BatchWeatherResponse batch) {
+            encode(batch);
+        } else {
+            throw new IllegalArgumentException("Unsupported type: " + (value == null ? null : value.getClass().getName()));
+        }
+    }
+
+    public void encode(CurrentWeatherResponse response) {
+        writeHeader(WeatherBinaryFormat.CURRENT_WEATHER);
+        writeCurrent(response);
+    }
+
+    public void encode(ForecastResponse response) {
+        writeHeader(WeatherBinaryFormat.FORECAST);
+        writeString(response.getCity());
+        writeString(response.getGeneratedAt());
+        List<ForecastDay> days = response.getForecast();
+        if (days == null) {
+            writeInt(WeatherBinaryFormat.NULL_COUNT);
+            return;
+        }
+        writeInt(days.size());
+        for (ForecastDay day : days) {
+            writeDay(day);
+        }
+    }
+
+    public void encode(BatchWeatherResponse response) {
+        writeHeader(WeatherBinaryFormat.BATCH);
+        writeInt(response.getRequested());
+        List<CurrentWeatherResponse> results = response.getResults();
+        if (results == null) {
+            writeInt(WeatherBinaryFormat.NULL_COUNT);
+        } else {
+            writeInt(results.size());
+            for (CurrentWeatherResponse result : results) {
+                writeCurrent(result);
+            }
+        }
+        List<String> unknownCities = response.getUnknownCities();
+        if (unknownCities == null) {
+            writeInt(WeatherBinaryFormat.NULL_COUNT);
+        } else {
+            writeInt(unknownCities.size());
+            for (String city : unknownCities) {
+                writeString(city);
+            }
+        }
+    }
+
+    private void writeHeader(int type) {
+        ensure(2);
+        buffer[size++] = (byte) WeatherBinaryFormat.VERSION;
+        buffer[size++] = (byte) type;
+    }
+
+    private void writeCurrent(CurrentWeatherResponse response) {
+        requireElement(response);
+        Double temperature = response.getTemperature();
+        Integer humidity = response.getHumidity();
+        Double windSpeed = response.getWindSpeed();
+
+        int flags = (temperature != null ? WeatherBinaryFormat.TEMPERATURE_PRESENT : 0)
+                | (humidity != null ? WeatherBinaryFormat.HUMIDITY_PRESENT : 0)
+                | (windSpeed != null ? WeatherBinaryFormat.WIND_SPEED_PRESENT : 0);
+        writeByte(flags);
+        writeString(response.getCity());
+        writeString(response.getTimestamp());
+        writeDouble(temperature);
+        writeInt(humidity == null ? 0 : humidity);
+        writeDouble(windSpeed);
+        writeCondition(response.getCondition());
+    }
+
+    private void writeDay(ForecastDay day) {
+        requireElement(day);
+        Double tempMin = day.getTempMin();
+        Double tempMax = day.getTempMax();
+        Integer precipitation = day.getPrecipitation();
+
+        int flags = (tempMin != null ? WeatherBinaryFormat.TEMP_MIN_PRESENT : 0)
+                | (tempMax != null ? WeatherBinaryFormat.TEMP_MAX_PRESENT : 0)
+                | (precipitation != null ? WeatherBinaryFormat.PRECIPITATION_PRESENT : 0);
+        writeByte(flags);
+        writeString(day.getDate());
+        writeDouble(tempMin);
+        writeDouble(tempMax);
+        writeCondition(day.getCondition());
+        writeInt(precipitation == null ? 0 : precipitation);
+    }
+
+    private static void requireElement(Object element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Null list elements cannot be encoded");
+        }
+    }
+
+    private void writeCondition(WeatherCondition condition) {
+        writeByte(condition == null ? WeatherBinaryFormat.NULL_CONDITION : condition.ordinal());
+    }
+
+    private void writeByte(int value) {
+        ensure(1);
+        buffer[size++] = (byte) value;
+    }
+
+    private void writeInt(int value) {
+        ensure(4);
+        INT.set(buffer, size, value);
+        size += 4;
+    }
+
+    private void writeDouble(Double value) {
+        ensure(8);
+        LONG.set(buffer, size, value == null ? 0L : Double.doubleToRawLongBits(value));
+        size += 8;
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            ensure(2);
+            SHORT.set(buffer, size, (short) WeatherBinaryFormat.NULL_STRING);
+            size += 2;
+            return;
+        }
+        // City names and timestamps are nearly always ASCII: copy chars straight into the buffer
+        // and only fall back to a UTF-8 encoder when another character turns up.
+        int length = value.length();
+        if (length <= WeatherBinaryFormat.MAX_STRING_BYTES) {
+            ensure(2 + length);
+            int position = size + 2;
+            int i = 0;
+            while (i < length) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                buffer[position++] = (byte) c;
+                i++;
+            }
+            if (i == length) {
+                SHORT.set(buffer, size, (short) length);
+                size = position;
+                return;
+            }
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > WeatherBinaryFormat.MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("String exceeds " + WeatherBinaryFormat.MAX_STRING_BYTES + " UTF-8 bytes");
+        }
+        ensure(2 + bytes.length);
+        SHORT.set(buffer, size, (short) bytes.length);
+        System.arraycopy(bytes, 0, buffer, size + 2, bytes.length);
+        size += 2 + bytes.length;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.weather.station.binary;
+
+/**
+ * Constants of the compact binary encoding of the weather responses, served as
+ * {@value #MEDIA_TYPE_VALUE}.
+ * <p>
+ * All values are big-endian. A message is a two-byte header followed by the body of its type:
+ * </p>
+ * <pre>
+ * message  = version:u8 type:u8 body
+ * current  = flags:u8 city:str timestamp:str temperature:f64 humidity:i32 windSpeed:f64 condition:u8
+ * forecast = city:str generatedAt:str count:i32 day*
+ * day      = flags:u8 date:str tempMin:f64 tempMax:f64 condition:u8 precipitation:i32
+ * batch    = requested:i32 count:i32 current* count:i32 str*
+ * str      = length:u16 utf8:byte[length]
+ * </pre>
+ * <p>
+ * Numeric fields are always present so records keep a fixed layout; bit {@code i} of
+ * {@code flags} is set when the {@code i}-th numeric field of the record is non-null, and null
+ * ones are written as zero. A null string has length {@value #NULL_STRING}, a null condition
+ * is {@value #NULL_CONDITION} and a null list has count {@value #NULL_COUNT}; list elements are
+ * never null. Conditions are written as their {@code WeatherCondition} ordinal, so new
+ * conditions may only be appended.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class WeatherBinaryFormat {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.weather.binary";
+
+    public static final int VERSION = 1;
+
+    public static final int CURRENT_WEATHER = 1;
+    public static final int FORECAST = 2;
+    public static final int BATCH = 3;
+
+    public static final int NULL_STRING = 0xFFFF;
+    public static final int MAX_STRING_BYTES = NULL_STRING - 1;
+    public static final int NULL_CONDITION = 0xFF;
+    public static final int NULL_COUNT = -1;
+
+    /** Presence bits of a current weather record. */
+    public static final int TEMPERATURE_PRESENT = 1;
+    public static final int HUMIDITY_PRESENT = 1 << 1;
+    public static final int WIND_SPEED_PRESENT = 1 << 2;
+
+    /** Presence bits of a forecast day record. */
+    public static final int TEMP_MIN_PRESENT = 1;
+    public static final int TEMP_MAX_PRESENT = 1 << 1;
+    public static final int PRECIPITATION_PRESENT = 1 << 2;
+
+    /** Smallest encoded size of a current weather record (both strings empty). */
+    static final int MIN_CURRENT_BYTES = 1 + 2 + 2 + 8 + 4 + 8 + 1;
+    /** Smallest encoded size of a forecast day record (empty date). */
+    static final int MIN_DAY_BYTES = 1 + 2 + 8 + 8 + 1 + 4;
+    static final int MIN_STRING_BYTES = 2;
+
+    private WeatherBinaryFormat() {
+    }
+}
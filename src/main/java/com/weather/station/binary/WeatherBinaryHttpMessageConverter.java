@@ -0,0 +1,60 @@
+package com.weather.station.binary;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes the responses supported by {@link WeatherBinaryEncoder} as
+ * {@value WeatherBinaryFormat#MEDIA_TYPE_VALUE}. The format is only produced by handler methods
+ * that list it in {@code produces}, so clients opt in through {@code Accept} and JSON stays the
+ * default.
+ * <p>
+ * Buffering follows {@link com.weather.station.json.WeatherJsonHttpMessageConverter}: platform
+ * threads reuse a thread-local encoder, virtual threads allocate one per response.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public class WeatherBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(WeatherBinaryFormat.MEDIA_TYPE_VALUE);
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final ThreadLocal<WeatherBinaryEncoder> ENCODERS =
+            ThreadLocal.withInitial(() -> new WeatherBinaryEncoder(INITIAL_CAPACITY));
+
+    public WeatherBinaryHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return WeatherBinaryEncoder.canEncode(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Reading " + clazz.getName() + " is not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        WeatherBinaryEncoder encoder = Thread.currentThread().isVirtual()
+                ? new WeatherBinaryEncoder(INITIAL_CAPACITY)
+                : ENCODERS.get();
+        encoder.reset();
+        encoder.encode(value);
+        outputMessage.getHeaders().setContentLength(encoder.size());
+        encoder.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,368 @@
+package com.weather.station.cache;
+
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.version.ResponseVersion;
+import com.weather.station.version.Versioned;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-station cache of generated forecasts.
+ * <p>
+ * An entry belongs to the station's local date it was generated on and stays valid until
+ * the earlier of its TTL and the next local midnight, so every forecast rolls over with the
+ * station's calendar day. Both limits are folded into one expiry instant when the entry is
+ * created; a hit is an array read and one clock read.
+ * </p>
+ * <p>
+ * Entries live in a slot per station. When more than {@code maxEntries} stations are cached,
+ * entries are evicted with the CLOCK policy: a sweeping hand clears the reference bit that
+ * hits set and evicts the first expired or unreferenced entry, approximating LRU without any
+ * bookkeeping on the read path.
+ * </p>
+ * <p>
+ * With coalescing on, concurrent misses for the same station and local date share one load:
+ * the first caller registers an in-flight future for the station and runs the loader, and
+ * callers arriving before it finishes wait for that future instead of generating their own
+ * forecast. This applies to the pass-through cache too, so a burst of identical requests costs
+ * one generation even without caching. Waiting in {@link #getVersioned} parks the caller; on
+ * virtual threads that only unmounts it from its carrier. {@link #getVersionedAsync} hands
+ * callers the in-flight future instead, so nothing waits on a platform thread. Without
+ * coalescing, concurrent misses each generate a forecast and the last one wins.
+ * </p>
+ * <p>
+ * Every stored entry gets a {@link ResponseVersion} from a per-cache sequence, stamped with the
+ * time it was generated, so HTTP validators can be answered from {@link #version(int)} without
+ * touching the forecast. Forecasts loaded without being stored have no version.
+ * </p>
+ * <p>
+ * Cached responses are shared between callers and must not be modified.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class ForecastCache {
+
+    private final StationRegistry registry;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+    private final AtomicReferenceArray<Entry> entries;
+    private final AtomicReferenceArray<Load> loads;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong versions = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private int hand;
+
+    /**
+     * Creates a cache that coalesces concurrent misses.
+     *
+     * @param registry   station registry, used for station count and time zones
+     * @param ttl        maximum age of an entry
+     * @param maxEntries maximum number of cached stations; 0 disables caching
+     * @param clock      time source
+     * @throws IllegalArgumentException if the TTL is not positive or the size bound is negative
+     */
+    public ForecastCache(StationRegistry registry, Duration ttl, int maxEntries, Clock clock) {
+        this(registry, ttl, maxEntries, clock, true);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param registry   station registry, used for station count and time zones
+     * @param ttl        maximum age of an entry
+     * @param maxEntries maximum number of cached stations; 0 disables caching
+     * @param clock      time source
+     * @param coalesce   whether concurrent misses for a station share one load
+     * @throws IllegalArgumentException if the TTL is not positive or the size bound is negative
+     */
+    public ForecastCache(StationRegistry registry, Duration ttl, int maxEntries, Clock clock, boolean coalesce) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("Forecast cache TTL must be positive: " + ttl);
+        }
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("Forecast cache size must not be negative: " + maxEntries);
+        }
+        this.registry = registry;
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.entries = new AtomicReferenceArray<>(maxEntries == 0 ? 0 : registry.size());
+        this.loads = coalesce ? new AtomicReferenceArray<>(registry.size()) : null;
+    }
+
+    /**
+     * Creates a cache that never stores anything and always invokes the loader.
+     *
+     * @param registry station registry
+     * @return a pass-through cache
+     */
+    public static ForecastCache disabled(StationRegistry registry) {
+        return disabled(registry, false);
+    }
+
+    /**
+     * Creates a cache that never stores anything.
+     *
+     * @param registry station registry
+     * @param coalesce whether concurrent calls for a station share one load
+     * @return a pass-through cache
+     */
+    public static ForecastCache disabled(StationRegistry registry, boolean coalesce) {
+        return new ForecastCache(registry, Duration.ofMillis(1), 0, Clock.systemUTC(), coalesce);
+    }
+
+    /**
+     * Returns the cached forecast of a station, generating and caching it if absent or expired.
+     *
+     * @param station station index
+     * @param loader  generates the forecast on a miss
+     * @return the forecast for the station's current local date
+     */
+    public ForecastResponse get(int station, ForecastLoader loader) {
+        return getVersioned(station, loader).value();
+    }
+
+    /**
+     * Returns the cached forecast of a station with its version, generating and caching it if
+     * absent or expired.
+     *
+     * @param station station index
+     * @param loader  generates the forecast on a miss
+     * @return the forecast for the station's current local date; the version is null when
+     * caching is disabled
+     */
+    public Versioned<ForecastResponse> getVersioned(int station, ForecastLoader loader) {
+        long now = clock.millis();
+        if (maxEntries == 0) {
+            return join(load(station, today(registry.timezone(station), now), now, loader));
+        }
+
+        Entry entry = entries.get(station);
+        if (entry != null && now < entry.expiresAt) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            hits.increment();
+            return entry.forecast;
+        }
+        return join(load(station, today(registry.timezone(station), now), now, loader));
+    }
+
+    /**
+     * Returns the cached forecast of a station with its version without waiting for a load
+     * started by another caller.
+     * <p>
+     * A hit, and a miss this caller loads itself, return an already completed future; a miss
+     * while another caller loads the same station and date returns that load's future.
+     * </p>
+     *
+     * @param station station index
+     * @param loader  generates the forecast on a miss
+     * @return the forecast for the station's current local date; the version is null when
+     * caching is disabled
+     * @see #getVersioned(int, ForecastLoader)
+     */
+    public CompletableFuture<Versioned<ForecastResponse>> getVersionedAsync(int station, ForecastLoader loader) {
+        long now = clock.millis();
+        Entry entry = maxEntries == 0 ? null : entries.get(station);
+        if (entry != null && now < entry.expiresAt) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            hits.increment();
+            return CompletableFuture.completedFuture(entry.forecast);
+        }
+        return load(station, today(registry.timezone(station), now), now, loader);
+    }
+
+    /**
+     * Returns the version of the station's cached forecast without loading it.
+     *
+     * @param station station index
+     * @return the version of the current entry, or null if there is none or it has expired
+     */
+    public ResponseVersion version(int station) {
+        if (maxEntries == 0) {
+            return null;
+        }
+        Entry entry = entries.get(station);
+        return entry != null && clock.millis() < entry.expiresAt ? entry.forecast.version() : null;
+    }
+
+    /**
+     * Runs the loader for a miss on the calling thread, or returns the future of the load
+     * already in flight for the same station and date. A failing loader throws to the caller
+     * that ran it and fails the future of the others.
+     */
+    private CompletableFuture<Versioned<ForecastResponse>> load(int station, LocalDate today, long now,
+                                                                ForecastLoader loader) {
+        if (loads == null) {
+            misses.increment();
+            return CompletableFuture.completedFuture(loadAndStore(station, today, now, loader));
+        }
+
+        Load load = new Load(today);
+        Load inFlight = loads.compareAndExchange(station, null, load);
+        if (inFlight != null) {
+            if (inFlight.today.equals(today)) {
+                coalesced.increment();
+                return inFlight.result;
+            }
+            // the day rolled over while the previous day's forecast was loading
+            misses.increment();
+            return CompletableFuture.completedFuture(loadAndStore(station, today, now, loader));
+        }
+
+        try {
+            // the previous load may have stored its entry after this caller missed it
+            Entry entry = maxEntries == 0 ? null : entries.get(station);
+            Versioned<ForecastResponse> response;
+            if (entry != null && now < entry.expiresAt) {
+                hits.increment();
+                response = entry.forecast;
+            } else {
+                misses.increment();
+                response = loadAndStore(station, today, now, loader);
+            }
+            load.result.complete(response);
+            return load.result;
+        } catch (RuntimeException | Error ex) {
+            load.result.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loads.compareAndSet(station, load, null);
+        }
+    }
+
+    private Versioned<ForecastResponse> loadAndStore(int station, LocalDate today, long now,
+                                                     ForecastLoader loader) {
+        ForecastResponse response = loader.load(station, today);
+        if (maxEntries == 0) {
+            return new Versioned<>(response, null);
+        }
+
+        ZoneId zone = registry.timezone(station);
+        long midnight = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        Versioned<ForecastResponse> forecast = new Versioned<>(response,
+                ResponseVersion.ofSequence('f', versions.incrementAndGet(), clock.millis()));
+        Entry created = new Entry(forecast, Math.min(now + ttlMillis, midnight));
+
+        Entry previous = entries.getAndSet(station, created);
+        if (previous == null) {
+            if (size.incrementAndGet() > maxEntries) {
+                evictOne(station);
+            }
+        } else if (now >= previous.expiresAt) {
+            expirations.increment();
+        }
+        return forecast;
+    }
+
+    /**
+     * Drops all cached forecasts.
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            if (entries.getAndSet(i, null) != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns the current counters.
+     *
+     * @return cache statistics
+     */
+    public ForecastCacheStats stats() {
+        return new ForecastCacheStats(hits.sum(), misses.sum(), coalesced.sum(), expirations.sum(), evictions.sum(),
+                size.get());
+    }
+
+    private static Versioned<ForecastResponse> join(CompletableFuture<Versioned<ForecastResponse>> result) {
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static LocalDate today(ZoneId zone, long now) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(now), zone);
+    }
+
+    /**
+     * Evicts one entry other than {@code keep}, preferring expired ones.
+     */
+    private synchronized void evictOne(int keep) {
+        int length = entries.length();
+        long now = clock.millis();
+        // two full sweeps always find a victim: the first clears every reference bit
+        for (int step = 0; step < 2 * length + 1; step++) {
+            int slot = hand;
+            hand = hand + 1 == length ? 0 : hand + 1;
+            Entry candidate = entries.get(slot);
+            if (candidate == null || slot == keep) {
+                continue;
+            }
+            if (candidate.referenced && now < candidate.expiresAt) {
+                candidate.referenced = false;
+                continue;
+            }
+            if (entries.compareAndSet(slot, candidate, null)) {
+                size.decrementAndGet();
+                evictions.increment();
+                return;
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final Versioned<ForecastResponse> forecast;
+        private final long expiresAt;
+        private volatile boolean referenced;
+
+        Entry(Versioned<ForecastResponse> forecast, long expiresAt) {
+            this.forecast = forecast;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * A load in flight for one station and date.
+     */
+    private static final class Load {
+
+        private final LocalDate today;
+        private final CompletableFuture<Versioned<ForecastResponse>> result = new CompletableFuture<>();
+
+        Load(LocalDate today) {
+            this.today = today;
+        }
+    }
+}
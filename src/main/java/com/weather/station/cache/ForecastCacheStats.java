@@ -0,0 +1,24 @@
+package com.weather.station.cache;
+
+/**
+ * Point-in-time counters of a {@link ForecastCache}.
+ *
+ * @param hits        lookups served from the cache
+ * @param misses      lookups that had to generate a forecast
+ * @param coalesced   lookups that waited for a forecast another caller was generating
+ * @param expirations entries replaced because their TTL elapsed or the local date rolled over
+ * @param evictions   entries dropped to stay within the size bound
+ * @param size        entries currently cached
+ * @since 1.1.0
+ */
+public record ForecastCacheStats(long hits, long misses, long coalesced, long expirations, long evictions,
+                                 int size) {
+
+    /**
+     * @return hits and coalesced lookups divided by all lookups, or 0 before the first lookup
+     */
+    public double hitRate() {
+        long lookups = hits + coalesced + misses;
+        return lookups == 0 ? 0.0 : (double) (hits + coalesced) / lookups;
+    }
+}
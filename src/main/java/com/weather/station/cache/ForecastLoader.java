@@ -0,0 +1,21 @@
+package com.weather.station.cache;
+
+import com.weather.station.model.dto.ForecastResponse;
+
+import java.time.LocalDate;
+
+/**
+ * Produces the forecast of a station for a given local date on a cache miss.
+ *
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface ForecastLoader {
+
+    /**
+     * @param station station index
+     * @param today   current date in the station's time zone
+     * @return the forecast issued on {@code today}
+     */
+    ForecastResponse load(int station, LocalDate today);
+}
@@ -0,0 +1,19 @@
+package com.weather.station.config;
+
+import com.weather.station.binary.WeatherBinaryHttpMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the converter for the compact binary response format.
+ *
+ * @since 1.1.0
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    @Bean
+    public WeatherBinaryHttpMessageConverter weatherBinaryHttpMessageConverter() {
+        return new WeatherBinaryHttpMessageConverter();
+    }
+}
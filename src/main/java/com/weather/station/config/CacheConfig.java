@@ -0,0 +1,28 @@
+package com.weather.station.config;
+
+import com.weather.station.cache.ForecastCache;
+import com.weather.station.registry.StationRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Wires the forecast cache; a pass-through cache when {@code weather.forecast-cache.enabled=false}.
+ * {@code weather.forecast-cache.coalesce} applies to both.
+ *
+ * @since 1.1.0
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public ForecastCache forecastCache(StationRegistry stationRegistry, WeatherConfig config) {
+        WeatherConfig.ForecastCacheConfig cache = config.getForecastCache();
+        if (!cache.isEnabled()) {
+            return ForecastCache.disabled(stationRegistry, cache.isCoalesce());
+        }
+        return new ForecastCache(stationRegistry, cache.getTtl(), cache.getMaxEntries(), Clock.systemUTC(),
+                cache.isCoalesce());
+    }
+}
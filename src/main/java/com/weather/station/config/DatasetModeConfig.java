@@ -0,0 +1,49 @@
+package com.weather.station.config;
+
+import com.weather.station.dataset.DatasetGenerator;
+import com.weather.station.dataset.DatasetOptions;
+import com.weather.station.dataset.DatasetStats;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.WeatherDataGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * Wires the bulk dataset generator when {@code weather.dataset.enabled=true}, which the
+ * {@code dataset} command of {@link com.weather.station.StationApplication} switches on through
+ * the {@code dataset} profile. The dataset is written by an {@link ApplicationRunner}, so it is
+ * complete when the application context has started.
+ *
+ * @since 1.1.0
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "weather.dataset", name = "enabled", havingValue = "true")
+public class DatasetModeConfig {
+
+    @Bean
+    public DatasetGenerator datasetGenerator(WeatherDataGenerator dataGenerator, StationRegistry stationRegistry,
+                                             WeatherConfig config) {
+        return new DatasetGenerator(dataGenerator, stationRegistry, config.getDataset().getParallelism());
+    }
+
+    @Bean
+    public ApplicationRunner datasetRunner(DatasetGenerator datasetGenerator, WeatherConfig config) {
+        WeatherConfig.DatasetConfig dataset = config.getDataset();
+        DatasetOptions options = new DatasetOptions(dataset.getStations(), dataset.getSteps(),
+                Instant.parse(dataset.getStart()).toEpochMilli(), dataset.getFormat(), Path.of(dataset.getDirectory()),
+                dataset.getStationsPerPart());
+        return args -> {
+            DatasetStats stats = datasetGenerator.generate(options);
+            log.info("Wrote {} readings in {} parts ({} bytes) to {} in {} ms: {} readings/min on {} workers",
+                    stats.readings(), stats.parts(), stats.bytes(), options.directory(),
+                    stats.elapsedNanos() / 1_000_000, Math.round(stats.readingsPerMinute()), stats.parallelism());
+        };
+    }
+}
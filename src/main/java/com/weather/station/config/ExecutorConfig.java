@@ -0,0 +1,45 @@
+package com.weather.station.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors used for internal fan-out work.
+ * <p>
+ * Both run every task on its own named virtual thread independently of
+ * {@code spring.threads.virtual.enabled}, which only switches request handling and Spring's
+ * own task executor and scheduler: fan-out work blocks on lookups and client sockets, and
+ * sizing a platform pool for it would cap concurrency again. The CPU-bound history
+ * compactor deliberately keeps its single platform thread.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Executor for batch fan-out. Each task runs on its own virtual thread, so
+     * blocking lookups do not tie up platform threads.
+     *
+     * @return virtual-thread-per-task executor, closed on context shutdown
+     */
+    @Bean
+    public ExecutorService batchExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("batch-", 0).factory());
+    }
+
+    /**
+     * Executor that writes live stream readings to clients. A delivery blocked on a slow
+     * client only parks its virtual thread.
+     *
+     * @return virtual-thread-per-task executor, closed on context shutdown
+     */
+    @Bean
+    public ExecutorService streamExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("stream-", 0).factory());
+    }
+}
@@ -0,0 +1,51 @@
+package com.weather.station.config;
+
+import com.weather.station.history.HistoryRecorder;
+import com.weather.station.history.HistoryStations;
+import com.weather.station.history.HistoryStore;
+import com.weather.station.history.HistoryStoreOptions;
+import com.weather.station.registry.StationRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Wires the reading history store when {@code weather.history.enabled=true}.
+ *
+ * @since 1.1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "weather.history", name = "enabled", havingValue = "true")
+public class HistoryStoreConfig {
+
+    @Bean
+    public HistoryStore historyStore(WeatherConfig config) {
+        WeatherConfig.HistoryConfig history = config.getHistory();
+        Path directory = Path.of(history.getDirectory());
+        try {
+            return HistoryStore.open(directory, new HistoryStoreOptions(history.getSegmentRecords(),
+                    history.getMaxSegments(), history.isCompress(), history.getDecimalPlaces()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open history store in " + directory, ex);
+        }
+    }
+
+    @Bean
+    public HistoryStations historyStations(WeatherConfig config, StationRegistry stationRegistry) {
+        Path directory = Path.of(config.getHistory().getDirectory());
+        try {
+            return HistoryStations.open(directory, stationRegistry);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open history station ids in " + directory, ex);
+        }
+    }
+
+    @Bean
+    public HistoryRecorder historyRecorder(HistoryStore historyStore, HistoryStations historyStations) {
+        return new HistoryRecorder(historyStore, historyStations);
+    }
+}
@@ -0,0 +1,22 @@
+package com.weather.station.config;
+
+import com.weather.station.ingest.IngestPipeline;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the sensor reading ingestion pipeline. The pipeline is closed on shutdown, which
+ * drains readings still in its buffer.
+ *
+ * @since 1.1.0
+ */
+@Configuration
+public class IngestConfig {
+
+    @Bean
+    public IngestPipeline ingestPipeline(WeatherSimulationEngine simulationEngine, WeatherConfig config) {
+        WeatherConfig.IngestConfig ingest = config.getIngest();
+        return new IngestPipeline(simulationEngine, ingest.getBufferCapacity(), ingest.getDrainBatch());
+    }
+}
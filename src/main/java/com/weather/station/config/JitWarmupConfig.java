@@ -0,0 +1,80 @@
+package com.weather.station.config;
+
+import com.weather.station.binary.WeatherBinaryHttpMessageConverter;
+import com.weather.station.json.WeatherJsonHttpMessageConverter;
+import com.weather.station.metrics.WeatherMetrics;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.WeatherService;
+import com.weather.station.warmup.JitWarmup;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wires the JIT warm-up when {@code weather.warmup.enabled=true}. It runs as an
+ * {@link ApplicationRunner}, and Spring Boot only moves the readiness state to
+ * {@code ACCEPTING_TRAFFIC} once all runners have returned, so the instance reports ready after
+ * the warm-up.
+ * <p>
+ * Responses are written with Jackson, the binary converter and, when enabled, the direct JSON
+ * writers, so every format a client can ask for is compiled.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "weather.warmup", name = "enabled", havingValue = "true")
+public class JitWarmupConfig {
+
+    @Bean
+    public JitWarmup jitWarmup(WeatherService weatherService, StationRegistry stationRegistry, JsonMapper jsonMapper,
+                               WeatherBinaryHttpMessageConverter binaryConverter,
+                               ObjectProvider<WeatherJsonHttpMessageConverter> jsonConverter,
+                               WeatherMetrics metrics, WeatherConfig config) {
+        List<JitWarmup.Serializer> serializers = new ArrayList<>();
+        serializers.add(value -> jsonMapper.writeValue(OutputStream.nullOutputStream(), value));
+        serializers.add(converterSerializer(binaryConverter, WeatherBinaryHttpMessageConverter.MEDIA_TYPE));
+        jsonConverter.ifAvailable(converter ->
+                serializers.add(converterSerializer(converter, MediaType.APPLICATION_JSON)));
+
+        WeatherConfig.WarmupConfig warmup = config.getWarmup();
+        return new JitWarmup(weatherService, stationRegistry.size(), serializers, metrics, warmup.getIterations(),
+                warmup.getTimeBudget(), warmup.getSample());
+    }
+
+    @Bean
+    public ApplicationRunner jitWarmupRunner(JitWarmup jitWarmup) {
+        return args -> jitWarmup.run();
+    }
+
+    private static JitWarmup.Serializer converterSerializer(AbstractHttpMessageConverter<Object> converter,
+                                                            MediaType mediaType) {
+        return value -> converter.write(value, mediaType, new DiscardingOutputMessage());
+    }
+
+    private static final class DiscardingOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.weather.station.config;
+
+import com.weather.station.json.WeatherJsonHttpMessageConverter;
+import com.weather.station.json.WeatherJsonWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Registers the hand-written JSON writers when {@code weather.json.direct-writers=true}.
+ * Spring Boot places message converter beans ahead of its default converters.
+ *
+ * @since 1.1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "weather.json", name = "direct-writers", havingValue = "true")
+public class JsonWriterConfig {
+
+    @Bean
+    public WeatherJsonHttpMessageConverter weatherJsonHttpMessageConverter(JsonMapper jsonMapper) {
+        return new WeatherJsonHttpMessageConverter(WeatherJsonWriter.matching(jsonMapper));
+    }
+}
@@ -0,0 +1,19 @@
+package com.weather.station.config;
+
+import com.weather.station.metrics.WeatherMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the application metrics; recording is skipped when {@code weather.metrics.enabled=false}.
+ *
+ * @since 1.1.0
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public WeatherMetrics weatherMetrics(WeatherConfig config) {
+        return new WeatherMetrics(config.getMetrics().isEnabled(), config.getMetrics().getFirstRequests());
+    }
+}
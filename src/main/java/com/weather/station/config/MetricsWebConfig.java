@@ -0,0 +1,27 @@
+package com.weather.station.config;
+
+import com.weather.station.metrics.RequestMetricsInterceptor;
+import com.weather.station.metrics.WeatherMetrics;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the request timing interceptor for the API.
+ *
+ * @since 1.1.0
+ */
+@Configuration
+public class MetricsWebConfig implements WebMvcConfigurer {
+
+    private final WeatherMetrics weatherMetrics;
+
+    public MetricsWebConfig(WeatherMetrics weatherMetrics) {
+        this.weatherMetrics = weatherMetrics;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestMetricsInterceptor(weatherMetrics)).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,60 @@
+package com.weather.station.config;
+
+import com.weather.station.overload.LoadMonitor;
+import com.weather.station.overload.LoadMonitorInterceptor;
+import com.weather.station.overload.StaleWhileRevalidate;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.WeatherService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Wires stale-while-revalidate serving and load shedding when {@code weather.overload.enabled=true}.
+ * Load is measured over the weather API; background refreshes run on their own virtual threads,
+ * at most one per station and response type at a time.
+ *
+ * @since 1.1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "weather.overload", name = "enabled", havingValue = "true")
+public class OverloadProtectionConfig implements WebMvcConfigurer {
+
+    private final WeatherConfig config;
+
+    public OverloadProtectionConfig(WeatherConfig config) {
+        this.config = config;
+    }
+
+    @Bean
+    public LoadMonitor loadMonitor() {
+        WeatherConfig.OverloadConfig overload = config.getOverload();
+        return new LoadMonitor(overload.getMaxInFlight(), overload.getLatencyThreshold());
+    }
+
+    @Bean
+    public ExecutorService refreshExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("refresh-", 0).factory());
+    }
+
+    @Bean
+    public StaleWhileRevalidate staleWhileRevalidate(WeatherService weatherService, StationRegistry stationRegistry,
+                                                     LoadMonitor loadMonitor,
+                                                     @Qualifier("refreshExecutor") ExecutorService refreshExecutor) {
+        WeatherConfig.OverloadConfig overload = config.getOverload();
+        return new StaleWhileRevalidate(weatherService, stationRegistry, loadMonitor, refreshExecutor,
+                Clock.systemUTC(), overload.getFreshFor(), overload.getMaxStale());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new LoadMonitorInterceptor(loadMonitor())).addPathPatterns("/api/weather/**");
+    }
+}
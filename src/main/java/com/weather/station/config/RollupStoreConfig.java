@@ -0,0 +1,71 @@
+package com.weather.station.config;
+
+import com.weather.station.history.HistoryStations;
+import com.weather.station.history.HistoryStore;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.rollup.RollupBackfill;
+import com.weather.station.rollup.RollupRecorder;
+import com.weather.station.rollup.RollupStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+import java.time.Duration;
+
+/**
+ * Wires the history rollups; a store that keeps nothing when {@code weather.rollup.enabled=false}.
+ * <p>
+ * When the history store is enabled too, the rollups are rebuilt from it on a background
+ * thread while the context starts. The backfill is created before the recorder, so the history
+ * is marked before any reading is aggregated live. An {@link ApplicationRunner} waits for the
+ * rebuild, and Spring Boot only reports {@code ACCEPTING_TRAFFIC} once all runners have
+ * returned, so the instance is not ready before its history is complete.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Configuration
+public class RollupStoreConfig {
+
+    @Bean
+    public RollupStore rollupStore(StationRegistry stationRegistry, WeatherConfig config) {
+        WeatherConfig.RollupConfig rollup = config.getRollup();
+        if (!rollup.isEnabled()) {
+            return RollupStore.disabled(stationRegistry);
+        }
+        return new RollupStore(stationRegistry, rollup.getMinuteRetention(), rollup.getHourRetention(),
+                rollup.getDayRetention());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "weather.rollup", name = "enabled", havingValue = "true")
+    public RollupBackfill rollupBackfill(RollupStore rollupStore, ObjectProvider<HistoryStore> historyStore,
+                                         ObjectProvider<HistoryStations> historyStations, WeatherConfig config) {
+        HistoryStore history = historyStore.getIfAvailable();
+        if (history == null) {
+            return RollupBackfill.none();
+        }
+        WeatherConfig.RollupConfig rollup = config.getRollup();
+        Duration longest = rollup.getMinuteRetention();
+        longest = longest.compareTo(rollup.getHourRetention()) < 0 ? rollup.getHourRetention() : longest;
+        longest = longest.compareTo(rollup.getDayRetention()) < 0 ? rollup.getDayRetention() : longest;
+        return RollupBackfill.start(rollupStore, history, historyStations.getObject(),
+                System.currentTimeMillis() - longest.toMillis());
+    }
+
+    @Bean
+    @DependsOn("rollupBackfill")
+    @ConditionalOnProperty(prefix = "weather.rollup", name = "enabled", havingValue = "true")
+    public RollupRecorder rollupRecorder(RollupStore rollupStore) {
+        return new RollupRecorder(rollupStore);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "weather.rollup", name = "enabled", havingValue = "true")
+    public ApplicationRunner rollupBackfillRunner(RollupBackfill rollupBackfill) {
+        return args -> rollupBackfill.await();
+    }
+}
@@ -0,0 +1,15 @@
+package com.weather.station.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's scheduled task execution for background jobs such as the
+ * weather simulation tick.
+ *
+ * @since 1.1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,54 @@
+package com.weather.station.config;
+
+import com.weather.station.registry.StationCatalogLoader;
+import com.weather.station.registry.StationDefinition;
+import com.weather.station.registry.StationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds the {@link StationRegistry} at startup.
+ * <p>
+ * The station configured through {@code weather.city.*} is always registered first.
+ * Additional stations are read from the CSV catalog at {@code weather.stations.file}
+ * (any Spring resource location, e.g. {@code classpath:stations.csv} or
+ * {@code file:/etc/weather/stations.csv}) when the property is set.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Configuration
+@Slf4j
+public class StationRegistryConfig {
+
+    @Bean
+    public StationRegistry stationRegistry(WeatherConfig config, ResourceLoader resourceLoader) {
+        StationDefinition defaults = StationDefinition.fromConfig(config);
+        String location = config.getStations().getFile();
+        int expectedSize = Math.max(config.getStations().getExpectedSize(), 1);
+
+        StationRegistry.Builder builder = StationRegistry.builder(expectedSize);
+        builder.add(defaults);
+
+        if (location != null && !location.isBlank()) {
+            Resource resource = resourceLoader.getResource(location);
+            try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+                int added = StationCatalogLoader.load(reader, defaults, builder);
+                log.info("Loaded {} stations from {}", added, location);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to read station catalog " + location, ex);
+            }
+        }
+
+        return builder.build();
+    }
+}
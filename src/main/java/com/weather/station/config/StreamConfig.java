@@ -0,0 +1,25 @@
+package com.weather.station.config;
+
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.stream.ReadingBroadcaster;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Wires the live reading stream. The broadcaster is a reading listener, so the simulation
+ * picks it up together with the history and rollup recorders.
+ *
+ * @since 1.1.0
+ */
+@Configuration
+public class StreamConfig {
+
+    @Bean
+    public ReadingBroadcaster readingBroadcaster(StationRegistry stationRegistry, WeatherConfig config,
+                                                 @Qualifier("streamExecutor") ExecutorService streamExecutor) {
+        return new ReadingBroadcaster(stationRegistry, streamExecutor, config.getStream().getMaxSubscribers());
+    }
+}
@@ -0,0 +1,35 @@
+package com.weather.station.config;
+
+import com.weather.station.ingest.IngestPipeline;
+import com.weather.station.ingest.UdpReadingListener;
+import com.weather.station.registry.StationRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+
+/**
+ * Wires the UDP sensor listener when {@code weather.udp.enabled=true}. The listener depends on
+ * the ingest pipeline, so on shutdown it stops receiving before the pipeline drains.
+ *
+ * @since 1.1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "weather.udp", name = "enabled", havingValue = "true")
+public class UdpListenerConfig {
+
+    @Bean
+    public UdpReadingListener udpReadingListener(IngestPipeline ingestPipeline, StationRegistry stationRegistry,
+                                                 WeatherConfig config) {
+        WeatherConfig.UdpConfig udp = config.getUdp();
+        InetSocketAddress address = new InetSocketAddress(udp.getAddress(), udp.getPort());
+        try {
+            return UdpReadingListener.open(ingestPipeline, stationRegistry.size(), address, udp.getReceiveBuffer());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open UDP sensor listener on " + address, ex);
+        }
+    }
+}
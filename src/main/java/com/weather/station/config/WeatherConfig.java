@@ -1,9 +1,12 @@
 package com.weather.station.config;
 
+import com.weather.station.dataset.DatasetFormat;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * Configuration properties for weather data generation.
  * <p>
@@ -25,6 +28,21 @@ public class WeatherConfig {
     private PrecipitationConfig precipitation = new PrecipitationConfig();
     private ForecastConfig forecast = new ForecastConfig();
     private FormatConfig format = new FormatConfig();
+    private SimulationConfig simulation = new SimulationConfig();
+    private StationsConfig stations = new StationsConfig();
+    private BatchConfig batch = new BatchConfig();
+    private HistoryConfig history = new HistoryConfig();
+    private RollupConfig rollup = new RollupConfig();
+    private ForecastCacheConfig forecastCache = new ForecastCacheConfig();
+    private GenerationConfig generation = new GenerationConfig();
+    private StreamConfig stream = new StreamConfig();
+    private JsonConfig json = new JsonConfig();
+    private MetricsConfig metrics = new MetricsConfig();
+    private IngestConfig ingest = new IngestConfig();
+    private UdpConfig udp = new UdpConfig();
+    private WarmupConfig warmup = new WarmupConfig();
+    private OverloadConfig overload = new OverloadConfig();
+    private DatasetConfig dataset = new DatasetConfig();
 
     /**
      * City-related configuration properties.
@@ -80,6 +98,8 @@ public class WeatherConfig {
     @Data
     public static class ForecastConfig {
         private int days;
+        private int maxHours;
+        private int pageSize;
     }
 
     /**
@@ -91,4 +111,168 @@ public class WeatherConfig {
         private String date;
         private int decimalPlaces;
     }
+
+    /**
+     * Background simulation engine configuration properties.
+     */
+    @Data
+    public static class SimulationConfig {
+        private boolean enabled;
+        private long tickMillis;
+        private double persistence;
+        private double temperatureVolatility;
+        private double humidityVolatility;
+        private double windSpeedVolatility;
+        private double conditionPersistence;
+    }
+
+    /**
+     * Multi-station catalog configuration properties.
+     */
+    @Data
+    public static class StationsConfig {
+        private String file;
+        private int expectedSize;
+    }
+
+    /**
+     * Multi-city batch query configuration properties.
+     */
+    @Data
+    public static class BatchConfig {
+        private int maxCities;
+        private int chunkSize;
+    }
+
+    /**
+     * Reading history store configuration properties.
+     */
+    @Data
+    public static class HistoryConfig {
+        private boolean enabled;
+        private String directory;
+        private int segmentRecords;
+        private int maxSegments;
+        private boolean compress;
+        private int decimalPlaces;
+    }
+
+    /**
+     * Precomputed history rollup configuration properties.
+     */
+    @Data
+    public static class RollupConfig {
+        private boolean enabled;
+        private Duration minuteRetention;
+        private Duration hourRetention;
+        private Duration dayRetention;
+        private int maxBuckets;
+    }
+
+    /**
+     * Forecast cache configuration properties.
+     */
+    @Data
+    public static class ForecastCacheConfig {
+        private boolean enabled;
+        private Duration ttl;
+        private int maxEntries;
+        private boolean coalesce;
+    }
+
+    /**
+     * Deterministic generation configuration properties.
+     */
+    @Data
+    public static class GenerationConfig {
+        private boolean deterministic;
+        private long seed;
+        private Duration bucket;
+    }
+
+    /**
+     * Live stream configuration properties.
+     */
+    @Data
+    public static class StreamConfig {
+        private Duration timeout;
+        private int maxSubscribers;
+    }
+
+    /**
+     * JSON serialization configuration properties.
+     */
+    @Data
+    public static class JsonConfig {
+        private boolean directWriters;
+    }
+
+    /**
+     * Request and phase metrics configuration properties.
+     */
+    @Data
+    public static class MetricsConfig {
+        private boolean enabled;
+        private int firstRequests;
+    }
+
+    /**
+     * Sensor reading ingestion configuration properties.
+     */
+    @Data
+    public static class IngestConfig {
+        private int bufferCapacity;
+        private int maxReadings;
+        private int drainBatch;
+        private Duration sensorTimeout;
+    }
+
+    /**
+     * UDP sensor listener configuration properties.
+     */
+    @Data
+    public static class UdpConfig {
+        private boolean enabled;
+        private String address;
+        private int port;
+        private int receiveBuffer;
+    }
+
+    /**
+     * JIT warm-up configuration properties.
+     */
+    @Data
+    public static class WarmupConfig {
+        private boolean enabled;
+        private int iterations;
+        private Duration timeBudget;
+        private int sample;
+    }
+
+    /**
+     * Stale-while-revalidate and load shedding configuration properties.
+     */
+    @Data
+    public static class OverloadConfig {
+        private boolean enabled;
+        private int maxInFlight;
+        private Duration latencyThreshold;
+        private Duration freshFor;
+        private Duration maxStale;
+    }
+
+    /**
+     * Bulk synthetic dataset generation configuration properties.
+     */
+    @Data
+    public static class DatasetConfig {
+        private boolean enabled;
+        private int stations;
+        private int steps;
+        private String start;
+        private DatasetFormat format;
+        private String directory;
+        private int stationsPerPart;
+        private int parallelism;
+    }
 }
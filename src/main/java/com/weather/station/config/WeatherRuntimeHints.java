@@ -0,0 +1,88 @@
+package com.weather.station.config;
+
+import com.weather.station.cache.ForecastCacheStats;
+import com.weather.station.ingest.IngestStats;
+import com.weather.station.ingest.UdpStats;
+import com.weather.station.metrics.LatencySnapshot;
+import com.weather.station.model.dto.BatchWeatherRequest;
+import com.weather.station.model.dto.BatchWeatherResponse;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ErrorResponse;
+import com.weather.station.model.dto.ForecastDay;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.model.dto.HistoryBucket;
+import com.weather.station.model.dto.HourlyForecastExport;
+import com.weather.station.model.dto.HourlyForecastPoint;
+import com.weather.station.model.dto.HourlyForecastResponse;
+import com.weather.station.model.dto.IngestResponse;
+import com.weather.station.model.dto.MetricSummary;
+import com.weather.station.model.dto.MetricsResponse;
+import com.weather.station.model.dto.ReadinessResponse;
+import com.weather.station.model.dto.SensorReading;
+import com.weather.station.model.dto.SensorReadingBatch;
+import com.weather.station.model.dto.WeatherHistoryResponse;
+import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.overload.OverloadStats;
+import com.weather.station.stream.StreamStats;
+import com.weather.station.warmup.WarmupState;
+import com.weather.station.warmup.WarmupStats;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.boot.context.properties.bind.BindableRuntimeHintsRegistrar;
+
+/**
+ * Reflection and resource hints for running as a GraalVM native image or with Spring AOT.
+ * <p>
+ * Spring AOT derives hints from controller signatures by itself, which misses types reached
+ * only at runtime, such as the error body of the exception handler or values behind generic
+ * map and list declarations. All Jackson-bound DTOs are therefore registered explicitly, with
+ * their Lombok-generated accessors and constructors, together with the {@link WeatherConfig}
+ * property tree, including its nested classes, and the bundled station catalog.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public class WeatherRuntimeHints implements RuntimeHintsRegistrar {
+
+    /** Types read or written by Jackson. */
+    static final Class<?>[] JSON_TYPES = {
+            CurrentWeatherResponse.class,
+            ForecastResponse.class,
+            ForecastDay.class,
+            HourlyForecastResponse.class,
+            HourlyForecastPoint.class,
+            HourlyForecastExport.class,
+            BatchWeatherRequest.class,
+            BatchWeatherResponse.class,
+            WeatherHistoryResponse.class,
+            HistoryBucket.class,
+            MetricSummary.class,
+            SensorReading.class,
+            SensorReadingBatch.class,
+            IngestResponse.class,
+            ErrorResponse.class,
+            MetricsResponse.class,
+            ReadinessResponse.class,
+            LatencySnapshot.class,
+            ForecastCacheStats.class,
+            StreamStats.class,
+            IngestStats.class,
+            UdpStats.class,
+            WarmupStats.class,
+            WarmupState.class,
+            OverloadStats.class,
+            WeatherCondition.class
+    };
+
+    static final String STATION_CATALOG = "stations.csv";
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(), JSON_TYPES);
+        BindableRuntimeHintsRegistrar.forTypes(WeatherConfig.class).registerHints(hints, classLoader);
+        hints.resources().registerPattern(STATION_CATALOG);
+    }
+}
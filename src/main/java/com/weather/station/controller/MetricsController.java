@@ -0,0 +1,23 @@
+package com.weather.station.controller;
+
+import com.weather.station.model.dto.MetricsResponse;
+import com.weather.station.service.MetricsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private final MetricsService metricsService;
+
+    public MetricsController(MetricsService metricsService) {
+        this.metricsService = metricsService;
+    }
+
+    @GetMapping
+    public MetricsResponse getMetrics() {
+        return metricsService.getMetrics();
+    }
+}
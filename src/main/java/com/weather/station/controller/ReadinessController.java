@@ -0,0 +1,27 @@
+package com.weather.station.controller;
+
+import com.weather.station.model.dto.ReadinessResponse;
+import com.weather.station.service.ReadinessService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/ready")
+public class ReadinessController {
+
+    private final ReadinessService readinessService;
+
+    public ReadinessController(ReadinessService readinessService) {
+        this.readinessService = readinessService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ReadinessResponse> getReadiness() {
+        ReadinessResponse readiness = readinessService.getReadiness();
+        HttpStatus status = readiness.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(readiness);
+    }
+}
@@ -1,29 +1,268 @@
 package com.weather.station.controller;
 
+import com.weather.station.binary.WeatherBinaryFormat;
+import com.weather.station.binary.WeatherBinaryHttpMessageConverter;
+import com.weather.station.model.dto.BatchWeatherRequest;
+import com.weather.station.model.dto.BatchWeatherResponse;
 import com.weather.station.model.dto.CurrentWeatherResponse;
 import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.model.dto.HourlyForecastExport;
+import com.weather.station.model.dto.HourlyForecastResponse;
+import com.weather.station.model.dto.IngestResponse;
+import com.weather.station.model.dto.SensorReadingBatch;
+import com.weather.station.model.dto.WeatherHistoryResponse;
+import com.weather.station.overload.Served;
+import com.weather.station.overload.StaleWhileRevalidate;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.BatchWeatherService;
+import com.weather.station.service.HourlyForecastService;
+import com.weather.station.service.ReadingIngestService;
+import com.weather.station.service.WeatherHistoryService;
 import com.weather.station.service.WeatherService;
+import com.weather.station.service.WeatherStreamService;
+import com.weather.station.version.ResponseVersion;
+import com.weather.station.version.Versioned;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/weather")
 public class WeatherController {
 
+    /**
+     * Marks a response served past its freshness period under {@code weather.overload.enabled}.
+     */
+    public static final String STALE_HEADER = "X-Weather-Stale";
+
+    private static final String JSON_REPRESENTATION = "j";
+    private static final String BINARY_REPRESENTATION = "b";
+
     private final WeatherService weatherService;
+    private final BatchWeatherService batchWeatherService;
+    private final WeatherHistoryService weatherHistoryService;
+    private final WeatherStreamService weatherStreamService;
+    private final ReadingIngestService readingIngestService;
+    private final HourlyForecastService hourlyForecastService;
+    private final StaleWhileRevalidate staleWhileRevalidate;
 
-    public WeatherController(WeatherService weatherService) {
+    public WeatherController(WeatherService weatherService, BatchWeatherService batchWeatherService,
+                             WeatherHistoryService weatherHistoryService, WeatherStreamService weatherStreamService,
+                             ReadingIngestService readingIngestService, HourlyForecastService hourlyForecastService,
+                             ObjectProvider<StaleWhileRevalidate> staleWhileRevalidate) {
         this.weatherService = weatherService;
+        this.batchWeatherService = batchWeatherService;
+        this.weatherHistoryService = weatherHistoryService;
+        this.weatherStreamService = weatherStreamService;
+        this.readingIngestService = readingIngestService;
+        this.hourlyForecastService = hourlyForecastService;
+        this.staleWhileRevalidate = staleWhileRevalidate.getIfAvailable();
+    }
+
+    @GetMapping(value = "/current", produces = {MediaType.APPLICATION_JSON_VALUE, WeatherBinaryFormat.MEDIA_TYPE_VALUE})
+    public ResponseEntity<CurrentWeatherResponse> getCurrentWeather(@RequestHeader HttpHeaders headers) {
+        if (staleWhileRevalidate == null) {
+            int station = StationRegistry.DEFAULT_STATION;
+            return conditional(headers, weatherService.currentWeatherVersion(station),
+                    () -> weatherService.getVersionedCurrentWeather(station));
+        }
+        return served(headers, staleWhileRevalidate.getCurrentWeather());
+    }
+
+    @GetMapping(value = "/current", params = "cities", produces = {MediaType.APPLICATION_JSON_VALUE, WeatherBinaryFormat.MEDIA_TYPE_VALUE})
+    public BatchWeatherResponse getCurrentWeatherBatch(@RequestParam List<String> cities) {
+        return batchWeatherService.getCurrentWeather(cities);
+    }
+
+    @PostMapping(value = "/current", produces = {MediaType.APPLICATION_JSON_VALUE, WeatherBinaryFormat.MEDIA_TYPE_VALUE})
+    public BatchWeatherResponse getCurrentWeatherBatch(@RequestBody BatchWeatherRequest request) {
+        return batchWeatherService.getCurrentWeather(request.getCities());
+    }
+
+    @GetMapping(value = "/forecast", produces = {MediaType.APPLICATION_JSON_VALUE, WeatherBinaryFormat.MEDIA_TYPE_VALUE})
+    public Object getForecast(@RequestHeader HttpHeaders headers) {
+        if (staleWhileRevalidate == null) {
+            int station = StationRegistry.DEFAULT_STATION;
+            return conditionalAsync(headers, weatherService.forecastVersion(station),
+                    () -> weatherService.getVersionedForecastAsync(station));
+        }
+        return served(headers, staleWhileRevalidate.getForecast());
+    }
+
+    @GetMapping(value = "/{city}/current", produces = {MediaType.APPLICATION_JSON_VALUE, WeatherBinaryFormat.MEDIA_TYPE_VALUE})
+    public ResponseEntity<CurrentWeatherResponse> getCurrentWeather(@PathVariable String city,
+                                                                    @RequestHeader HttpHeaders headers) {
+        if (staleWhileRevalidate == null) {
+            return conditional(headers, weatherService.currentWeatherVersion(city),
+                    () -> weatherService.getVersionedCurrentWeather(city));
+        }
+        return served(headers, staleWhileRevalidate.getCurrentWeather(city));
+    }
+
+    @GetMapping(value = "/{city}/forecast", produces = {MediaType.APPLICATION_JSON_VALUE, WeatherBinaryFormat.MEDIA_TYPE_VALUE})
+    public Object getForecast(@PathVariable String city, @RequestHeader HttpHeaders headers) {
+        if (staleWhileRevalidate == null) {
+            return conditionalAsync(headers, weatherService.forecastVersion(city),
+                    () -> weatherService.getVersionedForecastAsync(city));
+        }
+        return served(headers, staleWhileRevalidate.getForecast(city));
+    }
+
+    @GetMapping(value = "/forecast/hourly", produces = MediaType.APPLICATION_JSON_VALUE)
+    public HourlyForecastResponse getHourlyForecast(@RequestParam(required = false) Integer hours,
+                                                    @RequestParam(required = false) Integer limit,
+                                                    @RequestParam(required = false) String cursor) {
+        return hourlyForecastService.getHourlyForecast(hours, limit, cursor);
+    }
+
+    @GetMapping(value = "/forecast/hourly", params = "cities", produces = MediaType.APPLICATION_JSON_VALUE)
+    public HourlyForecastExport exportHourlyForecast(@RequestParam List<String> cities,
+                                                     @RequestParam(required = false) Integer hours) {
+        return hourlyForecastService.exportHourlyForecast(cities, hours);
+    }
+
+    @GetMapping(value = "/{city}/forecast/hourly", produces = MediaType.APPLICATION_JSON_VALUE)
+    public HourlyForecastResponse getHourlyForecast(@PathVariable String city,
+                                                    @RequestParam(required = false) Integer hours,
+                                                    @RequestParam(required = false) Integer limit,
+                                                    @RequestParam(required = false) String cursor) {
+        return hourlyForecastService.getHourlyForecast(city, hours, limit, cursor);
+    }
+
+    @GetMapping("/{city}/history")
+    public WeatherHistoryResponse getHistory(@PathVariable String city,
+                                             @RequestParam(required = false) String from,
+                                             @RequestParam(required = false) String to,
+                                             @RequestParam(defaultValue = "hour") String resolution) {
+        return weatherHistoryService.getHistory(city, from, to, resolution);
+    }
+
+    @GetMapping(value = "/{city}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamReadings(@PathVariable String city) {
+        return weatherStreamService.subscribe(city);
+    }
+
+    @PostMapping("/{city}/readings")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public IngestResponse ingestReadings(@PathVariable String city, @RequestBody SensorReadingBatch batch) {
+        return readingIngestService.ingest(city, batch.getReadings());
+    }
+
+    /**
+     * Answers a conditional request with 304 when the client's validators match the current
+     * version, before the response is built. Otherwise builds it and sends the validators of
+     * the version it was actually built at, which may be newer than {@code current}.
+     */
+    private static <T> ResponseEntity<T> conditional(HttpHeaders request, ResponseVersion current,
+                                                     Supplier<Versioned<T>> response) {
+        String representation = representation(request);
+        ResponseVersion tagged = current == null ? null : current.forRepresentation(representation);
+        if (notModified(request, tagged)) {
+            return notModified(tagged);
+        }
+        Versioned<T> versioned = response.get();
+        return validated(ResponseEntity.ok(), versioned.version(), representation).body(versioned.value());
+    }
+
+    /**
+     * Like {@link #conditional}, for responses that may still be loading for another request.
+     * A 304 and a response available right away are returned as a {@link ResponseEntity};
+     * otherwise a future of it, which suspends the request until the load completes without
+     * holding a thread. Spring MVC picks the return value handler from the returned object, so
+     * only those requests pay for an async dispatch.
+     */
+    private static <T> Object conditionalAsync(HttpHeaders request, ResponseVersion current,
+                                               Supplier<CompletableFuture<Versioned<T>>> response) {
+        String representation = representation(request);
+        ResponseVersion tagged = current == null ? null : current.forRepresentation(representation);
+        if (notModified(request, tagged)) {
+            return notModified(tagged);
+        }
+        CompletableFuture<Versioned<T>> loading = response.get();
+        if (loading.isDone() && !loading.isCompletedExceptionally()) {
+            Versioned<T> versioned = loading.join();
+            return validated(ResponseEntity.ok(), versioned.version(), representation).body(versioned.value());
+        }
+        return loading.thenApply(versioned ->
+                validated(ResponseEntity.ok(), versioned.version(), representation).body(versioned.value()));
+    }
+
+    /**
+     * Answers a conditional request with 304 when the client's validators match the version of
+     * the response the overload protection serves, stale or not.
+     */
+    private static <T> ResponseEntity<T> served(HttpHeaders request, Served<T> served) {
+        String representation = representation(request);
+        ResponseVersion version = served.version() == null ? null : served.version().forRepresentation(representation);
+        if (notModified(request, version)) {
+            return notModified(version);
+        }
+        ResponseEntity.BodyBuilder response = validated(ResponseEntity.ok(), served.version(), representation);
+        if (served.stale()) {
+            response.header(HttpHeaders.AGE, Long.toString(served.ageMillis() / 1000))
+                    .header(STALE_HEADER, "true");
+        }
+        return response.body(served.value());
+    }
+
+    private static boolean notModified(HttpHeaders request, ResponseVersion version) {
+        return version != null && version.notModified(request.getIfNoneMatch(), request.getIfModifiedSince());
+    }
+
+    private static <T> ResponseEntity<T> notModified(ResponseVersion version) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(version.etag())
+                .lastModified(version.lastModifiedMillis())
+                .build();
     }
 
-    @GetMapping("/current")
-    public CurrentWeatherResponse getCurrentWeather() {
-        return weatherService.getCurrentWeather();
+    private static ResponseEntity.BodyBuilder validated(ResponseEntity.BodyBuilder response, ResponseVersion version,
+                                                        String representation) {
+        response.varyBy(HttpHeaders.ACCEPT);
+        if (version != null) {
+            ResponseVersion tagged = version.forRepresentation(representation);
+            response.eTag(tagged.etag()).lastModified(tagged.lastModifiedMillis());
+        }
+        return response;
     }
 
-    @GetMapping("/forecast")
-    public ForecastResponse getForecast() {
-        return weatherService.getForecast();
+    /**
+     * Returns the representation content negotiation will write for the request's
+     * {@code Accept} header: the binary format only when the acceptable type with the highest
+     * quality, concrete types winning ties over wildcards, admits it but not JSON.
+     */
+    static String representation(HttpHeaders request) {
+        MediaType preferred = null;
+        for (MediaType type : request.getAccept()) {
+            double quality = type.getQualityValue();
+            if (quality == 0 || (!type.isCompatibleWith(MediaType.APPLICATION_JSON)
+                    && !type.isCompatibleWith(WeatherBinaryHttpMessageConverter.MEDIA_TYPE))) {
+                continue;
+            }
+            if (preferred == null || quality > preferred.getQualityValue()
+                    || (quality == preferred.getQualityValue() && preferred.isWildcardSubtype()
+                    && !type.isWildcardSubtype())) {
+                preferred = type;
+            }
+        }
+        return preferred != null && !preferred.isCompatibleWith(MediaType.APPLICATION_JSON)
+                ? BINARY_REPRESENTATION : JSON_REPRESENTATION;
     }
 }
@@ -0,0 +1,43 @@
+package com.weather.station.dataset;
+
+/**
+ * File formats of a generated dataset.
+ * <p>
+ * Every format holds the same columns: station index, city, reading time, temperature,
+ * humidity, wind speed and condition. {@link #BINARY} files have no header and consist of
+ * fixed-size big-endian records:
+ * </p>
+ * <pre>
+ * record = station:i32 epochMillis:i64 temperature:f64 humidity:i32 windSpeed:f64 condition:u8
+ * </pre>
+ * <p>
+ * Binary records carry no city name; it is the city of the same station index in the CSV and
+ * NDJSON formats. Conditions are written as their {@code WeatherCondition} ordinal.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public enum DatasetFormat {
+
+    CSV("csv"),
+    NDJSON("ndjson"),
+    BINARY("bin");
+
+    /** Size of a {@link #BINARY} record in bytes. */
+    public static final int BINARY_RECORD_BYTES = 4 + 8 + 8 + 4 + 8 + 1;
+
+    private final String extension;
+
+    DatasetFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the file name extension of this format, without the dot.
+     *
+     * @return the extension
+     */
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,198 @@
+package com.weather.station.dataset;
+
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.GeneratedField;
+import com.weather.station.service.WeatherDataGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Writes synthetic datasets of {@code stations × steps} readings using the deterministic
+ * generation rules of {@link WeatherDataGenerator}.
+ * <p>
+ * The reading of station {@code i} at step {@code k} is drawn from the
+ * {@link WeatherDataGenerator#seeded(long, long, GeneratedField) seeded} streams of bucket
+ * {@code timeBucket(startMillis) + k}, so for a catalog station it is exactly what
+ * {@code GET /{city}/current} returns in deterministic mode at that time. Stations beyond the
+ * catalog reuse the ranges of station {@code i % size} and are named after it with a
+ * {@code -<i / size>} suffix; like catalog stations, they are keyed by the
+ * {@link StationRegistry#seedKey(String) seed key} of their name. No state is shared between
+ * readings, which makes the output a
+ * pure function of the options and {@code weather.generation.seed}.
+ * </p>
+ * <p>
+ * Stations are split into fixed parts of {@code stationsPerPart}, each written to its own
+ * {@code part-NNNNN.<ext>} file in time-major order. The parts are generated by a
+ * {@link ForkJoinPool} that recursively halves the part range, and each part encodes into its
+ * own buffer and file channel, so workers never contend. Because part boundaries do not depend
+ * on the parallelism, every file is byte-identical however many workers wrote it. Part files
+ * left over from an earlier run are deleted first.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Slf4j
+public final class DatasetGenerator {
+
+    private static final Pattern PART_NAME = Pattern.compile("part-\\d{5}\\.(csv|ndjson|bin)");
+    private static final byte[] NO_TIMESTAMP = new byte[0];
+
+    private final WeatherDataGenerator dataGenerator;
+    private final StationRegistry stationRegistry;
+    private final int parallelism;
+
+    /**
+     * Creates a generator.
+     *
+     * @param dataGenerator   source of the generation rules, seed and bucket size
+     * @param stationRegistry catalog providing station names and ranges
+     * @param parallelism     number of worker threads, or 0 for one per available processor
+     * @throws IllegalArgumentException if {@code parallelism} is negative or the configured
+     *                                  bucket is not positive
+     */
+    public DatasetGenerator(WeatherDataGenerator dataGenerator, StationRegistry stationRegistry, int parallelism) {
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("weather.dataset.parallelism must not be negative: " + parallelism);
+        }
+        if (dataGenerator.getPlan().getBucketMillis() <= 0) {
+            throw new IllegalArgumentException("weather.generation.bucket must be positive: "
+                    + dataGenerator.getPlan().getBucketMillis() + "ms");
+        }
+        this.dataGenerator = dataGenerator;
+        this.stationRegistry = stationRegistry;
+        this.parallelism = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+    }
+
+    /**
+     * Generates a dataset, blocking until every part file is written.
+     *
+     * @param options shape and destination of the dataset
+     * @return what was written and how long it took
+     * @throws IOException if a part file cannot be written
+     */
+    public DatasetStats generate(DatasetOptions options) throws IOException {
+        Files.createDirectories(options.directory());
+        deleteParts(options.directory());
+        int workers = Math.min(parallelism, options.parts());
+        long firstBucket = dataGenerator.timeBucket(options.startMillis());
+        log.info("Generating {} stations x {} steps as {} into {} ({} parts, {} workers)", options.stations(),
+                options.steps(), options.format(), options.directory(), options.parts(), workers);
+
+        long start = System.nanoTime();
+        long bytes;
+        try (ForkJoinPool pool = new ForkJoinPool(workers)) {
+            bytes = pool.invoke(new PartRange(options, firstBucket, 0, options.parts()));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        return new DatasetStats(options.readings(), options.parts(), bytes, System.nanoTime() - start, workers);
+    }
+
+    /**
+     * Returns the name of a dataset station.
+     *
+     * @param station station index
+     * @return the catalog name, suffixed for stations beyond the catalog
+     */
+    public String cityName(int station) {
+        int size = stationRegistry.size();
+        String name = stationRegistry.name(station % size);
+        return station < size ? name : name + "-" + station / size;
+    }
+
+    private long writePart(DatasetOptions options, long firstBucket, int part) throws IOException {
+        int from = part * options.stationsPerPart();
+        int to = Math.min(options.stations(), from + options.stationsPerPart());
+        DatasetFormat format = options.format();
+        int size = stationRegistry.size();
+        byte[][] cities = new byte[to - from][];
+        long[] keys = new long[to - from];
+        for (int station = from; station < to; station++) {
+            String city = cityName(station);
+            cities[station - from] = DatasetPartWriter.encodeCity(city, format);
+            keys[station - from] = StationRegistry.seedKey(city);
+        }
+
+        Path file = options.directory().resolve(String.format("part-%05d.%s", part, format.extension()));
+        try (DatasetPartWriter writer = new DatasetPartWriter(file, format)) {
+            for (int step = 0; step < options.steps(); step++) {
+                long bucket = firstBucket + step;
+                long epochMillis = dataGenerator.timeBucketStart(bucket);
+                byte[] timestamp = format == DatasetFormat.BINARY ? NO_TIMESTAMP
+                        : Instant.ofEpochMilli(epochMillis).toString().getBytes(StandardCharsets.US_ASCII);
+                for (int station = from; station < to; station++) {
+                    int template = station % size;
+                    long key = keys[station - from];
+                    writer.write(station, cities[station - from], epochMillis, timestamp,
+                            dataGenerator.generateTemperature(
+                                    dataGenerator.seeded(key, bucket, GeneratedField.TEMPERATURE),
+                                    stationRegistry.temperatureMin(template), stationRegistry.temperatureMax(template)),
+                            dataGenerator.generateHumidity(
+                                    dataGenerator.seeded(key, bucket, GeneratedField.HUMIDITY),
+                                    stationRegistry.humidityMin(template), stationRegistry.humidityMax(template)),
+                            dataGenerator.generateWindSpeed(
+                                    dataGenerator.seeded(key, bucket, GeneratedField.WIND_SPEED),
+                                    stationRegistry.windSpeedMin(template), stationRegistry.windSpeedMax(template)),
+                            dataGenerator.generateCondition(
+                                    dataGenerator.seeded(key, bucket, GeneratedField.CONDITION)));
+                }
+            }
+            return writer.bytes();
+        }
+    }
+
+    private static void deleteParts(Path directory) throws IOException {
+        List<Path> parts;
+        try (Stream<Path> files = Files.list(directory)) {
+            parts = files.filter(file -> PART_NAME.matcher(file.getFileName().toString()).matches()).toList();
+        }
+        for (Path part : parts) {
+            Files.delete(part);
+        }
+    }
+
+    /**
+     * Writes the parts {@code [from, to)}, forking the upper half until a single part is left.
+     */
+    private final class PartRange extends RecursiveTask<Long> {
+
+        private final DatasetOptions options;
+        private final long firstBucket;
+        private final int from;
+        private final int to;
+
+        PartRange(DatasetOptions options, long firstBucket, int from, int to) {
+            this.options = options;
+            this.firstBucket = firstBucket;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from == 1) {
+                try {
+                    return writePart(options, firstBucket, from);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException("Failed to write dataset part " + from, ex);
+                }
+            }
+            int middle = (from + to) >>> 1;
+            PartRange upper = new PartRange(options, firstBucket, middle, to);
+            upper.fork();
+            long lower = new PartRange(options, firstBucket, from, middle).compute();
+            return lower + upper.join();
+        }
+    }
+}
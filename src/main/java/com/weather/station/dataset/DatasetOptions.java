@@ -0,0 +1,49 @@
+package com.weather.station.dataset;
+
+import java.nio.file.Path;
+
+/**
+ * Shape of a dataset produced by a {@link DatasetGenerator}.
+ *
+ * @param stations        number of stations
+ * @param steps           number of readings per station, one per generation bucket
+ * @param startMillis     time of the first reading; it is aligned down to its bucket
+ * @param format          the file format
+ * @param directory       directory the part files are written to; created if missing
+ * @param stationsPerPart number of stations written to each part file
+ * @since 1.1.0
+ */
+public record DatasetOptions(int stations, int steps, long startMillis, DatasetFormat format, Path directory,
+                             int stationsPerPart) {
+
+    public DatasetOptions {
+        if (stations <= 0) {
+            throw new IllegalArgumentException("weather.dataset.stations must be positive: " + stations);
+        }
+        if (steps <= 0) {
+            throw new IllegalArgumentException("weather.dataset.steps must be positive: " + steps);
+        }
+        if (stationsPerPart <= 0) {
+            throw new IllegalArgumentException("weather.dataset.stations-per-part must be positive: "
+                    + stationsPerPart);
+        }
+    }
+
+    /**
+     * Returns the number of readings in the dataset.
+     *
+     * @return stations times steps
+     */
+    public long readings() {
+        return (long) stations * steps;
+    }
+
+    /**
+     * Returns the number of part files of the dataset.
+     *
+     * @return the part count
+     */
+    public int parts() {
+        return (stations + stationsPerPart - 1) / stationsPerPart;
+    }
+}
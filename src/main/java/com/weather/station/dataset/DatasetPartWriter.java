@@ -0,0 +1,196 @@
+package com.weather.station.dataset;
+
+import com.weather.station.model.enums.WeatherCondition;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Encodes readings of one part file into a reused heap buffer and writes it to a
+ * {@link FileChannel} whenever the buffer fills. Not thread-safe; every part has its own writer.
+ *
+ * @since 1.1.0
+ */
+final class DatasetPartWriter implements Closeable {
+
+    static final int BUFFER_BYTES = 1 << 18;
+
+    static final String CSV_HEADER = "station,city,timestamp,temperature,humidity,windSpeed,condition\n";
+
+    /** Upper bound of a text record without its city and timestamp. */
+    private static final int MAX_TEXT_RECORD_BYTES = 192;
+
+    private static final byte[][] CONDITION_NAMES = conditionNames();
+
+    private final FileChannel channel;
+    private final DatasetFormat format;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+    private final byte[] digits = new byte[20];
+    private long bytes;
+
+    DatasetPartWriter(Path file, DatasetFormat format) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.format = format;
+        if (format == DatasetFormat.CSV) {
+            putAscii(CSV_HEADER);
+        }
+    }
+
+    /**
+     * Appends one reading.
+     *
+     * @param station     station index
+     * @param city        the city, already encoded by {@link #encodeCity} for this format
+     * @param epochMillis reading time
+     * @param timestamp   ISO-8601 form of {@code epochMillis} as ASCII bytes; unused by binary parts
+     * @param temperature temperature
+     * @param humidity    humidity
+     * @param windSpeed   wind speed
+     * @param condition   condition
+     * @throws IOException if flushing the buffer fails
+     */
+    void write(int station, byte[] city, long epochMillis, byte[] timestamp, double temperature, int humidity,
+               double windSpeed, WeatherCondition condition) throws IOException {
+        if (format == DatasetFormat.BINARY) {
+            ensure(DatasetFormat.BINARY_RECORD_BYTES);
+            buffer.putInt(station)
+                    .putLong(epochMillis)
+                    .putDouble(temperature)
+                    .putInt(humidity)
+                    .putDouble(windSpeed)
+                    .put((byte) condition.ordinal());
+            return;
+        }
+        ensure(MAX_TEXT_RECORD_BYTES + city.length + timestamp.length);
+        if (format == DatasetFormat.CSV) {
+            putDecimal(station);
+            buffer.put((byte) ',').put(city).put((byte) ',').put(timestamp).put((byte) ',');
+            putAscii(Double.toString(temperature));
+            buffer.put((byte) ',');
+            putDecimal(humidity);
+            buffer.put((byte) ',');
+            putAscii(Double.toString(windSpeed));
+            buffer.put((byte) ',').put(CONDITION_NAMES[condition.ordinal()]).put((byte) '\n');
+        } else {
+            putAscii("{\"station\":");
+            putDecimal(station);
+            putAscii(",\"city\":");
+            buffer.put(city);
+            putAscii(",\"timestamp\":\"");
+            buffer.put(timestamp);
+            putAscii("\",\"temperature\":");
+            putAscii(Double.toString(temperature));
+            putAscii(",\"humidity\":");
+            putDecimal(humidity);
+            putAscii(",\"windSpeed\":");
+            putAscii(Double.toString(windSpeed));
+            putAscii(",\"condition\":\"");
+            buffer.put(CONDITION_NAMES[condition.ordinal()]);
+            putAscii("\"}\n");
+        }
+    }
+
+    /**
+     * Returns the number of bytes written so far, including buffered ones.
+     *
+     * @return the part size
+     */
+    long bytes() {
+        return bytes + buffer.position();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            flush();
+        }
+    }
+
+    /**
+     * Encodes a city name as a CSV field or a quoted JSON string, in UTF-8.
+     *
+     * @param city   the name
+     * @param format the format
+     * @return the encoded name; empty for binary parts
+     */
+    static byte[] encodeCity(String city, DatasetFormat format) {
+        return switch (format) {
+            case CSV -> csvField(city).getBytes(StandardCharsets.UTF_8);
+            case NDJSON -> jsonString(city).getBytes(StandardCharsets.UTF_8);
+            case BINARY -> new byte[0];
+        };
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String jsonString(String value) {
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04X", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"').toString();
+    }
+
+    private static byte[][] conditionNames() {
+        WeatherCondition[] conditions = WeatherCondition.values();
+        byte[][] names = new byte[conditions.length][];
+        for (WeatherCondition condition : conditions) {
+            names[condition.ordinal()] = condition.name().getBytes(StandardCharsets.US_ASCII);
+        }
+        return names;
+    }
+
+    private void ensure(int length) throws IOException {
+        if (buffer.remaining() < length) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytes += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes characters known to be ASCII, such as the output of {@link Double#toString}.
+     */
+    private void putAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            buffer.put((byte) value.charAt(i));
+        }
+    }
+
+    private void putDecimal(long value) {
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        int pos = digits.length;
+        do {
+            digits[--pos] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        buffer.put(digits, pos, digits.length - pos);
+    }
+}
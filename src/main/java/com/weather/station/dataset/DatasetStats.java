@@ -0,0 +1,23 @@
+package com.weather.station.dataset;
+
+/**
+ * Outcome of a {@link DatasetGenerator} run.
+ *
+ * @param readings     readings written
+ * @param parts        part files written
+ * @param bytes        total size of the part files
+ * @param elapsedNanos wall-clock duration of the run
+ * @param parallelism  worker threads used
+ * @since 1.1.0
+ */
+public record DatasetStats(long readings, int parts, long bytes, long elapsedNanos, int parallelism) {
+
+    /**
+     * Returns the generation throughput.
+     *
+     * @return readings per minute of wall-clock time
+     */
+    public double readingsPerMinute() {
+        return elapsedNanos == 0 ? 0.0 : readings * 60_000_000_000.0 / elapsedNanos;
+    }
+}
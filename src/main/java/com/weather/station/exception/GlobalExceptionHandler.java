@@ -1,13 +1,16 @@
 package com.weather.station.exception;
 
+import com.weather.station.metrics.WeatherMetrics;
 import com.weather.station.model.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.time.Instant;
 
 /**
@@ -15,7 +18,8 @@ import java.time.Instant;
  * <p>
  * Provides centralized exception handling and consistent error responses
  * across the entire application. Prevents stack trace leakage to clients
- * and ensures proper logging of all errors.
+ * and ensures proper logging of all errors. Every handled exception is counted
+ * in {@link WeatherMetrics} by type.
  * </p>
  *
  * @since 1.0.0
@@ -24,6 +28,12 @@ import java.time.Instant;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private final WeatherMetrics metrics;
+
+    public GlobalExceptionHandler(WeatherMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * Handles all generic uncaught exceptions.
      *
@@ -35,6 +45,7 @@ public class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorResponse handleGenericException(Exception ex, HttpServletRequest request) {
         log.error("Unexpected error occurred while processing request to {}", request.getRequestURI(), ex);
+        metrics.recordError(ex);
 
         return ErrorResponse.builder()
                 .timestamp(Instant.now().toString())
@@ -56,6 +67,7 @@ public class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleIllegalArgument(IllegalArgumentException ex, HttpServletRequest request) {
         log.warn("Invalid argument provided to {}: {}", request.getRequestURI(), ex.getMessage());
+        metrics.recordError(ex);
 
         return ErrorResponse.builder()
                 .timestamp(Instant.now().toString())
@@ -66,6 +78,102 @@ public class GlobalExceptionHandler {
                 .build();
     }
 
+    /**
+     * Handles requests for cities without a registered station.
+     *
+     * @param ex the station not found exception
+     * @param request the HTTP request that caused the exception
+     * @return standardized error response
+     */
+    @ExceptionHandler(StationNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponse handleStationNotFound(StationNotFoundException ex, HttpServletRequest request) {
+        log.debug("Station not found for request to {}: {}", request.getRequestURI(), ex.getMessage());
+        metrics.recordError(ex);
+
+        return ErrorResponse.builder()
+                .timestamp(Instant.now().toString())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error(HttpStatus.NOT_FOUND.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+    }
+
+    /**
+     * Handles live stream subscriptions beyond the configured limit.
+     *
+     * @param ex the capacity exception
+     * @param request the HTTP request that caused the exception
+     * @return standardized error response
+     */
+    @ExceptionHandler(StreamCapacityExceededException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleStreamCapacityExceeded(StreamCapacityExceededException ex, HttpServletRequest request) {
+        log.warn("Rejected live stream request to {}: {}", request.getRequestURI(), ex.getMessage());
+        metrics.recordError(ex);
+
+        return ErrorResponse.builder()
+                .timestamp(Instant.now().toString())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+    }
+
+    /**
+     * Handles sensor readings rejected because the ingestion buffer is full. Clients are asked
+     * to retry after a second, by which time the writer has usually caught up.
+     *
+     * @param ex the capacity exception
+     * @param request the HTTP request that caused the exception
+     * @param response the HTTP response, to set {@code Retry-After} on
+     * @return standardized error response
+     */
+    @ExceptionHandler(IngestCapacityExceededException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleIngestCapacityExceeded(IngestCapacityExceededException ex, HttpServletRequest request,
+                                                      HttpServletResponse response) {
+        log.warn("Rejected sensor readings for {}: {}", request.getRequestURI(), ex.getMessage());
+        metrics.recordError(ex);
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+
+        return ErrorResponse.builder()
+                .timestamp(Instant.now().toString())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+    }
+
+    /**
+     * Handles requests shed under overload. Logged at debug level only, since shedding happens
+     * precisely when the instance has no time to spare.
+     *
+     * @param ex the overload exception
+     * @param request the HTTP request that was shed
+     * @param response the HTTP response, to set {@code Retry-After} on
+     * @return standardized error response
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleServiceOverloaded(ServiceOverloadedException ex, HttpServletRequest request,
+                                                 HttpServletResponse response) {
+        log.debug("Shed request to {}: {}", request.getRequestURI(), ex.getMessage());
+        metrics.recordError(ex);
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+
+        return ErrorResponse.builder()
+                .timestamp(Instant.now().toString())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+    }
+
     /**
      * Handles null pointer exceptions.
      *
@@ -77,6 +185,7 @@ public class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorResponse handleNullPointer(NullPointerException ex, HttpServletRequest request) {
         log.error("Null pointer exception occurred while processing request to {}", request.getRequestURI(), ex);
+        metrics.recordError(ex);
 
         return ErrorResponse.builder()
                 .timestamp(Instant.now().toString())
@@ -0,0 +1,13 @@
+package com.weather.station.exception;
+
+/**
+ * Thrown when sensor readings cannot be queued because the ingestion buffer is full.
+ *
+ * @since 1.1.0
+ */
+public class IngestCapacityExceededException extends RuntimeException {
+
+    public IngestCapacityExceededException(int readings) {
+        super("Ingestion buffer full, " + readings + " readings rejected");
+    }
+}
@@ -0,0 +1,14 @@
+package com.weather.station.exception;
+
+/**
+ * Thrown when a request is shed under overload and no earlier response is available to serve
+ * in its place.
+ *
+ * @since 1.1.0
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String city) {
+        super("Service overloaded, no cached response for " + city);
+    }
+}
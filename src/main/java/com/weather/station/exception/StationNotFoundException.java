@@ -0,0 +1,13 @@
+package com.weather.station.exception;
+
+/**
+ * Thrown when a request refers to a city that has no registered weather station.
+ *
+ * @since 1.1.0
+ */
+public class StationNotFoundException extends RuntimeException {
+
+    public StationNotFoundException(String city) {
+        super("Unknown station: " + city);
+    }
+}
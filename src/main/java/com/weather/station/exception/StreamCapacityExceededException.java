@@ -0,0 +1,13 @@
+package com.weather.station.exception;
+
+/**
+ * Thrown when opening a live stream would exceed the configured subscriber limit.
+ *
+ * @since 1.1.0
+ */
+public class StreamCapacityExceededException extends RuntimeException {
+
+    public StreamCapacityExceededException(int maxSubscribers) {
+        super("Live stream subscriber limit reached: " + maxSubscribers);
+    }
+}
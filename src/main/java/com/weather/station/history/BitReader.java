@@ -0,0 +1,69 @@
+package com.weather.station.history;
+
+import java.nio.ByteBuffer;
+
+/**
+ * MSB-first bit source over a region of a big-endian {@link ByteBuffer}, reading
+ * through a 64-bit cache. Uses absolute reads only, so several readers may share a buffer.
+ */
+final class BitReader {
+
+    private final ByteBuffer buffer;
+    private final int end;
+    private int position;
+    private long cache;
+    private int available;
+
+    BitReader(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.end = offset + length;
+    }
+
+    /**
+     * Reads {@code bits} bits as an unsigned value.
+     *
+     * @param bits number of bits, 1 to 64
+     * @return the value
+     */
+    long read(int bits) {
+        long result = 0;
+        while (bits > 0) {
+            if (available == 0) {
+                refill();
+            }
+            int take = Math.min(bits, available);
+            long chunk = (cache >>> (available - take)) & (take == 64 ? -1L : (1L << take) - 1);
+            result = take == 64 ? chunk : (result << take) | chunk;
+            available -= take;
+            bits -= take;
+        }
+        return result;
+    }
+
+    boolean readBit() {
+        if (available == 0) {
+            refill();
+        }
+        available--;
+        return ((cache >>> available) & 1L) != 0;
+    }
+
+    private void refill() {
+        int remaining = end - position;
+        if (remaining >= 8) {
+            cache = buffer.getLong(position);
+            position += 8;
+            available = 64;
+        } else if (remaining > 0) {
+            cache = 0;
+            for (int i = 0; i < remaining; i++) {
+                cache = (cache << 8) | (buffer.get(position + i) & 0xFFL);
+            }
+            position = end;
+            available = remaining * 8;
+        } else {
+            throw new IllegalStateException("Compressed history block is truncated");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.weather.station.history;
+
+import java.util.Arrays;
+
+/**
+ * Growable MSB-first bit sink used by the Gorilla series encoder.
+ */
+final class BitWriter {
+
+    private long[] words = new long[64];
+    private int wordCount;
+    private long current;
+    private int bitsInCurrent;
+
+    /**
+     * Writes the lowest {@code bits} bits of {@code value}, most significant first.
+     *
+     * @param value the value to write
+     * @param bits  number of bits, 1 to 64
+     */
+    void write(long value, int bits) {
+        if (bits < 64) {
+            value &= (1L << bits) - 1;
+        }
+        int free = 64 - bitsInCurrent;
+        if (bits < free) {
+            current |= value << (free - bits);
+            bitsInCurrent += bits;
+        } else if (bits == free) {
+            current |= value;
+            pushWord();
+        } else {
+            int overflow = bits - free;
+            current |= value >>> overflow;
+            pushWord();
+            current = value << (64 - overflow);
+            bitsInCurrent = overflow;
+        }
+    }
+
+    void writeBit(boolean bit) {
+        write(bit ? 1 : 0, 1);
+    }
+
+    long bitLength() {
+        return (long) wordCount * 64 + bitsInCurrent;
+    }
+
+    /**
+     * Returns the written bits, zero-padded to a whole number of bytes, big-endian.
+     */
+    byte[] toByteArray() {
+        int length = (int) ((bitLength() + 7) / 8);
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            int word = i / 8;
+            long source = word < wordCount ? words[word] : current;
+            bytes[i] = (byte) (source >>> (56 - (i % 8) * 8));
+        }
+        return bytes;
+    }
+
+    void reset() {
+        wordCount = 0;
+        current = 0;
+        bitsInCurrent = 0;
+    }
+
+    private void pushWord() {
+        if (wordCount == words.length) {
+            words = Arrays.copyOf(words, words.length * 2);
+        }
+        words[wordCount++] = current;
+        current = 0;
+        bitsInCurrent = 0;
+    }
+}
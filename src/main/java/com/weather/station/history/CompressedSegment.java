@@ -0,0 +1,286 @@
+package com.weather.station.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Sealed, read-only segment holding the readings of one raw {@link HistorySegment}
+ * in {@link GorillaCodec} form, grouped into one block per station.
+ * <p>
+ * Layout (big-endian):
+ * </p>
+ * <pre>
+ * header, 48 bytes
+ *   0  int   magic 'WHSC'
+ *   4  int   format version
+ *   8  int   decimal places used for quantization, -1 if lossless
+ *   12 int   block count
+ *   16 long  record count
+ *   24 long  minimum timestamp
+ *   32 long  maximum timestamp
+ * directory, 40 bytes per block, ordered by station
+ *   0  int   station id
+ *   4  int   record count
+ *   8  long  minimum timestamp
+ *   16 long  maximum timestamp
+ *   24 long  data offset
+ *   32 int   data length in bytes
+ *   36 int   1 if timestamps are non-decreasing
+ * blocks
+ *   Gorilla bit streams
+ * </pre>
+ * <p>
+ * Files are written to a temporary name, forced to disk and atomically renamed, so a crash
+ * never leaves a partially written segment under its final name.
+ * </p>
+ */
+final class CompressedSegment implements StoredSegment {
+
+    static final int MAGIC = 0x57485343;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 48;
+    static final int DIRECTORY_ENTRY_SIZE = 40;
+    static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path path;
+    private final long sequence;
+    private final MappedByteBuffer buffer;
+    private final int decimalPlaces;
+    private final long recordCount;
+    private final long minEpoch;
+    private final long maxEpoch;
+
+    private final int[] stations;
+    private final int[] counts;
+    private final long[] blockMinEpoch;
+    private final long[] blockMaxEpoch;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final boolean[] sorted;
+
+    private CompressedSegment(Path path, long sequence, MappedByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.sequence = sequence;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a compressed history segment: " + path);
+        }
+        this.decimalPlaces = buffer.getInt(8);
+        int blocks = buffer.getInt(12);
+        this.recordCount = buffer.getLong(16);
+        this.minEpoch = buffer.getLong(24);
+        this.maxEpoch = buffer.getLong(32);
+        if ((long) HEADER_SIZE + (long) blocks * DIRECTORY_ENTRY_SIZE > buffer.capacity()) {
+            throw new IOException("Truncated compressed history segment: " + path);
+        }
+
+        this.stations = new int[blocks];
+        this.counts = new int[blocks];
+        this.blockMinEpoch = new long[blocks];
+        this.blockMaxEpoch = new long[blocks];
+        this.offsets = new int[blocks];
+        this.lengths = new int[blocks];
+        this.sorted = new boolean[blocks];
+        for (int i = 0; i < blocks; i++) {
+            int entry = HEADER_SIZE + i * DIRECTORY_ENTRY_SIZE;
+            stations[i] = buffer.getInt(entry);
+            counts[i] = buffer.getInt(entry + 4);
+            blockMinEpoch[i] = buffer.getLong(entry + 8);
+            blockMaxEpoch[i] = buffer.getLong(entry + 16);
+            offsets[i] = (int) buffer.getLong(entry + 24);
+            lengths[i] = buffer.getInt(entry + 32);
+            sorted[i] = buffer.getInt(entry + 36) == 1;
+            if ((long) offsets[i] + lengths[i] > buffer.capacity()) {
+                throw new IOException("Truncated compressed history segment: " + path);
+            }
+        }
+    }
+
+    static CompressedSegment open(Path path, long sequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Compressed history segment too large: " + path);
+            }
+            return new CompressedSegment(path, sequence, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Compresses all committed records of a raw segment into {@code target}.
+     *
+     * @param source        the sealed raw segment
+     * @param target        final path of the compressed segment
+     * @param decimalPlaces precision values were quantized to, or -1 for lossless encoding
+     * @return the opened compressed segment
+     * @throws IOException if the file cannot be written
+     */
+    static CompressedSegment write(HistorySegment source, Path target, int decimalPlaces) throws IOException {
+        int count = (int) source.committed();
+
+        int maxStation = -1;
+        for (int i = 0; i < count; i++) {
+            maxStation = Math.max(maxStation, source.stationAt(i));
+        }
+        int[] perStation = new int[maxStation + 1];
+        for (int i = 0; i < count; i++) {
+            perStation[source.stationAt(i)]++;
+        }
+        int blocks = 0;
+        int[] next = new int[maxStation + 1];
+        for (int station = 0, running = 0; station <= maxStation; station++) {
+            next[station] = running;
+            running += perStation[station];
+            if (perStation[station] > 0) {
+                blocks++;
+            }
+        }
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[next[source.stationAt(i)]++] = i;
+        }
+
+        Path temporary = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        long segmentMin = Long.MAX_VALUE;
+        long segmentMax = Long.MIN_VALUE;
+        ByteBuffer directory = ByteBuffer.allocate(blocks * DIRECTORY_ENTRY_SIZE);
+        long dataOffset = HEADER_SIZE + (long) blocks * DIRECTORY_ENTRY_SIZE;
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            BitWriter bits = new BitWriter();
+            int position = 0;
+            for (int station = 0; station <= maxStation; station++) {
+                int stationCount = perStation[station];
+                if (stationCount == 0) {
+                    continue;
+                }
+                bits.reset();
+                GorillaCodec.Encoder encoder = new GorillaCodec.Encoder(bits, decimalPlaces);
+                long blockMin = Long.MAX_VALUE;
+                long blockMax = Long.MIN_VALUE;
+                boolean blockSorted = true;
+                for (int k = position; k < position + stationCount; k++) {
+                    int index = order[k];
+                    long epochMillis = source.epochMillisAt(index);
+                    if (epochMillis < blockMax) {
+                        blockSorted = false;
+                    }
+                    blockMin = Math.min(blockMin, epochMillis);
+                    blockMax = Math.max(blockMax, epochMillis);
+                    encoder.add(epochMillis, source.temperatureAt(index), source.humidityAt(index),
+                            source.windSpeedAt(index), source.conditionAt(index));
+                }
+                position += stationCount;
+
+                byte[] data = bits.toByteArray();
+                writeFully(channel, ByteBuffer.wrap(data), dataOffset);
+
+                directory.putInt(station)
+                        .putInt(stationCount)
+                        .putLong(blockMin)
+                        .putLong(blockMax)
+                        .putLong(dataOffset)
+                        .putInt(data.length)
+                        .putInt(blockSorted ? 1 : 0);
+                dataOffset += data.length;
+                segmentMin = Math.min(segmentMin, blockMin);
+                segmentMax = Math.max(segmentMax, blockMax);
+            }
+            if (dataOffset > Integer.MAX_VALUE) {
+                throw new IOException("Compressed history segment would exceed 2 GB: " + target);
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(decimalPlaces)
+                    .putInt(blocks)
+                    .putLong(count)
+                    .putLong(segmentMin)
+                    .putLong(segmentMax);
+            writeFully(channel, header.flip(), 0);
+            writeFully(channel, directory.flip(), HEADER_SIZE);
+            channel.force(true);
+        }
+
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return open(target, source.sequence());
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer data, long position) throws IOException {
+        while (data.hasRemaining()) {
+            position += channel.write(data, position);
+        }
+    }
+
+    @Override
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public long sequence() {
+        return sequence;
+    }
+
+    @Override
+    public long committed() {
+        return recordCount;
+    }
+
+    /**
+     * Visits matching records block by block; within a block records keep their
+     * original append order.
+     */
+    @Override
+    public boolean scan(long from, long to, int station, HistoryVisitor visitor) {
+        if (recordCount == 0 || maxEpoch < from || minEpoch > to) {
+            return true;
+        }
+        if (station >= 0) {
+            int block = Arrays.binarySearch(stations, station);
+            return block < 0 || scanBlock(block, from, to, visitor);
+        }
+        for (int block = 0; block < stations.length; block++) {
+            if (!scanBlock(block, from, to, visitor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean scanBlock(int block, long from, long to, HistoryVisitor visitor) {
+        if (blockMaxEpoch[block] < from || blockMinEpoch[block] > to) {
+            return true;
+        }
+        GorillaCodec.Decoder decoder = new GorillaCodec.Decoder(
+                new BitReader(buffer, offsets[block], lengths[block]), decimalPlaces);
+        int station = stations[block];
+        boolean isSorted = sorted[block];
+        for (int i = 0; i < counts[block]; i++) {
+            decoder.next();
+            long epochMillis = decoder.epochMillis();
+            if (epochMillis < from) {
+                continue;
+            }
+            if (epochMillis > to) {
+                if (isSorted) {
+                    return true;
+                }
+                continue;
+            }
+            if (!visitor.visit(epochMillis, station, decoder.temperature(), decoder.humidity(),
+                    decoder.windSpeed(), decoder.condition())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
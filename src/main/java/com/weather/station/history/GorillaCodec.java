@@ -0,0 +1,265 @@
+package com.weather.station.history;
+
+/**
+ * Gorilla-style encoding of one station's reading series.
+ * <p>
+ * Per reading:
+ * </p>
+ * <ul>
+ *   <li>Timestamp: the first is stored in 64 bits, later ones as a delta-of-delta in a
+ *       variable-length bucket ({@code 0}, {@code 10}+7, {@code 110}+9, {@code 1110}+12 or
+ *       {@code 1111}+64 bits). A regular tick costs one bit.</li>
+ *   <li>Temperature and wind speed: XOR against the previous value, with a reused or new
+ *       leading/trailing-zero window. Values are first quantized to the configured decimal
+ *       places, and mantissa bits below that precision are cleared so the XOR stays narrow;
+ *       the decoder rounds back to the exact decimal value.</li>
+ *   <li>Humidity and condition: {@code 0} if unchanged, otherwise {@code 1} followed by the
+ *       value bit-packed in 7 and 3 bits respectively.</li>
+ * </ul>
+ */
+final class GorillaCodec {
+
+    private static final int HUMIDITY_BITS = 7;
+    private static final int CONDITION_BITS = 3;
+
+    private GorillaCodec() {
+    }
+
+    /**
+     * Clears mantissa bits that are not needed to restore {@code value} when rounding to
+     * {@code decimalPlaces}. Returns the value unchanged when no bits can be cleared safely.
+     */
+    static double erase(double value, int decimalPlaces) {
+        if (decimalPlaces < 0 || value == 0.0 || !Double.isFinite(value)
+                || Math.getExponent(value) < Double.MIN_EXPONENT) {
+            return value;
+        }
+        double scale = Math.pow(10, decimalPlaces);
+        double tolerance = 0.25 / scale;
+        int clear = Math.min(52, Math.getExponent(tolerance) - Math.getExponent(value) + 52);
+        long bits = Double.doubleToRawLongBits(value);
+        for (; clear > 0; clear--) {
+            double erased = Double.longBitsToDouble(bits & (-1L << clear));
+            if (restore(erased, scale) == value) {
+                return erased;
+            }
+        }
+        return value;
+    }
+
+    static double restore(double erased, double scale) {
+        return Math.round(erased * scale) / scale;
+    }
+
+    /**
+     * Streaming encoder; feed readings in storage order.
+     */
+    static final class Encoder {
+
+        private final BitWriter out;
+        private final int decimalPlaces;
+        private final XorState temperature = new XorState();
+        private final XorState windSpeed = new XorState();
+
+        private int count;
+        private long previousEpoch;
+        private long previousDelta;
+        private int previousHumidity = -1;
+        private int previousCondition = -1;
+
+        Encoder(BitWriter out, int decimalPlaces) {
+            this.out = out;
+            this.decimalPlaces = decimalPlaces;
+        }
+
+        void add(long epochMillis, double temperatureValue, int humidity, double windSpeedValue, int condition) {
+            writeTimestamp(epochMillis);
+            temperature.write(out, erase(temperatureValue, decimalPlaces), count == 0);
+            writeSmall(humidity, previousHumidity, HUMIDITY_BITS);
+            windSpeed.write(out, erase(windSpeedValue, decimalPlaces), count == 0);
+            writeSmall(condition, previousCondition, CONDITION_BITS);
+            previousHumidity = humidity;
+            previousCondition = condition;
+            count++;
+        }
+
+        private void writeTimestamp(long epochMillis) {
+            if (count == 0) {
+                out.write(epochMillis, 64);
+                previousEpoch = epochMillis;
+                return;
+            }
+            long delta = epochMillis - previousEpoch;
+            long deltaOfDelta = delta - previousDelta;
+            if (deltaOfDelta == 0) {
+                out.write(0b0, 1);
+            } else if (deltaOfDelta >= -63 && deltaOfDelta <= 64) {
+                out.write(0b10, 2);
+                out.write(deltaOfDelta + 63, 7);
+            } else if (deltaOfDelta >= -255 && deltaOfDelta <= 256) {
+                out.write(0b110, 3);
+                out.write(deltaOfDelta + 255, 9);
+            } else if (deltaOfDelta >= -2047 && deltaOfDelta <= 2048) {
+                out.write(0b1110, 4);
+                out.write(deltaOfDelta + 2047, 12);
+            } else {
+                out.write(0b1111, 4);
+                out.write(deltaOfDelta, 64);
+            }
+            previousDelta = delta;
+            previousEpoch = epochMillis;
+        }
+
+        private void writeSmall(int value, int previous, int bits) {
+            if (value == previous) {
+                out.writeBit(false);
+            } else {
+                out.writeBit(true);
+                out.write(value, bits);
+            }
+        }
+    }
+
+    /**
+     * Streaming decoder; call {@link #next()} once per encoded reading.
+     */
+    static final class Decoder {
+
+        private final BitReader in;
+        private final double scale;
+        private final boolean quantized;
+        private final XorState temperatureState = new XorState();
+        private final XorState windSpeedState = new XorState();
+
+        private int decoded;
+        private long previousDelta;
+
+        private long epochMillis;
+        private double temperature;
+        private int humidity = -1;
+        private double windSpeed;
+        private int condition = -1;
+
+        Decoder(BitReader in, int decimalPlaces) {
+            this.in = in;
+            this.quantized = decimalPlaces >= 0;
+            this.scale = quantized ? Math.pow(10, decimalPlaces) : 1.0;
+        }
+
+        void next() {
+            readTimestamp();
+            temperature = value(temperatureState.read(in, decoded == 0));
+            humidity = readSmall(humidity, HUMIDITY_BITS);
+            windSpeed = value(windSpeedState.read(in, decoded == 0));
+            condition = readSmall(condition, CONDITION_BITS);
+            decoded++;
+        }
+
+        long epochMillis() {
+            return epochMillis;
+        }
+
+        double temperature() {
+            return temperature;
+        }
+
+        int humidity() {
+            return humidity;
+        }
+
+        double windSpeed() {
+            return windSpeed;
+        }
+
+        int condition() {
+            return condition;
+        }
+
+        private double value(double erased) {
+            return quantized ? restore(erased, scale) : erased;
+        }
+
+        private void readTimestamp() {
+            if (decoded == 0) {
+                epochMillis = in.read(64);
+                return;
+            }
+            long deltaOfDelta;
+            if (!in.readBit()) {
+                deltaOfDelta = 0;
+            } else if (!in.readBit()) {
+                deltaOfDelta = in.read(7) - 63;
+            } else if (!in.readBit()) {
+                deltaOfDelta = in.read(9) - 255;
+            } else if (!in.readBit()) {
+                deltaOfDelta = in.read(12) - 2047;
+            } else {
+                deltaOfDelta = in.read(64);
+            }
+            previousDelta += deltaOfDelta;
+            epochMillis += previousDelta;
+        }
+
+        private int readSmall(int previous, int bits) {
+            return in.readBit() ? (int) in.read(bits) : previous;
+        }
+    }
+
+    /**
+     * XOR compression state of one floating-point field.
+     */
+    private static final class XorState {
+
+        private long previous;
+        private int leading = -1;
+        private int trailing;
+
+        void write(BitWriter out, double value, boolean first) {
+            long bits = Double.doubleToRawLongBits(value);
+            if (first) {
+                out.write(bits, 64);
+                previous = bits;
+                return;
+            }
+            long xor = bits ^ previous;
+            previous = bits;
+            if (xor == 0) {
+                out.writeBit(false);
+                return;
+            }
+            int lead = Math.min(Long.numberOfLeadingZeros(xor), 31);
+            int trail = Long.numberOfTrailingZeros(xor);
+            if (leading >= 0 && lead >= leading && trail >= trailing) {
+                out.write(0b10, 2);
+                out.write(xor >>> trailing, 64 - leading - trailing);
+            } else {
+                int significant = 64 - lead - trail;
+                out.write(0b11, 2);
+                out.write(lead, 5);
+                out.write(significant == 64 ? 0 : significant, 6);
+                out.write(xor >>> trail, significant);
+                leading = lead;
+                trailing = trail;
+            }
+        }
+
+        double read(BitReader in, boolean first) {
+            if (first) {
+                previous = in.read(64);
+            } else if (in.readBit()) {
+                if (!in.readBit()) {
+                    previous ^= in.read(64 - leading - trailing) << trailing;
+                } else {
+                    leading = (int) in.read(5);
+                    int significant = (int) in.read(6);
+                    if (significant == 0) {
+                        significant = 64;
+                    }
+                    trailing = 64 - leading - significant;
+                    previous ^= in.read(significant) << trailing;
+                }
+            }
+            return Double.longBitsToDouble(previous);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.weather.station.history;
+
+import com.weather.station.model.enums.WeatherCondition;
+
+/**
+ * A single reading retained in the {@link HistoryStore}.
+ *
+ * @param epochMillis time the reading was produced
+ * @param station     stored station id, see {@link HistoryStations}
+ * @param temperature temperature in °C
+ * @param humidity    humidity percentage
+ * @param windSpeed   wind speed in km/h
+ * @param condition   weather condition
+ * @since 1.1.0
+ */
+public record HistoryRecord(
+        long epochMillis,
+        int station,
+        double temperature,
+        int humidity,
+        double windSpeed,
+        WeatherCondition condition) {
+}
@@ -0,0 +1,27 @@
+package com.weather.station.history;
+
+import com.weather.station.simulation.WeatherReadingListener;
+import com.weather.station.simulation.WeatherSnapshot;
+
+/**
+ * Appends every published reading to the {@link HistoryStore}, under the station's
+ * {@link HistoryStations} id.
+ *
+ * @since 1.1.0
+ */
+public class HistoryRecorder implements WeatherReadingListener {
+
+    private final HistoryStore historyStore;
+    private final HistoryStations stations;
+
+    public HistoryRecorder(HistoryStore historyStore, HistoryStations stations) {
+        this.historyStore = historyStore;
+        this.stations = stations;
+    }
+
+    @Override
+    public void onReading(int station, WeatherSnapshot snapshot) {
+        historyStore.append(snapshot.epochMillis(), stations.id(station), snapshot.temperature(), snapshot.humidity(),
+                snapshot.windSpeed(), snapshot.condition());
+    }
+}
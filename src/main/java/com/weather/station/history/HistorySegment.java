@@ -0,0 +1,263 @@
+package com.weather.station.history;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One memory-mapped, fixed-capacity segment file of the {@link HistoryStore}.
+ * <p>
+ * Layout (little-endian):
+ * </p>
+ * <pre>
+ * header, 64 bytes
+ *   0  int   magic 'WHST'
+ *   4  int   format version
+ *   8  int   record size
+ *   12 int   capacity in records
+ *   16 long  committed record count (release/acquire)
+ *   24 long  minimum timestamp
+ *   32 long  maximum timestamp
+ *   40 int   1 while timestamps are non-decreasing, 0 otherwise
+ * records, 32 bytes each
+ *   0  long   epoch millis
+ *   8  int    station id (see HistoryStations)
+ *   12 double temperature
+ *   20 double wind speed
+ *   28 byte   humidity
+ *   29 byte   condition ordinal
+ * </pre>
+ * <p>
+ * The committed count is written with release semantics after the record bytes, so a reader
+ * that loads it with acquire semantics only ever sees fully written records. Because the count
+ * lives in the mapped file itself, reopening a segment needs no replay.
+ * </p>
+ */
+final class HistorySegment implements StoredSegment {
+
+    static final int MAGIC = 0x57485354;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 32;
+
+    private static final int OFFSET_MAGIC = 0;
+    private static final int OFFSET_VERSION = 4;
+    private static final int OFFSET_RECORD_SIZE = 8;
+    private static final int OFFSET_CAPACITY = 12;
+    private static final int OFFSET_COUNT = 16;
+    private static final int OFFSET_MIN_EPOCH = 24;
+    private static final int OFFSET_MAX_EPOCH = 32;
+    private static final int OFFSET_SORTED = 40;
+
+    private static final VarHandle LONG_VIEW =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Path path;
+    private final long sequence;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    // writer-side copies of header fields, only touched under the store's write lock
+    private long count;
+    private long minEpoch;
+    private long maxEpoch;
+    private boolean sorted;
+
+    private HistorySegment(Path path, long sequence, MappedByteBuffer buffer, int capacity) {
+        this.path = path;
+        this.sequence = sequence;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    static HistorySegment create(Path path, long sequence, int capacity) throws IOException {
+        MappedByteBuffer buffer = map(path, (long) HEADER_SIZE + (long) capacity * RECORD_SIZE,
+                StandardOpenOption.CREATE_NEW);
+        HistorySegment segment = new HistorySegment(path, sequence, buffer, capacity);
+        buffer.putInt(OFFSET_MAGIC, MAGIC);
+        buffer.putInt(OFFSET_VERSION, VERSION);
+        buffer.putInt(OFFSET_RECORD_SIZE, RECORD_SIZE);
+        buffer.putInt(OFFSET_CAPACITY, capacity);
+        buffer.putLong(OFFSET_MIN_EPOCH, Long.MAX_VALUE);
+        buffer.putLong(OFFSET_MAX_EPOCH, Long.MIN_VALUE);
+        buffer.putInt(OFFSET_SORTED, 1);
+        segment.minEpoch = Long.MAX_VALUE;
+        segment.maxEpoch = Long.MIN_VALUE;
+        segment.sorted = true;
+        LONG_VIEW.setRelease(buffer, OFFSET_COUNT, 0L);
+        return segment;
+    }
+
+    static HistorySegment open(Path path, long sequence) throws IOException {
+        long size = Files.size(path);
+        MappedByteBuffer buffer = map(path, size);
+        if (size < HEADER_SIZE || buffer.getInt(OFFSET_MAGIC) != MAGIC) {
+            throw new IOException("Not a history segment: " + path);
+        }
+        if (buffer.getInt(OFFSET_VERSION) != VERSION || buffer.getInt(OFFSET_RECORD_SIZE) != RECORD_SIZE) {
+            throw new IOException("Unsupported history segment format: " + path);
+        }
+        int capacity = buffer.getInt(OFFSET_CAPACITY);
+        if ((long) HEADER_SIZE + (long) capacity * RECORD_SIZE > size) {
+            throw new IOException("Truncated history segment: " + path);
+        }
+        HistorySegment segment = new HistorySegment(path, sequence, buffer, capacity);
+        segment.count = (long) LONG_VIEW.getAcquire(buffer, OFFSET_COUNT);
+        segment.minEpoch = buffer.getLong(OFFSET_MIN_EPOCH);
+        segment.maxEpoch = buffer.getLong(OFFSET_MAX_EPOCH);
+        segment.sorted = buffer.getInt(OFFSET_SORTED) == 1;
+        return segment;
+    }
+
+    private static MappedByteBuffer map(Path path, long size, StandardOpenOption... extra) throws IOException {
+        StandardOpenOption[] options = new StandardOpenOption[extra.length + 2];
+        options[0] = StandardOpenOption.READ;
+        options[1] = StandardOpenOption.WRITE;
+        System.arraycopy(extra, 0, options, 2, extra.length);
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    @Override
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public long sequence() {
+        return sequence;
+    }
+
+    boolean isFull() {
+        return count >= capacity;
+    }
+
+    /**
+     * Appends a record. Caller must hold the store's write lock and check {@link #isFull()}.
+     */
+    void append(long epochMillis, int station, double temperature, int humidity,
+                double windSpeed, int conditionOrdinal) {
+        int offset = HEADER_SIZE + (int) count * RECORD_SIZE;
+        buffer.putLong(offset, epochMillis);
+        buffer.putInt(offset + 8, station);
+        buffer.putDouble(offset + 12, temperature);
+        buffer.putDouble(offset + 20, windSpeed);
+        buffer.put(offset + 28, (byte) humidity);
+        buffer.put(offset + 29, (byte) conditionOrdinal);
+
+        if (epochMillis < maxEpoch && sorted) {
+            sorted = false;
+            buffer.putInt(OFFSET_SORTED, 0);
+        }
+        if (epochMillis < minEpoch) {
+            minEpoch = epochMillis;
+            buffer.putLong(OFFSET_MIN_EPOCH, epochMillis);
+        }
+        if (epochMillis > maxEpoch) {
+            maxEpoch = epochMillis;
+            buffer.putLong(OFFSET_MAX_EPOCH, epochMillis);
+        }
+        count++;
+        LONG_VIEW.setRelease(buffer, OFFSET_COUNT, count);
+    }
+
+    @Override
+    public long committed() {
+        return (long) LONG_VIEW.getAcquire(buffer, OFFSET_COUNT);
+    }
+
+    @Override
+    public boolean scan(long from, long to, int station, HistoryVisitor visitor) {
+        long committed = committed();
+        if (committed == 0
+                || buffer.getLong(OFFSET_MAX_EPOCH) < from
+                || buffer.getLong(OFFSET_MIN_EPOCH) > to) {
+            return true;
+        }
+        boolean isSorted = buffer.getInt(OFFSET_SORTED) == 1;
+        long start = isSorted ? lowerBound(from, committed) : 0;
+
+        for (long i = start; i < committed; i++) {
+            int offset = HEADER_SIZE + (int) i * RECORD_SIZE;
+            long epochMillis = buffer.getLong(offset);
+            if (epochMillis > to) {
+                if (isSorted) {
+                    break;
+                }
+                continue;
+            }
+            if (epochMillis < from) {
+                continue;
+            }
+            int recordStation = buffer.getInt(offset + 8);
+            if (station >= 0 && recordStation != station) {
+                continue;
+            }
+            boolean proceed = visitor.visit(
+                    epochMillis,
+                    recordStation,
+                    buffer.getDouble(offset + 12),
+                    buffer.get(offset + 28) & 0xFF,
+                    buffer.getDouble(offset + 20),
+                    buffer.get(offset + 29));
+            if (!proceed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * First index whose timestamp is {@code >= from}, assuming sorted records.
+     */
+    private long lowerBound(long from, long committed) {
+        long low = 0;
+        long high = committed;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (buffer.getLong(HEADER_SIZE + (int) mid * RECORD_SIZE) < from) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    long epochMillisAt(int index) {
+        return buffer.getLong(HEADER_SIZE + index * RECORD_SIZE);
+    }
+
+    int stationAt(int index) {
+        return buffer.getInt(HEADER_SIZE + index * RECORD_SIZE + 8);
+    }
+
+    double temperatureAt(int index) {
+        return buffer.getDouble(HEADER_SIZE + index * RECORD_SIZE + 12);
+    }
+
+    double windSpeedAt(int index) {
+        return buffer.getDouble(HEADER_SIZE + index * RECORD_SIZE + 20);
+    }
+
+    int humidityAt(int index) {
+        return buffer.get(HEADER_SIZE + index * RECORD_SIZE + 28) & 0xFF;
+    }
+
+    int conditionAt(int index) {
+        return buffer.get(HEADER_SIZE + index * RECORD_SIZE + 29);
+    }
+
+    void force() {
+        buffer.force();
+    }
+}
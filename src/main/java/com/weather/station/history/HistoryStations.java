@@ -0,0 +1,103 @@
+package com.weather.station.history;
+
+import com.weather.station.registry.StationRegistry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stable ids under which the {@link HistoryStore} of one directory keeps each station.
+ * <p>
+ * Registry indices follow the catalog order and shift when an entry is inserted, removed or
+ * moved, so records carry an id from the directory's {@value #FILE_NAME} instead: line
+ * {@code n} of the file names the station with id {@code n}. Stations missing from the file
+ * are appended when it is opened. A directory written before the file existed gets one listing
+ * the current catalog order, which is what its records used. Ids of stations that have left
+ * the catalog map to no station.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class HistoryStations {
+
+    static final String FILE_NAME = "stations.txt";
+
+    private final int[] ids;
+    private final int[] stations;
+
+    private HistoryStations(int[] ids, int[] stations) {
+        this.ids = ids;
+        this.stations = stations;
+    }
+
+    /**
+     * Reads the station ids of a history directory, assigning ids to stations of the registry
+     * that have none yet.
+     *
+     * @param directory directory holding the history segments
+     * @param registry  current station catalog
+     * @return ids of every station in the registry
+     * @throws IOException if the id file cannot be read or written
+     */
+    public static HistoryStations open(Path directory, StationRegistry registry) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(FILE_NAME);
+        List<String> names = Files.exists(file)
+                ? new ArrayList<>(Files.readAllLines(file, StandardCharsets.UTF_8))
+                : new ArrayList<>();
+        int known = names.size();
+
+        int[] ids = new int[registry.size()];
+        Arrays.fill(ids, -1);
+        for (int id = 0; id < known; id++) {
+            int station = registry.indexOf(names.get(id));
+            if (station >= 0 && ids[station] < 0) {
+                ids[station] = id;
+            }
+        }
+        for (int station = 0; station < ids.length; station++) {
+            if (ids[station] < 0) {
+                ids[station] = names.size();
+                names.add(registry.name(station));
+            }
+        }
+        if (names.size() > known) {
+            Path temp = directory.resolve(FILE_NAME + ".tmp");
+            Files.write(temp, names, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        int[] stations = new int[names.size()];
+        Arrays.fill(stations, -1);
+        for (int station = 0; station < ids.length; station++) {
+            stations[ids[station]] = station;
+        }
+        return new HistoryStations(ids, stations);
+    }
+
+    /**
+     * Returns the id a station's readings are stored under.
+     *
+     * @param station station index
+     * @return stored station id
+     */
+    public int id(int station) {
+        return ids[station];
+    }
+
+    /**
+     * Returns the station a stored id belongs to.
+     *
+     * @param id stored station id
+     * @return station index, or -1 if the station is no longer in the catalog
+     */
+    public int station(int id) {
+        return id >= 0 && id < stations.length ? stations[id] : -1;
+    }
+}
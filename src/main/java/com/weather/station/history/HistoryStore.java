@@ -0,0 +1,430 @@
+package com.weather.station.history;
+
+import com.weather.station.model.enums.WeatherCondition;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Embedded append-only time-series store for weather readings.
+ * <p>
+ * Readings are written as fixed-width binary records into memory-mapped segment files of
+ * {@code segmentRecords} records each (see {@link HistorySegment} for the layout). Appending is
+ * a handful of absolute buffer writes plus one release store, so a single core sustains
+ * millions of appends per second. Each segment keeps its committed record count and time
+ * bounds in its own header; reopening the directory therefore resumes exactly where the last
+ * process stopped without replaying any data.
+ * </p>
+ * <p>
+ * With compression enabled, every full segment is rewritten on a background thread into a
+ * {@link CompressedSegment} using {@link GorillaCodec} and the raw file is deleted. Values are
+ * rounded to {@code decimalPlaces} on append, which lets the codec drop insignificant mantissa
+ * bits and typically shrinks a reading from 32 bytes to 4-6 bytes.
+ * </p>
+ * <p>
+ * Appends are serialized by a {@link ReentrantLock} rather than the object monitor, so a
+ * virtual thread creating or forcing a segment file under it does not pin its carrier. Reads
+ * are lock-free and may run concurrently with appends and compaction; they observe every
+ * record committed before the scan reached its segment. When {@code maxSegments} is positive,
+ * the oldest segments are deleted once the limit is exceeded.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Slf4j
+public final class HistoryStore implements Closeable {
+
+    static final int MAX_SEGMENT_RECORDS =
+            (Integer.MAX_VALUE - HistorySegment.HEADER_SIZE) / HistorySegment.RECORD_SIZE;
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d{20})\\.(dat|gor)");
+
+    private final Path directory;
+    private final HistoryStoreOptions options;
+    private final double roundingFactor;
+    private final ExecutorService compactor;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile StoredSegment[] segments;
+    private HistorySegment active;
+    private long nextSequence;
+    private Future<?> lastCompaction;
+    private boolean closed;
+
+    private HistoryStore(Path directory, HistoryStoreOptions options, List<StoredSegment> existing) {
+        this.directory = directory;
+        this.options = options;
+        this.roundingFactor = options.decimalPlaces() >= 0 ? Math.pow(10, options.decimalPlaces()) : 0.0;
+        this.compactor = options.compress()
+                ? Executors.newSingleThreadExecutor(Thread.ofPlatform().name("history-compactor").daemon().factory())
+                : null;
+        this.segments = existing.toArray(new StoredSegment[0]);
+        this.nextSequence = existing.isEmpty() ? 0 : existing.get(existing.size() - 1).sequence() + 1;
+        if (!existing.isEmpty() && existing.get(existing.size() - 1) instanceof HistorySegment last && !last.isFull()) {
+            this.active = last;
+        }
+    }
+
+    /**
+     * Opens an uncompressed, full-precision store.
+     *
+     * @param directory      directory holding the segment files
+     * @param segmentRecords capacity of newly created segments, in records
+     * @param maxSegments    number of segments to retain, or 0 to keep everything
+     * @return the opened store
+     * @throws IOException if the directory or an existing segment cannot be opened
+     */
+    public static HistoryStore open(Path directory, int segmentRecords, int maxSegments) throws IOException {
+        return open(directory, HistoryStoreOptions.raw(segmentRecords, maxSegments));
+    }
+
+    /**
+     * Opens the store in the given directory, creating it if necessary and reattaching
+     * any existing segments. Full raw segments left over from a previous run are compacted
+     * when compression is enabled.
+     *
+     * @param directory directory holding the segment files
+     * @param options   store options
+     * @return the opened store
+     * @throws IOException if the directory or an existing segment cannot be opened
+     * @throws IllegalArgumentException if the segment capacity is out of range
+     */
+    public static HistoryStore open(Path directory, HistoryStoreOptions options) throws IOException {
+        int segmentRecords = options.segmentRecords();
+        if (segmentRecords <= 0 || segmentRecords > MAX_SEGMENT_RECORDS) {
+            throw new IllegalArgumentException("Segment capacity must be within [1, " + MAX_SEGMENT_RECORDS
+                    + "]: " + segmentRecords);
+        }
+        Files.createDirectories(directory);
+
+        TreeMap<Long, Path> raw = new TreeMap<>();
+        TreeMap<Long, Path> compressed = new TreeMap<>();
+        try (Stream<Path> listing = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) listing::iterator) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(CompressedSegment.TEMP_SUFFIX)) {
+                    // interrupted compaction; the raw segment is still in place
+                    Files.deleteIfExists(path);
+                    continue;
+                }
+                Matcher matcher = SEGMENT_NAME.matcher(name);
+                if (matcher.matches()) {
+                    long sequence = Long.parseLong(matcher.group(1));
+                    ("gor".equals(matcher.group(2)) ? compressed : raw).put(sequence, path);
+                }
+            }
+        }
+
+        TreeMap<Long, StoredSegment> existing = new TreeMap<>();
+        for (var entry : compressed.entrySet()) {
+            existing.put(entry.getKey(), CompressedSegment.open(entry.getValue(), entry.getKey()));
+            Path leftover = raw.remove(entry.getKey());
+            if (leftover != null) {
+                // compaction finished but the raw file was not deleted before shutdown
+                Files.deleteIfExists(leftover);
+            }
+        }
+        for (var entry : raw.entrySet()) {
+            existing.put(entry.getKey(), HistorySegment.open(entry.getValue(), entry.getKey()));
+        }
+        if (!existing.isEmpty()) {
+            log.info("Reopened history store in {} with {} segments", directory, existing.size());
+        }
+
+        HistoryStore store = new HistoryStore(directory, options, new ArrayList<>(existing.values()));
+        if (options.compress()) {
+            for (StoredSegment segment : existing.values()) {
+                if (segment instanceof HistorySegment rawSegment && rawSegment != store.active) {
+                    store.scheduleCompaction(rawSegment);
+                }
+            }
+        }
+        return store;
+    }
+
+    /**
+     * Appends one reading.
+     *
+     * @param epochMillis time the reading was produced
+     * @param station     station id, see {@link HistoryStations}
+     * @param temperature temperature in °C
+     * @param humidity    humidity percentage, 0 to 100
+     * @param windSpeed   wind speed in km/h
+     * @param condition   weather condition
+     * @throws IllegalStateException if the store is closed
+     * @throws UncheckedIOException  if a new segment cannot be created
+     */
+    public void append(long epochMillis, int station, double temperature, int humidity,
+                       double windSpeed, WeatherCondition condition) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("History store is closed");
+            }
+            if (active == null || active.isFull()) {
+                roll();
+            }
+            active.append(epochMillis, station, round(temperature), humidity, round(windSpeed), condition.ordinal());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts a new segment unless the active one is still empty, so that every reading appended
+     * from now on lands in a segment at or after the returned mark. A reader can then tell the
+     * readings stored so far from later ones regardless of their timestamps.
+     *
+     * @return sequence of the first segment holding readings appended after this call
+     * @throws IllegalStateException if the store is closed
+     * @throws UncheckedIOException  if a new segment cannot be created
+     * @see #scan(long, long, int, long, HistoryVisitor)
+     */
+    public long mark() {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("History store is closed");
+            }
+            if (active != null && active.committed() > 0) {
+                roll();
+            }
+            return active != null ? active.sequence() : nextSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Visits readings with {@code from <= epochMillis <= to}, segment by segment. Raw segments
+     * are visited in append order; compressed segments station by station, each station's
+     * readings in append order.
+     *
+     * @param from    inclusive lower time bound, epoch millis
+     * @param to      inclusive upper time bound, epoch millis
+     * @param station station id, or a negative value for all stations
+     * @param visitor receives each matching reading; return false to stop
+     */
+    public void scan(long from, long to, int station, HistoryVisitor visitor) {
+        scan(from, to, station, Long.MAX_VALUE, visitor);
+    }
+
+    /**
+     * Like {@link #scan(long, long, int, HistoryVisitor)}, limited to readings appended before
+     * a {@link #mark()}.
+     *
+     * @param from    inclusive lower time bound, epoch millis
+     * @param to      inclusive upper time bound, epoch millis
+     * @param station station id, or a negative value for all stations
+     * @param before  mark returned by {@link #mark()}
+     * @param visitor receives each matching reading; return false to stop
+     */
+    public void scan(long from, long to, int station, long before, HistoryVisitor visitor) {
+        for (StoredSegment segment : segments) {
+            if (segment.sequence() >= before || !segment.scan(from, to, station, visitor)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads up to {@code limit} readings of one station within a time range.
+     *
+     * @param station station id
+     * @param from    inclusive lower time bound, epoch millis
+     * @param to      inclusive upper time bound, epoch millis
+     * @param limit   maximum number of records to return
+     * @return matching readings in append order
+     */
+    public List<HistoryRecord> read(int station, long from, long to, int limit) {
+        List<HistoryRecord> records = new ArrayList<>(Math.min(limit, 1024));
+        WeatherCondition[] conditions = WeatherCondition.values();
+        scan(from, to, station, (epochMillis, recordStation, temperature, humidity, windSpeed, condition) -> {
+            records.add(new HistoryRecord(epochMillis, recordStation, temperature, humidity, windSpeed,
+                    conditions[condition]));
+            return records.size() < limit;
+        });
+        return records;
+    }
+
+    /**
+     * Returns the number of readings currently retained.
+     *
+     * @return committed record count across all segments
+     */
+    public long size() {
+        long total = 0;
+        for (StoredSegment segment : segments) {
+            total += segment.committed();
+        }
+        return total;
+    }
+
+    /**
+     * Forces the active segment's contents to the storage device.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            if (active != null) {
+                active.force();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until all compactions scheduled so far have completed.
+     */
+    void awaitCompaction() {
+        Future<?> pending;
+        lock.lock();
+        try {
+            pending = lastCompaction;
+        } finally {
+            lock.unlock();
+        }
+        if (pending == null) {
+            return;
+        }
+        try {
+            pending.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            log.warn("History compaction failed", ex.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            flush();
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        if (compactor != null) {
+            compactor.shutdown();
+            try {
+                if (!compactor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    log.warn("History compaction did not finish before shutdown; it will resume on next start");
+                    compactor.shutdownNow();
+                }
+            } catch (InterruptedException ex) {
+                compactor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private double round(double value) {
+        return roundingFactor > 0.0 ? Math.round(value * roundingFactor) / roundingFactor : value;
+    }
+
+    private void roll() {
+        long sequence = nextSequence++;
+        Path path = directory.resolve(String.format("segment-%020d.dat", sequence));
+        try {
+            HistorySegment sealed = active;
+            if (sealed != null) {
+                sealed.force();
+            }
+            HistorySegment segment = HistorySegment.create(path, sequence, options.segmentRecords());
+
+            StoredSegment[] current = segments;
+            int maxSegments = options.maxSegments();
+            int drop = maxSegments > 0 ? Math.max(0, current.length + 1 - maxSegments) : 0;
+            StoredSegment[] next = new StoredSegment[current.length - drop + 1];
+            System.arraycopy(current, drop, next, 0, current.length - drop);
+            next[next.length - 1] = segment;
+
+            active = segment;
+            segments = next;
+            for (int i = 0; i < drop; i++) {
+                delete(current[i].path());
+            }
+            if (sealed != null && compactor != null) {
+                scheduleCompaction(sealed);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to create history segment " + path, ex);
+        }
+    }
+
+    private void scheduleCompaction(HistorySegment sealed) {
+        lock.lock();
+        try {
+            lastCompaction = compactor.submit(() -> compact(sealed));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void compact(HistorySegment sealed) {
+        Path target = sealed.path().resolveSibling(String.format("segment-%020d.gor", sealed.sequence()));
+        try {
+            long started = System.nanoTime();
+            CompressedSegment compressed = CompressedSegment.write(sealed, target, options.decimalPlaces());
+            boolean replaced = replace(sealed, compressed);
+            delete(replaced ? sealed.path() : target);
+            if (replaced) {
+                log.debug("Compacted history segment {} ({} records) in {} ms", sealed.sequence(),
+                        compressed.committed(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.error("Failed to compact history segment {}", sealed.path(), ex);
+            delete(target);
+        }
+    }
+
+    /**
+     * Swaps a raw segment for its compressed form, unless retention already dropped it.
+     */
+    private boolean replace(HistorySegment sealed, CompressedSegment compressed) {
+        lock.lock();
+        try {
+            StoredSegment[] current = segments;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == sealed) {
+                    StoredSegment[] next = current.clone();
+                    next[i] = compressed;
+                    segments = next;
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("Failed to delete history file {}", path, ex);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.weather.station.history;
+
+/**
+ * Tuning options of a {@link HistoryStore}.
+ *
+ * @param segmentRecords capacity of raw segments, in records
+ * @param maxSegments    number of segments to retain, or 0 to keep everything
+ * @param compress       whether sealed segments are rewritten in {@link GorillaCodec} form
+ * @param decimalPlaces  precision stored values are rounded to, or -1 to store them unchanged
+ * @since 1.1.0
+ */
+public record HistoryStoreOptions(int segmentRecords, int maxSegments, boolean compress, int decimalPlaces) {
+
+    /**
+     * Uncompressed, full-precision storage.
+     *
+     * @param segmentRecords capacity of raw segments, in records
+     * @param maxSegments    number of segments to retain, or 0 to keep everything
+     * @return the options
+     */
+    public static HistoryStoreOptions raw(int segmentRecords, int maxSegments) {
+        return new HistoryStoreOptions(segmentRecords, maxSegments, false, -1);
+    }
+}
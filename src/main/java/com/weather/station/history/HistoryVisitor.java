@@ -0,0 +1,24 @@
+package com.weather.station.history;
+
+/**
+ * Callback for allocation-free iteration over stored readings.
+ *
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface HistoryVisitor {
+
+    /**
+     * Receives one stored reading.
+     *
+     * @param epochMillis      time the reading was produced
+     * @param station          stored station id, see {@link HistoryStations}
+     * @param temperature      temperature in °C
+     * @param humidity         humidity percentage
+     * @param windSpeed        wind speed in km/h
+     * @param conditionOrdinal ordinal of the {@link com.weather.station.model.enums.WeatherCondition}
+     * @return true to continue, false to stop the scan
+     */
+    boolean visit(long epochMillis, int station, double temperature, int humidity,
+                  double windSpeed, int conditionOrdinal);
+}
@@ -0,0 +1,25 @@
+package com.weather.station.history;
+
+import java.nio.file.Path;
+
+/**
+ * A segment of the {@link HistoryStore}, either raw and appendable or sealed and compressed.
+ */
+interface StoredSegment {
+
+    Path path();
+
+    long sequence();
+
+    /**
+     * Number of records visible to readers.
+     */
+    long committed();
+
+    /**
+     * Visits records with {@code from <= epochMillis <= to}, optionally restricted to one station.
+     *
+     * @return false if the visitor asked to stop
+     */
+    boolean scan(long from, long to, int station, HistoryVisitor visitor);
+}
@@ -0,0 +1,193 @@
+package com.weather.station.ingest;
+
+import com.weather.station.model.dto.SensorReading;
+import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write pipeline for sensor readings: request threads enqueue into a {@link ReadingRingBuffer}
+ * and one writer thread drains it into the {@link WeatherSimulationEngine}, which replaces the
+ * station's latest snapshot and hands each reading to the history, rollup and stream listeners.
+ * <p>
+ * Enqueuing is a CAS and a few array stores per batch, and a full buffer rejects the batch
+ * instead of waiting, so request threads never block on storage. The writer drains up to
+ * {@code drainBatch} readings before freeing their slots and parks only when the buffer is
+ * empty; producers unpark it after each batch. Having a single writer keeps readings of a
+ * station in arrival order and leaves the history store's append lock uncontended.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Slf4j
+public final class IngestPipeline implements Closeable {
+
+    private static final WeatherCondition[] CONDITIONS = WeatherCondition.values();
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+
+    private final ReadingRingBuffer buffer;
+    private final WeatherSimulationEngine engine;
+    private final int drainBatch;
+    private final ReadingRingBuffer.Handler handler = this::write;
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final Thread writer;
+
+    // only updated by the writer thread
+    private volatile long drained;
+    private volatile long failed;
+    private volatile boolean running = true;
+
+    /**
+     * Creates the pipeline and starts its writer thread.
+     *
+     * @param engine     receives every drained reading
+     * @param capacity   readings the buffer holds, rounded up to a power of two
+     * @param drainBatch maximum readings drained before their slots are freed
+     */
+    public IngestPipeline(WeatherSimulationEngine engine, int capacity, int drainBatch) {
+        this.buffer = new ReadingRingBuffer(capacity);
+        this.engine = engine;
+        this.drainBatch = Math.max(1, drainBatch);
+        this.writer = Thread.ofPlatform().name("ingest-writer").daemon().start(this::run);
+    }
+
+    /**
+     * Returns the number of readings the buffer holds, the largest batch that can be offered.
+     *
+     * @return buffer capacity
+     */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Enqueues readings of one station, either all of them or none.
+     *
+     * @param station     the station index
+     * @param readings    readings with temperature, humidity, wind speed and condition set
+     * @param epochMillis measurement time of each reading, by index
+     * @return true if enqueued, false if the buffer has no room for the batch or is closed
+     */
+    public boolean offer(int station, List<SensorReading> readings, long[] epochMillis) {
+        int count = readings.size();
+        long first = running ? buffer.claim(count) : -1;
+        if (first < 0) {
+            rejected.add(count);
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            SensorReading reading = readings.get(i);
+            buffer.put(first + i, station, epochMillis[i], reading.getTemperature(), reading.getHumidity(),
+                    reading.getWindSpeed(), reading.getCondition().ordinal());
+        }
+        accepted.add(count);
+        LockSupport.unpark(writer);
+        return true;
+    }
+
+    /**
+     * Enqueues a single reading without allocating, for callers that decode readings one by one
+     * such as the {@link UdpReadingListener}.
+     *
+     * @param station     the station index
+     * @param epochMillis measurement time
+     * @param temperature temperature in degrees Celsius
+     * @param humidity    relative humidity in percent
+     * @param windSpeed   wind speed in km/h
+     * @param condition   weather condition
+     * @return true if enqueued, false if the buffer is full or closed
+     */
+    public boolean offer(int station, long epochMillis, double temperature, int humidity, double windSpeed,
+                         WeatherCondition condition) {
+        long sequence = running ? buffer.claim(1) : -1;
+        if (sequence < 0) {
+            rejected.increment();
+            return false;
+        }
+        buffer.put(sequence, station, epochMillis, temperature, humidity, windSpeed, condition.ordinal());
+        accepted.increment();
+        LockSupport.unpark(writer);
+        return true;
+    }
+
+    /**
+     * Waits until every reading accepted so far has been drained, whether it was written or
+     * failed.
+     *
+     * @param timeout maximum time to wait
+     * @return true if all readings were drained, false on timeout or if the writer stopped
+     */
+    public boolean awaitWritten(Duration timeout) {
+        long target = accepted.sum();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (drained < target) {
+            if (System.nanoTime() - deadline >= 0 || !writer.isAlive()) {
+                return false;
+            }
+            LockSupport.parkNanos(100_000);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the current counters.
+     *
+     * @return point-in-time statistics
+     */
+    public IngestStats stats() {
+        long failures = failed;
+        return new IngestStats(accepted.sum(), rejected.sum(), drained - failures, failures, buffer.size(),
+                buffer.capacity());
+    }
+
+    /**
+     * Stops accepting readings and waits for the writer to drain the buffer. Readings offered
+     * concurrently with closing may be dropped.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.warn("Ingest writer did not drain {} pending readings within {} ms", buffer.size(),
+                    CLOSE_TIMEOUT_MILLIS);
+        }
+    }
+
+    private void run() {
+        while (true) {
+            int count = buffer.drain(handler, drainBatch);
+            if (count > 0) {
+                drained += count;
+            } else if (running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void write(int station, long epochMillis, double temperature, int humidity, double windSpeed,
+                       int condition) {
+        try {
+            engine.publishSensorReading(station, epochMillis, temperature, humidity, windSpeed, CONDITIONS[condition]);
+        } catch (RuntimeException ex) {
+            failed++;
+            log.error("Failed to write sensor reading for station {}", station, ex);
+        }
+    }
+}
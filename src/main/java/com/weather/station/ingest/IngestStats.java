@@ -0,0 +1,15 @@
+package com.weather.station.ingest;
+
+/**
+ * Point-in-time counters of an {@link IngestPipeline}.
+ *
+ * @param accepted readings enqueued
+ * @param rejected readings refused because the buffer was full or closed
+ * @param written  readings published by the writer
+ * @param failed   readings the writer could not publish
+ * @param pending  readings waiting in the buffer
+ * @param capacity readings the buffer holds
+ * @since 1.1.0
+ */
+public record IngestStats(long accepted, long rejected, long written, long failed, int pending, int capacity) {
+}
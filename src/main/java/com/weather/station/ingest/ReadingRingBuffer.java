@@ -0,0 +1,143 @@
+package com.weather.station.ingest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer queue of sensor readings.
+ * <p>
+ * Readings are stored column-wise in preallocated primitive arrays, so enqueuing allocates
+ * nothing. A producer reserves a contiguous range of sequences with one CAS on the tail, fills
+ * the slots and publishes each one by storing its sequence with release semantics. The consumer
+ * only reads a slot once it sees the expected sequence there and frees a whole drained range
+ * with a single store to the head. A reservation either fits entirely or fails, so producers
+ * never wait for the consumer.
+ * </p>
+ * <p>
+ * A reserved slot must always be published: the consumer stops at the first unpublished slot,
+ * so callers validate their input before reserving and do nothing that can fail in between.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+final class ReadingRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final int[] stations;
+    private final long[] times;
+    private final double[] temperatures;
+    private final int[] humidities;
+    private final double[] windSpeeds;
+    private final byte[] conditions;
+    private final AtomicLongArray published;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity minimum number of readings held, rounded up to a power of two
+     */
+    ReadingRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.stations = new int[this.capacity];
+        this.times = new long[this.capacity];
+        this.temperatures = new double[this.capacity];
+        this.humidities = new int[this.capacity];
+        this.windSpeeds = new double[this.capacity];
+        this.conditions = new byte[this.capacity];
+        this.published = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of reserved readings not yet drained. Approximate while producers or
+     * the consumer are active.
+     *
+     * @return pending readings
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * Reserves {@code count} consecutive slots.
+     *
+     * @param count number of readings to enqueue
+     * @return the first reserved sequence, or -1 if the buffer has no room for all of them
+     */
+    long claim(int count) {
+        while (true) {
+            long current = tail.get();
+            if (current + count - head.get() > capacity) {
+                return -1;
+            }
+            if (tail.compareAndSet(current, current + count)) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * Fills and publishes one reserved slot.
+     */
+    void put(long sequence, int station, long epochMillis, double temperature, int humidity,
+             double windSpeed, int condition) {
+        int slot = (int) sequence & mask;
+        stations[slot] = station;
+        times[slot] = epochMillis;
+        temperatures[slot] = temperature;
+        humidities[slot] = humidity;
+        windSpeeds[slot] = windSpeed;
+        conditions[slot] = (byte) condition;
+        published.setRelease(slot, sequence);
+    }
+
+    /**
+     * Hands up to {@code limit} published readings to the handler in sequence order, then frees
+     * their slots. Must only be called by the single consumer.
+     *
+     * @param handler receives each reading
+     * @param limit   maximum number of readings to drain
+     * @return number of readings drained
+     */
+    int drain(Handler handler, int limit) {
+        long first = head.get();
+        int count = 0;
+        while (count < limit) {
+            long sequence = first + count;
+            int slot = (int) sequence & mask;
+            if (published.getAcquire(slot) != sequence) {
+                break;
+            }
+            handler.accept(stations[slot], times[slot], temperatures[slot], humidities[slot], windSpeeds[slot],
+                    conditions[slot]);
+            count++;
+        }
+        if (count > 0) {
+            head.setRelease(first + count);
+        }
+        return count;
+    }
+
+    /**
+     * Receives drained readings.
+     */
+    @FunctionalInterface
+    interface Handler {
+
+        void accept(int station, long epochMillis, double temperature, int humidity, double windSpeed,
+                    int condition);
+    }
+}
@@ -0,0 +1,84 @@
+package com.weather.station.ingest;
+
+import com.weather.station.model.enums.WeatherCondition;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Constants of the fixed-size datagram in which field sensors push one reading each to the
+ * {@link UdpReadingListener}.
+ * <p>
+ * All values are big-endian and every datagram is exactly {@value #DATAGRAM_BYTES} bytes:
+ * </p>
+ * <pre>
+ * offset  size  field
+ *      0     2  magic        0x5753 ("WS")
+ *      2     1  version      1
+ *      3     1  condition    WeatherCondition ordinal
+ *      4     4  station      station registry index, signed
+ *      8     8  epochMillis  measurement time, signed; 0 means time of receipt
+ *     16     2  temperature  tenths of a degree Celsius, signed
+ *     18     2  windSpeed    tenths of a km/h, unsigned
+ *     20     1  humidity     percent, 0 to 100
+ * </pre>
+ * <p>
+ * Temperature and wind speed therefore have a resolution of 0.1 and range from -3276.8 to
+ * 3276.7 °C and from 0 to 6553.5 km/h. Stations are addressed by registry index instead of name
+ * to keep the datagram fixed-size: index 0 is the station configured by {@code weather.city},
+ * followed by the catalog entries in file order, so an index changes when stations are inserted
+ * before it. Conditions are ordinals as in the binary response format, so new conditions may only
+ * be appended.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class SensorDatagramFormat {
+
+    public static final int MAGIC = 0x5753;
+    public static final int VERSION = 1;
+    public static final int DATAGRAM_BYTES = 21;
+
+    /** Measurement time meaning "use the time the datagram was received". */
+    public static final long RECEIPT_TIME = 0;
+
+    static final int VERSION_OFFSET = 2;
+    static final int CONDITION_OFFSET = 3;
+    static final int STATION_OFFSET = 4;
+    static final int TIME_OFFSET = 8;
+    static final int TEMPERATURE_OFFSET = 16;
+    static final int WIND_SPEED_OFFSET = 18;
+    static final int HUMIDITY_OFFSET = 20;
+
+    /** Multiplier of the fixed-point temperature and wind speed fields. */
+    static final double SCALE = 10.0;
+
+    private SensorDatagramFormat() {
+    }
+
+    /**
+     * Writes one reading at the buffer's position and advances it by {@value #DATAGRAM_BYTES}
+     * bytes. Temperature and wind speed are rounded to the nearest tenth; values outside the
+     * representable range are clamped.
+     *
+     * @param target      buffer with at least {@value #DATAGRAM_BYTES} bytes remaining, big-endian
+     * @param station     the station index
+     * @param epochMillis measurement time, or {@link #RECEIPT_TIME}
+     * @param temperature temperature in degrees Celsius
+     * @param humidity    relative humidity in percent, 0 to 100
+     * @param windSpeed   wind speed in km/h, non-negative
+     * @param condition   weather condition
+     */
+    public static void write(ByteBuffer target, int station, long epochMillis, double temperature, int humidity,
+                             double windSpeed, WeatherCondition condition) {
+        long tenthsOfDegree = Math.round(temperature * SCALE);
+        long tenthsOfKmh = Math.round(windSpeed * SCALE);
+        target.putShort((short) MAGIC)
+                .put((byte) VERSION)
+                .put((byte) condition.ordinal())
+                .putInt(station)
+                .putLong(epochMillis)
+                .putShort((short) Math.clamp(tenthsOfDegree, Short.MIN_VALUE, Short.MAX_VALUE))
+                .putShort((short) Math.clamp(tenthsOfKmh, 0, 0xFFFF))
+                .put((byte) humidity);
+    }
+}
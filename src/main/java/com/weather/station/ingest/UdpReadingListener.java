@@ -0,0 +1,165 @@
+package com.weather.station.ingest;
+
+import com.weather.station.model.enums.WeatherCondition;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+
+/**
+ * Receives sensor readings as {@link SensorDatagramFormat} datagrams on a UDP port and
+ * enqueues them on the {@link IngestPipeline}, the same path readings posted over HTTP take to
+ * the current weather, history and rollups.
+ * <p>
+ * One platform thread loops on a blocking {@link DatagramChannel#receive} into a single direct
+ * buffer and decodes each datagram with absolute reads, so the steady state allocates nothing:
+ * the channel reuses the sender address object as long as the sender does not change. The
+ * buffer is one byte larger than a datagram so that oversized datagrams, which the channel
+ * truncates, are recognised. Invalid datagrams are counted and dropped, and so are readings the
+ * pipeline has no room for; UDP offers no backpressure, so sensors are expected to simply send
+ * their next reading.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Slf4j
+public final class UdpReadingListener implements Closeable {
+
+    private static final WeatherCondition[] CONDITIONS = WeatherCondition.values();
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+
+    private final DatagramChannel channel;
+    private final InetSocketAddress localAddress;
+    private final IngestPipeline pipeline;
+    private final int stations;
+    private final ByteBuffer packet = ByteBuffer.allocateDirect(SensorDatagramFormat.DATAGRAM_BYTES + 1);
+    private final Thread receiver;
+
+    // only updated by the receiver thread
+    private volatile long received;
+    private volatile long accepted;
+    private volatile long malformed;
+    private volatile long rejected;
+
+    private UdpReadingListener(DatagramChannel channel, IngestPipeline pipeline, int stations) throws IOException {
+        this.channel = channel;
+        this.localAddress = (InetSocketAddress) channel.getLocalAddress();
+        this.pipeline = pipeline;
+        this.stations = stations;
+        this.receiver = Thread.ofPlatform().name("udp-listener").daemon().start(this::run);
+    }
+
+    /**
+     * Binds the socket and starts receiving.
+     *
+     * @param pipeline           receives every valid reading
+     * @param stations           number of stations in the catalog; higher station indexes are invalid
+     * @param address            address to bind, port 0 for an ephemeral port
+     * @param receiveBufferBytes requested socket receive buffer size, capped by the operating system
+     * @return the running listener
+     * @throws IOException if the socket cannot be opened or bound
+     */
+    public static UdpReadingListener open(IngestPipeline pipeline, int stations, InetSocketAddress address,
+                                          int receiveBufferBytes) throws IOException {
+        DatagramChannel channel = DatagramChannel.open();
+        try {
+            channel.setOption(StandardSocketOptions.SO_RCVBUF, receiveBufferBytes);
+            channel.bind(address);
+            int actual = channel.getOption(StandardSocketOptions.SO_RCVBUF);
+            if (actual < receiveBufferBytes) {
+                log.warn("Socket receive buffer is {} bytes instead of {}; raise net.core.rmem_max to avoid drops",
+                        actual, receiveBufferBytes);
+            }
+            UdpReadingListener listener = new UdpReadingListener(channel, pipeline, stations);
+            log.info("Listening for sensor datagrams on {}", listener.localAddress());
+            return listener;
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the bound address, which carries the actual port when bound to port 0.
+     *
+     * @return local socket address
+     */
+    public InetSocketAddress localAddress() {
+        return localAddress;
+    }
+
+    /**
+     * Returns the current counters.
+     *
+     * @return point-in-time statistics
+     */
+    public UdpStats stats() {
+        return new UdpStats(received, accepted, malformed, rejected);
+    }
+
+    /**
+     * Closes the socket and waits for the receiver thread to stop. Readings already handed to
+     * the pipeline are written by it.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        try {
+            receiver.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            packet.clear();
+            try {
+                channel.receive(packet);
+            } catch (ClosedChannelException ex) {
+                return;
+            } catch (IOException ex) {
+                log.warn("Failed to receive sensor datagram", ex);
+                continue;
+            }
+            handle(packet.position());
+            // counted once handled, so a reader that sees it also sees the outcome
+            received++;
+        }
+    }
+
+    private void handle(int length) {
+        if (length != SensorDatagramFormat.DATAGRAM_BYTES
+                || (packet.getShort(0) & 0xFFFF) != SensorDatagramFormat.MAGIC
+                || (packet.get(SensorDatagramFormat.VERSION_OFFSET) & 0xFF) != SensorDatagramFormat.VERSION) {
+            malformed++;
+            return;
+        }
+        int condition = packet.get(SensorDatagramFormat.CONDITION_OFFSET) & 0xFF;
+        int station = packet.getInt(SensorDatagramFormat.STATION_OFFSET);
+        int humidity = packet.get(SensorDatagramFormat.HUMIDITY_OFFSET) & 0xFF;
+        if (condition >= CONDITIONS.length || station < 0 || station >= stations || humidity > 100) {
+            malformed++;
+            return;
+        }
+        long epochMillis = packet.getLong(SensorDatagramFormat.TIME_OFFSET);
+        if (epochMillis == SensorDatagramFormat.RECEIPT_TIME) {
+            epochMillis = System.currentTimeMillis();
+        }
+        double temperature = packet.getShort(SensorDatagramFormat.TEMPERATURE_OFFSET)
+                / SensorDatagramFormat.SCALE;
+        double windSpeed = (packet.getShort(SensorDatagramFormat.WIND_SPEED_OFFSET) & 0xFFFF)
+                / SensorDatagramFormat.SCALE;
+
+        if (pipeline.offer(station, epochMillis, temperature, humidity, windSpeed, CONDITIONS[condition])) {
+            accepted++;
+        } else {
+            rejected++;
+        }
+    }
+}
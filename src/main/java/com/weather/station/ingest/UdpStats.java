@@ -0,0 +1,14 @@
+package com.weather.station.ingest;
+
+/**
+ * Point-in-time counters of a {@link UdpReadingListener}. Datagrams the operating system drops
+ * because the socket receive buffer is full are never seen and not counted.
+ *
+ * @param received  datagrams received
+ * @param accepted  readings handed to the ingest pipeline
+ * @param malformed datagrams with a wrong size, magic, version or out-of-range field
+ * @param rejected  valid readings refused because the ingest buffer was full or closed
+ * @since 1.1.0
+ */
+public record UdpStats(long received, long accepted, long malformed, long rejected) {
+}
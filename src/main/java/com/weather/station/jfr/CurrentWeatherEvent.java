@@ -0,0 +1,28 @@
+package com.weather.station.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one {@code WeatherService.getCurrentWeather} call.
+ *
+ * @since 1.1.0
+ */
+@Name("com.weather.station.CurrentWeather")
+@Label("Current Weather")
+@Category({"Weather Station", "Service"})
+@Description("Current weather lookup for one station")
+@StackTrace(false)
+public class CurrentWeatherEvent extends Event {
+
+    @Label("City")
+    public String city;
+
+    @Label("Source")
+    @Description("simulation, generated or seeded")
+    public String source;
+}
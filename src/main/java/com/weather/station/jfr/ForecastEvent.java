@@ -0,0 +1,28 @@
+package com.weather.station.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one {@code WeatherService.getForecast} call, cache lookup
+ * and generation included.
+ *
+ * @since 1.1.0
+ */
+@Name("com.weather.station.Forecast")
+@Label("Forecast")
+@Category({"Weather Station", "Service"})
+@Description("Forecast lookup for one station")
+@StackTrace(false)
+public class ForecastEvent extends Event {
+
+    @Label("City")
+    public String city;
+
+    @Label("Forecast Days")
+    public int days;
+}
@@ -0,0 +1,44 @@
+package com.weather.station.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one {@code WeatherDataGenerator} method.
+ * <p>
+ * Emitted for every generated value, including those of each simulation tick, so it is
+ * disabled by default; enable it for a recording with
+ * {@code -XX:StartFlightRecording:+com.weather.station.Generation#enabled=true}.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Name("com.weather.station.Generation")
+@Label("Generation")
+@Category({"Weather Station", "Generation"})
+@Description("One value drawn by the weather data generator")
+@Enabled(false)
+@StackTrace(false)
+public class GenerationEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    /**
+     * Ends the event and commits it if the recording wants it.
+     *
+     * @param method name of the generator method
+     */
+    public void complete(String method) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            commit();
+        }
+    }
+}
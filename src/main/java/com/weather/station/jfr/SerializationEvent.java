@@ -0,0 +1,33 @@
+package com.weather.station.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the serialization of one response body.
+ *
+ * @since 1.1.0
+ */
+@Name("com.weather.station.Serialization")
+@Label("Serialization")
+@Category({"Weather Station", "HTTP"})
+@Description("Response body written by a message converter")
+@StackTrace(false)
+public class SerializationEvent extends Event {
+
+    @Label("Type")
+    public String type;
+
+    @Label("Media Type")
+    public String mediaType;
+
+    @Label("Payload Size")
+    @Description("Written bytes, or -1 when the converter streams without a Content-Length")
+    @DataAmount
+    public long payloadSize;
+}
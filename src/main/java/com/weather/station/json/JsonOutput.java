@@ -0,0 +1,170 @@
+package com.weather.station.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable UTF-8 byte buffer that JSON is written into before it is copied to the response
+ * in a single call. Meant to be reset and reused; not thread-safe.
+ *
+ * @since 1.1.0
+ */
+public final class JsonOutput {
+
+    /** Escape {@code /}. */
+    static final int ESCAPE_FORWARD_SLASHES = 1;
+    /** Escape every non-ASCII character. */
+    static final int ESCAPE_NON_ASCII = 1 << 1;
+    /** Escape characters outside the Basic Multilingual Plane as a surrogate pair. */
+    static final int ESCAPE_SUPPLEMENTARY = 1 << 2;
+    /** Write escape digits in lower case. */
+    static final int LOWER_CASE_HEX = 1 << 3;
+
+    private static final byte[] UPPER_HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LOWER_HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    private byte[] buffer;
+    private int size;
+
+    public JsonOutput(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * Discards the written content, keeping the allocated capacity.
+     */
+    public void reset() {
+        size = 0;
+    }
+
+    /**
+     * Returns the number of bytes written since the last reset.
+     *
+     * @return written byte count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies the written content to a stream.
+     *
+     * @param out destination
+     * @throws IOException if the stream fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    /**
+     * Returns a copy of the written content.
+     *
+     * @return written bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    void writeByte(int b) {
+        ensure(1);
+        buffer[size++] = (byte) b;
+    }
+
+    void writeRaw(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    void writeNull() {
+        writeRaw(NULL);
+    }
+
+    /**
+     * Writes characters known to be ASCII, such as the output of {@link Double#toString}.
+     */
+    void writeAscii(String value) {
+        int length = value.length();
+        ensure(length);
+        for (int i = 0; i < length; i++) {
+            buffer[size++] = (byte) value.charAt(i);
+        }
+    }
+
+    /**
+     * Writes a quoted JSON string with the escaping rules of Jackson's generator: short
+     * escapes for {@code \b \t \n \f \r}, {@code \}{@code u00XX} for other control characters,
+     * and the optional escapes selected by {@code escapes}.
+     *
+     * @param value   the string
+     * @param escapes bit set of {@link #ESCAPE_FORWARD_SLASHES}, {@link #ESCAPE_NON_ASCII},
+     *                {@link #ESCAPE_SUPPLEMENTARY} and {@link #LOWER_CASE_HEX}
+     */
+    void writeString(String value, int escapes) {
+        boolean escapeForwardSlashes = (escapes & ESCAPE_FORWARD_SLASHES) != 0;
+        boolean escapeNonAscii = (escapes & ESCAPE_NON_ASCII) != 0;
+        boolean escapeSupplementary = (escapes & ESCAPE_SUPPLEMENTARY) != 0;
+        byte[] hex = (escapes & LOWER_CASE_HEX) != 0 ? LOWER_HEX : UPPER_HEX;
+        int length = value.length();
+        // worst case: every char escaped to six bytes
+        ensure(length * 6 + 2);
+        byte[] buf = buffer;
+        int pos = size;
+        buf[pos++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\' && (c != '/' || !escapeForwardSlashes)) {
+                    buf[pos++] = (byte) c;
+                    continue;
+                }
+                buf[pos++] = '\\';
+                switch (c) {
+                    case '"', '\\', '/' -> buf[pos++] = (byte) c;
+                    case '\b' -> buf[pos++] = 'b';
+                    case '\t' -> buf[pos++] = 't';
+                    case '\n' -> buf[pos++] = 'n';
+                    case '\f' -> buf[pos++] = 'f';
+                    case '\r' -> buf[pos++] = 'r';
+                    default -> pos = unicodeEscape(buf, pos, c, hex);
+                }
+            } else if (escapeNonAscii || (escapeSupplementary && Character.isSurrogate(c))) {
+                buf[pos++] = '\\';
+                pos = unicodeEscape(buf, pos, c, hex);
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buf[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                buf[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buf[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        buf[pos++] = '"';
+        size = pos;
+    }
+
+    private static int unicodeEscape(byte[] buf, int pos, char c, byte[] hex) {
+        buf[pos++] = 'u';
+        buf[pos++] = hex[(c >> 12) & 0xF];
+        buf[pos++] = hex[(c >> 8) & 0xF];
+        buf[pos++] = hex[(c >> 4) & 0xF];
+        buf[pos++] = hex[c & 0xF];
+        return pos;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
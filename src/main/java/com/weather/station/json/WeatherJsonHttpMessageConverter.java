@@ -0,0 +1,57 @@
+package com.weather.station.json;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes the response DTOs supported by {@link WeatherJsonWriter} as {@code application/json}
+ * ahead of the Jackson converter; every other type falls through to Jackson.
+ * <p>
+ * The body is rendered into a {@link JsonOutput} and copied to the response in one write with
+ * an exact {@code Content-Length}. Platform threads reuse a thread-local buffer; virtual
+ * threads, which are not pooled, allocate a small one per response.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public class WeatherJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final ThreadLocal<JsonOutput> BUFFERS = ThreadLocal.withInitial(() -> new JsonOutput(INITIAL_CAPACITY));
+
+    private final WeatherJsonWriter writer;
+
+    public WeatherJsonHttpMessageConverter(WeatherJsonWriter writer) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.writer = writer;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return writer.canWrite(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Reading " + clazz.getName() + " is not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        JsonOutput out = Thread.currentThread().isVirtual() ? new JsonOutput(INITIAL_CAPACITY) : BUFFERS.get();
+        out.reset();
+        writer.write(value, out);
+        outputMessage.getHeaders().setContentLength(out.size());
+        out.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,304 @@
+package com.weather.station.json;
+
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ForecastDay;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.model.enums.WeatherCondition;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Hand-written JSON serializers for the current weather and forecast responses.
+ * <p>
+ * Produces exactly the bytes Jackson writes for these DTOs with the same mapper settings,
+ * without reflection or a generator: property names (with their quotes and colon) and
+ * {@link WeatherCondition} names are encoded once, and values are appended straight into
+ * a {@link JsonOutput}.
+ * </p>
+ * <p>
+ * {@link #matching(JsonMapper)} calibrates the writer against the application's mapper once:
+ * it serializes empty DTOs to learn the property order and a probe string to learn which
+ * characters are escaped and how. Mapper settings the writer cannot reproduce, such as
+ * omitting {@code null} properties or renaming them, are rejected at that point rather than
+ * producing different output.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class WeatherJsonWriter {
+
+    private static final int CITY = 0;
+    private static final int TIMESTAMP = 1;
+    private static final int TEMPERATURE = 2;
+    private static final int HUMIDITY = 3;
+    private static final int WIND_SPEED = 4;
+    private static final int CONDITION = 5;
+    private static final List<String> CURRENT_PROPERTIES =
+            List.of("city", "timestamp", "temperature", "humidity", "windSpeed", "condition");
+
+    private static final int DATE = 0;
+    private static final int TEMP_MIN = 1;
+    private static final int TEMP_MAX = 2;
+    private static final int DAY_CONDITION = 3;
+    private static final int PRECIPITATION = 4;
+    private static final List<String> DAY_PROPERTIES =
+            List.of("date", "tempMin", "tempMax", "condition", "precipitation");
+
+    private static final int FORECAST_CITY = 0;
+    private static final int GENERATED_AT = 1;
+    private static final int FORECAST = 2;
+    private static final List<String> FORECAST_PROPERTIES = List.of("city", "generatedAt", "forecast");
+
+    private static final List<Class<?>> SUPPORTED_TYPES =
+            List.of(CurrentWeatherResponse.class, ForecastDay.class, ForecastResponse.class);
+
+    private static final String ESCAPE_PROBE = "/\u001f\u00e9\ud83c\udf27";
+
+    private final int escapes;
+
+    private final int[] currentOrder;
+    private final int[] dayOrder;
+    private final int[] forecastOrder;
+    private final byte[][] currentNames;
+    private final byte[][] dayNames;
+    private final byte[][] forecastNames;
+    private final byte[][] conditionNames;
+
+    private WeatherJsonWriter(int[] currentOrder, int[] dayOrder, int[] forecastOrder, int escapes) {
+        this.currentOrder = currentOrder;
+        this.dayOrder = dayOrder;
+        this.forecastOrder = forecastOrder;
+        this.escapes = escapes;
+        this.currentNames = encodeNames(CURRENT_PROPERTIES);
+        this.dayNames = encodeNames(DAY_PROPERTIES);
+        this.forecastNames = encodeNames(FORECAST_PROPERTIES);
+        this.conditionNames = Arrays.stream(WeatherCondition.values())
+                .map(condition -> encode('"' + condition.name() + '"'))
+                .toArray(byte[][]::new);
+    }
+
+    /**
+     * Creates a writer whose output matches the given mapper.
+     *
+     * @param jsonMapper the mapper the application would otherwise serialize with
+     * @return a writer calibrated against the mapper
+     * @throws IllegalStateException if the mapper renames or omits properties of the DTOs
+     */
+    public static WeatherJsonWriter matching(JsonMapper jsonMapper) {
+        // byte output, like the HTTP converter: Jackson's UTF-8 generator escapes differently from its char one
+        String probe = new String(jsonMapper.writeValueAsBytes(ESCAPE_PROBE), StandardCharsets.UTF_8);
+        int escapes = 0;
+        if (probe.contains("\\/")) {
+            escapes |= JsonOutput.ESCAPE_FORWARD_SLASHES;
+        }
+        if (probe.contains("\\u001f")) {
+            escapes |= JsonOutput.LOWER_CASE_HEX;
+        }
+        if (probe.toLowerCase().contains("\\u00e9")) {
+            escapes |= JsonOutput.ESCAPE_NON_ASCII;
+        }
+        if (probe.toLowerCase().contains("\\ud83c")) {
+            escapes |= JsonOutput.ESCAPE_SUPPLEMENTARY;
+        }
+        return new WeatherJsonWriter(
+                order(CURRENT_PROPERTIES, jsonMapper.writeValueAsString(new CurrentWeatherResponse())),
+                order(DAY_PROPERTIES, jsonMapper.writeValueAsString(new ForecastDay())),
+                order(FORECAST_PROPERTIES, jsonMapper.writeValueAsString(new ForecastResponse())),
+                escapes);
+    }
+
+    /**
+     * Indicates whether values of the given type can be written.
+     *
+     * @param type the value type
+     * @return true for the supported response DTOs
+     */
+    public boolean canWrite(Class<?> type) {
+        return SUPPORTED_TYPES.contains(type);
+    }
+
+    /**
+     * Writes any supported value.
+     *
+     * @param value the value to write
+     * @param out   destination buffer
+     * @throws IllegalArgumentException if the value's type is not supported
+     */
+    public void write(Object value, JsonOutput out) {
+        if (value instanceof CurrentWeatherResponse current) {
+            write(current, out);
+        } else if (value instanceof ForecastResponse forecast) {
+            write(forecast, out);
+        } else if (value instanceof ForecastDay day) {
+            write(day, out);
+        } else {
+            throw new IllegalArgumentException("Unsupported type: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * Writes a current weather response.
+     *
+     * @param value the response
+     * @param out   destination buffer
+     */
+    public void write(CurrentWeatherResponse value, JsonOutput out) {
+        int separator = '{';
+        for (int property : currentOrder) {
+            out.writeByte(separator);
+            separator = ',';
+            out.writeRaw(currentNames[property]);
+            switch (property) {
+                case CITY -> writeString(value.getCity(), out);
+                case TIMESTAMP -> writeString(value.getTimestamp(), out);
+                case TEMPERATURE -> writeNumber(value.getTemperature(), out);
+                case HUMIDITY -> writeNumber(value.getHumidity(), out);
+                case WIND_SPEED -> writeNumber(value.getWindSpeed(), out);
+                case CONDITION -> writeCondition(value.getCondition(), out);
+                default -> throw new IllegalStateException("Unknown property " + property);
+            }
+        }
+        out.writeByte('}');
+    }
+
+    /**
+     * Writes a single forecast day.
+     *
+     * @param value the forecast day
+     * @param out   destination buffer
+     */
+    public void write(ForecastDay value, JsonOutput out) {
+        int separator = '{';
+        for (int property : dayOrder) {
+            out.writeByte(separator);
+            separator = ',';
+            out.writeRaw(dayNames[property]);
+            switch (property) {
+                case DATE -> writeString(value.getDate(), out);
+                case TEMP_MIN -> writeNumber(value.getTempMin(), out);
+                case TEMP_MAX -> writeNumber(value.getTempMax(), out);
+                case DAY_CONDITION -> writeCondition(value.getCondition(), out);
+                case PRECIPITATION -> writeNumber(value.getPrecipitation(), out);
+                default -> throw new IllegalStateException("Unknown property " + property);
+            }
+        }
+        out.writeByte('}');
+    }
+
+    /**
+     * Writes a forecast response including all of its days.
+     *
+     * @param value the response
+     * @param out   destination buffer
+     */
+    public void write(ForecastResponse value, JsonOutput out) {
+        int separator = '{';
+        for (int property : forecastOrder) {
+            out.writeByte(separator);
+            separator = ',';
+            out.writeRaw(forecastNames[property]);
+            switch (property) {
+                case FORECAST_CITY -> writeString(value.getCity(), out);
+                case GENERATED_AT -> writeString(value.getGeneratedAt(), out);
+                case FORECAST -> writeDays(value.getForecast(), out);
+                default -> throw new IllegalStateException("Unknown property " + property);
+            }
+        }
+        out.writeByte('}');
+    }
+
+    private void writeDays(List<ForecastDay> days, JsonOutput out) {
+        if (days == null) {
+            out.writeNull();
+            return;
+        }
+        out.writeByte('[');
+        for (int i = 0; i < days.size(); i++) {
+            if (i > 0) {
+                out.writeByte(',');
+            }
+            ForecastDay day = days.get(i);
+            if (day == null) {
+                out.writeNull();
+            } else {
+                write(day, out);
+            }
+        }
+        out.writeByte(']');
+    }
+
+    private void writeString(String value, JsonOutput out) {
+        if (value == null) {
+            out.writeNull();
+        } else {
+            out.writeString(value, escapes);
+        }
+    }
+
+    private void writeCondition(WeatherCondition value, JsonOutput out) {
+        if (value == null) {
+            out.writeNull();
+        } else {
+            out.writeRaw(conditionNames[value.ordinal()]);
+        }
+    }
+
+    private static void writeNumber(Double value, JsonOutput out) {
+        if (value == null) {
+            out.writeNull();
+        } else if (Double.isFinite(value)) {
+            out.writeAscii(Double.toString(value));
+        } else {
+            // Jackson writes NaN and infinities as strings by default
+            out.writeByte('"');
+            out.writeAscii(Double.toString(value));
+            out.writeByte('"');
+        }
+    }
+
+    private static void writeNumber(Integer value, JsonOutput out) {
+        if (value == null) {
+            out.writeNull();
+        } else {
+            out.writeAscii(Integer.toString(value));
+        }
+    }
+
+    /**
+     * Returns the property indices in the order they appear in {@code json}.
+     */
+    private static int[] order(List<String> properties, String json) {
+        int[] positions = new int[properties.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = json.indexOf('"' + properties.get(i) + "\":");
+            if (positions[i] < 0) {
+                throw new IllegalStateException("Property '" + properties.get(i) + "' missing from " + json
+                        + "; the JSON mapper settings are not supported by the direct writers");
+            }
+        }
+        if (json.chars().filter(c -> c == ':').count() != positions.length) {
+            throw new IllegalStateException("Unexpected properties in " + json
+                    + "; the JSON mapper settings are not supported by the direct writers");
+        }
+        return IntStream.range(0, positions.length)
+                .boxed()
+                .sorted(Comparator.comparingInt(i -> positions[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static byte[][] encodeNames(List<String> properties) {
+        return properties.stream()
+                .map(name -> encode('"' + name + "\":"))
+                .toArray(byte[][]::new);
+    }
+
+    private static byte[] encode(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,112 @@
+package com.weather.station.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Lock-free log-linear histogram of durations in nanoseconds, in the style of HdrHistogram.
+ * <p>
+ * Each power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, so every recorded
+ * value lands in a bucket at most about 3% wider than the value itself, across the whole
+ * {@code long} range. Recording is a few bit operations and one atomic increment, plus a write
+ * to the maximum only when it grows; there is no lock, allocation or resizing, so many threads
+ * can record into the same histogram. Snapshots copy the counts without stopping writers, so a
+ * snapshot taken during recording may miss in-flight values.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records one duration; negative values count as zero.
+     *
+     * @param nanos duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(index(value));
+        max.accumulate(value);
+    }
+
+    /**
+     * Clears all recorded values. Values recorded concurrently may survive the reset.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        max.reset();
+    }
+
+    /**
+     * Returns the count and p50/p99/p999/max of everything recorded so far. Percentiles are
+     * reported as the upper bound of their bucket, capped at the exact maximum.
+     *
+     * @return point-in-time summary
+     */
+    public LatencySnapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        long maxNanos = max.get();
+        return new LatencySnapshot(count,
+                micros(Math.min(valueAt(copy, count, 0.50), maxNanos)),
+                micros(Math.min(valueAt(copy, count, 0.99), maxNanos)),
+                micros(Math.min(valueAt(copy, count, 0.999), maxNanos)),
+                micros(maxNanos));
+    }
+
+    private static long valueAt(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(counts.length - 1);
+    }
+
+    /**
+     * Values below {@value #SUB_BUCKETS} map to themselves; above that, the exponent selects
+     * the bucket and the {@value #SUB_BUCKET_BITS} bits below the leading one the sub-bucket.
+     * The two ranges meet without a gap, so index and value coincide up to
+     * {@code 2 * SUB_BUCKETS}.
+     */
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+}
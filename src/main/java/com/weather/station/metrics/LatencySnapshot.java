@@ -0,0 +1,14 @@
+package com.weather.station.metrics;
+
+/**
+ * Point-in-time summary of a {@link LatencyHistogram}, in microseconds.
+ *
+ * @param count      recorded durations
+ * @param p50Micros  median
+ * @param p99Micros  99th percentile
+ * @param p999Micros 99.9th percentile
+ * @param maxMicros  largest recorded duration
+ * @since 1.1.0
+ */
+public record LatencySnapshot(long count, double p50Micros, double p99Micros, double p999Micros, double maxMicros) {
+}
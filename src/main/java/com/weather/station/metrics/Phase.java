@@ -0,0 +1,18 @@
+package com.weather.station.metrics;
+
+/**
+ * Stages of serving a request that are timed separately from the request as a whole.
+ *
+ * @since 1.1.0
+ */
+public enum Phase {
+
+    /** Drawing values from the {@code WeatherDataGenerator} to build one response. */
+    GENERATION,
+
+    /** A {@code WeatherService} call: station lookup, cache or snapshot access and generation. */
+    ORCHESTRATION,
+
+    /** Writing the returned response body with the selected message converter. */
+    SERIALIZATION
+}
@@ -0,0 +1,90 @@
+package com.weather.station.metrics;
+
+import com.weather.station.jfr.SerializationEvent;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+/**
+ * Times every request end to end under {@code METHOD pattern} and the serialization of its
+ * response body.
+ * <p>
+ * The serialization phase runs from {@link SerializationTimingAdvice}, which marks the moment
+ * the handler returned and the converter is about to write, to {@link #postHandle}, which
+ * Spring calls once the body has been written. A {@link SerializationEvent} begun by the advice
+ * is committed at the same point, with the {@code Content-Length} the converter set as its
+ * payload size. Live streams, whose handlers return a {@link ResponseBodyEmitter}, are not
+ * recorded: their duration is the lifetime of the stream rather than a request latency. Other
+ * asynchronous requests, such as a forecast waiting for a generation in flight, are recorded
+ * from the original dispatch until the async dispatch that writes their result.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    static final String START_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".start";
+    static final String BODY_START_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".bodyStart";
+    static final String SERIALIZATION_EVENT_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".serializationEvent";
+    static final String SERIALIZATION_RESPONSE_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".serializationResponse";
+
+    private final WeatherMetrics metrics;
+
+    public RequestMetricsInterceptor(WeatherMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (metrics.isEnabled() && request.getDispatcherType() == DispatcherType.REQUEST) {
+            request.setAttribute(START_ATTRIBUTE, metrics.start());
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (request.getAttribute(BODY_START_ATTRIBUTE) instanceof Long bodyStart) {
+            metrics.record(Phase.SERIALIZATION, bodyStart);
+        }
+        if (request.getAttribute(SERIALIZATION_EVENT_ATTRIBUTE) instanceof SerializationEvent event) {
+            event.end();
+            if (event.shouldCommit()) {
+                // the converter's headers, which unlike the servlet response expose Content-Length
+                Object written = request.getAttribute(SERIALIZATION_RESPONSE_ATTRIBUTE);
+                event.payloadSize = written instanceof ServerHttpResponse converterResponse
+                        ? converterResponse.getHeaders().getContentLength()
+                        : -1;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (streams(handler)) {
+            request.removeAttribute(START_ATTRIBUTE);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            request.removeAttribute(START_ATTRIBUTE);
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            metrics.recordRequest(pattern == null ? null : request.getMethod() + " " + pattern, start);
+        }
+    }
+
+    private static boolean streams(Object handler) {
+        return handler instanceof HandlerMethod method
+                && ResponseBodyEmitter.class.isAssignableFrom(method.getMethod().getReturnType());
+    }
+}
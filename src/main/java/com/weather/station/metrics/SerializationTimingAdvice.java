@@ -0,0 +1,54 @@
+package com.weather.station.metrics;
+
+import com.weather.station.jfr.SerializationEvent;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks the start of response body serialization for {@link RequestMetricsInterceptor}, and
+ * begins a {@link SerializationEvent} when Flight Recorder is recording it. Spring calls this
+ * advice after the converter has been selected, right before it writes.
+ *
+ * @since 1.1.0
+ */
+@ControllerAdvice
+public class SerializationTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    private final WeatherMetrics metrics;
+
+    public SerializationTimingAdvice(WeatherMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        if (metrics.isEnabled()) {
+            servletRequest.getServletRequest().setAttribute(RequestMetricsInterceptor.BODY_START_ATTRIBUTE, metrics.start());
+        }
+        SerializationEvent event = new SerializationEvent();
+        if (event.isEnabled()) {
+            event.type = body == null ? "null" : body.getClass().getSimpleName();
+            event.mediaType = selectedContentType.toString();
+            event.begin();
+            servletRequest.getServletRequest().setAttribute(RequestMetricsInterceptor.SERIALIZATION_EVENT_ATTRIBUTE, event);
+            servletRequest.getServletRequest().setAttribute(RequestMetricsInterceptor.SERIALIZATION_RESPONSE_ATTRIBUTE, response);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,166 @@
+package com.weather.station.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request, phase and error metrics of the application.
+ * <p>
+ * Callers take a start time with {@link #start()} and hand it back to one of the record
+ * methods, which adds the elapsed time to a {@link LatencyHistogram}. Histograms per phase are
+ * allocated up front; those per endpoint are created on first use, keyed by the handler's
+ * route pattern so their number is bounded by the routes. Counters are {@link LongAdder}s.
+ * </p>
+ * <p>
+ * The first {@code firstRequestLimit} weather API requests after startup are additionally
+ * recorded into their own histogram, so the latency of a fresh instance's first requests can be
+ * compared with and without JIT warm-up.
+ * </p>
+ * <p>
+ * When disabled, {@link #start()} returns 0 without reading the clock and every record method
+ * returns immediately, so instrumented code costs a field read and a branch.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public class WeatherMetrics {
+
+    private static final String WEATHER_API = " /api/weather/";
+
+    private final boolean enabled;
+    private final Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+    private final ConcurrentHashMap<String, LatencyHistogram> endpoints = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LatencyHistogram firstRequests = new LatencyHistogram();
+    private final AtomicInteger firstRequestCount = new AtomicInteger();
+    private final int firstRequestLimit;
+
+    public WeatherMetrics(boolean enabled) {
+        this(enabled, 0);
+    }
+
+    /**
+     * @param enabled           whether to record anything
+     * @param firstRequestLimit number of initial weather API requests recorded separately
+     */
+    public WeatherMetrics(boolean enabled, int firstRequestLimit) {
+        this.enabled = enabled;
+        this.firstRequestLimit = firstRequestLimit;
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new LatencyHistogram());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the start time to pass to a record method.
+     *
+     * @return {@link System#nanoTime()}, or 0 when disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos} for a phase.
+     *
+     * @param phase      the timed phase
+     * @param startNanos value returned by {@link #start()}
+     */
+    public void record(Phase phase, long startNanos) {
+        if (enabled) {
+            phases.get(phase).record(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Counts a completed request and records its latency under its endpoint.
+     *
+     * @param endpoint   method and route pattern, e.g. {@code GET /api/weather/{city}/current},
+     *                   or null when no route matched
+     * @param startNanos value returned by {@link #start()}
+     */
+    public void recordRequest(String endpoint, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        requests.increment();
+        if (endpoint != null) {
+            LatencyHistogram histogram = endpoints.get(endpoint);
+            if (histogram == null) {
+                histogram = endpoints.computeIfAbsent(endpoint, key -> new LatencyHistogram());
+            }
+            histogram.record(elapsed);
+            if (firstRequestCount.get() < firstRequestLimit && endpoint.contains(WEATHER_API)
+                    && firstRequestCount.getAndIncrement() < firstRequestLimit) {
+                firstRequests.record(elapsed);
+            }
+        }
+    }
+
+    /**
+     * Clears the phase histograms, for example once synthetic warm-up calls have gone through
+     * the instrumented code.
+     */
+    public void resetPhases() {
+        phases.values().forEach(LatencyHistogram::reset);
+    }
+
+    /**
+     * Counts an exception turned into an error response.
+     *
+     * @param exception the handled exception
+     */
+    public void recordError(Throwable exception) {
+        if (enabled) {
+            errors.computeIfAbsent(exception.getClass().getSimpleName(), key -> new LongAdder()).increment();
+        }
+    }
+
+    public long requests() {
+        return requests.sum();
+    }
+
+    /**
+     * @return handled errors by exception type, sorted by name
+     */
+    public Map<String, Long> errors() {
+        Map<String, Long> counts = new TreeMap<>();
+        errors.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    /**
+     * @return latency per endpoint, sorted by endpoint
+     */
+    public Map<String, LatencySnapshot> endpoints() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        endpoints.forEach((endpoint, histogram) -> snapshots.put(endpoint, histogram.snapshot()));
+        return snapshots;
+    }
+
+    /**
+     * @return latency of the first weather API requests after startup
+     */
+    public LatencySnapshot firstRequests() {
+        return firstRequests.snapshot();
+    }
+
+    /**
+     * @return latency per phase, in phase order
+     */
+    public Map<Phase, LatencySnapshot> phases() {
+        Map<Phase, LatencySnapshot> snapshots = new EnumMap<>(Phase.class);
+        phases.forEach((phase, histogram) -> snapshots.put(phase, histogram.snapshot()));
+        return snapshots;
+    }
+}
@@ -0,0 +1,25 @@
+package com.weather.station.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request body for querying current weather of many cities at once.
+ *
+ * @since 1.1.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchWeatherRequest {
+
+    /**
+     * City names to query, case-insensitive.
+     */
+    private List<String> cities;
+}
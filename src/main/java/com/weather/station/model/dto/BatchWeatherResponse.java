@@ -0,0 +1,35 @@
+package com.weather.station.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response for a multi-city current weather query.
+ *
+ * @since 1.1.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchWeatherResponse {
+
+    /**
+     * Number of cities in the request.
+     */
+    private int requested;
+
+    /**
+     * Current weather of every known city, in request order.
+     */
+    private List<CurrentWeatherResponse> results;
+
+    /**
+     * Requested cities without a registered station, in request order.
+     */
+    private List<String> unknownCities;
+}
@@ -0,0 +1,18 @@
+package com.weather.station.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HistoryBucket {
+    private String timestamp;
+    private Long samples;
+    private MetricSummary temperature;
+    private MetricSummary humidity;
+    private MetricSummary windSpeed;
+}
@@ -0,0 +1,28 @@
+package com.weather.station.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Full hourly forecasts of several stations, issued for the same hour.
+ * <p>
+ * Forecasts are generated city by city while the response is written.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HourlyForecastExport {
+
+    /**
+     * Forecast horizon in hours.
+     */
+    private int hours;
+
+    private Iterable<HourlyForecastResponse> forecasts;
+}
@@ -0,0 +1,30 @@
+package com.weather.station.model.dto;
+
+import com.weather.station.model.enums.WeatherCondition;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Forecast for one hour.
+ *
+ * @since 1.1.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HourlyForecastPoint {
+
+    /**
+     * Start of the hour in the station's local time.
+     */
+    private String time;
+
+    private double temperature;
+    private int humidity;
+    private double windSpeed;
+    private WeatherCondition condition;
+    private int precipitation;
+}
@@ -0,0 +1,46 @@
+package com.weather.station.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of a station's hourly forecast.
+ * <p>
+ * The points are generated while the response is written, so a page costs the same memory
+ * whatever its length. Iterating them again generates the same points.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HourlyForecastResponse {
+
+    private String city;
+
+    /**
+     * Local time of the first forecast hour, the same on every page of a forecast.
+     */
+    private String issuedAt;
+
+    /**
+     * Forecast horizon in hours.
+     */
+    private int hours;
+
+    /**
+     * Index of the first point of this page within the horizon.
+     */
+    private int offset;
+
+    private Iterable<HourlyForecastPoint> points;
+
+    /**
+     * Cursor of the next page, null on the last page.
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,25 @@
+package com.weather.station.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Acknowledgement of sensor readings queued for writing.
+ *
+ * @since 1.1.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class IngestResponse {
+
+    private String city;
+
+    /**
+     * Number of readings accepted.
+     */
+    private int accepted;
+}
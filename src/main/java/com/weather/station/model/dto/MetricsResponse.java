@@ -0,0 +1,79 @@
+package com.weather.station.model.dto;
+
+import com.weather.station.cache.ForecastCacheStats;
+import com.weather.station.ingest.IngestStats;
+import com.weather.station.ingest.UdpStats;
+import com.weather.station.metrics.LatencySnapshot;
+import com.weather.station.overload.OverloadStats;
+import com.weather.station.stream.StreamStats;
+import com.weather.station.warmup.WarmupStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Request, phase and error metrics together with the forecast cache, live stream, sensor
+ * ingestion, UDP listener and overload counters and the JIT warm-up outcome.
+ *
+ * @since 1.1.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MetricsResponse {
+
+    /**
+     * Completed API requests.
+     */
+    private long requests;
+
+    /**
+     * Exceptions turned into error responses.
+     */
+    private long errors;
+
+    /**
+     * Error count by exception type.
+     */
+    private Map<String, Long> errorsByType;
+
+    /**
+     * Latency per endpoint, keyed by method and route pattern.
+     */
+    private Map<String, LatencySnapshot> endpoints;
+
+    /**
+     * Latency per request phase: generation, orchestration and serialization.
+     */
+    private Map<String, LatencySnapshot> phases;
+
+    /**
+     * Latency of the first weather API requests after startup.
+     */
+    private LatencySnapshot firstRequests;
+
+    private ForecastCacheStats forecastCache;
+
+    private StreamStats stream;
+
+    private IngestStats ingest;
+
+    /**
+     * UDP sensor listener counters, null when the listener is disabled.
+     */
+    private UdpStats udp;
+
+    /**
+     * JIT warm-up outcome, null when the warm-up is disabled.
+     */
+    private WarmupStats warmup;
+
+    /**
+     * Stale-while-revalidate and load shedding counters, null when disabled.
+     */
+    private OverloadStats overload;
+}
@@ -0,0 +1,34 @@
+package com.weather.station.model.dto;
+
+import com.weather.station.warmup.WarmupStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Readiness of the instance to take traffic.
+ *
+ * @since 1.1.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReadinessResponse {
+
+    /**
+     * True once startup, including the JIT warm-up, has finished.
+     */
+    private boolean ready;
+
+    /**
+     * Spring Boot readiness state, {@code ACCEPTING_TRAFFIC} or {@code REFUSING_TRAFFIC}.
+     */
+    private String state;
+
+    /**
+     * JIT warm-up progress, null when the warm-up is disabled.
+     */
+    private WarmupStats warmup;
+}
@@ -0,0 +1,33 @@
+package com.weather.station.model.dto;
+
+import com.weather.station.model.enums.WeatherCondition;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One reading measured by a station's sensor.
+ *
+ * @since 1.1.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SensorReading {
+
+    /**
+     * Measurement time as epoch millis, ISO date-time with offset or local date-time in the
+     * station's time zone; the time of receipt when absent.
+     */
+    private String timestamp;
+
+    private Double temperature;
+
+    private Integer humidity;
+
+    private Double windSpeed;
+
+    private WeatherCondition condition;
+}
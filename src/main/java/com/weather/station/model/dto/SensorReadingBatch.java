@@ -0,0 +1,27 @@
+package com.weather.station.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.util.List;
+
+/**
+ * Request body of the reading ingestion endpoint: a JSON array of {@link SensorReading}s, or a
+ * single reading object.
+ *
+ * @since 1.1.0
+ */
+public class SensorReadingBatch {
+
+    private final List<SensorReading> readings;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public SensorReadingBatch(
+            @JsonFormat(with = JsonFormat.Feature.ACCEPT_SINGLE_VALUE_AS_ARRAY) List<SensorReading> readings) {
+        this.readings = readings;
+    }
+
+    public List<SensorReading> getReadings() {
+        return readings;
+    }
+}
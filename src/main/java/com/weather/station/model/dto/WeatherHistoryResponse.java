@@ -0,0 +1,20 @@
+package com.weather.station.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WeatherHistoryResponse {
+    private String city;
+    private String from;
+    private String to;
+    private String resolution;
+    private List<HistoryBucket> buckets;
+}
@@ -0,0 +1,81 @@
+package com.weather.station.overload;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks how loaded the weather API is: the number of requests currently being handled and a
+ * moving average of their latency.
+ * <p>
+ * The average is exponentially weighted, each completed request moving it an eighth of the way
+ * towards its own latency, so it follows a load spike within a few dozen requests and forgets
+ * it as quickly. It is updated with a plain read and write rather than a compare-and-set: a
+ * sample lost to a concurrent update only slows the average down slightly, which keeps
+ * recording to two memory accesses.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class LoadMonitor {
+
+    private static final int SMOOTHING_SHIFT = 3;
+
+    private final int maxInFlight;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile long latencyNanos;
+
+    /**
+     * @param maxInFlight      requests in progress above which the API counts as overloaded
+     * @param latencyThreshold average latency above which the API counts as overloaded
+     */
+    public LoadMonitor(int maxInFlight, Duration latencyThreshold) {
+        this.maxInFlight = maxInFlight;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+    }
+
+    /**
+     * Counts a request as started.
+     */
+    public void enter() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * Counts a request as finished without a latency sample, for example when it continues
+     * asynchronously.
+     */
+    public void exit() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Counts a request as finished and adds its latency to the average.
+     *
+     * @param elapsedNanos time the request took
+     */
+    public void exit(long elapsedNanos) {
+        inFlight.decrementAndGet();
+        long average = latencyNanos;
+        latencyNanos = average + ((elapsedNanos - average) >> SMOOTHING_SHIFT);
+    }
+
+    /**
+     * @return whether either the in-flight count or the average latency is above its threshold
+     */
+    public boolean overloaded() {
+        return inFlight.get() > maxInFlight || latencyNanos > latencyThresholdNanos;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return moving average of the request latency in microseconds
+     */
+    public double latencyMicros() {
+        return latencyNanos / (double) TimeUnit.MICROSECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.weather.station.overload;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+/**
+ * Feeds the {@link LoadMonitor} with the requests it is registered for. Live streams, whose
+ * handlers return a {@link ResponseBodyEmitter}, leave the in-flight count once the handler has
+ * returned, without a latency sample. Other asynchronous requests stay in flight until their
+ * result has been written, and are sampled like synchronous ones.
+ *
+ * @since 1.1.0
+ */
+public class LoadMonitorInterceptor implements AsyncHandlerInterceptor {
+
+    static final String START_ATTRIBUTE = LoadMonitorInterceptor.class.getName() + ".start";
+
+    private final LoadMonitor monitor;
+
+    public LoadMonitorInterceptor(LoadMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST) {
+            monitor.enter();
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START_ATTRIBUTE) != null && streams(handler)) {
+            request.removeAttribute(START_ATTRIBUTE);
+            monitor.exit();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            request.removeAttribute(START_ATTRIBUTE);
+            monitor.exit(System.nanoTime() - start);
+        }
+    }
+
+    private static boolean streams(Object handler) {
+        return handler instanceof HandlerMethod method
+                && ResponseBodyEmitter.class.isAssignableFrom(method.getMethod().getReturnType());
+    }
+}
@@ -0,0 +1,17 @@
+package com.weather.station.overload;
+
+/**
+ * Point-in-time counters of {@link StaleWhileRevalidate} and its {@link LoadMonitor}.
+ *
+ * @param inFlight       weather API requests being handled
+ * @param latencyMicros  moving average of their latency
+ * @param overloaded     whether requests are currently shed
+ * @param fresh          responses served within their freshness period or computed on the request
+ * @param stale          responses served past their freshness period
+ * @param shed           requests answered with 503 because nothing was cached to shed to
+ * @param refreshes      background refreshes completed
+ * @since 1.1.0
+ */
+public record OverloadStats(int inFlight, double latencyMicros, boolean overloaded, long fresh, long stale, long shed,
+                            long refreshes) {
+}
@@ -0,0 +1,16 @@
+package com.weather.station.overload;
+
+import com.weather.station.version.ResponseVersion;
+
+/**
+ * A response served by {@link StaleWhileRevalidate}, with its version and how old it is.
+ *
+ * @param value      the response
+ * @param version    the version it was built at, or null if it has none
+ * @param ageMillis  time since the response was computed
+ * @param stale      whether it was served past its freshness period
+ * @param <T>        the response type
+ * @since 1.1.0
+ */
+public record Served<T>(T value, ResponseVersion version, long ageMillis, boolean stale) {
+}
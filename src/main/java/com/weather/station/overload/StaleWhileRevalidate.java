@@ -0,0 +1,198 @@
+package com.weather.station.overload;
+
+import com.weather.station.exception.ServiceOverloadedException;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.WeatherService;
+import com.weather.station.version.ResponseVersion;
+import com.weather.station.version.Versioned;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Serves the last computed current weather and forecast of each station while a newer one is
+ * computed in the background, and sheds load to those responses when the API is overloaded.
+ * <p>
+ * A response younger than {@code freshFor} is served as is. An older one is served marked
+ * stale while one background refresh per station replaces it, as long as it is younger than
+ * {@code maxStale}; beyond that the request computes a new response itself. While the
+ * {@link LoadMonitor} reports overload, requests never compute: they get the last response
+ * regardless of its age, or a {@link ServiceOverloadedException} if the station has none yet.
+ * </p>
+ * <p>
+ * Each response is kept with the version it was built at, so a stale response is still
+ * served with validators that match its content.
+ * </p>
+ * <p>
+ * Responses are shared between requests and must not be modified.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Slf4j
+public final class StaleWhileRevalidate {
+
+    private final WeatherService weatherService;
+    private final StationRegistry registry;
+    private final LoadMonitor monitor;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final long freshForMillis;
+    private final long maxStaleMillis;
+    private final Slots<CurrentWeatherResponse> currentWeather;
+    private final Slots<ForecastResponse> forecasts;
+    private final LongAdder fresh = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    /**
+     * @param weatherService  computes responses
+     * @param registry        station registry
+     * @param monitor         decides when to shed
+     * @param refreshExecutor runs background refreshes
+     * @param clock           time source for response ages
+     * @param freshFor        age up to which a response is served without refreshing it
+     * @param maxStale        age up to which a response is served stale when not overloaded
+     */
+    public StaleWhileRevalidate(WeatherService weatherService, StationRegistry registry, LoadMonitor monitor,
+                                Executor refreshExecutor, Clock clock, Duration freshFor, Duration maxStale) {
+        this.weatherService = weatherService;
+        this.registry = registry;
+        this.monitor = monitor;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.freshForMillis = freshFor.toMillis();
+        this.maxStaleMillis = maxStale.toMillis();
+        this.currentWeather = new Slots<>(registry.size(), weatherService::getVersionedCurrentWeather);
+        this.forecasts = new Slots<>(registry.size(), weatherService::getVersionedForecast);
+    }
+
+    /**
+     * @param city the city name, case-insensitive
+     * @return current weather of the city's station
+     * @throws com.weather.station.exception.StationNotFoundException if the city is unknown
+     * @throws ServiceOverloadedException if shed with no response to serve
+     */
+    public Served<CurrentWeatherResponse> getCurrentWeather(String city) {
+        return serve(registry.require(city), currentWeather);
+    }
+
+    /**
+     * @return current weather of the default station
+     * @throws ServiceOverloadedException if shed with no response to serve
+     */
+    public Served<CurrentWeatherResponse> getCurrentWeather() {
+        return serve(StationRegistry.DEFAULT_STATION, currentWeather);
+    }
+
+    /**
+     * @param city the city name, case-insensitive
+     * @return forecast of the city's station
+     * @throws com.weather.station.exception.StationNotFoundException if the city is unknown
+     * @throws ServiceOverloadedException if shed with no response to serve
+     */
+    public Served<ForecastResponse> getForecast(String city) {
+        return serve(registry.require(city), forecasts);
+    }
+
+    /**
+     * @return forecast of the default station
+     * @throws ServiceOverloadedException if shed with no response to serve
+     */
+    public Served<ForecastResponse> getForecast() {
+        return serve(StationRegistry.DEFAULT_STATION, forecasts);
+    }
+
+    /**
+     * Returns the current counters.
+     *
+     * @return overload statistics
+     */
+    public OverloadStats stats() {
+        return new OverloadStats(monitor.inFlight(), monitor.latencyMicros(), monitor.overloaded(), fresh.sum(),
+                stale.sum(), shed.sum(), refreshes.sum());
+    }
+
+    private <T> Served<T> serve(int station, Slots<T> slots) {
+        Stamped<T> last = slots.responses.get(station);
+        if (last != null) {
+            long age = clock.millis() - last.computedAt;
+            if (age < freshForMillis) {
+                fresh.increment();
+                return new Served<>(last.value, last.version, age, false);
+            }
+            if (age < maxStaleMillis || monitor.overloaded()) {
+                refresh(station, slots);
+                stale.increment();
+                return new Served<>(last.value, last.version, age, true);
+            }
+        }
+        if (monitor.overloaded()) {
+            shed.increment();
+            throw new ServiceOverloadedException(registry.name(station));
+        }
+        Versioned<T> versioned = slots.loader.apply(station);
+        slots.responses.set(station, new Stamped<>(versioned, clock.millis()));
+        fresh.increment();
+        return new Served<>(versioned.value(), versioned.version(), 0, false);
+    }
+
+    private <T> void refresh(int station, Slots<T> slots) {
+        if (!slots.refreshing.compareAndSet(station, 0, 1)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    slots.responses.set(station, new Stamped<>(slots.loader.apply(station), clock.millis()));
+                    refreshes.increment();
+                } catch (RuntimeException ex) {
+                    log.warn("Background refresh for {} failed", registry.name(station), ex);
+                } finally {
+                    slots.refreshing.set(station, 0);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            slots.refreshing.set(station, 0);
+        }
+    }
+
+    /**
+     * The last response of each station and whether a refresh of it is running.
+     */
+    private static final class Slots<T> {
+
+        private final AtomicReferenceArray<Stamped<T>> responses;
+        private final AtomicIntegerArray refreshing;
+        private final IntFunction<Versioned<T>> loader;
+
+        Slots(int stations, IntFunction<Versioned<T>> loader) {
+            this.responses = new AtomicReferenceArray<>(stations);
+            this.refreshing = new AtomicIntegerArray(stations);
+            this.loader = loader;
+        }
+    }
+
+    private static final class Stamped<T> {
+
+        private final T value;
+        private final ResponseVersion version;
+        private final long computedAt;
+
+        Stamped(Versioned<T> versioned, long computedAt) {
+            this.value = versioned.value();
+            this.version = versioned.version();
+            this.computedAt = computedAt;
+        }
+    }
+}
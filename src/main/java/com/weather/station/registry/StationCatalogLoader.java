@@ -0,0 +1,120 @@
+package com.weather.station.registry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Loads station definitions from a CSV catalog into a {@link StationRegistry.Builder}.
+ * <p>
+ * The first non-comment line is a header and is skipped. Each following line has the columns
+ * </p>
+ * <pre>
+ * name,country,timezone,temperature_min,temperature_max,forecast_min,forecast_max,
+ * humidity_min,humidity_max,wind_speed_min,wind_speed_max
+ * </pre>
+ * <p>
+ * Only {@code name} is mandatory; empty or missing columns inherit the value of the
+ * supplied defaults (normally the {@code weather.*} properties). Blank lines and lines
+ * starting with {@code #} are ignored. Fields are not quoted, so names must not contain commas.
+ * Rows whose name is already registered are skipped with a warning.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Slf4j
+public final class StationCatalogLoader {
+
+    private static final int COLUMNS = 11;
+
+    private StationCatalogLoader() {
+    }
+
+    /**
+     * Reads all stations from the given CSV source.
+     *
+     * @param reader   the CSV source, closed by the caller
+     * @param defaults values used for empty columns
+     * @param builder  the registry builder to add stations to
+     * @return number of stations added
+     * @throws IOException if the source cannot be read
+     * @throws IllegalArgumentException if a row is malformed
+     */
+    public static int load(Reader reader, StationDefinition defaults, StationRegistry.Builder builder)
+            throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String[] fields = new String[COLUMNS];
+        boolean headerSeen = false;
+        int lineNumber = 0;
+        int added = 0;
+
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            if (!headerSeen) {
+                headerSeen = true;
+                continue;
+            }
+
+            split(line, fields);
+            try {
+                StationDefinition definition = parse(fields, defaults);
+                if (builder.contains(definition.name())) {
+                    log.warn("Skipping duplicate station '{}' on line {}", definition.name(), lineNumber);
+                    continue;
+                }
+                builder.add(definition);
+                added++;
+            } catch (RuntimeException ex) {
+                throw new IllegalArgumentException(
+                        "Invalid station catalog entry on line " + lineNumber + ": " + ex.getMessage(), ex);
+            }
+        }
+        return added;
+    }
+
+    private static StationDefinition parse(String[] fields, StationDefinition defaults) {
+        return new StationDefinition(
+                fields[0],
+                text(fields[1], defaults.country()),
+                text(fields[2], defaults.timezone()),
+                number(fields[3], defaults.temperatureMin()),
+                number(fields[4], defaults.temperatureMax()),
+                number(fields[5], defaults.forecastTemperatureMin()),
+                number(fields[6], defaults.forecastTemperatureMax()),
+                (int) number(fields[7], defaults.humidityMin()),
+                (int) number(fields[8], defaults.humidityMax()),
+                number(fields[9], defaults.windSpeedMin()),
+                number(fields[10], defaults.windSpeedMax()));
+    }
+
+    private static void split(String line, String[] fields) {
+        int start = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (start > line.length()) {
+                fields[i] = null;
+                continue;
+            }
+            int end = line.indexOf(',', start);
+            if (end < 0) {
+                end = line.length();
+            }
+            String value = line.substring(start, end).trim();
+            fields[i] = value.isEmpty() ? null : value;
+            start = end + 1;
+        }
+    }
+
+    private static String text(String value, String fallback) {
+        return value == null ? fallback : value;
+    }
+
+    private static double number(String value, double fallback) {
+        return value == null ? fallback : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,54 @@
+package com.weather.station.registry;
+
+import com.weather.station.config.WeatherConfig;
+
+/**
+ * Definition of a single weather station and the ranges its readings are generated in.
+ *
+ * @param name                   city name, unique ignoring case
+ * @param country                country name
+ * @param timezone               IANA time zone id
+ * @param temperatureMin         minimum current temperature in °C
+ * @param temperatureMax         maximum current temperature in °C
+ * @param forecastTemperatureMin minimum forecast low temperature in °C
+ * @param forecastTemperatureMax maximum forecast low temperature in °C
+ * @param humidityMin            minimum humidity percentage
+ * @param humidityMax            maximum humidity percentage
+ * @param windSpeedMin           minimum wind speed in km/h
+ * @param windSpeedMax           maximum wind speed in km/h
+ * @since 1.1.0
+ */
+public record StationDefinition(
+        String name,
+        String country,
+        String timezone,
+        double temperatureMin,
+        double temperatureMax,
+        double forecastTemperatureMin,
+        double forecastTemperatureMax,
+        int humidityMin,
+        int humidityMax,
+        double windSpeedMin,
+        double windSpeedMax) {
+
+    /**
+     * Creates the definition of the default station from {@code weather.*} properties.
+     *
+     * @param config the bound weather configuration
+     * @return the default station definition
+     */
+    public static StationDefinition fromConfig(WeatherConfig config) {
+        return new StationDefinition(
+                config.getCity().getName(),
+                config.getCity().getCountry(),
+                config.getCity().getTimezone(),
+                config.getTemperature().getMin(),
+                config.getTemperature().getMax(),
+                config.getTemperature().getForecastMin(),
+                config.getTemperature().getForecastMax(),
+                config.getHumidity().getMin(),
+                config.getHumidity().getMax(),
+                config.getWindSpeed().getMin(),
+                config.getWindSpeed().getMax());
+    }
+}
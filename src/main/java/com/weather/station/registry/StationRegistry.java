@@ -0,0 +1,373 @@
+package com.weather.station.registry;
+
+import com.weather.station.exception.StationNotFoundException;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable, compact registry of weather stations.
+ * <p>
+ * Stations are addressed by a dense integer index. Per-station attributes live in
+ * parallel primitive arrays rather than one object per station, and city names are
+ * resolved through an open-addressing hash table of indices, so the footprint stays
+ * at roughly 160 bytes per station (100k stations in about 16 MB) including names.
+ * Country strings and time zones are de-duplicated across stations.
+ * </p>
+ * <p>
+ * Name lookups are case-insensitive and allocation-free. Index 0 is always the
+ * default station configured through {@code weather.city.*}.
+ * </p>
+ * <p>
+ * Each station also has a {@link #seedKey(int) seed key} derived from its lower-cased name,
+ * which keys its deterministic values. Seed keys come from names rather than indices, so two
+ * nodes whose catalogs list the same stations in a different order still agree on every value.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class StationRegistry {
+
+    /**
+     * Index of the default station.
+     */
+    public static final int DEFAULT_STATION = 0;
+
+    private final String[] names;
+    private final String[] countries;
+    private final ZoneId[] timezones;
+    private final double[] temperatureMin;
+    private final double[] temperatureMax;
+    private final double[] forecastTemperatureMin;
+    private final double[] forecastTemperatureMax;
+    private final short[] humidityMin;
+    private final short[] humidityMax;
+    private final double[] windSpeedMin;
+    private final double[] windSpeedMax;
+    private final long[] seedKeys;
+    private final int[] hashTable;
+    private final int hashMask;
+
+    private StationRegistry(Builder builder) {
+        int size = builder.size;
+        this.names = Arrays.copyOf(builder.names, size);
+        this.countries = Arrays.copyOf(builder.countries, size);
+        this.timezones = Arrays.copyOf(builder.timezones, size);
+        this.temperatureMin = Arrays.copyOf(builder.temperatureMin, size);
+        this.temperatureMax = Arrays.copyOf(builder.temperatureMax, size);
+        this.forecastTemperatureMin = Arrays.copyOf(builder.forecastTemperatureMin, size);
+        this.forecastTemperatureMax = Arrays.copyOf(builder.forecastTemperatureMax, size);
+        this.humidityMin = Arrays.copyOf(builder.humidityMin, size);
+        this.humidityMax = Arrays.copyOf(builder.humidityMax, size);
+        this.windSpeedMin = Arrays.copyOf(builder.windSpeedMin, size);
+        this.windSpeedMax = Arrays.copyOf(builder.windSpeedMax, size);
+        this.seedKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            seedKeys[i] = seedKey(names[i]);
+        }
+        this.hashTable = builder.hashTable;
+        this.hashMask = builder.hashTable.length - 1;
+    }
+
+    /**
+     * Creates a builder for a registry of roughly the given size.
+     *
+     * @param expectedSize expected number of stations
+     * @return a new builder
+     */
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    /**
+     * Returns the number of registered stations.
+     *
+     * @return station count
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Looks up a station by city name, ignoring case.
+     *
+     * @param city the city name
+     * @return the station index, or -1 if no such station exists
+     */
+    public int indexOf(String city) {
+        if (city == null) {
+            return -1;
+        }
+        int slot = hash(city) & hashMask;
+        while (true) {
+            int entry = hashTable[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (names[entry - 1].equalsIgnoreCase(city)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & hashMask;
+        }
+    }
+
+    /**
+     * Looks up a station by city name, ignoring case.
+     *
+     * @param city the city name
+     * @return the station index
+     * @throws StationNotFoundException if no such station exists
+     */
+    public int require(String city) {
+        int index = indexOf(city);
+        if (index < 0) {
+            throw new StationNotFoundException(city);
+        }
+        return index;
+    }
+
+    public String name(int station) {
+        return names[station];
+    }
+
+    public String country(int station) {
+        return countries[station];
+    }
+
+    public ZoneId timezone(int station) {
+        return timezones[station];
+    }
+
+    public double temperatureMin(int station) {
+        return temperatureMin[station];
+    }
+
+    public double temperatureMax(int station) {
+        return temperatureMax[station];
+    }
+
+    public double forecastTemperatureMin(int station) {
+        return forecastTemperatureMin[station];
+    }
+
+    public double forecastTemperatureMax(int station) {
+        return forecastTemperatureMax[station];
+    }
+
+    public int humidityMin(int station) {
+        return humidityMin[station];
+    }
+
+    public int humidityMax(int station) {
+        return humidityMax[station];
+    }
+
+    public double windSpeedMin(int station) {
+        return windSpeedMin[station];
+    }
+
+    public double windSpeedMax(int station) {
+        return windSpeedMax[station];
+    }
+
+    /**
+     * Returns the key a station's deterministic values are seeded with.
+     *
+     * @param station the station index
+     * @return the {@link #seedKey(String) seed key} of the station's name
+     */
+    public long seedKey(int station) {
+        return seedKeys[station];
+    }
+
+    /**
+     * Derives a stable seed key from a station name: the 64-bit FNV-1a hash of its lower-cased
+     * characters, so it depends neither on the registry index nor on the JVM.
+     *
+     * @param city the city name
+     * @return the seed key
+     */
+    public static long seedKey(String city) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < city.length(); i++) {
+            h = (h ^ Character.toLowerCase(Character.toUpperCase(city.charAt(i)))) * 0x100000001B3L;
+        }
+        return h;
+    }
+
+    /**
+     * Case-insensitive string hash consistent with {@link String#equalsIgnoreCase(String)}.
+     */
+    private static int hash(String value) {
+        int h = 0;
+        for (int i = 0; i < value.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Accumulates station definitions before freezing them into a {@link StationRegistry}.
+     * Not thread-safe.
+     */
+    public static final class Builder {
+
+        private final Map<String, String> countryPool = new HashMap<>();
+        private final Map<String, ZoneId> timezonePool = new HashMap<>();
+
+        private int size;
+        private String[] names;
+        private String[] countries;
+        private ZoneId[] timezones;
+        private double[] temperatureMin;
+        private double[] temperatureMax;
+        private double[] forecastTemperatureMin;
+        private double[] forecastTemperatureMax;
+        private short[] humidityMin;
+        private short[] humidityMax;
+        private double[] windSpeedMin;
+        private double[] windSpeedMax;
+        private int[] hashTable;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            names = new String[capacity];
+            countries = new String[capacity];
+            timezones = new ZoneId[capacity];
+            temperatureMin = new double[capacity];
+            temperatureMax = new double[capacity];
+            forecastTemperatureMin = new double[capacity];
+            forecastTemperatureMax = new double[capacity];
+            humidityMin = new short[capacity];
+            humidityMax = new short[capacity];
+            windSpeedMin = new double[capacity];
+            windSpeedMax = new double[capacity];
+            hashTable = new int[tableSizeFor(capacity)];
+        }
+
+        /**
+         * Returns whether a station with the given name was already added.
+         *
+         * @param city the city name
+         * @return true if the name is taken, ignoring case
+         */
+        public boolean contains(String city) {
+            int mask = hashTable.length - 1;
+            int slot = hash(city) & mask;
+            while (hashTable[slot] != 0) {
+                if (names[hashTable[slot] - 1].equalsIgnoreCase(city)) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        /**
+         * Adds a station.
+         *
+         * @param definition the station definition
+         * @return the index assigned to the station
+         * @throws IllegalArgumentException if the name is blank, already registered,
+         *                                  or a range is inverted
+         */
+        public int add(StationDefinition definition) {
+            String name = definition.name();
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Station name must not be blank");
+            }
+            if (contains(name)) {
+                throw new IllegalArgumentException("Duplicate station: " + name);
+            }
+            requireRange(name, "temperature", definition.temperatureMin(), definition.temperatureMax());
+            requireRange(name, "forecast temperature",
+                    definition.forecastTemperatureMin(), definition.forecastTemperatureMax());
+            requireRange(name, "wind speed", definition.windSpeedMin(), definition.windSpeedMax());
+            if (definition.forecastTemperatureMax() >= definition.temperatureMax()) {
+                throw new IllegalArgumentException(
+                        "Station " + name + " forecast temperature max must be below temperature max");
+            }
+            if (definition.humidityMin() > definition.humidityMax()
+                    || definition.humidityMin() < 0 || definition.humidityMax() > 100) {
+                throw new IllegalArgumentException("Station " + name + " has an invalid humidity range");
+            }
+
+            ensureCapacity(size + 1);
+            int index = size++;
+            names[index] = name;
+            countries[index] = definition.country() == null
+                    ? null
+                    : countryPool.computeIfAbsent(definition.country(), c -> c);
+            timezones[index] = timezonePool.computeIfAbsent(
+                    definition.timezone() == null ? "UTC" : definition.timezone(), ZoneId::of);
+            temperatureMin[index] = definition.temperatureMin();
+            temperatureMax[index] = definition.temperatureMax();
+            forecastTemperatureMin[index] = definition.forecastTemperatureMin();
+            forecastTemperatureMax[index] = definition.forecastTemperatureMax();
+            humidityMin[index] = (short) definition.humidityMin();
+            humidityMax[index] = (short) definition.humidityMax();
+            windSpeedMin[index] = definition.windSpeedMin();
+            windSpeedMax[index] = definition.windSpeedMax();
+            insert(hashTable, name, index);
+            return index;
+        }
+
+        /**
+         * Freezes the accumulated stations into an immutable registry.
+         *
+         * @return the registry
+         */
+        public StationRegistry build() {
+            return new StationRegistry(this);
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= names.length) {
+                return;
+            }
+            int capacity = Math.max(required, names.length * 2);
+            names = Arrays.copyOf(names, capacity);
+            countries = Arrays.copyOf(countries, capacity);
+            timezones = Arrays.copyOf(timezones, capacity);
+            temperatureMin = Arrays.copyOf(temperatureMin, capacity);
+            temperatureMax = Arrays.copyOf(temperatureMax, capacity);
+            forecastTemperatureMin = Arrays.copyOf(forecastTemperatureMin, capacity);
+            forecastTemperatureMax = Arrays.copyOf(forecastTemperatureMax, capacity);
+            humidityMin = Arrays.copyOf(humidityMin, capacity);
+            humidityMax = Arrays.copyOf(humidityMax, capacity);
+            windSpeedMin = Arrays.copyOf(windSpeedMin, capacity);
+            windSpeedMax = Arrays.copyOf(windSpeedMax, capacity);
+
+            int[] table = new int[tableSizeFor(capacity)];
+            for (int i = 0; i < size; i++) {
+                insert(table, names[i], i);
+            }
+            hashTable = table;
+        }
+
+        private static void insert(int[] table, String name, int index) {
+            int mask = table.length - 1;
+            int slot = hash(name) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = index + 1;
+        }
+
+        /**
+         * Smallest power of two that keeps the load factor at or below 0.5.
+         */
+        private static int tableSizeFor(int capacity) {
+            return Integer.highestOneBit(Math.max(capacity, 8) * 2 - 1) << 1;
+        }
+
+        private static void requireRange(String station, String field, double min, double max) {
+            if (!(min < max)) {
+                throw new IllegalArgumentException(
+                        "Station " + station + " has an invalid " + field + " range: min=" + min + ", max=" + max);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.weather.station.rollup;
+
+import com.weather.station.history.HistoryStations;
+import com.weather.station.history.HistoryStore;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Rebuilds a {@link RollupStore} from the {@link HistoryStore} on a background thread, so the
+ * application context starts without waiting for the replay.
+ * <p>
+ * Starting a backfill {@link HistoryStore#mark() marks} the history, and only readings stored
+ * before the mark are replayed. It must therefore start before the {@link RollupRecorder} sees
+ * its first reading: later readings reach the store live, and are appended after the mark even
+ * when their timestamps are older, such as deterministic readings stamped with their bucket
+ * start or sensor readings measured earlier. Until {@link #await()} returns, history queries
+ * may see partial aggregates, which is why the application waits for it before it reports
+ * ready.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Slf4j
+public final class RollupBackfill {
+
+    private final CompletableFuture<Long> replayed;
+
+    private RollupBackfill(CompletableFuture<Long> replayed) {
+        this.replayed = replayed;
+    }
+
+    /**
+     * Marks the history and starts replaying the readings stored so far that were produced
+     * since {@code since}.
+     *
+     * @param rollupStore store to fill
+     * @param history     history store to read from
+     * @param stations    station ids the history store was written with
+     * @param since       earliest reading to replay, epoch millis
+     * @return the running backfill
+     */
+    public static RollupBackfill start(RollupStore rollupStore, HistoryStore history, HistoryStations stations,
+                                       long since) {
+        long mark = history.mark();
+        CompletableFuture<Long> replayed = new CompletableFuture<>();
+        Thread.ofPlatform().name("rollup-backfill").daemon().start(() -> {
+            try {
+                replayed.complete(rollupStore.backfill(history, stations, since, mark));
+            } catch (RuntimeException | Error ex) {
+                log.error("Failed to rebuild rollups from history", ex);
+                replayed.completeExceptionally(ex);
+            }
+        });
+        return new RollupBackfill(replayed);
+    }
+
+    /**
+     * Returns a backfill with nothing to replay, used when the history store is disabled.
+     *
+     * @return an already finished backfill
+     */
+    public static RollupBackfill none() {
+        return new RollupBackfill(CompletableFuture.completedFuture(0L));
+    }
+
+    /**
+     * Whether the replay has finished, successfully or not.
+     *
+     * @return true once finished
+     */
+    public boolean isDone() {
+        return replayed.isDone();
+    }
+
+    /**
+     * Blocks until the replay has finished. A failed replay is logged and leaves the rollups
+     * with whatever was replayed before the failure.
+     *
+     * @return number of readings replayed, or -1 if the replay failed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public long await() throws InterruptedException {
+        try {
+            return replayed.get();
+        } catch (ExecutionException ex) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.weather.station.rollup;
+
+/**
+ * Aggregated readings of one time bucket.
+ *
+ * @param startMillis        bucket start, epoch millis
+ * @param samples            number of readings aggregated
+ * @param temperatureMin     lowest temperature in °C
+ * @param temperatureMax     highest temperature in °C
+ * @param temperatureAverage mean temperature in °C
+ * @param humidityMin        lowest humidity percentage
+ * @param humidityMax        highest humidity percentage
+ * @param humidityAverage    mean humidity percentage
+ * @param windSpeedMin       lowest wind speed in km/h
+ * @param windSpeedMax       highest wind speed in km/h
+ * @param windSpeedAverage   mean wind speed in km/h
+ * @since 1.1.0
+ */
+public record RollupBucket(
+        long startMillis,
+        long samples,
+        double temperatureMin,
+        double temperatureMax,
+        double temperatureAverage,
+        double humidityMin,
+        double humidityMax,
+        double humidityAverage,
+        double windSpeedMin,
+        double windSpeedMax,
+        double windSpeedAverage) {
+}
@@ -0,0 +1,24 @@
+package com.weather.station.rollup;
+
+import com.weather.station.simulation.WeatherReadingListener;
+import com.weather.station.simulation.WeatherSnapshot;
+
+/**
+ * Feeds every published reading into the {@link RollupStore}.
+ *
+ * @since 1.1.0
+ */
+public class RollupRecorder implements WeatherReadingListener {
+
+    private final RollupStore rollupStore;
+
+    public RollupRecorder(RollupStore rollupStore) {
+        this.rollupStore = rollupStore;
+    }
+
+    @Override
+    public void onReading(int station, WeatherSnapshot snapshot) {
+        rollupStore.record(station, snapshot.epochMillis(), snapshot.temperature(), snapshot.humidity(),
+                snapshot.windSpeed());
+    }
+}
@@ -0,0 +1,209 @@
+package com.weather.station.rollup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Fixed-size ring of aggregation buckets for one station and tier.
+ * <p>
+ * Bucket {@code b} lives in slot {@code b mod capacity}; each slot remembers which bucket it
+ * currently holds, so a slot is reused as soon as a newer bucket maps onto it and readings
+ * for buckets that have already been overwritten are dropped. Readings may arrive out of
+ * order within the retained window. Minima and maxima are kept as floats: stored values are
+ * already rounded to the configured decimal places, which a float represents exactly enough
+ * to round back. About 60 bytes per bucket.
+ * </p>
+ * <p>
+ * Slots are grouped into pages of {@value #PAGE_BUCKETS} buckets that are allocated on their
+ * first reading, so memory grows with the buckets actually written rather than with the
+ * retention window: a day tier with years of retention costs one page for its first two months.
+ * </p>
+ * <p>
+ * Not thread-safe; callers synchronize.
+ * </p>
+ */
+final class RollupSeries {
+
+    static final int PAGE_BUCKETS = 64;
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final int capacity;
+    private final Page[] pages;
+
+    private long newest = EMPTY;
+
+    RollupSeries(int capacity) {
+        this.capacity = capacity;
+        this.pages = new Page[(capacity + PAGE_BUCKETS - 1) / PAGE_BUCKETS];
+    }
+
+    void add(long bucket, double temperature, int humidity, double windSpeed) {
+        if (newest != EMPTY && bucket <= newest - capacity) {
+            return;
+        }
+        int slot = (int) Math.floorMod(bucket, (long) capacity);
+        Page page = pages[slot / PAGE_BUCKETS];
+        if (page == null) {
+            page = new Page(Math.min(PAGE_BUCKETS, capacity - slot / PAGE_BUCKETS * PAGE_BUCKETS));
+            pages[slot / PAGE_BUCKETS] = page;
+        }
+        page.add(slot % PAGE_BUCKETS, bucket, temperature, humidity, windSpeed);
+        if (bucket > newest) {
+            newest = bucket;
+        }
+    }
+
+    /**
+     * Returns the number of allocated pages.
+     */
+    int allocatedPages() {
+        int allocated = 0;
+        for (Page page : pages) {
+            if (page != null) {
+                allocated++;
+            }
+        }
+        return allocated;
+    }
+
+    /**
+     * Merges retained buckets {@code from..to} into groups of {@code groupSize} consecutive
+     * buckets, aligned to multiples of {@code groupSize}, and appends non-empty groups in
+     * time order.
+     *
+     * @param from       first bucket, inclusive
+     * @param to         last bucket, inclusive
+     * @param groupSize  tier buckets per output bucket
+     * @param groupStart maps a group's first bucket index to its start time
+     * @param out        receives the merged buckets
+     */
+    void collect(long from, long to, long groupSize, LongUnaryOperator groupStart, List<RollupBucket> out) {
+        if (newest == EMPTY) {
+            return;
+        }
+        long first = Math.max(from, newest - capacity + 1);
+        long last = Math.min(to, newest);
+        Accumulator group = new Accumulator();
+        long currentGroup = EMPTY;
+        for (long bucket = first; bucket <= last; bucket++) {
+            int slot = (int) Math.floorMod(bucket, (long) capacity);
+            Page page = pages[slot / PAGE_BUCKETS];
+            int index = slot % PAGE_BUCKETS;
+            if (page == null || page.buckets[index] != bucket) {
+                continue;
+            }
+            long key = Math.floorDiv(bucket, groupSize);
+            if (key != currentGroup) {
+                group.emit(currentGroup, groupSize, groupStart, out);
+                currentGroup = key;
+            }
+            group.add(page, index);
+        }
+        group.emit(currentGroup, groupSize, groupStart, out);
+    }
+
+    private static final class Page {
+
+        private final long[] buckets;
+        private final int[] counts;
+        private final double[] temperatureSum;
+        private final double[] humiditySum;
+        private final double[] windSpeedSum;
+        private final float[] temperatureMin;
+        private final float[] temperatureMax;
+        private final float[] humidityMin;
+        private final float[] humidityMax;
+        private final float[] windSpeedMin;
+        private final float[] windSpeedMax;
+
+        Page(int size) {
+            this.buckets = new long[size];
+            this.counts = new int[size];
+            this.temperatureSum = new double[size];
+            this.humiditySum = new double[size];
+            this.windSpeedSum = new double[size];
+            this.temperatureMin = new float[size];
+            this.temperatureMax = new float[size];
+            this.humidityMin = new float[size];
+            this.humidityMax = new float[size];
+            this.windSpeedMin = new float[size];
+            this.windSpeedMax = new float[size];
+            Arrays.fill(buckets, EMPTY);
+        }
+
+        void add(int index, long bucket, double temperature, int humidity, double windSpeed) {
+            if (buckets[index] != bucket) {
+                buckets[index] = bucket;
+                counts[index] = 0;
+                temperatureSum[index] = 0.0;
+                humiditySum[index] = 0.0;
+                windSpeedSum[index] = 0.0;
+                temperatureMin[index] = Float.POSITIVE_INFINITY;
+                temperatureMax[index] = Float.NEGATIVE_INFINITY;
+                humidityMin[index] = Float.POSITIVE_INFINITY;
+                humidityMax[index] = Float.NEGATIVE_INFINITY;
+                windSpeedMin[index] = Float.POSITIVE_INFINITY;
+                windSpeedMax[index] = Float.NEGATIVE_INFINITY;
+            }
+            counts[index]++;
+            temperatureSum[index] += temperature;
+            humiditySum[index] += humidity;
+            windSpeedSum[index] += windSpeed;
+            temperatureMin[index] = Math.min(temperatureMin[index], (float) temperature);
+            temperatureMax[index] = Math.max(temperatureMax[index], (float) temperature);
+            humidityMin[index] = Math.min(humidityMin[index], humidity);
+            humidityMax[index] = Math.max(humidityMax[index], humidity);
+            windSpeedMin[index] = Math.min(windSpeedMin[index], (float) windSpeed);
+            windSpeedMax[index] = Math.max(windSpeedMax[index], (float) windSpeed);
+        }
+    }
+
+    private static final class Accumulator {
+
+        private long count;
+        private double temperature;
+        private double humidity;
+        private double windSpeed;
+        private float minTemperature = Float.POSITIVE_INFINITY;
+        private float maxTemperature = Float.NEGATIVE_INFINITY;
+        private float minHumidity = Float.POSITIVE_INFINITY;
+        private float maxHumidity = Float.NEGATIVE_INFINITY;
+        private float minWindSpeed = Float.POSITIVE_INFINITY;
+        private float maxWindSpeed = Float.NEGATIVE_INFINITY;
+
+        void add(Page page, int index) {
+            count += page.counts[index];
+            temperature += page.temperatureSum[index];
+            humidity += page.humiditySum[index];
+            windSpeed += page.windSpeedSum[index];
+            minTemperature = Math.min(minTemperature, page.temperatureMin[index]);
+            maxTemperature = Math.max(maxTemperature, page.temperatureMax[index]);
+            minHumidity = Math.min(minHumidity, page.humidityMin[index]);
+            maxHumidity = Math.max(maxHumidity, page.humidityMax[index]);
+            minWindSpeed = Math.min(minWindSpeed, page.windSpeedMin[index]);
+            maxWindSpeed = Math.max(maxWindSpeed, page.windSpeedMax[index]);
+        }
+
+        void emit(long key, long groupSize, LongUnaryOperator groupStart, List<RollupBucket> out) {
+            if (count == 0) {
+                return;
+            }
+            out.add(new RollupBucket(groupStart.applyAsLong(key * groupSize), count,
+                    minTemperature, maxTemperature, temperature / count,
+                    minHumidity, maxHumidity, humidity / count,
+                    minWindSpeed, maxWindSpeed, windSpeed / count));
+            count = 0;
+            temperature = 0.0;
+            humidity = 0.0;
+            windSpeed = 0.0;
+            minTemperature = Float.POSITIVE_INFINITY;
+            maxTemperature = Float.NEGATIVE_INFINITY;
+            minHumidity = Float.POSITIVE_INFINITY;
+            maxHumidity = Float.NEGATIVE_INFINITY;
+            minWindSpeed = Float.POSITIVE_INFINITY;
+            maxWindSpeed = Float.NEGATIVE_INFINITY;
+        }
+    }
+}
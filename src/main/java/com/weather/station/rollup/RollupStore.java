@@ -0,0 +1,221 @@
+package com.weather.station.rollup;
+
+import com.weather.station.history.HistoryStations;
+import com.weather.station.history.HistoryStore;
+import com.weather.station.history.HistoryVisitor;
+import com.weather.station.registry.StationRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Incrementally maintained minute, hour and day aggregates of every station's readings.
+ * <p>
+ * Each reading updates one bucket per tier in O(1), so queries never touch raw readings:
+ * a year of hourly data is at most 8,784 bucket merges. Each tier keeps a fixed window of
+ * buckets ({@code minuteRetention}, {@code hourRetention}, {@code dayRetention}); a query
+ * aggregates from the coarsest tier whose width divides the requested resolution and only
+ * sees that tier's window. Buckets are allocated in pages on the first reading that falls into
+ * them (see {@link RollupSeries}), so a station costs nothing until it reports and then grows
+ * towards about 60 bytes per retained bucket.
+ * </p>
+ * <p>
+ * Writes and reads of one station are serialized by that station's monitor; different
+ * stations never contend.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Slf4j
+public final class RollupStore {
+
+    private static final RollupTier[] TIERS = RollupTier.values();
+
+    private final StationRegistry registry;
+    private final Duration[] retention;
+    private final int[] capacity;
+    private final AtomicReferenceArray<StationRollups> stations;
+    private final boolean enabled;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param registry        station registry, used for station count and time zones
+     * @param minuteRetention window kept at minute resolution
+     * @param hourRetention   window kept at hour resolution
+     * @param dayRetention    window kept at day resolution
+     */
+    public RollupStore(StationRegistry registry, Duration minuteRetention, Duration hourRetention,
+                       Duration dayRetention) {
+        this(registry, minuteRetention, hourRetention, dayRetention, true);
+    }
+
+    private RollupStore(StationRegistry registry, Duration minuteRetention, Duration hourRetention,
+                        Duration dayRetention, boolean enabled) {
+        this.enabled = enabled;
+        this.registry = registry;
+        this.retention = new Duration[]{minuteRetention, hourRetention, dayRetention};
+        this.capacity = new int[TIERS.length];
+        for (RollupTier tier : TIERS) {
+            capacity[tier.ordinal()] = tier.capacity(retention[tier.ordinal()]);
+        }
+        this.stations = new AtomicReferenceArray<>(enabled ? registry.size() : 0);
+    }
+
+    /**
+     * Creates a store that drops every reading, used when {@code weather.rollup.enabled=false}.
+     * Queries return no buckets.
+     *
+     * @param registry station registry
+     * @return a store that keeps nothing
+     */
+    public static RollupStore disabled(StationRegistry registry) {
+        return new RollupStore(registry, Duration.ZERO, Duration.ZERO, Duration.ZERO, false);
+    }
+
+    /**
+     * Whether readings are aggregated.
+     *
+     * @return false for a {@link #disabled} store
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Adds one reading to every tier.
+     *
+     * @param station     station index
+     * @param epochMillis time the reading was produced
+     * @param temperature temperature in °C
+     * @param humidity    humidity percentage
+     * @param windSpeed   wind speed in km/h
+     */
+    public void record(int station, long epochMillis, double temperature, int humidity, double windSpeed) {
+        if (!enabled) {
+            return;
+        }
+        StationRollups rollups = rollups(station);
+        synchronized (rollups) {
+            for (RollupTier tier : TIERS) {
+                rollups.series[tier.ordinal()].add(tier.bucket(epochMillis, rollups.zone), temperature, humidity,
+                        windSpeed);
+            }
+        }
+    }
+
+    /**
+     * Aggregates a station's readings within {@code from..to} into buckets of {@code resolution}.
+     * The first and last buckets are those containing {@code from} and {@code to}; buckets
+     * without readings are omitted.
+     *
+     * @param station    station index
+     * @param from       range start, epoch millis
+     * @param to         range end, epoch millis
+     * @param resolution output bucket width, a whole number of minutes
+     * @return non-empty buckets in time order
+     * @throws IllegalArgumentException if the resolution is not a whole number of minutes
+     */
+    public List<RollupBucket> query(int station, long from, long to, Duration resolution) {
+        RollupTier tier = RollupTier.forResolution(resolution);
+        long groupSize = resolution.toMillis() / tier.width().toMillis();
+        List<RollupBucket> result = new ArrayList<>();
+        StationRollups rollups = enabled ? stations.get(station) : null;
+        if (rollups == null || from > to) {
+            return result;
+        }
+        ZoneId zone = rollups.zone;
+        long first = tier.bucket(from, zone);
+        long last = tier.bucket(to, zone);
+        synchronized (rollups) {
+            rollups.series[tier.ordinal()].collect(first, last, groupSize,
+                    bucket -> tier.bucketStart(bucket, zone), result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns how far back the given tier reaches.
+     *
+     * @param tier rollup tier
+     * @return configured retention window
+     */
+    public Duration retention(RollupTier tier) {
+        return retention[tier.ordinal()];
+    }
+
+    /**
+     * Replays readings produced since {@code since} and stored before the history {@code mark}.
+     * Meant to run once at startup, possibly while live readings are recorded: those are
+     * appended after the mark, whatever their timestamps, and are therefore not counted twice.
+     * Stored station ids are mapped back to registry indices; readings of stations no longer in
+     * the registry are skipped.
+     *
+     * @param history  history store to read from
+     * @param stations station ids the history store was written with
+     * @param since    earliest reading to replay, epoch millis
+     * @param mark     {@link HistoryStore#mark()} taken before live readings were first recorded
+     * @return number of readings replayed
+     */
+    public long backfill(HistoryStore history, HistoryStations stations, long since, long mark) {
+        long[] replayed = new long[1];
+        HistoryVisitor replay = (epochMillis, id, temperature, humidity, windSpeed, condition) -> {
+            int station = stations.station(id);
+            if (station >= 0) {
+                record(station, epochMillis, temperature, humidity, windSpeed);
+                replayed[0]++;
+            }
+            return true;
+        };
+        history.scan(since, Long.MAX_VALUE, -1, mark, replay);
+        log.info("Rebuilt rollups from {} stored readings", replayed[0]);
+        return replayed[0];
+    }
+
+    /**
+     * Returns the number of bucket pages allocated for a station across all tiers.
+     */
+    int allocatedPages(int station) {
+        StationRollups rollups = enabled ? stations.get(station) : null;
+        if (rollups == null) {
+            return 0;
+        }
+        synchronized (rollups) {
+            int allocated = 0;
+            for (RollupSeries series : rollups.series) {
+                allocated += series.allocatedPages();
+            }
+            return allocated;
+        }
+    }
+
+    private StationRollups rollups(int station) {
+        StationRollups rollups = stations.get(station);
+        if (rollups == null) {
+            StationRollups created = new StationRollups(registry.timezone(station), capacity);
+            rollups = stations.compareAndExchange(station, null, created);
+            if (rollups == null) {
+                rollups = created;
+            }
+        }
+        return rollups;
+    }
+
+    private static final class StationRollups {
+
+        private final ZoneId zone;
+        private final RollupSeries[] series;
+
+        StationRollups(ZoneId zone, int[] capacity) {
+            this.zone = zone;
+            this.series = new RollupSeries[capacity.length];
+            for (int i = 0; i < capacity.length; i++) {
+                series[i] = new RollupSeries(capacity[i]);
+            }
+        }
+    }
+}
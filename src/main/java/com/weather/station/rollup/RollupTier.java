@@ -0,0 +1,86 @@
+package com.weather.station.rollup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Granularity of a precomputed rollup.
+ * <p>
+ * Minute and hour buckets are aligned to UTC epoch boundaries. Day buckets follow the
+ * station's local calendar, so a daily bucket always covers one local midnight-to-midnight
+ * day, including the 23- and 25-hour days around DST changes.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public enum RollupTier {
+
+    MINUTE(Duration.ofMinutes(1)),
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1));
+
+    private final Duration width;
+    private final long widthMillis;
+
+    RollupTier(Duration width) {
+        this.width = width;
+        this.widthMillis = width.toMillis();
+    }
+
+    public Duration width() {
+        return width;
+    }
+
+    /**
+     * Returns the coarsest tier whose width divides {@code resolution}, so that buckets of the
+     * requested resolution are exact unions of tier buckets.
+     *
+     * @param resolution requested bucket width
+     * @return the tier to aggregate from
+     * @throws IllegalArgumentException if the resolution is not a positive whole number of minutes
+     */
+    public static RollupTier forResolution(Duration resolution) {
+        RollupTier[] tiers = values();
+        for (int i = tiers.length - 1; i >= 0; i--) {
+            long width = tiers[i].widthMillis;
+            if (resolution.toMillis() >= width && resolution.toMillis() % width == 0) {
+                return tiers[i];
+            }
+        }
+        throw new IllegalArgumentException("Resolution must be a positive whole number of minutes: " + resolution);
+    }
+
+    /**
+     * Index of the bucket containing {@code epochMillis}.
+     */
+    long bucket(long epochMillis, ZoneId zone) {
+        if (this == DAY) {
+            long offsetMillis = zone.getRules().getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000L;
+            return Math.floorDiv(epochMillis + offsetMillis, widthMillis);
+        }
+        return Math.floorDiv(epochMillis, widthMillis);
+    }
+
+    /**
+     * Start of the bucket with the given index, epoch millis.
+     */
+    long bucketStart(long bucket, ZoneId zone) {
+        if (this == DAY) {
+            return LocalDate.ofEpochDay(bucket).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+        return bucket * widthMillis;
+    }
+
+    /**
+     * Number of buckets of this tier needed to cover {@code retention}, at least one.
+     */
+    int capacity(Duration retention) {
+        long buckets = Math.max(1, retention.toMillis() / widthMillis);
+        if (buckets > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Retention too long for " + this + " rollups: " + retention);
+        }
+        return (int) buckets;
+    }
+}
@@ -0,0 +1,124 @@
+package com.weather.station.service;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.model.dto.BatchWeatherResponse;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.registry.StationRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Service for querying current weather of many cities in a single call.
+ * <p>
+ * Small batches are resolved on the calling thread. Larger batches are split into
+ * chunks of {@code weather.batch.chunk-size} cities that are resolved concurrently on
+ * the batch executor; chunking keeps task overhead low when individual lookups are
+ * cheap snapshot reads.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Service
+public class BatchWeatherService {
+
+    private final WeatherService weatherService;
+    private final StationRegistry stationRegistry;
+    private final ExecutorService batchExecutor;
+    private final int maxCities;
+    private final int chunkSize;
+
+    public BatchWeatherService(WeatherService weatherService, StationRegistry stationRegistry,
+                               @Qualifier("batchExecutor") ExecutorService batchExecutor,
+                               WeatherConfig weatherConfig) {
+        this.weatherService = weatherService;
+        this.stationRegistry = stationRegistry;
+        this.batchExecutor = batchExecutor;
+        this.maxCities = weatherConfig.getBatch().getMaxCities();
+        this.chunkSize = Math.max(1, weatherConfig.getBatch().getChunkSize());
+    }
+
+    /**
+     * Retrieves current weather for every requested city.
+     * <p>
+     * Unknown cities do not fail the batch; they are reported in
+     * {@link BatchWeatherResponse#getUnknownCities()}.
+     * </p>
+     *
+     * @param cities city names, case-insensitive
+     * @return results in request order
+     * @throws IllegalArgumentException if no cities are given or the batch is too large
+     */
+    public BatchWeatherResponse getCurrentWeather(List<String> cities) {
+        if (cities == null || cities.isEmpty()) {
+            throw new IllegalArgumentException("At least one city must be requested");
+        }
+        if (cities.size() > maxCities) {
+            throw new IllegalArgumentException(
+                    "Too many cities requested: " + cities.size() + " (maximum " + maxCities + ")");
+        }
+
+        int size = cities.size();
+        CurrentWeatherResponse[] results = new CurrentWeatherResponse[size];
+
+        if (size <= chunkSize) {
+            resolve(cities, 0, size, results);
+        } else {
+            List<Future<?>> chunks = new ArrayList<>((size + chunkSize - 1) / chunkSize);
+            for (int from = 0; from < size; from += chunkSize) {
+                int start = from;
+                int end = Math.min(size, from + chunkSize);
+                chunks.add(batchExecutor.submit(() -> resolve(cities, start, end, results)));
+            }
+            awaitAll(chunks);
+        }
+
+        List<CurrentWeatherResponse> found = new ArrayList<>(size);
+        List<String> unknown = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (results[i] != null) {
+                found.add(results[i]);
+            } else {
+                unknown.add(cities.get(i));
+            }
+        }
+
+        return BatchWeatherResponse.builder()
+                .requested(size)
+                .results(found)
+                .unknownCities(unknown)
+                .build();
+    }
+
+    private void resolve(List<String> cities, int from, int to, CurrentWeatherResponse[] results) {
+        for (int i = from; i < to; i++) {
+            int station = stationRegistry.indexOf(cities.get(i));
+            if (station >= 0) {
+                results[i] = weatherService.getCurrentWeather(station);
+            }
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException ex) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while resolving batch", ex);
+        } catch (ExecutionException ex) {
+            futures.forEach(future -> future.cancel(true));
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Batch resolution failed", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.weather.station.service;
+
+/**
+ * Fields produced by {@link WeatherDataGenerator}; part of the deterministic seed so that
+ * each field of a reading draws from an independent stream.
+ * <p>
+ * The ordinal is mixed into the seed: append new constants at the end to keep existing
+ * values stable.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public enum GeneratedField {
+    TEMPERATURE,
+    HUMIDITY,
+    WIND_SPEED,
+    CONDITION,
+    FORECAST_TEMP_MIN,
+    FORECAST_TEMP_MAX,
+    FORECAST_CONDITION,
+    PRECIPITATION,
+    HOURLY_HUMIDITY,
+    HOURLY_WIND_SPEED,
+    HOURLY_PRECIPITATION
+}
@@ -0,0 +1,106 @@
+package com.weather.station.service;
+
+import com.weather.station.config.WeatherConfig;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Immutable, pre-resolved view of {@link WeatherConfig} used by {@link WeatherDataGenerator}.
+ * <p>
+ * Compiled once at startup so that the generation hot path reads plain final fields
+ * instead of walking nested configuration getters, recomputing rounding factors or
+ * building {@link DateTimeFormatter} instances on every request.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Getter
+public final class GenerationPlan {
+
+    private final double temperatureMin;
+    private final double temperatureMax;
+    private final double forecastTemperatureMin;
+    private final double forecastTemperatureMax;
+    private final int humidityMin;
+    private final int humidityMax;
+    private final double windSpeedMin;
+    private final double windSpeedMax;
+    private final int precipitationMin;
+    private final int precipitationMax;
+    private final int forecastDays;
+    private final double roundingFactor;
+    private final DateTimeFormatter timestampFormatter;
+    private final DateTimeFormatter dateFormatter;
+    private final boolean deterministic;
+    private final long seed;
+    private final long bucketMillis;
+
+    private GenerationPlan(WeatherConfig config) {
+        this.temperatureMin = config.getTemperature().getMin();
+        this.temperatureMax = config.getTemperature().getMax();
+        this.forecastTemperatureMin = config.getTemperature().getForecastMin();
+        this.forecastTemperatureMax = config.getTemperature().getForecastMax();
+        this.humidityMin = config.getHumidity().getMin();
+        this.humidityMax = config.getHumidity().getMax();
+        this.windSpeedMin = config.getWindSpeed().getMin();
+        this.windSpeedMax = config.getWindSpeed().getMax();
+        this.precipitationMin = config.getPrecipitation().getMin();
+        this.precipitationMax = config.getPrecipitation().getMax();
+        this.forecastDays = config.getForecast().getDays();
+        this.roundingFactor = Math.pow(10, config.getFormat().getDecimalPlaces());
+        this.timestampFormatter = DateTimeFormatter.ofPattern(config.getFormat().getTimestamp());
+        this.dateFormatter = DateTimeFormatter.ofPattern(config.getFormat().getDate());
+        Duration bucket = config.getGeneration().getBucket();
+        this.deterministic = config.getGeneration().isDeterministic();
+        this.seed = config.getGeneration().getSeed();
+        this.bucketMillis = bucket == null ? 0 : bucket.toMillis();
+    }
+
+    /**
+     * Resolves and validates the given configuration into a generation plan.
+     *
+     * @param config the bound weather configuration
+     * @return the compiled plan
+     * @throws IllegalArgumentException if a configured range is empty or inverted, or deterministic
+     *                                  generation is enabled without a positive bucket
+     */
+    public static GenerationPlan compile(WeatherConfig config) {
+        GenerationPlan plan = new GenerationPlan(config);
+        requireRange("weather.temperature", plan.temperatureMin, plan.temperatureMax);
+        requireRange("weather.temperature.forecast", plan.forecastTemperatureMin, plan.forecastTemperatureMax);
+        requireRange("weather.humidity", plan.humidityMin, plan.humidityMax);
+        requireRange("weather.wind-speed", plan.windSpeedMin, plan.windSpeedMax);
+        requireRange("weather.precipitation", plan.precipitationMin, plan.precipitationMax);
+        if (plan.forecastDays < 0) {
+            throw new IllegalArgumentException("weather.forecast.days must not be negative: " + plan.forecastDays);
+        }
+        if (plan.deterministic && plan.bucketMillis <= 0) {
+            throw new IllegalArgumentException("weather.generation.bucket must be positive: " + plan.bucketMillis + "ms");
+        }
+        return plan;
+    }
+
+    /**
+     * Rounds a value to the configured number of decimal places.
+     *
+     * @param value the raw value
+     * @return the rounded value
+     */
+    public double round(double value) {
+        return Math.round(value * roundingFactor) / roundingFactor;
+    }
+
+    private static void requireRange(String property, double min, double max) {
+        if (!(min < max)) {
+            throw new IllegalArgumentException(property + " range is invalid: min=" + min + ", max=" + max);
+        }
+    }
+
+    private static void requireRange(String property, int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException(property + " range is invalid: min=" + min + ", max=" + max);
+        }
+    }
+}
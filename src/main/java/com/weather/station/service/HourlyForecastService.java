@@ -0,0 +1,333 @@
+package com.weather.station.service;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.model.dto.HourlyForecastExport;
+import com.weather.station.model.dto.HourlyForecastPoint;
+import com.weather.station.model.dto.HourlyForecastResponse;
+import com.weather.station.registry.StationRegistry;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates hourly forecasts lazily, one point at a time while the response is written.
+ * <p>
+ * A forecast is identified by its station, the epoch hour it starts at and a seed: every point
+ * is drawn from {@link WeatherDataGenerator#seeded(long, long, long, GeneratedField)} keyed by
+ * its hour, so any range of points can be generated on its own and a page holds no more than
+ * the point being written. In deterministic mode the seed is the configured one; otherwise a
+ * random seed is chosen when the first page is requested.
+ * </p>
+ * <p>
+ * Pages are linked by an opaque cursor that carries the station, start hour, seed, horizon and
+ * offset of the next page, so following it continues the same forecast even after the hour has
+ * turned, without any state kept on the server.
+ * </p>
+ * <p>
+ * Temperatures follow a daily curve between the day's minimum at 05:00 and maximum at 15:00
+ * local time. The daily extremes and the condition are drawn with the same fields and keys as
+ * the daily forecast's, so in deterministic mode both forecasts agree. Humidity, wind speed and
+ * precipitation are drawn per hour within the station's ranges.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Service
+public class HourlyForecastService {
+
+    private static final long SECONDS_PER_HOUR = 3600;
+    private static final int COLDEST_HOUR = 5;
+    private static final int WARMEST_HOUR = 15;
+    private static final int CURSOR_BYTES = 3 * Integer.BYTES + 2 * Long.BYTES;
+
+    private final WeatherDataGenerator dataGenerator;
+    private final StationRegistry stationRegistry;
+    private final GenerationPlan plan;
+    private final int maxHours;
+    private final int pageSize;
+    private final int maxCities;
+
+    public HourlyForecastService(WeatherDataGenerator dataGenerator, StationRegistry stationRegistry,
+                                 WeatherConfig config) {
+        this.dataGenerator = dataGenerator;
+        this.stationRegistry = stationRegistry;
+        this.plan = dataGenerator.getPlan();
+        this.maxHours = config.getForecast().getMaxHours();
+        this.pageSize = config.getForecast().getPageSize();
+        this.maxCities = config.getBatch().getMaxCities();
+    }
+
+    /**
+     * Retrieves one page of the hourly forecast for the default station.
+     *
+     * @param hours  horizon in hours, or null for the maximum; ignored when a cursor is given
+     * @param limit  points per page, or null for the configured page size
+     * @param cursor cursor of the requested page, or null for the first page
+     * @return the page
+     * @throws IllegalArgumentException if a parameter is out of range or the cursor is invalid
+     */
+    public HourlyForecastResponse getHourlyForecast(Integer hours, Integer limit, String cursor) {
+        return getHourlyForecast(StationRegistry.DEFAULT_STATION, hours, limit, cursor);
+    }
+
+    /**
+     * Retrieves one page of the hourly forecast for the given city.
+     *
+     * @param city   the city name, case-insensitive
+     * @param hours  horizon in hours, or null for the maximum; ignored when a cursor is given
+     * @param limit  points per page, or null for the configured page size
+     * @param cursor cursor of the requested page, or null for the first page
+     * @return the page
+     * @throws com.weather.station.exception.StationNotFoundException if the city is unknown
+     * @throws IllegalArgumentException if a parameter is out of range, or the cursor is invalid or
+     *                                  belongs to another city
+     */
+    public HourlyForecastResponse getHourlyForecast(String city, Integer hours, Integer limit, String cursor) {
+        return getHourlyForecast(stationRegistry.require(city), hours, limit, cursor);
+    }
+
+    private HourlyForecastResponse getHourlyForecast(int station, Integer hours, Integer limit, String cursor) {
+        int size = limit == null ? pageSize : limit;
+        if (size < 1 || size > maxHours) {
+            throw new IllegalArgumentException("'limit' must be between 1 and " + maxHours + ": " + size);
+        }
+        if (cursor != null) {
+            Cursor position = Cursor.decode(cursor, maxHours, nextHour());
+            if (position.station != station) {
+                throw new IllegalArgumentException("Cursor belongs to another city");
+            }
+            return page(station, position.startHour, position.seed, position.hours, position.offset, size);
+        }
+        return page(station, nextHour(), seed(), horizon(hours), 0, size);
+    }
+
+    /**
+     * Retrieves the full hourly forecasts of several cities, issued for the same hour.
+     *
+     * @param cities city names, case-insensitive
+     * @param hours  horizon in hours, or null for the maximum
+     * @return the forecasts in request order
+     * @throws com.weather.station.exception.StationNotFoundException if a city is unknown
+     * @throws IllegalArgumentException if no or more than {@code weather.batch.max-cities} cities
+     *                                  are given, or the horizon is out of range
+     */
+    public HourlyForecastExport exportHourlyForecast(List<String> cities, Integer hours) {
+        if (cities == null || cities.isEmpty()) {
+            throw new IllegalArgumentException("At least one city must be requested");
+        }
+        if (cities.size() > maxCities) {
+            throw new IllegalArgumentException(
+                    "Too many cities requested: " + cities.size() + " (maximum " + maxCities + ")");
+        }
+        int[] stations = new int[cities.size()];
+        for (int i = 0; i < stations.length; i++) {
+            stations[i] = stationRegistry.require(cities.get(i));
+        }
+
+        int horizon = horizon(hours);
+        long startHour = nextHour();
+        long seed = seed();
+        Iterable<HourlyForecastResponse> forecasts = () -> new Iterator<>() {
+
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < stations.length;
+            }
+
+            @Override
+            public HourlyForecastResponse next() {
+                if (next == stations.length) {
+                    throw new NoSuchElementException();
+                }
+                return page(stations[next++], startHour, seed, horizon, 0, horizon);
+            }
+        };
+        return HourlyForecastExport.builder()
+                .hours(horizon)
+                .forecasts(forecasts)
+                .build();
+    }
+
+    /**
+     * Describes one page of a forecast; its points are generated when iterated.
+     */
+    HourlyForecastResponse page(int station, long startHour, long seed, int hours, int offset, int limit) {
+        int end = (int) Math.min(hours, (long) offset + limit);
+        ZoneId zone = stationRegistry.timezone(station);
+        return HourlyForecastResponse.builder()
+                .city(stationRegistry.name(station))
+                .issuedAt(localTime(startHour, zone).format(plan.getTimestampFormatter()))
+                .hours(hours)
+                .offset(offset)
+                .points(() -> new Points(station, zone, seed, startHour + offset, startHour + end))
+                .nextCursor(end < hours ? new Cursor(station, startHour, seed, hours, end).encode() : null)
+                .build();
+    }
+
+    /**
+     * Generates the forecast for one hour of a station.
+     */
+    HourlyForecastPoint point(int station, ZoneId zone, long seed, long epochHour) {
+        LocalDateTime time = localTime(epochHour, zone);
+        long day = time.toLocalDate().toEpochDay();
+        int hour = time.getHour();
+        long key = stationRegistry.seedKey(station);
+
+        double temperature;
+        if (hour < COLDEST_HOUR) {
+            temperature = between(dailyMax(station, key, seed, day - 1), dailyMin(station, key, seed, day),
+                    (hour + 24 - WARMEST_HOUR) / (double) (24 - WARMEST_HOUR + COLDEST_HOUR));
+        } else if (hour < WARMEST_HOUR) {
+            temperature = between(dailyMin(station, key, seed, day), dailyMax(station, key, seed, day),
+                    (hour - COLDEST_HOUR) / (double) (WARMEST_HOUR - COLDEST_HOUR));
+        } else {
+            temperature = between(dailyMax(station, key, seed, day), dailyMin(station, key, seed, day + 1),
+                    (hour - WARMEST_HOUR) / (double) (24 - WARMEST_HOUR + COLDEST_HOUR));
+        }
+
+        return HourlyForecastPoint.builder()
+                .time(time.format(plan.getTimestampFormatter()))
+                .temperature(plan.round(temperature))
+                .humidity(dataGenerator.generateHumidity(
+                        dataGenerator.seeded(seed, key, epochHour, GeneratedField.HOURLY_HUMIDITY),
+                        stationRegistry.humidityMin(station), stationRegistry.humidityMax(station)))
+                .windSpeed(dataGenerator.generateWindSpeed(
+                        dataGenerator.seeded(seed, key, epochHour, GeneratedField.HOURLY_WIND_SPEED),
+                        stationRegistry.windSpeedMin(station), stationRegistry.windSpeedMax(station)))
+                .condition(dataGenerator.generateCondition(
+                        dataGenerator.seeded(seed, key, day, GeneratedField.FORECAST_CONDITION)))
+                .precipitation(dataGenerator.generatePrecipitation(
+                        dataGenerator.seeded(seed, key, epochHour, GeneratedField.HOURLY_PRECIPITATION)))
+                .build();
+    }
+
+    private double dailyMin(int station, long key, long seed, long epochDay) {
+        RandomGenerator random = dataGenerator.seeded(seed, key, epochDay, GeneratedField.FORECAST_TEMP_MIN);
+        return dataGenerator.generateTempMin(random, stationRegistry.forecastTemperatureMin(station),
+                stationRegistry.forecastTemperatureMax(station));
+    }
+
+    private double dailyMax(int station, long key, long seed, long epochDay) {
+        RandomGenerator random = dataGenerator.seeded(seed, key, epochDay, GeneratedField.FORECAST_TEMP_MAX);
+        return dataGenerator.generateTempMax(random, dailyMin(station, key, seed, epochDay),
+                stationRegistry.temperatureMax(station));
+    }
+
+    /**
+     * Cosine interpolation, flat at both ends like the daily temperature curve.
+     */
+    private static double between(double from, double to, double fraction) {
+        return from + (to - from) * (1 - Math.cos(Math.PI * fraction)) / 2;
+    }
+
+    private int horizon(Integer hours) {
+        int horizon = hours == null ? maxHours : hours;
+        if (horizon < 1 || horizon > maxHours) {
+            throw new IllegalArgumentException("'hours' must be between 1 and " + maxHours + ": " + horizon);
+        }
+        return horizon;
+    }
+
+    private long seed() {
+        return dataGenerator.isDeterministic() ? plan.getSeed() : ThreadLocalRandom.current().nextLong();
+    }
+
+    private static long nextHour() {
+        return Math.floorDiv(System.currentTimeMillis(), SECONDS_PER_HOUR * 1000) + 1;
+    }
+
+    private static LocalDateTime localTime(long epochHour, ZoneId zone) {
+        long epochSecond = epochHour * SECONDS_PER_HOUR;
+        ZoneOffset offset = zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond));
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, offset);
+    }
+
+    /**
+     * The points of one page, generated on demand.
+     */
+    private final class Points implements Iterator<HourlyForecastPoint> {
+
+        private final int station;
+        private final ZoneId zone;
+        private final long seed;
+        private final long endHour;
+        private long nextHour;
+
+        Points(int station, ZoneId zone, long seed, long fromHour, long endHour) {
+            this.station = station;
+            this.zone = zone;
+            this.seed = seed;
+            this.nextHour = fromHour;
+            this.endHour = endHour;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextHour < endHour;
+        }
+
+        @Override
+        public HourlyForecastPoint next() {
+            if (nextHour >= endHour) {
+                throw new NoSuchElementException();
+            }
+            return point(station, zone, seed, nextHour++);
+        }
+    }
+
+    /**
+     * Position within a forecast, encoded as unpadded URL-safe Base64.
+     */
+    private record Cursor(int station, long startHour, long seed, int hours, int offset) {
+
+        String encode() {
+            ByteBuffer buffer = ByteBuffer.allocate(CURSOR_BYTES)
+                    .putInt(station)
+                    .putLong(startHour)
+                    .putLong(seed)
+                    .putInt(hours)
+                    .putInt(offset);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+        }
+
+        /**
+         * Decodes and validates a cursor. Its start hour must lie between {@code maxHours}
+         * before and one hour after {@code nextHour}: a forecast issued earlier is already over,
+         * the hour of slack allows for clock skew between nodes, and together they keep the
+         * epoch-second arithmetic on the start hour far from overflow.
+         */
+        static Cursor decode(String value, int maxHours, long nextHour) {
+            byte[] bytes;
+            try {
+                bytes = Base64.getUrlDecoder().decode(value);
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Invalid cursor: " + value);
+            }
+            if (bytes.length != CURSOR_BYTES) {
+                throw new IllegalArgumentException("Invalid cursor: " + value);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            Cursor cursor = new Cursor(buffer.getInt(), buffer.getLong(), buffer.getLong(), buffer.getInt(),
+                    buffer.getInt());
+            if (cursor.hours < 1 || cursor.hours > maxHours || cursor.offset < 1 || cursor.offset >= cursor.hours) {
+                throw new IllegalArgumentException("Invalid cursor: " + value);
+            }
+            if (cursor.startHour < nextHour - maxHours || cursor.startHour > nextHour + 1) {
+                throw new IllegalArgumentException("Expired or invalid cursor: " + value);
+            }
+            return cursor;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.weather.station.service;
+
+import com.weather.station.cache.ForecastCache;
+import com.weather.station.ingest.IngestPipeline;
+import com.weather.station.ingest.UdpReadingListener;
+import com.weather.station.metrics.LatencySnapshot;
+import com.weather.station.metrics.Phase;
+import com.weather.station.metrics.WeatherMetrics;
+import com.weather.station.model.dto.MetricsResponse;
+import com.weather.station.overload.StaleWhileRevalidate;
+import com.weather.station.stream.ReadingBroadcaster;
+import com.weather.station.warmup.JitWarmup;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Collects the application metrics into one response. Counters owned by other components,
+ * such as forecast cache hits and stream deliveries, are read from their own stats rather
+ * than counted twice. UDP listener, warm-up and overload sections are only present when the
+ * corresponding feature is enabled.
+ *
+ * @since 1.1.0
+ */
+@Service
+public class MetricsService {
+
+    private final WeatherMetrics metrics;
+    private final ForecastCache forecastCache;
+    private final ReadingBroadcaster readingBroadcaster;
+    private final IngestPipeline ingestPipeline;
+    private final ObjectProvider<UdpReadingListener> udpReadingListener;
+    private final ObjectProvider<JitWarmup> jitWarmup;
+    private final ObjectProvider<StaleWhileRevalidate> staleWhileRevalidate;
+
+    public MetricsService(WeatherMetrics metrics, ForecastCache forecastCache, ReadingBroadcaster readingBroadcaster,
+                          IngestPipeline ingestPipeline, ObjectProvider<UdpReadingListener> udpReadingListener,
+                          ObjectProvider<JitWarmup> jitWarmup,
+                          ObjectProvider<StaleWhileRevalidate> staleWhileRevalidate) {
+        this.metrics = metrics;
+        this.forecastCache = forecastCache;
+        this.readingBroadcaster = readingBroadcaster;
+        this.ingestPipeline = ingestPipeline;
+        this.udpReadingListener = udpReadingListener;
+        this.jitWarmup = jitWarmup;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    public MetricsResponse getMetrics() {
+        Map<String, Long> errors = metrics.errors();
+
+        Map<String, LatencySnapshot> phases = new LinkedHashMap<>();
+        for (Map.Entry<Phase, LatencySnapshot> entry : metrics.phases().entrySet()) {
+            phases.put(entry.getKey().name().toLowerCase(Locale.ROOT), entry.getValue());
+        }
+
+        UdpReadingListener udpListener = udpReadingListener.getIfAvailable();
+        JitWarmup warmup = jitWarmup.getIfAvailable();
+        StaleWhileRevalidate overload = staleWhileRevalidate.getIfAvailable();
+
+        return MetricsResponse.builder()
+                .requests(metrics.requests())
+                .errors(errors.values().stream().mapToLong(Long::longValue).sum())
+                .errorsByType(errors)
+                .endpoints(metrics.endpoints())
+                .phases(phases)
+                .firstRequests(metrics.firstRequests())
+                .forecastCache(forecastCache.stats())
+                .stream(readingBroadcaster.stats())
+                .ingest(ingestPipeline.stats())
+                .udp(udpListener != null ? udpListener.stats() : null)
+                .warmup(warmup != null ? warmup.stats() : null)
+                .overload(overload != null ? overload.stats() : null)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.weather.station.service;
+
+import com.weather.station.model.dto.ReadinessResponse;
+import com.weather.station.warmup.JitWarmup;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reports whether the instance accepts traffic. Spring Boot switches the readiness state to
+ * {@link ReadinessState#ACCEPTING_TRAFFIC} after the application runners, so while the JIT
+ * warm-up runs or the history rollups are rebuilt the instance reports not ready.
+ *
+ * @since 1.1.0
+ */
+@Service
+public class ReadinessService {
+
+    private final ApplicationAvailability availability;
+    private final ObjectProvider<JitWarmup> jitWarmup;
+
+    public ReadinessService(ApplicationAvailability availability, ObjectProvider<JitWarmup> jitWarmup) {
+        this.availability = availability;
+        this.jitWarmup = jitWarmup;
+    }
+
+    public ReadinessResponse getReadiness() {
+        ReadinessState state = availability.getReadinessState();
+        JitWarmup warmup = jitWarmup.getIfAvailable();
+        return ReadinessResponse.builder()
+                .ready(state == ReadinessState.ACCEPTING_TRAFFIC)
+                .state(state.name())
+                .warmup(warmup != null ? warmup.stats() : null)
+                .build();
+    }
+}
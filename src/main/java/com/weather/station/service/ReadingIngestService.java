@@ -0,0 +1,108 @@
+package com.weather.station.service;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.exception.IngestCapacityExceededException;
+import com.weather.station.ingest.IngestPipeline;
+import com.weather.station.model.dto.IngestResponse;
+import com.weather.station.model.dto.SensorReading;
+import com.weather.station.registry.StationRegistry;
+import org.springframework.stereotype.Service;
+
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Service accepting readings measured by station sensors.
+ * <p>
+ * A request is validated as a whole and then queued on the {@link IngestPipeline} in one step,
+ * so it is either accepted completely or rejected without side effects. Writing to history and
+ * updating the current weather happen asynchronously on the pipeline's writer thread; the
+ * readings are visible a moment after the response.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Service
+public class ReadingIngestService {
+
+    private final StationRegistry stationRegistry;
+    private final IngestPipeline ingestPipeline;
+    private final int maxReadings;
+
+    public ReadingIngestService(StationRegistry stationRegistry, IngestPipeline ingestPipeline,
+                                WeatherConfig weatherConfig) {
+        this.stationRegistry = stationRegistry;
+        this.ingestPipeline = ingestPipeline;
+        this.maxReadings = Math.min(weatherConfig.getIngest().getMaxReadings(), ingestPipeline.capacity());
+    }
+
+    /**
+     * Queues sensor readings of one station.
+     *
+     * @param city     the city name, case-insensitive
+     * @param readings readings in measurement order
+     * @return number of readings accepted
+     * @throws com.weather.station.exception.StationNotFoundException if the city is unknown
+     * @throws IllegalArgumentException         if there are no or too many readings, or one is invalid
+     * @throws IngestCapacityExceededException  if the ingestion buffer has no room for the readings
+     */
+    public IngestResponse ingest(String city, List<SensorReading> readings) {
+        int station = stationRegistry.require(city);
+        if (readings == null || readings.isEmpty()) {
+            throw new IllegalArgumentException("At least one reading must be given");
+        }
+        if (readings.size() > maxReadings) {
+            throw new IllegalArgumentException(
+                    "Too many readings: " + readings.size() + " (maximum " + maxReadings + ")");
+        }
+
+        int size = readings.size();
+        long receivedAt = System.currentTimeMillis();
+        ZoneId zone = stationRegistry.timezone(station);
+        long[] epochMillis = new long[size];
+        for (int i = 0; i < size; i++) {
+            epochMillis[i] = validate(i, readings.get(i), zone, receivedAt);
+        }
+
+        if (!ingestPipeline.offer(station, readings, epochMillis)) {
+            throw new IngestCapacityExceededException(size);
+        }
+        return new IngestResponse(stationRegistry.name(station), size);
+    }
+
+    /**
+     * Checks one reading and returns its measurement time.
+     */
+    private static long validate(int index, SensorReading reading, ZoneId zone, long receivedAt) {
+        if (reading == null) {
+            throw invalid(index, "must not be null");
+        }
+        Double temperature = reading.getTemperature();
+        if (temperature == null || !Double.isFinite(temperature)) {
+            throw invalid(index, "temperature must be a number");
+        }
+        Integer humidity = reading.getHumidity();
+        if (humidity == null || humidity < 0 || humidity > 100) {
+            throw invalid(index, "humidity must be between 0 and 100");
+        }
+        Double windSpeed = reading.getWindSpeed();
+        if (windSpeed == null || !(windSpeed >= 0) || windSpeed.isInfinite()) {
+            throw invalid(index, "wind speed must be a non-negative number");
+        }
+        if (reading.getCondition() == null) {
+            throw invalid(index, "condition is required");
+        }
+        if (reading.getTimestamp() == null) {
+            return receivedAt;
+        }
+        try {
+            return WeatherHistoryService.parseTime("timestamp", reading.getTimestamp(), zone);
+        } catch (IllegalArgumentException ex) {
+            throw invalid(index, ex.getMessage());
+        }
+    }
+
+    private static IllegalArgumentException invalid(int index, String message) {
+        return new IllegalArgumentException("Reading " + index + ": " + message);
+    }
+}
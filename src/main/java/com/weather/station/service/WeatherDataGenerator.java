@@ -1,22 +1,45 @@
 package com.weather.station.service;
 
 import com.weather.station.config.WeatherConfig;
+import com.weather.station.jfr.GenerationEvent;
 import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.registry.StationRegistry;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Service responsible for generating randomized weather data.
  * <p>
  * This generator produces mock weather data for testing and prototyping purposes.
- * All data is randomly generated within realistic ranges defined in {@link WeatherConfig}.
- * Thread-safe implementation using {@link ThreadLocalRandom}.
+ * All data is generated within realistic ranges defined in {@link WeatherConfig}, which is
+ * compiled once into an immutable {@link GenerationPlan} at construction time. The generator
+ * holds no mutable state and is thread-safe in both of its modes.
+ * </p>
+ * <p>
+ * Every range method has an overload taking the {@link RandomGenerator} to draw from. In the
+ * default random mode, callers use the overloads without one, which draw from
+ * {@link ThreadLocalRandom}, so values differ on every call and between nodes. In
+ * deterministic mode ({@code weather.generation.deterministic=true}) callers pass
+ * {@link #seeded(long, long, GeneratedField)}, a {@link SplittableRandom} seeded only by the
+ * configured seed, the station's {@link StationRegistry#seedKey(String) seed key}, a time bucket
+ * and the field being generated. The key is derived from the station name rather than its
+ * registry index, so any node with the same seed produces identical values for the same station
+ * and instant, whatever its catalog order, with no coordination or shared state.
+ * </p>
+ * <p>
+ * Each method that draws or formats a value is wrapped in a {@link GenerationEvent} for Java
+ * Flight Recorder. The event is disabled by default; while it is, the begin/commit calls are
+ * no-ops and the event object is not allocated once the JIT has inlined them.
  * </p>
  *
  * <h3>Data Ranges (configurable in application.properties):</h3>
@@ -32,10 +55,90 @@ import java.util.concurrent.ThreadLocalRandom;
 @Service
 public class WeatherDataGenerator {
 
-    private final WeatherConfig config;
+    private static final WeatherCondition[] CONDITIONS = WeatherCondition.values();
+
+    private final GenerationPlan plan;
 
     public WeatherDataGenerator(WeatherConfig config) {
-        this.config = config;
+        this.plan = GenerationPlan.compile(config);
+    }
+
+    /**
+     * Returns the compiled generation plan backing this generator.
+     *
+     * @return the immutable generation plan
+     */
+    public GenerationPlan getPlan() {
+        return plan;
+    }
+
+    /**
+     * Indicates whether values should be drawn from {@link #seeded(long, long, GeneratedField)}.
+     *
+     * @return true if deterministic generation is configured
+     */
+    public boolean isDeterministic() {
+        return plan.isDeterministic();
+    }
+
+    /**
+     * Returns the index of the deterministic time bucket containing {@code epochMillis}.
+     *
+     * @param epochMillis the instant
+     * @return bucket index; every instant of a bucket yields the same values
+     */
+    public long timeBucket(long epochMillis) {
+        return Math.floorDiv(epochMillis, plan.getBucketMillis());
+    }
+
+    /**
+     * Returns the start of a deterministic time bucket.
+     *
+     * @param bucket bucket index
+     * @return bucket start, epoch millis
+     */
+    public long timeBucketStart(long bucket) {
+        return bucket * plan.getBucketMillis();
+    }
+
+    /**
+     * Creates the random source for one field of one station in one bucket.
+     * <p>
+     * The configured seed, station key, bucket and field are mixed with the SplitMix64
+     * finalizer, so neighbouring keys produce unrelated streams.
+     * </p>
+     *
+     * @param stationKey the station's {@link StationRegistry#seedKey(int) seed key}
+     * @param bucket     time bucket, or the epoch day for forecast fields
+     * @param field      the generated field
+     * @return a new generator; cheap to create and not shared
+     */
+    public SplittableRandom seeded(long stationKey, long bucket, GeneratedField field) {
+        return seeded(plan.getSeed(), stationKey, bucket, field);
+    }
+
+    /**
+     * Creates the random source for one field of one station in one bucket under an explicit
+     * seed instead of the configured one.
+     *
+     * @param seed       the seed
+     * @param stationKey the station's {@link StationRegistry#seedKey(int) seed key}
+     * @param bucket     time bucket, epoch hour or epoch day
+     * @param field      the generated field
+     * @return a new generator; cheap to create and not shared
+     * @see #seeded(long, long, GeneratedField)
+     */
+    public SplittableRandom seeded(long seed, long stationKey, long bucket, GeneratedField field) {
+        long h = mix(seed + 0x9E3779B97F4A7C15L * stationKey);
+        h = mix(h + 0x9E3779B97F4A7C15L * bucket);
+        h = mix(h + field.ordinal());
+        return new SplittableRandom(h);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
     }
 
     /**
@@ -44,10 +147,34 @@ public class WeatherDataGenerator {
      * @return temperature value with 1 decimal place precision
      */
     public double generateTemperature() {
-        double temp = ThreadLocalRandom.current()
-                .nextDouble(config.getTemperature().getMin(), config.getTemperature().getMax());
-        double roundingFactor = Math.pow(10, config.getFormat().getDecimalPlaces());
-        return Math.round(temp * roundingFactor) / roundingFactor;
+        return generateTemperature(plan.getTemperatureMin(), plan.getTemperatureMax());
+    }
+
+    /**
+     * Generates a random temperature within the given range.
+     *
+     * @param min lower bound (inclusive)
+     * @param max upper bound (exclusive)
+     * @return temperature value rounded to the configured precision
+     */
+    public double generateTemperature(double min, double max) {
+        return generateTemperature(ThreadLocalRandom.current(), min, max);
+    }
+
+    /**
+     * Generates a temperature within the given range from the given source.
+     *
+     * @param random source of randomness
+     * @param min    lower bound (inclusive)
+     * @param max    upper bound (exclusive)
+     * @return temperature value rounded to the configured precision
+     */
+    public double generateTemperature(RandomGenerator random, double min, double max) {
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        double value = plan.round(random.nextDouble(min, max));
+        event.complete("generateTemperature");
+        return value;
     }
 
     /**
@@ -56,8 +183,34 @@ public class WeatherDataGenerator {
      * @return humidity value between configured min and max (inclusive)
      */
     public int generateHumidity() {
-        return ThreadLocalRandom.current()
-                .nextInt(config.getHumidity().getMin(), config.getHumidity().getMax() + 1);
+        return generateHumidity(plan.getHumidityMin(), plan.getHumidityMax());
+    }
+
+    /**
+     * Generates a random humidity percentage within the given range.
+     *
+     * @param min lower bound (inclusive)
+     * @param max upper bound (inclusive)
+     * @return humidity value between min and max
+     */
+    public int generateHumidity(int min, int max) {
+        return generateHumidity(ThreadLocalRandom.current(), min, max);
+    }
+
+    /**
+     * Generates a humidity percentage within the given range from the given source.
+     *
+     * @param random source of randomness
+     * @param min    lower bound (inclusive)
+     * @param max    upper bound (inclusive)
+     * @return humidity value between min and max
+     */
+    public int generateHumidity(RandomGenerator random, int min, int max) {
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        int value = random.nextInt(min, max + 1);
+        event.complete("generateHumidity");
+        return value;
     }
 
     /**
@@ -66,10 +219,34 @@ public class WeatherDataGenerator {
      * @return wind speed value with 1 decimal place precision in km/h
      */
     public double generateWindSpeed() {
-        double speed = ThreadLocalRandom.current()
-                .nextDouble(config.getWindSpeed().getMin(), config.getWindSpeed().getMax());
-        double roundingFactor = Math.pow(10, config.getFormat().getDecimalPlaces());
-        return Math.round(speed * roundingFactor) / roundingFactor;
+        return generateWindSpeed(plan.getWindSpeedMin(), plan.getWindSpeedMax());
+    }
+
+    /**
+     * Generates a random wind speed within the given range.
+     *
+     * @param min lower bound (inclusive)
+     * @param max upper bound (exclusive)
+     * @return wind speed value rounded to the configured precision in km/h
+     */
+    public double generateWindSpeed(double min, double max) {
+        return generateWindSpeed(ThreadLocalRandom.current(), min, max);
+    }
+
+    /**
+     * Generates a wind speed within the given range from the given source.
+     *
+     * @param random source of randomness
+     * @param min    lower bound (inclusive)
+     * @param max    upper bound (exclusive)
+     * @return wind speed value rounded to the configured precision in km/h
+     */
+    public double generateWindSpeed(RandomGenerator random, double min, double max) {
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        double value = plan.round(random.nextDouble(min, max));
+        event.complete("generateWindSpeed");
+        return value;
     }
 
     /**
@@ -78,9 +255,21 @@ public class WeatherDataGenerator {
      * @return randomly selected weather condition
      */
     public WeatherCondition generateCondition() {
-        WeatherCondition[] conditions = WeatherCondition.values();
-        int index = ThreadLocalRandom.current().nextInt(conditions.length);
-        return conditions[index];
+        return generateCondition(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Selects a weather condition from the given source.
+     *
+     * @param random source of randomness
+     * @return selected weather condition
+     */
+    public WeatherCondition generateCondition(RandomGenerator random) {
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        WeatherCondition value = CONDITIONS[random.nextInt(CONDITIONS.length)];
+        event.complete("generateCondition");
+        return value;
     }
 
     /**
@@ -89,11 +278,34 @@ public class WeatherDataGenerator {
      * @return minimum temperature with 1 decimal place precision
      */
     public double generateTempMin() {
-        double temp = ThreadLocalRandom.current()
-                .nextDouble(config.getTemperature().getForecastMin(),
-                           config.getTemperature().getForecastMax());
-        double roundingFactor = Math.pow(10, config.getFormat().getDecimalPlaces());
-        return Math.round(temp * roundingFactor) / roundingFactor;
+        return generateTempMin(plan.getForecastTemperatureMin(), plan.getForecastTemperatureMax());
+    }
+
+    /**
+     * Generates a random minimum temperature for forecast data within the given range.
+     *
+     * @param min lower bound (inclusive)
+     * @param max upper bound (exclusive)
+     * @return minimum temperature rounded to the configured precision
+     */
+    public double generateTempMin(double min, double max) {
+        return generateTempMin(ThreadLocalRandom.current(), min, max);
+    }
+
+    /**
+     * Generates a forecast minimum temperature within the given range from the given source.
+     *
+     * @param random source of randomness
+     * @param min    lower bound (inclusive)
+     * @param max    upper bound (exclusive)
+     * @return minimum temperature rounded to the configured precision
+     */
+    public double generateTempMin(RandomGenerator random, double min, double max) {
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        double value = plan.round(random.nextDouble(min, max));
+        event.complete("generateTempMin");
+        return value;
     }
 
     /**
@@ -107,10 +319,36 @@ public class WeatherDataGenerator {
      * @return a random maximum temperature between tempMin and configured max
      */
     public double generateTempMax(double tempMin) {
-        double temp = ThreadLocalRandom.current()
-                .nextDouble(tempMin, config.getTemperature().getMax());
-        double roundingFactor = Math.pow(10, config.getFormat().getDecimalPlaces());
-        return Math.round(temp * roundingFactor) / roundingFactor;
+        return generateTempMax(tempMin, plan.getTemperatureMax());
+    }
+
+    /**
+     * Generates a maximum temperature between the provided minimum temperature
+     * and the given upper bound.
+     *
+     * @param tempMin the minimum temperature
+     * @param max     upper bound (exclusive)
+     * @return a random maximum temperature between tempMin and max
+     */
+    public double generateTempMax(double tempMin, double max) {
+        return generateTempMax(ThreadLocalRandom.current(), tempMin, max);
+    }
+
+    /**
+     * Generates a forecast maximum temperature between {@code tempMin} and {@code max}
+     * from the given source.
+     *
+     * @param random  source of randomness
+     * @param tempMin the minimum temperature
+     * @param max     upper bound (exclusive)
+     * @return a maximum temperature between tempMin and max
+     */
+    public double generateTempMax(RandomGenerator random, double tempMin, double max) {
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        double value = plan.round(random.nextDouble(tempMin, max));
+        event.complete("generateTempMax");
+        return value;
     }
 
     /**
@@ -119,9 +357,21 @@ public class WeatherDataGenerator {
      * @return precipitation value between configured min and max (inclusive)
      */
     public int generatePrecipitation() {
-        return ThreadLocalRandom.current()
-                .nextInt(config.getPrecipitation().getMin(),
-                        config.getPrecipitation().getMax() + 1);
+        return generatePrecipitation(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Generates a precipitation percentage from the given source.
+     *
+     * @param random source of randomness
+     * @return precipitation value between configured min and max (inclusive)
+     */
+    public int generatePrecipitation(RandomGenerator random) {
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        int value = random.nextInt(plan.getPrecipitationMin(), plan.getPrecipitationMax() + 1);
+        event.complete("generatePrecipitation");
+        return value;
     }
 
     /**
@@ -130,9 +380,27 @@ public class WeatherDataGenerator {
      * @return formatted timestamp string (e.g., "2026-01-20T12:00:00")
      */
     public String generateCurrentTimestamp() {
-        LocalDateTime now = LocalDateTime.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(config.getFormat().getTimestamp());
-        return now.format(formatter);
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        String value = LocalDateTime.now().format(plan.getTimestampFormatter());
+        event.complete("generateCurrentTimestamp");
+        return value;
+    }
+
+    /**
+     * Formats an instant as local time in a station's zone with the configured timestamp pattern.
+     *
+     * @param epochMillis the instant
+     * @param zone        the station's time zone
+     * @return formatted timestamp string
+     */
+    public String formatTimestamp(long epochMillis, ZoneId zone) {
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        String value = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone)
+                .format(plan.getTimestampFormatter());
+        event.complete("formatTimestamp");
+        return value;
     }
 
     /**
@@ -144,14 +412,28 @@ public class WeatherDataGenerator {
      * @return list of date strings in ISO format (e.g., "2026-01-21")
      */
     public List<String> generateForecastDates() {
-        List<String> dates = new ArrayList<>();
-        LocalDate tomorrow = LocalDate.now().plusDays(1);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(config.getFormat().getDate());
+        return generateForecastDates(LocalDate.now());
+    }
+
+    /**
+     * Generates a list of forecast dates starting from the day after {@code today}.
+     *
+     * @param today the date the forecast is issued on
+     * @return list of date strings in ISO format (e.g., "2026-01-21")
+     */
+    public List<String> generateForecastDates(LocalDate today) {
+        GenerationEvent event = new GenerationEvent();
+        event.begin();
+        int days = plan.getForecastDays();
+        List<String> dates = new ArrayList<>(days);
+        LocalDate tomorrow = today.plusDays(1);
+        DateTimeFormatter formatter = plan.getDateFormatter();
 
-        for (int i = 0; i < config.getForecast().getDays(); i++) {
+        for (int i = 0; i < days; i++) {
             dates.add(tomorrow.plusDays(i).format(formatter));
         }
 
+        event.complete("generateForecastDates");
         return dates;
     }
 }
@@ -0,0 +1,164 @@
+package com.weather.station.service;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.model.dto.HistoryBucket;
+import com.weather.station.model.dto.MetricSummary;
+import com.weather.station.model.dto.WeatherHistoryResponse;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.rollup.RollupBucket;
+import com.weather.station.rollup.RollupStore;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves aggregated reading history from the precomputed {@link RollupStore}.
+ * <p>
+ * Times accept epoch millis, ISO-8601 instants or offset date-times, or local
+ * date-times and dates interpreted in the station's time zone. Resolutions accept
+ * {@code minute}, {@code hour}, {@code day}, a short form such as {@code 15m},
+ * {@code 6h} or {@code 7d}, or an ISO-8601 duration. Bucket timestamps are the
+ * bucket start in the station's local time.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Service
+public class WeatherHistoryService {
+
+    private static final Duration DEFAULT_RANGE = Duration.ofDays(1);
+    private static final Pattern SHORT_DURATION = Pattern.compile("(\\d{1,9})([mhd])");
+
+    private final RollupStore rollupStore;
+    private final StationRegistry stationRegistry;
+    private final GenerationPlan plan;
+    private final int maxBuckets;
+
+    public WeatherHistoryService(RollupStore rollupStore, StationRegistry stationRegistry,
+                                 WeatherDataGenerator dataGenerator, WeatherConfig config) {
+        this.rollupStore = rollupStore;
+        this.stationRegistry = stationRegistry;
+        this.plan = dataGenerator.getPlan();
+        this.maxBuckets = config.getRollup().getMaxBuckets();
+    }
+
+    /**
+     * Retrieves min/max/average temperature, humidity and wind speed per bucket.
+     *
+     * @param city       the city name, case-insensitive
+     * @param from       range start, or null for one day before {@code to}
+     * @param to         range end, or null for now
+     * @param resolution bucket width
+     * @return buckets with at least one reading, in time order
+     * @throws com.weather.station.exception.StationNotFoundException if the city is unknown
+     * @throws IllegalArgumentException if a parameter is malformed, the range is inverted or
+     *                                  would produce more than {@code weather.rollup.max-buckets} buckets
+     */
+    public WeatherHistoryResponse getHistory(String city, String from, String to, String resolution) {
+        int station = stationRegistry.require(city);
+        ZoneId zone = stationRegistry.timezone(station);
+        Duration width = parseResolution(resolution);
+
+        long end = to == null ? System.currentTimeMillis() : parseTime("to", to, zone);
+        long start = from == null ? end - DEFAULT_RANGE.toMillis() : parseTime("from", from, zone);
+        if (start > end) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        long buckets = (end - start) / width.toMillis() + 1;
+        if (buckets > maxBuckets) {
+            throw new IllegalArgumentException("Query spans " + buckets + " buckets, more than the maximum of "
+                    + maxBuckets + "; use a coarser resolution or a shorter range");
+        }
+
+        List<RollupBucket> rollups = rollupStore.query(station, start, end, width);
+        List<HistoryBucket> result = new ArrayList<>(rollups.size());
+        for (RollupBucket bucket : rollups) {
+            result.add(HistoryBucket.builder()
+                    .timestamp(format(bucket.startMillis(), zone))
+                    .samples(bucket.samples())
+                    .temperature(summary(bucket.temperatureMin(), bucket.temperatureMax(),
+                            bucket.temperatureAverage()))
+                    .humidity(summary(bucket.humidityMin(), bucket.humidityMax(), bucket.humidityAverage()))
+                    .windSpeed(summary(bucket.windSpeedMin(), bucket.windSpeedMax(), bucket.windSpeedAverage()))
+                    .build());
+        }
+
+        return WeatherHistoryResponse.builder()
+                .city(stationRegistry.name(station))
+                .from(format(start, zone))
+                .to(format(end, zone))
+                .resolution(width.toString())
+                .buckets(result)
+                .build();
+    }
+
+    static Duration parseResolution(String resolution) {
+        String value = resolution.trim().toLowerCase(Locale.ROOT);
+        Duration duration = switch (value) {
+            case "minute" -> Duration.ofMinutes(1);
+            case "hour" -> Duration.ofHours(1);
+            case "day" -> Duration.ofDays(1);
+            default -> {
+                Matcher matcher = SHORT_DURATION.matcher(value);
+                if (matcher.matches()) {
+                    long amount = Long.parseLong(matcher.group(1));
+                    yield switch (matcher.group(2)) {
+                        case "m" -> Duration.ofMinutes(amount);
+                        case "h" -> Duration.ofHours(amount);
+                        default -> Duration.ofDays(amount);
+                    };
+                }
+                try {
+                    yield Duration.parse(resolution.trim());
+                } catch (DateTimeParseException ex) {
+                    throw new IllegalArgumentException("Invalid resolution: " + resolution);
+                }
+            }
+        };
+        if (duration.isZero() || duration.isNegative() || duration.toMillis() % 60_000 != 0) {
+            throw new IllegalArgumentException("Resolution must be a positive whole number of minutes: " + resolution);
+        }
+        return duration;
+    }
+
+    static long parseTime(String name, String value, ZoneId zone) {
+        String text = value.trim();
+        try {
+            if (text.chars().allMatch(Character::isDigit) && !text.isEmpty()) {
+                return Long.parseLong(text);
+            }
+            if (text.length() == 10) {
+                return LocalDate.parse(text).atStartOfDay(zone).toInstant().toEpochMilli();
+            }
+            if (text.endsWith("Z") || text.lastIndexOf('+') > 0 || text.lastIndexOf('-') > 9) {
+                return OffsetDateTime.parse(text).toInstant().toEpochMilli();
+            }
+            return LocalDateTime.parse(text).atZone(zone).toInstant().toEpochMilli();
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid '" + name + "' time: " + value);
+        }
+    }
+
+    private String format(long epochMillis, ZoneId zone) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone).format(plan.getTimestampFormatter());
+    }
+
+    private MetricSummary summary(double min, double max, double average) {
+        return MetricSummary.builder()
+                .min(plan.round(min))
+                .max(plan.round(max))
+                .average(plan.round(average))
+                .build();
+    }
+}
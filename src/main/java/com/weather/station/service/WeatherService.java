@@ -1,19 +1,58 @@
 package com.weather.station.service;
 
+import com.weather.station.cache.ForecastCache;
 import com.weather.station.config.WeatherConfig;
+import com.weather.station.jfr.CurrentWeatherEvent;
+import com.weather.station.jfr.ForecastEvent;
+import com.weather.station.metrics.Phase;
+import com.weather.station.metrics.WeatherMetrics;
 import com.weather.station.model.dto.CurrentWeatherResponse;
 import com.weather.station.model.dto.ForecastDay;
 import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import com.weather.station.simulation.WeatherSnapshot;
+import com.weather.station.version.ResponseVersion;
+import com.weather.station.version.Versioned;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service for orchestrating weather data operations.
  * <p>
  * This service coordinates the generation of current weather and forecast data
- * using the {@link WeatherDataGenerator} and applies configuration from {@link WeatherConfig}.
+ * using the {@link WeatherDataGenerator} and the per-station ranges held by the
+ * {@link StationRegistry}. Methods without a city operate on the default station
+ * configured in {@link WeatherConfig}.
+ * When the simulation is enabled, current weather is served from the latest
+ * {@link WeatherSimulationEngine} snapshot instead of being generated per request.
+ * Forecasts are generated once per station and local day and then served from the
+ * {@link ForecastCache}.
+ * </p>
+ * <p>
+ * In deterministic mode every value is drawn from
+ * {@link WeatherDataGenerator#seeded(long, long, GeneratedField)}: current weather is keyed
+ * by the time bucket of the request and timestamped with the bucket start in the station's
+ * zone, forecast days by their date. Replicas sharing the configuration therefore return
+ * identical responses.
+ * </p>
+ * <p>
+ * Every station-level call is timed as {@link Phase#ORCHESTRATION} and the part of it spent
+ * drawing values from the generator as {@link Phase#GENERATION}; snapshot reads and cache hits
+ * record no generation time. The same calls are also spanned by {@link CurrentWeatherEvent} and
+ * {@link ForecastEvent} for Java Flight Recorder.
+ * </p>
+ * <p>
+ * Responses that only change when their source does carry a {@link ResponseVersion}: current
+ * weather served from a snapshot is versioned by the snapshot sequence, seeded current weather
+ * by its time bucket and cached forecasts by their cache entry. The {@code ...Version} methods
+ * read that version without building the response, so conditional requests can be answered
+ * without generating or serializing anything. Randomly generated current weather and forecasts
+ * of a disabled cache differ on every call and have no version.
  * </p>
  *
  * @since 1.0.0
@@ -22,60 +61,394 @@ import java.util.List;
 public class WeatherService {
 
     private final WeatherDataGenerator dataGenerator;
-    private final WeatherConfig weatherConfig;
+    private final WeatherSimulationEngine simulationEngine;
+    private final StationRegistry stationRegistry;
+    private final ForecastCache forecastCache;
+    private final WeatherMetrics metrics;
 
-    public WeatherService(WeatherDataGenerator dataGenerator, WeatherConfig weatherConfig) {
+    public WeatherService(WeatherDataGenerator dataGenerator, WeatherSimulationEngine simulationEngine,
+                          StationRegistry stationRegistry, ForecastCache forecastCache, WeatherMetrics metrics) {
         this.dataGenerator = dataGenerator;
-        this.weatherConfig = weatherConfig;
+        this.simulationEngine = simulationEngine;
+        this.stationRegistry = stationRegistry;
+        this.forecastCache = forecastCache;
+        this.metrics = metrics;
     }
 
     /**
-     * Retrieves current weather conditions with randomized values.
+     * Retrieves current weather conditions for the default station.
      *
      * @return current weather response with city name from configuration
      */
     public CurrentWeatherResponse getCurrentWeather() {
+        return getCurrentWeather(StationRegistry.DEFAULT_STATION);
+    }
+
+    /**
+     * Retrieves current weather conditions for the given city.
+     *
+     * @param city the city name, case-insensitive
+     * @return current weather response
+     * @throws com.weather.station.exception.StationNotFoundException if the city is unknown
+     */
+    public CurrentWeatherResponse getCurrentWeather(String city) {
+        return getCurrentWeather(stationRegistry.require(city));
+    }
+
+    /**
+     * Retrieves current weather conditions for a station.
+     * <p>
+     * Served from the latest snapshot while the station's sensor is live. Otherwise computed
+     * from the current time bucket in deterministic mode, served from the latest simulation
+     * snapshot when the simulation is enabled, or generated with independent random values.
+     * </p>
+     *
+     * @param station the station index
+     * @return current weather response
+     */
+    public CurrentWeatherResponse getCurrentWeather(int station) {
+        return getVersionedCurrentWeather(station).value();
+    }
+
+    /**
+     * Retrieves current weather conditions for the given city with their version.
+     *
+     * @param city the city name, case-insensitive
+     * @return current weather response and its version, null if it has none
+     * @throws com.weather.station.exception.StationNotFoundException if the city is unknown
+     */
+    public Versioned<CurrentWeatherResponse> getVersionedCurrentWeather(String city) {
+        return getVersionedCurrentWeather(stationRegistry.require(city));
+    }
+
+    /**
+     * Retrieves current weather conditions for a station with their version, which always
+     * matches the returned response.
+     *
+     * @param station the station index
+     * @return current weather response and its version, null if it has none
+     * @see #getCurrentWeather(int)
+     */
+    public Versioned<CurrentWeatherResponse> getVersionedCurrentWeather(int station) {
+        CurrentWeatherEvent event = new CurrentWeatherEvent();
+        event.begin();
+        long start = metrics.start();
+        try {
+            return currentWeather(station);
+        } finally {
+            metrics.record(Phase.ORCHESTRATION, start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.city = stationRegistry.name(station);
+                event.source = simulationEngine.hasLiveSensor(station) ? "sensor"
+                        : dataGenerator.isDeterministic() ? "seeded"
+                        : simulationEngine.isEnabled() ? "simulation" : "generated";
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Returns the version of the station's current weather without building it. The response
+     * returned by a later call can be newer than this version, never older.
+     *
+     * @param city the city name, case-insensitive
+     * @return the current version, or null if every response is generated afresh
+     * @throws com.weather.station.exception.StationNotFoundException if the city is unknown
+     */
+    public ResponseVersion currentWeatherVersion(String city) {
+        return currentWeatherVersion(stationRegistry.require(city));
+    }
+
+    /**
+     * Returns the version of the station's current weather without building it.
+     *
+     * @param station the station index
+     * @return the current version, or null if every response is generated afresh
+     * @see #currentWeatherVersion(String)
+     */
+    public ResponseVersion currentWeatherVersion(int station) {
+        boolean deterministic = dataGenerator.isDeterministic();
+        if (servedFromSnapshot(station, deterministic)) {
+            return snapshotVersion(simulationEngine.snapshot(station));
+        }
+        return deterministic ? bucketVersion(dataGenerator.timeBucket(System.currentTimeMillis())) : null;
+    }
+
+    private boolean servedFromSnapshot(int station, boolean deterministic) {
+        return !deterministic && simulationEngine.isEnabled() || simulationEngine.hasLiveSensor(station);
+    }
+
+    private static ResponseVersion snapshotVersion(WeatherSnapshot snapshot) {
+        return ResponseVersion.ofSequence('c', snapshot.sequence(), snapshot.epochMillis());
+    }
+
+    private ResponseVersion bucketVersion(long bucket) {
+        return ResponseVersion.ofSeed('c', dataGenerator.getPlan().getSeed(), bucket,
+                dataGenerator.timeBucketStart(bucket));
+    }
+
+    private Versioned<CurrentWeatherResponse> currentWeather(int station) {
+        String city = stationRegistry.name(station);
+        boolean deterministic = dataGenerator.isDeterministic();
+        if (servedFromSnapshot(station, deterministic)) {
+            WeatherSnapshot snapshot = simulationEngine.snapshot(station);
+            return new Versioned<>(snapshot.toResponse(city), snapshotVersion(snapshot));
+        }
+        long start = metrics.start();
+        try {
+            if (!deterministic) {
+                return new Versioned<>(randomCurrentWeather(station, city), null);
+            }
+            long bucket = dataGenerator.timeBucket(System.currentTimeMillis());
+            return new Versioned<>(seededCurrentWeather(station, city, bucket), bucketVersion(bucket));
+        } finally {
+            metrics.record(Phase.GENERATION, start);
+        }
+    }
+
+    private CurrentWeatherResponse randomCurrentWeather(int station, String city) {
         return CurrentWeatherResponse.builder()
-                .city(weatherConfig.getCity().getName())
+                .city(city)
                 .timestamp(dataGenerator.generateCurrentTimestamp())
-                .temperature(dataGenerator.generateTemperature())
-                .humidity(dataGenerator.generateHumidity())
-                .windSpeed(dataGenerator.generateWindSpeed())
+                .temperature(dataGenerator.generateTemperature(
+                        stationRegistry.temperatureMin(station), stationRegistry.temperatureMax(station)))
+                .humidity(dataGenerator.generateHumidity(
+                        stationRegistry.humidityMin(station), stationRegistry.humidityMax(station)))
+                .windSpeed(dataGenerator.generateWindSpeed(
+                        stationRegistry.windSpeedMin(station), stationRegistry.windSpeedMax(station)))
                 .condition(dataGenerator.generateCondition())
                 .build();
     }
 
+    private CurrentWeatherResponse seededCurrentWeather(int station, String city, long bucket) {
+        long key = stationRegistry.seedKey(station);
+        return CurrentWeatherResponse.builder()
+                .city(city)
+                .timestamp(dataGenerator.formatTimestamp(dataGenerator.timeBucketStart(bucket),
+                        stationRegistry.timezone(station)))
+                .temperature(dataGenerator.generateTemperature(
+                        dataGenerator.seeded(key, bucket, GeneratedField.TEMPERATURE),
+                        stationRegistry.temperatureMin(station), stationRegistry.temperatureMax(station)))
+                .humidity(dataGenerator.generateHumidity(
+                        dataGenerator.seeded(key, bucket, GeneratedField.HUMIDITY),
+                        stationRegistry.humidityMin(station), stationRegistry.humidityMax(station)))
+                .windSpeed(dataGenerator.generateWindSpeed(
+                        dataGenerator.seeded(key, bucket, GeneratedField.WIND_SPEED),
+                        stationRegistry.windSpeedMin(station), stationRegistry.windSpeedMax(station)))
+                .condition(dataGenerator.generateCondition(
+                        dataGenerator.seeded(key, bucket, GeneratedField.CONDITION)))
+                .build();
+    }
+
     /**
-     * Generates a 7-day weather forecast with randomized predictions.
-     * <p>
-     * Ensures that maximum temperature is always greater than or equal to minimum temperature.
-     * </p>
+     * Generates a weather forecast for the default station.
      *
-     * @return forecast response containing 7 days of weather predictions
+     * @return forecast response containing the configured number of days
      */
     public ForecastResponse getForecast() {
-        List<String> forecastDates = dataGenerator.generateForecastDates();
-        List<ForecastDay> forecast = new ArrayList<>();
+        return getForecast(StationRegistry.DEFAULT_STATION);
+    }
 
-        for (String date : forecastDates) {
-            double tempMin = dataGenerator.generateTempMin();
-            double tempMax = dataGenerator.generateTempMax(tempMin);
+    /**
+     * Generates a weather forecast for the given city.
+     *
+     * @param city the city name, case-insensitive
+     * @return forecast response containing the configured number of days
+     * @throws com.weather.station.exception.StationNotFoundException if the city is unknown
+     */
+    public ForecastResponse getForecast(String city) {
+        return getForecast(stationRegistry.require(city));
+    }
+
+    /**
+     * Retrieves the weather forecast of a station for its current local date, generating it
+     * on the first request of the day.
+     *
+     * @param station the station index
+     * @return forecast response containing the configured number of days
+     */
+    public ForecastResponse getForecast(int station) {
+        return getVersionedForecast(station).value();
+    }
+
+    /**
+     * Retrieves the weather forecast for the given city with its version.
+     *
+     * @param city the city name, case-insensitive
+     * @return forecast response and its version, null if it has none
+     * @throws com.weather.station.exception.StationNotFoundException if the city is unknown
+     */
+    public Versioned<ForecastResponse> getVersionedForecast(String city) {
+        return getVersionedForecast(stationRegistry.require(city));
+    }
+
+    /**
+     * Retrieves the weather forecast of a station with its version, which always matches the
+     * returned response.
+     *
+     * @param station the station index
+     * @return forecast response and its version, null if it has none
+     * @see #getForecast(int)
+     */
+    public Versioned<ForecastResponse> getVersionedForecast(int station) {
+        ForecastEvent event = new ForecastEvent();
+        event.begin();
+        long start = metrics.start();
+        ForecastResponse forecast = null;
+        try {
+            Versioned<ForecastResponse> versioned = forecastCache.getVersioned(station, this::timedForecast);
+            forecast = versioned.value();
+            return versioned;
+        } finally {
+            metrics.record(Phase.ORCHESTRATION, start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.city = stationRegistry.name(station);
+                event.days = forecast == null || forecast.getForecast() == null ? 0 : forecast.getForecast().size();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the weather forecast for the given city with its version, without waiting for a
+     * generation started by another request.
+     *
+     * @param city the city name, case-insensitive
+     * @return forecast response and its version, null if it has none
+     * @throws com.weather.station.exception.StationNotFoundException if the city is unknown
+     */
+    public CompletableFuture<Versioned<ForecastResponse>> getVersionedForecastAsync(String city) {
+        return getVersionedForecastAsync(stationRegistry.require(city));
+    }
+
+    /**
+     * Retrieves the weather forecast of a station with its version, without waiting for a
+     * generation started by another request: the future is already complete unless the
+     * station's forecast is being generated for another caller, in which case it completes
+     * with that generation.
+     *
+     * @param station the station index
+     * @return forecast response and its version, null if it has none
+     * @see ForecastCache#getVersionedAsync(int, com.weather.station.cache.ForecastLoader)
+     */
+    public CompletableFuture<Versioned<ForecastResponse>> getVersionedForecastAsync(int station) {
+        ForecastEvent event = new ForecastEvent();
+        event.begin();
+        long start = metrics.start();
+        CompletableFuture<Versioned<ForecastResponse>> versioned = null;
+        try {
+            versioned = forecastCache.getVersionedAsync(station, this::timedForecast);
+            return versioned;
+        } finally {
+            metrics.record(Phase.ORCHESTRATION, start);
+            event.end();
+            if (event.shouldCommit()) {
+                boolean loaded = versioned != null && versioned.isDone() && !versioned.isCompletedExceptionally();
+                ForecastResponse forecast = loaded ? versioned.join().value() : null;
+                event.city = stationRegistry.name(station);
+                event.days = forecast == null || forecast.getForecast() == null ? 0 : forecast.getForecast().size();
+                event.commit();
+            }
+        }
+    }
 
-            ForecastDay forecastDay = ForecastDay.builder()
-                    .date(date)
-                    .tempMin(tempMin)
-                    .tempMax(tempMax)
-                    .condition(dataGenerator.generateCondition())
-                    .precipitation(dataGenerator.generatePrecipitation())
-                    .build();
+    /**
+     * Returns the version of the station's cached forecast without loading it.
+     *
+     * @param city the city name, case-insensitive
+     * @return the version, or null if no forecast is cached for the station's current day
+     * @throws com.weather.station.exception.StationNotFoundException if the city is unknown
+     */
+    public ResponseVersion forecastVersion(String city) {
+        return forecastVersion(stationRegistry.require(city));
+    }
+
+    /**
+     * Returns the version of the station's cached forecast without loading it.
+     *
+     * @param station the station index
+     * @return the version, or null if no forecast is cached for the station's current day
+     */
+    public ResponseVersion forecastVersion(int station) {
+        return forecastCache.version(station);
+    }
+
+    private ForecastResponse timedForecast(int station, LocalDate today) {
+        long start = metrics.start();
+        try {
+            return generateForecast(station, today);
+        } finally {
+            metrics.record(Phase.GENERATION, start);
+        }
+    }
+
+    /**
+     * Generates a weather forecast with randomized predictions for a station.
+     * <p>
+     * Ensures that maximum temperature is always greater than or equal to minimum temperature.
+     * </p>
+     */
+    private ForecastResponse generateForecast(int station, LocalDate today) {
+        List<String> forecastDates = dataGenerator.generateForecastDates(today);
+        List<ForecastDay> forecast = new ArrayList<>(forecastDates.size());
+
+        double forecastMin = stationRegistry.forecastTemperatureMin(station);
+        double forecastMax = stationRegistry.forecastTemperatureMax(station);
+        double temperatureMax = stationRegistry.temperatureMax(station);
 
+        boolean deterministic = dataGenerator.isDeterministic();
+        for (int day = 0; day < forecastDates.size(); day++) {
+            ForecastDay forecastDay = deterministic
+                    ? seededForecastDay(station, forecastDates.get(day), today.plusDays(day + 1L).toEpochDay(),
+                            forecastMin, forecastMax, temperatureMax)
+                    : randomForecastDay(forecastDates.get(day), forecastMin, forecastMax, temperatureMax);
             forecast.add(forecastDay);
         }
 
         return ForecastResponse.builder()
-                .city(weatherConfig.getCity().getName())
-                .generatedAt(dataGenerator.generateCurrentTimestamp())
+                .city(stationRegistry.name(station))
+                .generatedAt(deterministic
+                        ? today.atStartOfDay().format(dataGenerator.getPlan().getTimestampFormatter())
+                        : dataGenerator.generateCurrentTimestamp())
                 .forecast(forecast)
                 .build();
     }
+
+    private ForecastDay randomForecastDay(String date, double forecastMin, double forecastMax, double temperatureMax) {
+        double tempMin = dataGenerator.generateTempMin(forecastMin, forecastMax);
+        double tempMax = dataGenerator.generateTempMax(tempMin, temperatureMax);
+
+        return ForecastDay.builder()
+                .date(date)
+                .tempMin(tempMin)
+                .tempMax(tempMax)
+                .condition(dataGenerator.generateCondition())
+                .precipitation(dataGenerator.generatePrecipitation())
+                .build();
+    }
+
+    /**
+     * Keyed by the forecast date rather than the issue date, so a day's forecast does not
+     * change as it moves closer.
+     */
+    private ForecastDay seededForecastDay(int station, String date, long epochDay,
+                                          double forecastMin, double forecastMax, double temperatureMax) {
+        long key = stationRegistry.seedKey(station);
+        double tempMin = dataGenerator.generateTempMin(
+                dataGenerator.seeded(key, epochDay, GeneratedField.FORECAST_TEMP_MIN), forecastMin, forecastMax);
+        double tempMax = dataGenerator.generateTempMax(
+                dataGenerator.seeded(key, epochDay, GeneratedField.FORECAST_TEMP_MAX), tempMin, temperatureMax);
+
+        return ForecastDay.builder()
+                .date(date)
+                .tempMin(tempMin)
+                .tempMax(tempMax)
+                .condition(dataGenerator.generateCondition(
+                        dataGenerator.seeded(key, epochDay, GeneratedField.FORECAST_CONDITION)))
+                .precipitation(dataGenerator.generatePrecipitation(
+                        dataGenerator.seeded(key, epochDay, GeneratedField.PRECIPITATION)))
+                .build();
+    }
 }
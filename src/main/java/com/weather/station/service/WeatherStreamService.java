@@ -0,0 +1,112 @@
+package com.weather.station.service;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import com.weather.station.simulation.WeatherSnapshot;
+import com.weather.station.stream.ReadingBroadcaster;
+import com.weather.station.stream.ReadingSink;
+import com.weather.station.stream.ReadingSubscription;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Opens Server-Sent Event streams of the live readings of a station.
+ * <p>
+ * Each stream is a {@link ReadingSubscription} on the {@link ReadingBroadcaster}: it starts
+ * with the latest reading and then receives one {@code reading} event per simulation tick
+ * and per accepted sensor reading, or the newest reading only if the client fell behind. A
+ * reading is serialized once per station and sequence and the same JSON is written to every
+ * subscriber. While the simulation is disabled, only sensor readings are pushed after the
+ * first event.
+ * </p>
+ * <p>
+ * The initial reading is offered after the subscription is registered, so a reading published
+ * in between is not lost; since the subscription never lets an older reading replace a newer
+ * pending one, the initial reading cannot displace it either.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Service
+public class WeatherStreamService {
+
+    static final String EVENT_NAME = "reading";
+
+    private final ReadingBroadcaster broadcaster;
+    private final WeatherSimulationEngine simulationEngine;
+    private final StationRegistry stationRegistry;
+    private final JsonMapper jsonMapper;
+    private final long timeoutMillis;
+    private final AtomicReferenceArray<RenderedReading> rendered;
+
+    public WeatherStreamService(ReadingBroadcaster broadcaster, WeatherSimulationEngine simulationEngine,
+                                StationRegistry stationRegistry, JsonMapper jsonMapper, WeatherConfig config) {
+        this.broadcaster = broadcaster;
+        this.simulationEngine = simulationEngine;
+        this.stationRegistry = stationRegistry;
+        this.jsonMapper = jsonMapper;
+        this.timeoutMillis = config.getStream().getTimeout().toMillis();
+        this.rendered = new AtomicReferenceArray<>(stationRegistry.size());
+    }
+
+    /**
+     * Opens a live stream for the given city.
+     *
+     * @param city the city name, case-insensitive
+     * @return emitter completed when the client disconnects or the stream times out
+     * @throws com.weather.station.exception.StationNotFoundException if the city is unknown
+     * @throws com.weather.station.exception.StreamCapacityExceededException if the subscriber limit is reached
+     */
+    public SseEmitter subscribe(String city) {
+        int station = stationRegistry.require(city);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        ReadingSubscription subscription = broadcaster.subscribe(station, new EmitterSink(station, emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(ex -> subscription.cancel());
+        subscription.offer(simulationEngine.snapshot(station));
+        return emitter;
+    }
+
+    private String render(int station, WeatherSnapshot snapshot) {
+        RenderedReading current = rendered.get(station);
+        if (current != null && current.sequence() == snapshot.sequence()) {
+            return current.json();
+        }
+        String json = jsonMapper.writeValueAsString(snapshot.toResponse(stationRegistry.name(station)));
+        rendered.set(station, new RenderedReading(snapshot.sequence(), json));
+        return json;
+    }
+
+    private record RenderedReading(long sequence, String json) {
+    }
+
+    private final class EmitterSink implements ReadingSink {
+
+        private final int station;
+        private final SseEmitter emitter;
+
+        private EmitterSink(int station, SseEmitter emitter) {
+            this.station = station;
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(WeatherSnapshot snapshot) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(snapshot.sequence()))
+                    .name(EVENT_NAME)
+                    .data(render(station, snapshot)));
+        }
+
+        @Override
+        public void failed(Exception ex) {
+            emitter.completeWithError(ex);
+        }
+    }
+}
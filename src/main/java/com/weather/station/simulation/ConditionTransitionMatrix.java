@@ -0,0 +1,98 @@
+package com.weather.station.simulation;
+
+import com.weather.station.model.enums.WeatherCondition;
+
+/**
+ * First-order Markov chain over {@link WeatherCondition}.
+ * <p>
+ * Each row holds the cumulative probability of moving from one condition to every other.
+ * The self-transition probability is the configured persistence; the remaining mass is
+ * spread over the other conditions according to fixed relative weights that favour
+ * plausible changes (e.g. CLOUDY to RAINY) over unlikely ones (e.g. FOGGY to STORMY).
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class ConditionTransitionMatrix {
+
+    private static final WeatherCondition[] CONDITIONS = WeatherCondition.values();
+
+    /**
+     * Relative transition weights, indexed by [from][to] in {@link WeatherCondition} ordinal
+     * order: SUNNY, CLOUDY, RAINY, STORMY, SNOWY, FOGGY, WINDY. Diagonal entries are ignored.
+     */
+    private static final double[][] WEIGHTS = {
+            {0.0, 5.0, 1.0, 0.2, 0.3, 1.0, 2.0},
+            {4.0, 0.0, 3.0, 0.5, 1.0, 1.0, 1.5},
+            {1.0, 5.0, 0.0, 2.0, 0.5, 1.0, 1.0},
+            {0.2, 2.0, 5.0, 0.0, 0.3, 0.2, 2.0},
+            {1.0, 4.0, 1.0, 0.3, 0.0, 1.0, 1.0},
+            {3.0, 4.0, 1.0, 0.1, 0.5, 0.0, 0.5},
+            {2.0, 3.0, 1.0, 1.5, 0.5, 0.2, 0.0}
+    };
+
+    private final double[][] cumulative;
+
+    /**
+     * Creates a transition matrix with the given self-transition probability.
+     *
+     * @param persistence probability of keeping the current condition, in [0, 1]
+     * @throws IllegalArgumentException if persistence is outside [0, 1]
+     */
+    public ConditionTransitionMatrix(double persistence) {
+        if (persistence < 0.0 || persistence > 1.0) {
+            throw new IllegalArgumentException("Condition persistence must be within [0, 1]: " + persistence);
+        }
+        int n = CONDITIONS.length;
+        this.cumulative = new double[n][n];
+
+        for (int from = 0; from < n; from++) {
+            double offDiagonalTotal = 0.0;
+            for (int to = 0; to < n; to++) {
+                if (to != from) {
+                    offDiagonalTotal += WEIGHTS[from][to];
+                }
+            }
+
+            double running = 0.0;
+            for (int to = 0; to < n; to++) {
+                double probability = to == from
+                        ? persistence
+                        : (1.0 - persistence) * WEIGHTS[from][to] / offDiagonalTotal;
+                running += probability;
+                cumulative[from][to] = running;
+            }
+            cumulative[from][n - 1] = 1.0;
+        }
+    }
+
+    /**
+     * Samples the next condition.
+     *
+     * @param current the current condition
+     * @param uniform a uniformly distributed value in [0, 1)
+     * @return the next condition
+     */
+    public WeatherCondition next(WeatherCondition current, double uniform) {
+        double[] row = cumulative[current.ordinal()];
+        for (int to = 0; to < row.length; to++) {
+            if (uniform < row[to]) {
+                return CONDITIONS[to];
+            }
+        }
+        return CONDITIONS[row.length - 1];
+    }
+
+    /**
+     * Returns the probability of moving from one condition to another.
+     *
+     * @param from the current condition
+     * @param to   the next condition
+     * @return transition probability
+     */
+    public double probability(WeatherCondition from, WeatherCondition to) {
+        double[] row = cumulative[from.ordinal()];
+        int index = to.ordinal();
+        return index == 0 ? row[0] : row[index] - row[index - 1];
+    }
+}
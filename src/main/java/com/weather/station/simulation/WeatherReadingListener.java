@@ -0,0 +1,22 @@
+package com.weather.station.simulation;
+
+/**
+ * Receives every reading published for a station.
+ * <p>
+ * Listeners are invoked synchronously on the publishing thread, so implementations must be
+ * fast and must not block. Exceptions are logged and do not affect other listeners.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface WeatherReadingListener {
+
+    /**
+     * Called after a new snapshot has been published for a station.
+     *
+     * @param station  the station index
+     * @param snapshot the newly published snapshot
+     */
+    void onReading(int station, WeatherSnapshot snapshot);
+}
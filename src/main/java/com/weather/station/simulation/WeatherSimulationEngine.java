@@ -0,0 +1,320 @@
+package com.weather.station.simulation;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.GeneratedField;
+import com.weather.station.service.GenerationPlan;
+import com.weather.station.service.WeatherDataGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Background engine that evolves the state of every registered station on a fixed tick.
+ * <p>
+ * Temperature, humidity and wind speed follow mean-reverting first-order autoregressive
+ * models around the midpoint of each station's ranges, so consecutive readings drift
+ * smoothly instead of jumping across the whole range. The weather condition moves through
+ * a {@link ConditionTransitionMatrix}.
+ * </p>
+ * <p>
+ * Mutable state is kept in primitive arrays indexed by station and is only touched by one
+ * tick at a time: with virtual threads enabled the scheduler may start each tick on a new
+ * thread and, under load, before the previous one returned, so a tick that finds another in
+ * progress is skipped. After each tick a new immutable {@link WeatherSnapshot} is published per
+ * station, so readers perform a single volatile read, never block and never pay the
+ * generation cost. Every published snapshot is also handed to the registered
+ * {@link WeatherReadingListener}s, except the initial ones while the simulation is disabled:
+ * those are never served, and recording them would add a synthetic reading per station to the
+ * history on every restart.
+ * </p>
+ * <p>
+ * In deterministic mode the random walk is replaced by the values
+ * {@link WeatherDataGenerator#seeded(long, long, GeneratedField) seeded} by the time bucket.
+ * They are published once per bucket, by the first tick that falls into it, and stamped with
+ * the bucket start, so every node records exactly one identical reading per bucket into history
+ * and rollups. A sensor that falls silent is therefore replaced when the next bucket starts.
+ * </p>
+ * <p>
+ * Timestamps are formatted as local time in each station's time zone.
+ * </p>
+ * <p>
+ * Readings measured by real sensors are {@link #publishSensorReading published} through the same
+ * path. While a station has received a sensor reading within {@code weather.ingest.sensor-timeout}
+ * its sensor is live: ticks keep evolving its simulated state but no longer publish it, so the
+ * latest snapshot is always the measured one. Once the sensor falls silent the simulation takes
+ * over again.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Component
+@Slf4j
+public class WeatherSimulationEngine {
+
+    private static final WeatherCondition[] CONDITIONS = WeatherCondition.values();
+
+    private final WeatherDataGenerator generator;
+    private final GenerationPlan plan;
+    private final StationRegistry stations;
+    private final WeatherConfig.SimulationConfig settings;
+    private final ConditionTransitionMatrix transitions;
+    private final List<WeatherReadingListener> listeners;
+    private final ReentrantLock tickLock = new ReentrantLock();
+
+    private final double[] temperature;
+    private final double[] humidity;
+    private final double[] windSpeed;
+    private final byte[] condition;
+    private final AtomicLong sequence = new AtomicLong();
+    private long publishedBucket;
+
+    private final AtomicReferenceArray<WeatherSnapshot> snapshots;
+    private final AtomicLongArray sensorReceivedAt;
+    private final long sensorTimeoutMillis;
+
+    public WeatherSimulationEngine(WeatherDataGenerator dataGenerator, WeatherConfig config,
+                                   StationRegistry stations, List<WeatherReadingListener> listeners) {
+        this.generator = dataGenerator;
+        this.plan = dataGenerator.getPlan();
+        this.stations = stations;
+        this.settings = config.getSimulation();
+        this.transitions = new ConditionTransitionMatrix(settings.getConditionPersistence());
+        this.listeners = List.copyOf(listeners);
+
+        int size = stations.size();
+        this.temperature = new double[size];
+        this.humidity = new double[size];
+        this.windSpeed = new double[size];
+        this.condition = new byte[size];
+        this.snapshots = new AtomicReferenceArray<>(size);
+        this.sensorReceivedAt = new AtomicLongArray(size);
+        this.sensorTimeoutMillis = config.getIngest().getSensorTimeout().toMillis();
+
+        long now = System.currentTimeMillis();
+        if (dataGenerator.isDeterministic()) {
+            publishedBucket = dataGenerator.timeBucket(now);
+            seed(publishedBucket);
+            now = dataGenerator.timeBucketStart(publishedBucket);
+        } else {
+            for (int i = 0; i < size; i++) {
+                temperature[i] = dataGenerator.generateTemperature(stations.temperatureMin(i), stations.temperatureMax(i));
+                humidity[i] = dataGenerator.generateHumidity(stations.humidityMin(i), stations.humidityMax(i));
+                windSpeed[i] = dataGenerator.generateWindSpeed(stations.windSpeedMin(i), stations.windSpeedMax(i));
+                condition[i] = (byte) dataGenerator.generateCondition().ordinal();
+            }
+        }
+        publish(0, now, settings.isEnabled());
+    }
+
+    /**
+     * Indicates whether readings should be served from the simulation.
+     *
+     * @return true if the simulation is enabled
+     */
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+
+    /**
+     * Returns the most recently published reading of the default station.
+     *
+     * @return latest snapshot, never null
+     */
+    public WeatherSnapshot snapshot() {
+        return snapshot(StationRegistry.DEFAULT_STATION);
+    }
+
+    /**
+     * Returns the most recently published reading of a station.
+     *
+     * @param station the station index
+     * @return latest snapshot, never null
+     */
+    public WeatherSnapshot snapshot(int station) {
+        return snapshots.get(station);
+    }
+
+    /**
+     * Indicates whether a station's latest readings come from a real sensor, i.e. one was
+     * published within the sensor timeout.
+     *
+     * @param station the station index
+     * @return true if the station's sensor is live
+     */
+    public boolean hasLiveSensor(int station) {
+        return isLive(station, System.currentTimeMillis());
+    }
+
+    /**
+     * Publishes a reading measured by a station's sensor and marks the sensor live.
+     * <p>
+     * Every reading is handed to the listeners, so history and rollups record it. The first
+     * reading of a silent sensor always replaces the simulated snapshot; after that, only
+     * readings not older than the latest snapshot do, so late or out-of-order readings never
+     * roll the current weather back.
+     * </p>
+     *
+     * @param station     the station index
+     * @param epochMillis time the reading was measured
+     * @param temperature temperature in °C
+     * @param humidity    humidity percentage
+     * @param windSpeed   wind speed in km/h
+     * @param condition   weather condition
+     */
+    public void publishSensorReading(int station, long epochMillis, double temperature, int humidity,
+                                     double windSpeed, WeatherCondition condition) {
+        long now = System.currentTimeMillis();
+        long previous = sensorReceivedAt.getAndSet(station, now);
+        boolean wasLive = previous != 0 && now - previous < sensorTimeoutMillis;
+        WeatherSnapshot snapshot = new WeatherSnapshot(
+                sequence.incrementAndGet(),
+                epochMillis,
+                format(epochMillis, stations.timezone(station)),
+                plan.round(temperature),
+                humidity,
+                plan.round(windSpeed),
+                condition);
+        if (!wasLive || epochMillis >= snapshots.get(station).epochMillis()) {
+            snapshots.set(station, snapshot);
+        }
+        notifyListeners(station, snapshot);
+    }
+
+    /**
+     * Advances every station by one step and publishes new snapshots.
+     */
+    @Scheduled(fixedRateString = "${weather.simulation.tick-millis}")
+    public void tick() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        if (!tickLock.tryLock()) {
+            log.debug("Skipping simulation tick, previous tick still running");
+            return;
+        }
+        try {
+            advance();
+        } finally {
+            tickLock.unlock();
+        }
+    }
+
+    private void advance() {
+        if (generator.isDeterministic()) {
+            long bucket = generator.timeBucket(System.currentTimeMillis());
+            if (bucket != publishedBucket) {
+                publishedBucket = bucket;
+                seed(bucket);
+                publish(sequence.incrementAndGet(), generator.timeBucketStart(bucket), true);
+            }
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double persistence = settings.getPersistence();
+        double temperatureVolatility = settings.getTemperatureVolatility();
+        double humidityVolatility = settings.getHumidityVolatility();
+        double windSpeedVolatility = settings.getWindSpeedVolatility();
+
+        for (int i = 0; i < temperature.length; i++) {
+            temperature[i] = step(temperature[i], stations.temperatureMin(i), stations.temperatureMax(i),
+                    persistence, temperatureVolatility, random.nextGaussian());
+            humidity[i] = step(humidity[i], stations.humidityMin(i), stations.humidityMax(i),
+                    persistence, humidityVolatility, random.nextGaussian());
+            windSpeed[i] = step(windSpeed[i], stations.windSpeedMin(i), stations.windSpeedMax(i),
+                    persistence, windSpeedVolatility, random.nextGaussian());
+            condition[i] = (byte) transitions.next(CONDITIONS[condition[i]], random.nextDouble()).ordinal();
+        }
+        long tick = sequence.incrementAndGet();
+
+        publish(tick, System.currentTimeMillis(), true);
+        log.trace("Published simulation tick {} for {} stations", tick, temperature.length);
+    }
+
+    /**
+     * Sets every station to the deterministic values of a time bucket.
+     */
+    private void seed(long bucket) {
+        for (int i = 0; i < temperature.length; i++) {
+            long key = stations.seedKey(i);
+            temperature[i] = generator.generateTemperature(generator.seeded(key, bucket, GeneratedField.TEMPERATURE),
+                    stations.temperatureMin(i), stations.temperatureMax(i));
+            humidity[i] = generator.generateHumidity(generator.seeded(key, bucket, GeneratedField.HUMIDITY),
+                    stations.humidityMin(i), stations.humidityMax(i));
+            windSpeed[i] = generator.generateWindSpeed(generator.seeded(key, bucket, GeneratedField.WIND_SPEED),
+                    stations.windSpeedMin(i), stations.windSpeedMax(i));
+            condition[i] = (byte) generator.generateCondition(
+                    generator.seeded(key, bucket, GeneratedField.CONDITION)).ordinal();
+        }
+    }
+
+    /**
+     * One step of a mean-reverting AR(1) process, clamped to the given range.
+     */
+    static double step(double current, double min, double max,
+                       double persistence, double volatility, double gaussian) {
+        double mean = (min + max) / 2.0;
+        double next = mean + persistence * (current - mean) + volatility * gaussian;
+        return Math.min(max, Math.max(min, next));
+    }
+
+    /**
+     * Publishes the current state of every station without a live sensor, notifying listeners
+     * if {@code notify} is set. Stations share a handful of zones, so each zone's timestamp is
+     * formatted once per tick.
+     */
+    private void publish(long tick, long epochMillis, boolean notify) {
+        long now = System.currentTimeMillis();
+        Map<ZoneId, String> timestamps = new HashMap<>();
+        for (int i = 0; i < temperature.length; i++) {
+            if (isLive(i, now)) {
+                continue;
+            }
+            WeatherSnapshot snapshot = new WeatherSnapshot(
+                    tick,
+                    epochMillis,
+                    timestamps.computeIfAbsent(stations.timezone(i), zone -> format(epochMillis, zone)),
+                    plan.round(temperature[i]),
+                    (int) Math.round(humidity[i]),
+                    plan.round(windSpeed[i]),
+                    CONDITIONS[condition[i]]);
+            snapshots.set(i, snapshot);
+            if (notify) {
+                notifyListeners(i, snapshot);
+            }
+        }
+    }
+
+    private boolean isLive(int station, long now) {
+        long receivedAt = sensorReceivedAt.get(station);
+        return receivedAt != 0 && now - receivedAt < sensorTimeoutMillis;
+    }
+
+    private String format(long epochMillis, ZoneId zone) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone)
+                .format(plan.getTimestampFormatter());
+    }
+
+    private void notifyListeners(int station, WeatherSnapshot snapshot) {
+        for (WeatherReadingListener listener : listeners) {
+            try {
+                listener.onReading(station, snapshot);
+            } catch (RuntimeException ex) {
+                log.error("Reading listener {} failed for station {}", listener, station, ex);
+            }
+        }
+    }
+}
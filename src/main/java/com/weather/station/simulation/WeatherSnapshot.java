@@ -0,0 +1,44 @@
+package com.weather.station.simulation;
+
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.enums.WeatherCondition;
+
+/**
+ * Immutable reading published by the {@link WeatherSimulationEngine} on every tick.
+ *
+ * @param sequence    monotonically increasing publication number: the tick number for simulated
+ *                    readings, a fresh number for each sensor reading; starts at 0
+ * @param epochMillis wall-clock time at which the reading was produced
+ * @param timestamp   pre-formatted timestamp as exposed by the API
+ * @param temperature temperature in °C
+ * @param humidity    humidity percentage
+ * @param windSpeed   wind speed in km/h
+ * @param condition   current weather condition
+ * @since 1.1.0
+ */
+public record WeatherSnapshot(
+        long sequence,
+        long epochMillis,
+        String timestamp,
+        double temperature,
+        int humidity,
+        double windSpeed,
+        WeatherCondition condition) {
+
+    /**
+     * Converts this snapshot into the API response for the given city.
+     *
+     * @param city the city name to report
+     * @return current weather response
+     */
+    public CurrentWeatherResponse toResponse(String city) {
+        return CurrentWeatherResponse.builder()
+                .city(city)
+                .timestamp(timestamp)
+                .temperature(temperature)
+                .humidity(humidity)
+                .windSpeed(windSpeed)
+                .condition(condition)
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.weather.station.stream;
+
+import com.weather.station.exception.StreamCapacityExceededException;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.simulation.WeatherReadingListener;
+import com.weather.station.simulation.WeatherSnapshot;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fans every published reading out to the live subscribers of its station.
+ * <p>
+ * Runs as a {@link WeatherReadingListener} on the simulation thread, so its only work per
+ * subscriber is an atomic swap of the subscription's pending slot; writing to clients happens
+ * on the {@code sender} executor, one delivery in flight per subscription. A slow or stalled
+ * client therefore costs the publisher nothing and only misses intermediate readings (see
+ * {@link ReadingSubscription}). Subscriber sets are allocated per station on first use.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Slf4j
+public class ReadingBroadcaster implements WeatherReadingListener {
+
+    private final Executor sender;
+    private final int maxSubscribers;
+    private final AtomicReferenceArray<Set<ReadingSubscription>> subscribers;
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Creates a broadcaster.
+     *
+     * @param stations       the station registry
+     * @param sender         executor that writes to clients; tasks may block on slow clients
+     * @param maxSubscribers maximum number of open subscriptions
+     * @throws IllegalArgumentException if {@code maxSubscribers} is negative
+     */
+    public ReadingBroadcaster(StationRegistry stations, Executor sender, int maxSubscribers) {
+        if (maxSubscribers < 0) {
+            throw new IllegalArgumentException("maxSubscribers must not be negative: " + maxSubscribers);
+        }
+        this.sender = sender;
+        this.maxSubscribers = maxSubscribers;
+        this.subscribers = new AtomicReferenceArray<>(stations.size());
+    }
+
+    /**
+     * Subscribes a sink to every reading published for a station from now on.
+     *
+     * @param station the station index
+     * @param sink    destination of the readings
+     * @return the subscription, to be cancelled when the client goes away
+     * @throws StreamCapacityExceededException if the subscriber limit is reached
+     */
+    public ReadingSubscription subscribe(int station, ReadingSink sink) {
+        if (size.incrementAndGet() > maxSubscribers) {
+            size.decrementAndGet();
+            throw new StreamCapacityExceededException(maxSubscribers);
+        }
+        ReadingSubscription subscription = new ReadingSubscription(this, station, sink);
+        stationSubscribers(station).add(subscription);
+        return subscription;
+    }
+
+    @Override
+    public void onReading(int station, WeatherSnapshot snapshot) {
+        Set<ReadingSubscription> current = subscribers.get(station);
+        if (current == null) {
+            return;
+        }
+        for (ReadingSubscription subscription : current) {
+            subscription.offer(snapshot);
+        }
+    }
+
+    /**
+     * Returns the current counters.
+     *
+     * @return point-in-time statistics
+     */
+    public StreamStats stats() {
+        return new StreamStats(size.get(), delivered.sum(), conflated.sum(), failed.sum());
+    }
+
+    void schedule(ReadingSubscription subscription) {
+        try {
+            sender.execute(subscription::drain);
+        } catch (RejectedExecutionException ex) {
+            log.debug("Stream sender rejected delivery for station {}, cancelling", subscription.station());
+            subscription.cancel();
+        }
+    }
+
+    void remove(ReadingSubscription subscription) {
+        Set<ReadingSubscription> current = subscribers.get(subscription.station());
+        if (current != null && current.remove(subscription)) {
+            size.decrementAndGet();
+        }
+    }
+
+    void delivered() {
+        delivered.increment();
+    }
+
+    void conflated() {
+        conflated.increment();
+    }
+
+    void failed() {
+        failed.increment();
+    }
+
+    private Set<ReadingSubscription> stationSubscribers(int station) {
+        Set<ReadingSubscription> current = subscribers.get(station);
+        if (current != null) {
+            return current;
+        }
+        Set<ReadingSubscription> created = ConcurrentHashMap.newKeySet();
+        Set<ReadingSubscription> witness = subscribers.compareAndExchange(station, null, created);
+        return witness != null ? witness : created;
+    }
+}
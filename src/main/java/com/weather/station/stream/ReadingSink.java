@@ -0,0 +1,34 @@
+package com.weather.station.stream;
+
+import com.weather.station.simulation.WeatherSnapshot;
+
+import java.io.IOException;
+
+/**
+ * Destination of a {@link ReadingSubscription}, typically one open client connection.
+ * <p>
+ * Called from a sender thread of the {@link ReadingBroadcaster}, never from the publishing
+ * thread, and never concurrently for the same subscription. A sink may block while the client
+ * is slow; readings published meanwhile are conflated.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public interface ReadingSink {
+
+    /**
+     * Delivers a reading to the client.
+     *
+     * @param snapshot the reading
+     * @throws IOException if the client can no longer be written to; the subscription is cancelled
+     */
+    void send(WeatherSnapshot snapshot) throws IOException;
+
+    /**
+     * Called once when the subscription is cancelled because {@link #send} failed.
+     *
+     * @param ex the failure
+     */
+    default void failed(Exception ex) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.weather.station.stream;
+
+import com.weather.station.simulation.WeatherSnapshot;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * One client's subscription to the readings of a station.
+ * <p>
+ * The per-subscriber buffer is a single slot holding the newest undelivered reading. The
+ * publisher only swaps that slot and, if no delivery is in flight, schedules one on the
+ * broadcaster's sender executor, so it never waits for the client. While a slow client is
+ * still being written to, newer readings replace the pending one (conflation); an offer older
+ * than the pending reading is dropped instead. The client always ends up with the latest
+ * reading and never receives one out of order.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+public final class ReadingSubscription {
+
+    private final ReadingBroadcaster broadcaster;
+    private final int station;
+    private final ReadingSink sink;
+
+    private final AtomicReference<WeatherSnapshot> pending = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    /** Only touched by the single in-flight delivery. */
+    private long lastSequence = -1;
+
+    ReadingSubscription(ReadingBroadcaster broadcaster, int station, ReadingSink sink) {
+        this.broadcaster = broadcaster;
+        this.station = station;
+        this.sink = sink;
+    }
+
+    /**
+     * Returns the station this subscription follows.
+     *
+     * @return the station index
+     */
+    public int station() {
+        return station;
+    }
+
+    /**
+     * Queues a reading for delivery, replacing any older reading the client has not taken yet.
+     * A reading no newer than the pending one is dropped. Never blocks.
+     *
+     * @param snapshot the reading
+     */
+    public void offer(WeatherSnapshot snapshot) {
+        if (cancelled.get()) {
+            return;
+        }
+        WeatherSnapshot replaced;
+        do {
+            replaced = pending.get();
+            if (replaced != null && replaced.sequence() >= snapshot.sequence()) {
+                return;
+            }
+        } while (!pending.compareAndSet(replaced, snapshot));
+        if (replaced != null) {
+            broadcaster.conflated();
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            broadcaster.schedule(this);
+        }
+    }
+
+    /**
+     * Stops delivery and removes the subscription from its broadcaster. Idempotent.
+     */
+    public void cancel() {
+        if (cancelled.compareAndSet(false, true)) {
+            pending.set(null);
+            broadcaster.remove(this);
+        }
+    }
+
+    /**
+     * Indicates whether the subscription has been cancelled.
+     *
+     * @return true once cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    /**
+     * Delivers pending readings until the slot is empty. Runs on a sender thread.
+     */
+    void drain() {
+        while (true) {
+            WeatherSnapshot snapshot = pending.getAndSet(null);
+            if (snapshot == null) {
+                scheduled.set(false);
+                // a reading offered after the swap above but before the reset would otherwise be stranded
+                if (pending.get() == null || !scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            if (cancelled.get()) {
+                return;
+            }
+            if (snapshot.sequence() <= lastSequence) {
+                continue;
+            }
+            try {
+                sink.send(snapshot);
+            } catch (IOException | RuntimeException ex) {
+                broadcaster.failed();
+                cancel();
+                sink.failed(ex);
+                return;
+            }
+            lastSequence = snapshot.sequence();
+            broadcaster.delivered();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.weather.station.stream;
+
+/**
+ * Point-in-time counters of a {@link ReadingBroadcaster}.
+ *
+ * @param subscribers currently open subscriptions
+ * @param delivered   readings handed to sinks
+ * @param conflated   readings replaced by a newer one before a slow sink could take them
+ * @param failed      subscriptions cancelled because their sink failed
+ * @since 1.1.0
+ */
+public record StreamStats(int subscribers, long delivered, long conflated, long failed) {
+}
@@ -0,0 +1,87 @@
+package com.weather.station.version;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Validators of a response: a strong entity tag and its last-modified time.
+ * <p>
+ * Versions are derived from what the response is built from, so they can be read without
+ * building or serializing the response. Tags of responses built from in-memory state carry an
+ * identifier of this process, because sequence numbers restart with it and would otherwise
+ * repeat for different content. Tags of seeded responses depend only on the seed and the key
+ * the values were drawn for, so replicas sharing the configuration agree on them.
+ * </p>
+ * <p>
+ * A version identifies content, not bytes: a strong tag must differ between the JSON and
+ * binary encodings of the same content, so responses send the tag of
+ * {@link #forRepresentation(String) their representation}.
+ * </p>
+ *
+ * @param etag               quoted strong entity tag
+ * @param lastModifiedMillis when the content was produced, epoch millis
+ * @since 1.1.0
+ */
+public record ResponseVersion(String etag, long lastModifiedMillis) {
+
+    private static final String INSTANCE = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+
+    /**
+     * Creates the version of content identified by a sequence number that is unique within this
+     * process.
+     *
+     * @param kind               distinguishes sequences of different kinds of content
+     * @param sequence           the content's sequence number
+     * @param lastModifiedMillis when the content was produced, epoch millis
+     * @return the version
+     */
+    public static ResponseVersion ofSequence(char kind, long sequence, long lastModifiedMillis) {
+        return new ResponseVersion('"' + INSTANCE + '-' + kind + Long.toString(sequence, 36) + '"',
+                lastModifiedMillis);
+    }
+
+    /**
+     * Creates the version of content drawn from a seeded generator.
+     *
+     * @param kind               distinguishes keys of different kinds of content
+     * @param seed               the configured seed
+     * @param key                the time bucket or day the content was drawn for
+     * @param lastModifiedMillis start of that bucket or day, epoch millis
+     * @return the version
+     */
+    public static ResponseVersion ofSeed(char kind, long seed, long key, long lastModifiedMillis) {
+        return new ResponseVersion('"' + Long.toHexString(seed) + '-' + kind + Long.toString(key, 36) + '"',
+                lastModifiedMillis);
+    }
+
+    /**
+     * Returns the version of one representation of this content, whose tag ends in the given
+     * suffix.
+     *
+     * @param representation short identifier of the representation, e.g. {@code j} for JSON
+     * @return the representation's version
+     */
+    public ResponseVersion forRepresentation(String representation) {
+        return new ResponseVersion(etag.substring(0, etag.length() - 1) + '-' + representation + '"',
+                lastModifiedMillis);
+    }
+
+    /**
+     * Evaluates the validators a client sent against this version, following RFC 9110: when
+     * {@code If-None-Match} is present it alone decides, otherwise {@code If-Modified-Since} is
+     * compared at the one-second resolution of HTTP dates.
+     *
+     * @param ifNoneMatch     entity tags from {@code If-None-Match}, possibly weak or {@code *}
+     * @param ifModifiedSince {@code If-Modified-Since} as epoch millis, or -1 if absent
+     * @return true if the client's copy is current and a 304 can be sent
+     */
+    public boolean notModified(Iterable<String> ifNoneMatch, long ifModifiedSince) {
+        boolean conditional = false;
+        for (String tag : ifNoneMatch) {
+            conditional = true;
+            if (tag.equals("*") || etag.equals(tag.startsWith("W/") ? tag.substring(2) : tag)) {
+                return true;
+            }
+        }
+        return !conditional && ifModifiedSince >= 0 && ifModifiedSince >= lastModifiedMillis / 1000 * 1000;
+    }
+}
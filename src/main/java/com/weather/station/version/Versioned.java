@@ -0,0 +1,12 @@
+package com.weather.station.version;
+
+/**
+ * A response together with the version it was built at.
+ *
+ * @param value   the response
+ * @param version its validators, or null if every response is built afresh and none apply
+ * @param <T>     the response type
+ * @since 1.1.0
+ */
+public record Versioned<T>(T value, ResponseVersion version) {
+}
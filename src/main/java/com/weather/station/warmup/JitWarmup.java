@@ -0,0 +1,143 @@
+package com.weather.station.warmup;
+
+import com.weather.station.metrics.LatencyHistogram;
+import com.weather.station.metrics.WeatherMetrics;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.service.WeatherService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the request hot paths synthetically at startup so the JIT compiles them before real
+ * traffic arrives.
+ * <p>
+ * Each call fetches the current weather and the forecast of the next station in catalog order
+ * through the {@link WeatherService}, exercising the snapshot, cache and generator paths, and
+ * writes both with every response serializer. Calls repeat until {@code iterations} calls are
+ * made or the time budget is spent, whichever comes first. The latency of the first and last
+ * {@code sample} calls is kept to show the difference compilation made. Afterwards the phase
+ * histograms of the {@link WeatherMetrics} are cleared so they only reflect real requests.
+ * </p>
+ * <p>
+ * Forecasts fetched here fill the forecast cache, and the calls count in its hit and miss
+ * statistics.
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@Slf4j
+public final class JitWarmup {
+
+    private final WeatherService weatherService;
+    private final int stations;
+    private final List<Serializer> serializers;
+    private final WeatherMetrics metrics;
+    private final int iterations;
+    private final long budgetNanos;
+    private final int sample;
+    private final LatencyHistogram firstCalls = new LatencyHistogram();
+    private final LatencyHistogram lastCalls = new LatencyHistogram();
+
+    // only updated by the thread running the warm-up
+    private volatile WarmupState state = WarmupState.PENDING;
+    private volatile long calls;
+    private volatile long startNanos;
+    private volatile long durationNanos;
+
+    /**
+     * @param weatherService the service whose paths to warm up
+     * @param stations       number of stations to cycle through
+     * @param serializers    writers of every response format served
+     * @param metrics        metrics whose phase histograms are cleared afterwards
+     * @param iterations     maximum number of calls
+     * @param timeBudget     maximum time to spend
+     * @param sample         number of calls summarised at the start and at the end
+     */
+    public JitWarmup(WeatherService weatherService, int stations, List<Serializer> serializers,
+                     WeatherMetrics metrics, int iterations, Duration timeBudget, int sample) {
+        this.weatherService = weatherService;
+        this.stations = stations;
+        this.serializers = List.copyOf(serializers);
+        this.metrics = metrics;
+        this.iterations = iterations;
+        this.budgetNanos = timeBudget.toNanos();
+        this.sample = Math.max(1, sample);
+    }
+
+    /**
+     * Runs the warm-up on the calling thread. A failing call ends the warm-up early rather than
+     * keeping the instance from becoming ready.
+     *
+     * @return the outcome
+     */
+    public WarmupStats run() {
+        long start = System.nanoTime();
+        startNanos = start;
+        state = WarmupState.RUNNING;
+        long deadline = start + budgetNanos;
+        long[] recent = new long[sample];
+        long count = 0;
+        try {
+            while (count < iterations && System.nanoTime() - deadline < 0) {
+                long callStart = System.nanoTime();
+                call((int) (count % stations));
+                long elapsed = System.nanoTime() - callStart;
+                if (count < sample) {
+                    firstCalls.record(elapsed);
+                }
+                recent[(int) (count % sample)] = elapsed;
+                calls = ++count;
+            }
+            state = WarmupState.COMPLETED;
+        } catch (IOException | RuntimeException ex) {
+            state = WarmupState.FAILED;
+            log.warn("JIT warm-up failed after {} calls", count, ex);
+        } finally {
+            for (int i = 0; i < Math.min(count, sample); i++) {
+                lastCalls.record(recent[i]);
+            }
+            durationNanos = System.nanoTime() - start;
+            metrics.resetPhases();
+        }
+        WarmupStats stats = stats();
+        log.info("JIT warm-up {} after {} calls in {} ms: first calls p50 {} us, last calls p50 {} us",
+                stats.state(), stats.calls(), stats.durationMillis(), stats.firstCalls().p50Micros(),
+                stats.lastCalls().p50Micros());
+        return stats;
+    }
+
+    /**
+     * Returns the current progress; the last-calls summary is filled in once the warm-up ends.
+     *
+     * @return point-in-time statistics
+     */
+    public WarmupStats stats() {
+        WarmupState current = state;
+        long duration = current == WarmupState.RUNNING ? System.nanoTime() - startNanos : durationNanos;
+        return new WarmupStats(current, calls, TimeUnit.NANOSECONDS.toMillis(duration), firstCalls.snapshot(),
+                lastCalls.snapshot());
+    }
+
+    private void call(int station) throws IOException {
+        CurrentWeatherResponse current = weatherService.getCurrentWeather(station);
+        ForecastResponse forecast = weatherService.getForecast(station);
+        for (Serializer serializer : serializers) {
+            serializer.write(current);
+            serializer.write(forecast);
+        }
+    }
+
+    /**
+     * Writes a response body the way one of the served formats does, discarding the output.
+     */
+    @FunctionalInterface
+    public interface Serializer {
+
+        void write(Object value) throws IOException;
+    }
+}
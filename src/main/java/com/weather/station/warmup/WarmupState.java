@@ -0,0 +1,21 @@
+package com.weather.station.warmup;
+
+/**
+ * Progress of the {@link JitWarmup}.
+ *
+ * @since 1.1.0
+ */
+public enum WarmupState {
+
+    /** Not started yet; the application is still starting. */
+    PENDING,
+
+    /** Synthetic calls are running; the instance does not report ready yet. */
+    RUNNING,
+
+    /** Reached the call count or the time budget. */
+    COMPLETED,
+
+    /** Stopped on an exception; the instance reports ready regardless. */
+    FAILED
+}
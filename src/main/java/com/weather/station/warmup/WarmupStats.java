@@ -0,0 +1,18 @@
+package com.weather.station.warmup;
+
+import com.weather.station.metrics.LatencySnapshot;
+
+/**
+ * Outcome of the {@link JitWarmup}.
+ *
+ * @param state          current progress
+ * @param calls          synthetic calls made, each a current weather and a forecast lookup
+ *                       serialized in every response format
+ * @param durationMillis time spent so far
+ * @param firstCalls     latency of the first calls, while the code was still interpreted
+ * @param lastCalls      latency of the last calls, once it was compiled
+ * @since 1.1.0
+ */
+public record WarmupStats(WarmupState state, long calls, long durationMillis, LatencySnapshot firstCalls,
+                          LatencySnapshot lastCalls) {
+}
@@ -0,0 +1,128 @@
+package com.weather.station.binary;
+
+import com.weather.station.model.dto.BatchWeatherResponse;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ForecastDay;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.model.enums.WeatherCondition;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherBinaryCodecTest {
+
+    private final WeatherBinaryEncoder encoder = new WeatherBinaryEncoder(16);
+
+    @Test
+    void shouldRoundTripCurrentWeather() {
+        CurrentWeatherResponse response = currentWeather("Windholm", 0);
+
+        byte[] payload = encode(response);
+
+        assertEquals(response, WeatherBinaryDecoder.decodeCurrentWeather(payload));
+        // header, flags, two length-prefixed strings, two doubles, an int and the condition byte
+        assertEquals(2 + 1 + (2 + 8) + (2 + 19) + 8 + 4 + 8 + 1, payload.length);
+    }
+
+    @Test
+    void shouldRoundTripNullsAndNonAsciiStrings() {
+        for (String city : List.of("", "São Paulo", "Zürich/Nord", "emoji 🌧 cjk 東京")) {
+            CurrentWeatherResponse response = currentWeather(city, 3);
+            assertEquals(response, WeatherBinaryDecoder.decodeCurrentWeather(encode(response)));
+        }
+
+        CurrentWeatherResponse empty = new CurrentWeatherResponse();
+        assertEquals(empty, WeatherBinaryDecoder.decodeCurrentWeather(encode(empty)));
+
+        CurrentWeatherResponse special = new CurrentWeatherResponse("Windholm", null, -0.0, Integer.MIN_VALUE,
+                Double.NaN, WeatherCondition.WINDY);
+        CurrentWeatherResponse decoded = WeatherBinaryDecoder.decodeCurrentWeather(encode(special));
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(decoded.getTemperature()));
+        assertTrue(decoded.getWindSpeed().isNaN());
+        assertEquals(Integer.MIN_VALUE, decoded.getHumidity());
+    }
+
+    @Test
+    void shouldRoundTripForecast() {
+        List<ForecastDay> days = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            days.add(new ForecastDay("2025-01-1" + i, -4.5 + i, 3.25 * i, WeatherCondition.values()[i], i * 10));
+        }
+        days.add(new ForecastDay());
+        ForecastResponse forecast = new ForecastResponse("Windholm", "2025-01-14T00:00:00", days);
+
+        assertEquals(forecast, WeatherBinaryDecoder.decodeForecast(encode(forecast)));
+        assertEquals(new ForecastResponse(), WeatherBinaryDecoder.decodeForecast(encode(new ForecastResponse())));
+        ForecastResponse noDays = new ForecastResponse("Windholm", "2025-01-14T00:00:00", List.of());
+        assertEquals(noDays, WeatherBinaryDecoder.decodeForecast(encode(noDays)));
+    }
+
+    @Test
+    void shouldRoundTripBatchInAFractionOfTheJsonSize() {
+        List<CurrentWeatherResponse> results = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            results.add(currentWeather("Station-" + i, i));
+        }
+        BatchWeatherResponse batch = new BatchWeatherResponse(1002, results, Arrays.asList("Atlantis", null));
+
+        byte[] payload = encode(batch);
+
+        assertEquals(batch, WeatherBinaryDecoder.decodeBatch(payload));
+        // the same readings are about 125 bytes each as JSON
+        assertTrue(payload.length < results.size() * 60, "payload: " + payload.length);
+        assertEquals(new BatchWeatherResponse(), WeatherBinaryDecoder.decodeBatch(encode(new BatchWeatherResponse())));
+    }
+
+    @Test
+    void shouldReuseEncoderAfterReset() {
+        byte[] first = encode(currentWeather("Windholm", 1));
+        encode(currentWeather("A much longer station name that forces the buffer to grow", 2));
+
+        assertArrayEquals(first, encode(currentWeather("Windholm", 1)));
+        assertTrue(WeatherBinaryEncoder.canEncode(BatchWeatherResponse.class));
+        assertFalse(WeatherBinaryEncoder.canEncode(ForecastDay.class));
+    }
+
+    @Test
+    void shouldRejectMalformedMessages() {
+        byte[] payload = encode(currentWeather("Windholm", 0));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> WeatherBinaryDecoder.decode(Arrays.copyOf(payload, payload.length - 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> WeatherBinaryDecoder.decode(Arrays.copyOf(payload, payload.length + 1)));
+        assertThrows(IllegalArgumentException.class, () -> WeatherBinaryDecoder.decodeForecast(payload));
+        assertThrows(IllegalArgumentException.class, () -> WeatherBinaryDecoder.decode(new byte[]{1}));
+
+        byte[] wrongVersion = payload.clone();
+        wrongVersion[0] = 2;
+        assertThrows(IllegalArgumentException.class, () -> WeatherBinaryDecoder.decode(wrongVersion));
+
+        byte[] hugeCount = {WeatherBinaryFormat.VERSION, WeatherBinaryFormat.BATCH, 0, 0, 0, 1, 0x7f, 0, 0, 0};
+        assertThrows(IllegalArgumentException.class, () -> WeatherBinaryDecoder.decode(hugeCount));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> encoder.encode(new ForecastResponse("Windholm", null, Arrays.asList((ForecastDay) null))));
+    }
+
+    private byte[] encode(Object value) {
+        encoder.reset();
+        encoder.encode(value);
+        return encoder.toByteArray();
+    }
+
+    private static CurrentWeatherResponse currentWeather(String city, int seed) {
+        return CurrentWeatherResponse.builder()
+                .city(city)
+                .timestamp("2025-01-14T15:32:00")
+                .temperature(-12.5 + seed * 0.1)
+                .humidity(20 + seed % 80)
+                .windSpeed(seed % 500 / 10.0)
+                .condition(WeatherCondition.values()[seed % WeatherCondition.values().length])
+                .build();
+    }
+}
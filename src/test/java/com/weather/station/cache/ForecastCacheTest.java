@@ -0,0 +1,333 @@
+package com.weather.station.cache;
+
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.registry.StationDefinition;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.version.Versioned;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ForecastCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-14T12:00:00Z"));
+    private final List<String> loads = new ArrayList<>();
+    private final ForecastLoader loader = (station, today) -> {
+        loads.add(station + "@" + today);
+        return ForecastResponse.builder().city("station-" + station).generatedAt(today.toString()).build();
+    };
+
+    private StationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        StationRegistry.Builder builder = StationRegistry.builder(4);
+        List<String> timezones = List.of("UTC", "Asia/Tokyo", "America/New_York", "UTC");
+        for (int i = 0; i < timezones.size(); i++) {
+            builder.add(new StationDefinition("City-" + i, "Fictionaland", timezones.get(i),
+                    -15.0, 35.0, -15.0, 20.0, 20, 100, 0.0, 50.0));
+        }
+        registry = builder.build();
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        ForecastCache cache = new ForecastCache(registry, Duration.ofHours(24), 10, clock);
+
+        ForecastResponse first = cache.get(0, loader);
+        ForecastResponse second = cache.get(0, loader);
+
+        assertSame(first, second);
+        assertEquals(List.of("0@2025-01-14"), loads);
+        assertEquals(new ForecastCacheStats(1, 1, 0, 0, 0, 1), cache.stats());
+        assertEquals(0.5, cache.stats().hitRate());
+    }
+
+    @Test
+    void shouldExpireAfterTtl() {
+        ForecastCache cache = new ForecastCache(registry, Duration.ofMinutes(30), 10, clock);
+
+        cache.get(0, loader);
+        clock.advance(Duration.ofMinutes(29));
+        cache.get(0, loader);
+        clock.advance(Duration.ofMinutes(1));
+        cache.get(0, loader);
+
+        assertEquals(2, loads.size());
+        assertEquals(1, cache.stats().expirations());
+    }
+
+    @Test
+    void shouldRollOverAtStationLocalMidnight() {
+        ForecastCache cache = new ForecastCache(registry, Duration.ofHours(24), 10, clock);
+        // 12:00 UTC is 21:00 in Tokyo and 07:00 in New York
+        cache.get(1, loader);
+        cache.get(2, loader);
+
+        clock.advance(Duration.ofHours(3));
+        cache.get(1, loader);
+        cache.get(2, loader);
+
+        assertEquals(List.of("1@2025-01-14", "2@2025-01-14", "1@2025-01-15"), loads);
+        assertEquals(LocalDate.of(2025, 1, 15).toString(), cache.get(1, loader).getGeneratedAt());
+    }
+
+    @Test
+    void shouldEvictWhenSizeBoundExceeded() {
+        ForecastCache cache = new ForecastCache(registry, Duration.ofHours(24), 2, clock);
+
+        cache.get(0, loader);
+        cache.get(0, loader);
+        cache.get(1, loader);
+        cache.get(2, loader);
+
+        assertEquals(2, cache.stats().size());
+        assertEquals(1, cache.stats().evictions());
+
+        loads.clear();
+        cache.get(2, loader);
+        assertTrue(loads.isEmpty(), "most recently inserted entry must survive eviction");
+    }
+
+    @Test
+    void shouldPassThroughWhenDisabled() {
+        ForecastCache cache = ForecastCache.disabled(registry);
+
+        cache.get(0, loader);
+        cache.get(0, loader);
+
+        assertEquals(2, loads.size());
+        assertEquals(new ForecastCacheStats(0, 2, 0, 0, 0, 0), cache.stats());
+    }
+
+    @Test
+    void shouldKeepVersionUntilEntryIsReplaced() {
+        ForecastCache cache = new ForecastCache(registry, Duration.ofMinutes(30), 10, clock);
+        assertNull(cache.version(0));
+
+        Versioned<ForecastResponse> first = cache.getVersioned(0, loader);
+        assertEquals(first.version(), cache.version(0));
+        assertEquals(first.version(), cache.getVersioned(0, loader).version());
+        assertEquals(clock.millis(), first.version().lastModifiedMillis());
+
+        clock.advance(Duration.ofMinutes(30));
+        assertNull(cache.version(0));
+        Versioned<ForecastResponse> second = cache.getVersioned(0, loader);
+
+        assertNotEquals(first.version().etag(), second.version().etag());
+        assertEquals(second.version(), cache.version(0));
+    }
+
+    @Test
+    void shouldNotVersionWhenDisabled() {
+        ForecastCache cache = ForecastCache.disabled(registry);
+
+        assertNull(cache.getVersioned(0, loader).version());
+        assertNull(cache.version(0));
+    }
+
+    @Test
+    void shouldClearEntries() {
+        ForecastCache cache = new ForecastCache(registry, Duration.ofHours(24), 10, clock);
+        cache.get(0, loader);
+
+        cache.clear();
+        cache.get(0, loader);
+
+        assertEquals(2, loads.size());
+        assertEquals(1, cache.stats().size());
+    }
+
+    @Test
+    void shouldGenerateOnceForConcurrentMisses() throws Exception {
+        assertGeneratedOnce(new ForecastCache(registry, Duration.ofHours(24), 10, clock));
+        assertGeneratedOnce(ForecastCache.disabled(registry, true));
+    }
+
+    @Test
+    void shouldHandLoaderFailureToEveryWaiter() throws Exception {
+        ForecastCache cache = ForecastCache.disabled(registry, true);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger generated = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ForecastResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> cache.get(0, (station, today) -> {
+                    generated.incrementAndGet();
+                    await(release);
+                    throw new IllegalStateException("generator failed");
+                })));
+            }
+            awaitCoalesced(cache, 3);
+            release.countDown();
+
+            for (Future<ForecastResponse> future : futures) {
+                ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+                assertInstanceOf(IllegalStateException.class, ex.getCause());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, generated.get());
+
+        cache.get(0, loader);
+        assertEquals(1, loads.size(), "a failed load must not block later ones");
+    }
+
+    @Test
+    void shouldHandInFlightLoadToAsyncCallersWithoutWaiting() throws Exception {
+        ForecastCache cache = new ForecastCache(registry, Duration.ofHours(24), 10, clock);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ForecastResponse> leader = executor.submit(() -> cache.get(0, (station, today) -> {
+                loading.countDown();
+                await(release);
+                return ForecastResponse.builder().city("station-" + station).build();
+            }));
+            await(loading);
+
+            CompletableFuture<Versioned<ForecastResponse>> joined = cache.getVersionedAsync(0, loader);
+
+            assertFalse(joined.isDone());
+            assertEquals(1, cache.stats().coalesced());
+            release.countDown();
+            assertSame(leader.get(10, TimeUnit.SECONDS), joined.get(10, TimeUnit.SECONDS).value());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(loads.isEmpty());
+
+        CompletableFuture<Versioned<ForecastResponse>> hit = cache.getVersionedAsync(0, loader);
+        assertTrue(hit.isDone());
+        assertNotNull(hit.join().version());
+        assertEquals(1, cache.stats().hits());
+    }
+
+    @Test
+    void shouldGenerateForEveryConcurrentMissWithoutCoalescing() throws Exception {
+        ForecastCache cache = new ForecastCache(registry, Duration.ofHours(24), 10, clock, false);
+        int threads = 4;
+        // every loader waits for all the others, which only completes if none of them is shared
+        CountDownLatch allLoading = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<ForecastResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> cache.get(0, (station, today) -> {
+                    allLoading.countDown();
+                    await(allLoading);
+                    return ForecastResponse.builder().city("station-" + station).build();
+                })));
+            }
+            for (Future<ForecastResponse> future : futures) {
+                assertNotNull(future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads, cache.stats().misses());
+        assertEquals(0, cache.stats().coalesced());
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new ForecastCache(registry, Duration.ZERO, 10, clock));
+        assertThrows(IllegalArgumentException.class, () -> new ForecastCache(registry, Duration.ofHours(1), -1, clock));
+    }
+
+    private static void assertGeneratedOnce(ForecastCache cache) throws Exception {
+        int threads = 16;
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger generated = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<ForecastResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> cache.get(0, (station, today) -> {
+                    generated.incrementAndGet();
+                    await(release);
+                    return ForecastResponse.builder().city("station-" + station).build();
+                })));
+            }
+            // hold the generation until every other request is waiting for it
+            awaitCoalesced(cache, threads - 1);
+            release.countDown();
+
+            ForecastResponse first = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<ForecastResponse> future : futures) {
+                assertSame(first, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, generated.get());
+        assertEquals(1, cache.stats().misses());
+        assertEquals(threads - 1, cache.stats().coalesced());
+    }
+
+    private static void awaitCoalesced(ForecastCache cache, long waiters) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (cache.stats().coalesced() < waiters) {
+            assertTrue(System.nanoTime() < deadline, "requests did not join the generation in flight");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.weather.station.config;
+
+import com.weather.station.dataset.DatasetFormat;
+import com.weather.station.registry.StationDefinition;
+import com.weather.station.registry.StationRegistry;
+
+import java.time.Duration;
+
+/**
+ * Builds {@link WeatherConfig} and {@link StationRegistry} instances for unit tests that run without a Spring context.
+ * Values mirror {@code src/test/resources/application.properties}.
+ */
+public final class WeatherConfigFixtures {
+
+    private WeatherConfigFixtures() {
+    }
+
+    public static WeatherConfig defaultConfig() {
+        WeatherConfig config = new WeatherConfig();
+
+        config.getCity().setName("Windholm");
+        config.getCity().setCountry("Fictionaland");
+        config.getCity().setTimezone("UTC");
+
+        config.getTemperature().setMin(-15.0);
+        config.getTemperature().setMax(35.0);
+        config.getTemperature().setForecastMin(-15.0);
+        config.getTemperature().setForecastMax(20.0);
+        config.getHumidity().setMin(20);
+        config.getHumidity().setMax(100);
+        config.getWindSpeed().setMin(0.0);
+        config.getWindSpeed().setMax(50.0);
+        config.getPrecipitation().setMin(0);
+        config.getPrecipitation().setMax(100);
+        config.getForecast().setDays(7);
+        config.getForecast().setMaxHours(384);
+        config.getForecast().setPageSize(48);
+
+        config.getFormat().setTimestamp("yyyy-MM-dd'T'HH:mm:ss");
+        config.getFormat().setDate("yyyy-MM-dd");
+        config.getFormat().setDecimalPlaces(1);
+
+        config.getSimulation().setEnabled(true);
+        config.getSimulation().setTickMillis(1000);
+        config.getSimulation().setPersistence(0.95);
+        config.getSimulation().setTemperatureVolatility(0.3);
+        config.getSimulation().setHumidityVolatility(1.0);
+        config.getSimulation().setWindSpeedVolatility(0.8);
+        config.getSimulation().setConditionPersistence(0.97);
+
+        config.getRollup().setEnabled(true);
+        config.getRollup().setMinuteRetention(Duration.ofHours(6));
+        config.getRollup().setHourRetention(Duration.ofDays(366));
+        config.getRollup().setDayRetention(Duration.ofDays(366));
+        config.getRollup().setMaxBuckets(10000);
+
+        config.getForecastCache().setEnabled(true);
+        config.getForecastCache().setTtl(Duration.ofHours(24));
+        config.getForecastCache().setMaxEntries(10000);
+        config.getForecastCache().setCoalesce(true);
+
+        config.getGeneration().setDeterministic(false);
+        config.getGeneration().setSeed(20250114L);
+        config.getGeneration().setBucket(Duration.ofMinutes(1));
+
+        config.getStream().setTimeout(Duration.ofMinutes(30));
+        config.getStream().setMaxSubscribers(20000);
+
+        config.getJson().setDirectWriters(true);
+
+        config.getMetrics().setEnabled(true);
+        config.getMetrics().setFirstRequests(1000);
+
+        config.getIngest().setBufferCapacity(1 << 20);
+        config.getIngest().setMaxReadings(100000);
+        config.getIngest().setDrainBatch(4096);
+        config.getIngest().setSensorTimeout(Duration.ofMinutes(5));
+        config.getUdp().setEnabled(false);
+        config.getUdp().setAddress("0.0.0.0");
+        config.getUdp().setPort(9876);
+        config.getUdp().setReceiveBuffer(4 << 20);
+        config.getWarmup().setEnabled(false);
+        config.getWarmup().setIterations(20000);
+        config.getWarmup().setTimeBudget(Duration.ofSeconds(15));
+        config.getWarmup().setSample(500);
+        config.getOverload().setEnabled(false);
+        config.getOverload().setMaxInFlight(64);
+        config.getOverload().setLatencyThreshold(Duration.ofMillis(50));
+        config.getOverload().setFreshFor(Duration.ofSeconds(1));
+        config.getOverload().setMaxStale(Duration.ofSeconds(60));
+
+        config.getDataset().setEnabled(false);
+        config.getDataset().setStations(10000);
+        config.getDataset().setSteps(1440);
+        config.getDataset().setStart("2025-01-14T00:00:00Z");
+        config.getDataset().setFormat(DatasetFormat.CSV);
+        config.getDataset().setDirectory("data/dataset");
+        config.getDataset().setStationsPerPart(256);
+        config.getDataset().setParallelism(0);
+
+        return config;
+    }
+
+    public static StationRegistry singleStationRegistry(WeatherConfig config) {
+        StationRegistry.Builder builder = StationRegistry.builder(1);
+        builder.add(StationDefinition.fromConfig(config));
+        return builder.build();
+    }
+}
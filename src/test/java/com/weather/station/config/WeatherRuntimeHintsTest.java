@@ -0,0 +1,46 @@
+package com.weather.station.config;
+
+import com.weather.station.metrics.LatencySnapshot;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ErrorResponse;
+import com.weather.station.model.dto.SensorReading;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new WeatherRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void shouldRegisterDtoAccessorsForJackson() throws NoSuchMethodException {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethodInvocation(CurrentWeatherResponse.class.getMethod("getTemperature")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethodInvocation(SensorReading.class.getMethod("setHumidity", Integer.class)).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethodInvocation(ErrorResponse.class.getMethod("getMessage")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(LatencySnapshot.class).test(hints));
+    }
+
+    @Test
+    void shouldRegisterNestedConfigurationPropertiesForBinding() throws NoSuchMethodException {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onConstructorInvocation(WeatherConfig.UdpConfig.class.getDeclaredConstructor()).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethodInvocation(WeatherConfig.UdpConfig.class.getMethod("setPort", int.class)).test(hints));
+    }
+
+    @Test
+    void shouldRegisterStationCatalog() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource(WeatherRuntimeHints.STATION_CATALOG).test(hints));
+    }
+}
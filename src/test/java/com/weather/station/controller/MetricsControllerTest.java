@@ -0,0 +1,74 @@
+package com.weather.station.controller;
+
+import com.weather.station.cache.ForecastCacheStats;
+import com.weather.station.exception.GlobalExceptionHandler;
+import com.weather.station.ingest.IngestStats;
+import com.weather.station.ingest.UdpStats;
+import com.weather.station.metrics.LatencySnapshot;
+import com.weather.station.metrics.WeatherMetrics;
+import com.weather.station.model.dto.MetricsResponse;
+import com.weather.station.overload.OverloadStats;
+import com.weather.station.service.MetricsService;
+import com.weather.station.stream.StreamStats;
+import com.weather.station.warmup.WarmupState;
+import com.weather.station.warmup.WarmupStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest({MetricsController.class, GlobalExceptionHandler.class})
+class MetricsControllerTest {
+
+    @MockitoBean
+    private MetricsService metricsService;
+
+    @MockitoBean
+    private WeatherMetrics weatherMetrics;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldExposeLatencyPercentilesAndCounters() throws Exception {
+        LatencySnapshot latency = new LatencySnapshot(1200, 85.0, 410.5, 1980.0, 2301.0);
+        when(metricsService.getMetrics()).thenReturn(MetricsResponse.builder()
+                .requests(1200)
+                .errors(3)
+                .errorsByType(Map.of("StationNotFoundException", 3L))
+                .endpoints(Map.of("GET /api/weather/{city}/current", latency))
+                .phases(Map.of("serialization", new LatencySnapshot(1197, 4.2, 9.8, 31.0, 40.1)))
+                .firstRequests(new LatencySnapshot(1000, 120.0, 890.0, 1500.0, 1700.0))
+                .forecastCache(new ForecastCacheStats(990, 10, 0, 0, 0, 10))
+                .stream(new StreamStats(2, 340, 1, 0))
+                .ingest(new IngestStats(50_000, 0, 49_990, 0, 10, 1 << 20))
+                .udp(new UdpStats(30_000, 29_990, 4, 6))
+                .warmup(new WarmupStats(WarmupState.COMPLETED, 20_000, 6400, latency, latency))
+                .overload(new OverloadStats(12, 850.0, false, 9_000, 2_500, 40, 310))
+                .build());
+
+        mockMvc.perform(get("/api/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requests").value(1200))
+                .andExpect(jsonPath("$.errors").value(3))
+                .andExpect(jsonPath("$.errorsByType.StationNotFoundException").value(3))
+                .andExpect(jsonPath("$.endpoints['GET /api/weather/{city}/current'].p99Micros").value(410.5))
+                .andExpect(jsonPath("$.endpoints['GET /api/weather/{city}/current'].p999Micros").value(1980.0))
+                .andExpect(jsonPath("$.phases.serialization.p50Micros").value(4.2))
+                .andExpect(jsonPath("$.forecastCache.hits").value(990))
+                .andExpect(jsonPath("$.stream.subscribers").value(2))
+                .andExpect(jsonPath("$.ingest.written").value(49_990))
+                .andExpect(jsonPath("$.udp.malformed").value(4))
+                .andExpect(jsonPath("$.firstRequests.count").value(1000))
+                .andExpect(jsonPath("$.warmup.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.overload.shed").value(40));
+    }
+}
@@ -0,0 +1,64 @@
+package com.weather.station.controller;
+
+import com.weather.station.exception.GlobalExceptionHandler;
+import com.weather.station.metrics.LatencySnapshot;
+import com.weather.station.metrics.WeatherMetrics;
+import com.weather.station.model.dto.ReadinessResponse;
+import com.weather.station.service.ReadinessService;
+import com.weather.station.warmup.WarmupState;
+import com.weather.station.warmup.WarmupStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest({ReadinessController.class, GlobalExceptionHandler.class})
+class ReadinessControllerTest {
+
+    private static final LatencySnapshot EMPTY = new LatencySnapshot(0, 0, 0, 0, 0);
+
+    @MockitoBean
+    private ReadinessService readinessService;
+
+    @MockitoBean
+    private WeatherMetrics weatherMetrics;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldReportUnavailableWhileWarmingUp() throws Exception {
+        when(readinessService.getReadiness()).thenReturn(ReadinessResponse.builder()
+                .ready(false)
+                .state("REFUSING_TRAFFIC")
+                .warmup(new WarmupStats(WarmupState.RUNNING, 4200, 1800,
+                        new LatencySnapshot(500, 310.0, 2900.0, 4100.0, 4100.0), EMPTY))
+                .build());
+
+        mockMvc.perform(get("/api/ready"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.ready").value(false))
+                .andExpect(jsonPath("$.warmup.state").value("RUNNING"))
+                .andExpect(jsonPath("$.warmup.calls").value(4200))
+                .andExpect(jsonPath("$.warmup.firstCalls.p50Micros").value(310.0));
+    }
+
+    @Test
+    void shouldReportReadyOnceAcceptingTraffic() throws Exception {
+        when(readinessService.getReadiness()).thenReturn(ReadinessResponse.builder()
+                .ready(true)
+                .state("ACCEPTING_TRAFFIC")
+                .build());
+
+        mockMvc.perform(get("/api/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ready").value(true))
+                .andExpect(jsonPath("$.state").value("ACCEPTING_TRAFFIC"));
+    }
+}
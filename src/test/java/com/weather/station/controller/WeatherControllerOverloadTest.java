@@ -0,0 +1,135 @@
+package com.weather.station.controller;
+
+import com.weather.station.exception.GlobalExceptionHandler;
+import com.weather.station.exception.ServiceOverloadedException;
+import com.weather.station.metrics.WeatherMetrics;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.overload.Served;
+import com.weather.station.overload.StaleWhileRevalidate;
+import com.weather.station.service.BatchWeatherService;
+import com.weather.station.service.HourlyForecastService;
+import com.weather.station.service.ReadingIngestService;
+import com.weather.station.service.WeatherHistoryService;
+import com.weather.station.service.WeatherService;
+import com.weather.station.service.WeatherStreamService;
+import com.weather.station.version.ResponseVersion;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest({WeatherController.class, GlobalExceptionHandler.class})
+class WeatherControllerOverloadTest {
+
+    @MockitoBean
+    private StaleWhileRevalidate staleWhileRevalidate;
+
+    @MockitoBean
+    private WeatherService weatherService;
+
+    @MockitoBean
+    private BatchWeatherService batchWeatherService;
+
+    @MockitoBean
+    private WeatherHistoryService weatherHistoryService;
+
+    @MockitoBean
+    private WeatherStreamService weatherStreamService;
+
+    @MockitoBean
+    private ReadingIngestService readingIngestService;
+
+    @MockitoBean
+    private HourlyForecastService hourlyForecastService;
+
+    @MockitoBean
+    private WeatherMetrics weatherMetrics;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldServeFreshResponseWithoutStalenessHeaders() throws Exception {
+        when(staleWhileRevalidate.getCurrentWeather("Frostmere"))
+                .thenReturn(new Served<>(currentWeather("Frostmere"), null, 300, false));
+
+        mockMvc.perform(get("/api/weather/Frostmere/current"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(WeatherController.STALE_HEADER))
+                .andExpect(header().doesNotExist("Age"))
+                .andExpect(jsonPath("$.city").value("Frostmere"));
+        verifyNoInteractions(weatherService);
+    }
+
+    @Test
+    void shouldMarkStaleResponse() throws Exception {
+        ForecastResponse forecast = ForecastResponse.builder()
+                .city("Windholm")
+                .generatedAt("2025-01-14T15:32:00")
+                .forecast(List.of())
+                .build();
+        when(staleWhileRevalidate.getForecast()).thenReturn(new Served<>(forecast, null, 12_700, true));
+
+        mockMvc.perform(get("/api/weather/forecast"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(header().string(WeatherController.STALE_HEADER, "true"))
+                .andExpect(header().string("Age", "12"))
+                .andExpect(jsonPath("$.city").value("Windholm"));
+    }
+
+    @Test
+    void shouldAnswerConditionalRequestsForServedResponses() throws Exception {
+        ResponseVersion version = new ResponseVersion("\"v1\"", 1_736_868_720_000L);
+        when(staleWhileRevalidate.getCurrentWeather("Frostmere"))
+                .thenReturn(new Served<>(currentWeather("Frostmere"), version, 12_700, true));
+
+        mockMvc.perform(get("/api/weather/Frostmere/current"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1-j\""))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(header().string(WeatherController.STALE_HEADER, "true"));
+        mockMvc.perform(get("/api/weather/Frostmere/current").header("If-None-Match", "\"v1-j\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"v1-j\""))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/weather/Frostmere/current")
+                        .header("If-Modified-Since", "Tue, 14 Jan 2025 15:32:00 GMT"))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shouldReturnServiceUnavailableWhenShedWithNothingToServe() throws Exception {
+        when(staleWhileRevalidate.getCurrentWeather()).thenThrow(new ServiceOverloadedException("Windholm"));
+
+        mockMvc.perform(get("/api/weather/current"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message").value("Service overloaded, no cached response for Windholm"));
+    }
+
+    private static CurrentWeatherResponse currentWeather(String city) {
+        return CurrentWeatherResponse.builder()
+                .city(city)
+                .timestamp("2025-01-14T15:32:00")
+                .temperature(-3.4)
+                .humidity(84)
+                .windSpeed(12.3)
+                .condition(WeatherCondition.SNOWY)
+                .build();
+    }
+}
@@ -1,36 +1,93 @@
 package com.weather.station.controller;
 
+import com.weather.station.binary.WeatherBinaryDecoder;
+import com.weather.station.binary.WeatherBinaryFormat;
+import com.weather.station.config.BinaryFormatConfig;
 import com.weather.station.exception.GlobalExceptionHandler;
+import com.weather.station.exception.IngestCapacityExceededException;
+import com.weather.station.exception.StationNotFoundException;
+import com.weather.station.exception.StreamCapacityExceededException;
+import com.weather.station.metrics.WeatherMetrics;
+import com.weather.station.model.dto.BatchWeatherResponse;
 import com.weather.station.model.dto.CurrentWeatherResponse;
 import com.weather.station.model.dto.ForecastDay;
 import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.model.dto.HistoryBucket;
+import com.weather.station.model.dto.HourlyForecastExport;
+import com.weather.station.model.dto.HourlyForecastPoint;
+import com.weather.station.model.dto.HourlyForecastResponse;
+import com.weather.station.model.dto.IngestResponse;
+import com.weather.station.model.dto.MetricSummary;
+import com.weather.station.model.dto.SensorReading;
+import com.weather.station.model.dto.WeatherHistoryResponse;
 import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.BatchWeatherService;
+import com.weather.station.service.HourlyForecastService;
+import com.weather.station.service.ReadingIngestService;
+import com.weather.station.service.WeatherHistoryService;
 import com.weather.station.service.WeatherService;
+import com.weather.station.service.WeatherStreamService;
+import com.weather.station.version.ResponseVersion;
+import com.weather.station.version.Versioned;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest({WeatherController.class, GlobalExceptionHandler.class})
+@Import(BinaryFormatConfig.class)
 class WeatherControllerTest {
 
     @MockitoBean
     private WeatherService weatherService;
 
+    @MockitoBean
+    private BatchWeatherService batchWeatherService;
+
+    @MockitoBean
+    private WeatherHistoryService weatherHistoryService;
+
+    @MockitoBean
+    private WeatherStreamService weatherStreamService;
+
+    @MockitoBean
+    private ReadingIngestService readingIngestService;
+
+    @MockitoBean
+    private HourlyForecastService hourlyForecastService;
+
+    @MockitoBean
+    private WeatherMetrics weatherMetrics;
+
     @Autowired
     private WebApplicationContext webApplicationContext;
 
@@ -46,7 +103,8 @@ class WeatherControllerTest {
     @Test
     void shouldGetCurrentWeather() throws Exception {
         CurrentWeatherResponse mockResponse = buildCurrentWeatherResponse();
-        when(weatherService.getCurrentWeather()).thenReturn(mockResponse);
+        when(weatherService.getVersionedCurrentWeather(StationRegistry.DEFAULT_STATION))
+                .thenReturn(new Versioned<>(mockResponse, null));
 
         ResultActions result = mockMvc.perform(get("/api/weather/current"));
 
@@ -63,11 +121,13 @@ class WeatherControllerTest {
     @Test
     void shouldGetForecast() throws Exception {
         ForecastResponse mockResponse = buildForecastResponse();
-        when(weatherService.getForecast()).thenReturn(mockResponse);
+        when(weatherService.getVersionedForecastAsync(StationRegistry.DEFAULT_STATION))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(mockResponse, null)));
 
         ResultActions result = mockMvc.perform(get("/api/weather/forecast"));
 
-        result.andExpect(status().isOk())
+        result.andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
                 .andExpect(content().contentType("application/json"))
                 .andExpect(jsonPath("$.city").value("Windholm"))
                 .andExpect(jsonPath("$.generatedAt").value("2025-01-14T15:32:00"))
@@ -85,6 +145,397 @@ class WeatherControllerTest {
                 .andExpect(jsonPath("$.forecast[1].precipitation").value(75));
     }
 
+    @Test
+    void shouldGetCurrentWeatherForCity() throws Exception {
+        CurrentWeatherResponse mockResponse = buildCurrentWeatherResponse();
+        mockResponse.setCity("Frostmere");
+        when(weatherService.getVersionedCurrentWeather("Frostmere")).thenReturn(new Versioned<>(mockResponse, null));
+
+        ResultActions result = mockMvc.perform(get("/api/weather/Frostmere/current"));
+
+        result.andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.city").value("Frostmere"))
+                .andExpect(jsonPath("$.temperature").value(22.5));
+    }
+
+    @Test
+    void shouldGetForecastForCity() throws Exception {
+        ForecastResponse mockResponse = buildForecastResponse();
+        mockResponse.setCity("Frostmere");
+        when(weatherService.getVersionedForecastAsync("Frostmere"))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(mockResponse, null)));
+
+        ResultActions result = mockMvc.perform(get("/api/weather/Frostmere/forecast"));
+
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.city").value("Frostmere"))
+                .andExpect(jsonPath("$.forecast.length()").value(2));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownCity() throws Exception {
+        when(weatherService.getVersionedCurrentWeather("Atlantis")).thenThrow(new StationNotFoundException("Atlantis"));
+
+        ResultActions result = mockMvc.perform(get("/api/weather/Atlantis/current"));
+
+        result.andExpect(status().isNotFound())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.error").value("Not Found"))
+                .andExpect(jsonPath("$.message").value("Unknown station: Atlantis"))
+                .andExpect(jsonPath("$.path").value("/api/weather/Atlantis/current"));
+    }
+
+    @Test
+    void shouldSendValidatorsOfVersionedResponse() throws Exception {
+        ResponseVersion version = new ResponseVersion("\"v1\"", 1_736_868_720_000L);
+        when(weatherService.getVersionedForecastAsync("Frostmere"))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(buildForecastResponse(), version)));
+
+        mockMvc.perform(get("/api/weather/Frostmere/forecast"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1-j\""))
+                .andExpect(header().string("Last-Modified", "Tue, 14 Jan 2025 15:32:00 GMT"))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(jsonPath("$.city").value("Windholm"));
+    }
+
+    @Test
+    void shouldWaitForForecastStillLoadingWithoutHoldingThread() throws Exception {
+        ResponseVersion version = new ResponseVersion("\"v1\"", 1_736_868_720_000L);
+        CompletableFuture<Versioned<ForecastResponse>> loading = new CompletableFuture<>();
+        when(weatherService.getVersionedForecastAsync("Frostmere")).thenReturn(loading);
+
+        MvcResult started = mockMvc.perform(get("/api/weather/Frostmere/forecast"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        loading.complete(new Versioned<>(buildForecastResponse(), version));
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1-j\""))
+                .andExpect(jsonPath("$.city").value("Windholm"));
+    }
+
+    @Test
+    void shouldAnswerMatchingEntityTagWithoutBuildingResponse() throws Exception {
+        ResponseVersion version = new ResponseVersion("\"v1\"", 1_736_868_720_000L);
+        when(weatherService.currentWeatherVersion("Frostmere")).thenReturn(version);
+
+        mockMvc.perform(get("/api/weather/Frostmere/current").header("If-None-Match", "\"v0-j\", \"v1-j\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"v1-j\""))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(content().string(""));
+        verify(weatherService, never()).getVersionedCurrentWeather("Frostmere");
+    }
+
+    @Test
+    void shouldAnswerUnchangedModificationDateWithoutBuildingResponse() throws Exception {
+        ResponseVersion version = new ResponseVersion("\"v1\"", 1_736_868_720_500L);
+        when(weatherService.forecastVersion(StationRegistry.DEFAULT_STATION)).thenReturn(version);
+
+        mockMvc.perform(get("/api/weather/forecast").header("If-Modified-Since", "Tue, 14 Jan 2025 15:32:00 GMT"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotModified());
+        verify(weatherService, never()).getVersionedForecastAsync(StationRegistry.DEFAULT_STATION);
+    }
+
+    @Test
+    void shouldSendNewResponseWhenEntityTagChanged() throws Exception {
+        ResponseVersion version = new ResponseVersion("\"v2\"", 1_736_868_721_000L);
+        when(weatherService.currentWeatherVersion(StationRegistry.DEFAULT_STATION)).thenReturn(version);
+        when(weatherService.getVersionedCurrentWeather(StationRegistry.DEFAULT_STATION))
+                .thenReturn(new Versioned<>(buildCurrentWeatherResponse(), version));
+
+        mockMvc.perform(get("/api/weather/current")
+                        .header("If-None-Match", "\"v1-j\"")
+                        .header("If-Modified-Since", "Tue, 14 Jan 2025 15:33:00 GMT"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v2-j\""))
+                .andExpect(jsonPath("$.temperature").value(22.5));
+    }
+
+    @Test
+    void shouldTagBinaryRepresentationSeparately() throws Exception {
+        ResponseVersion version = new ResponseVersion("\"v1\"", 1_736_868_720_000L);
+        when(weatherService.currentWeatherVersion("Frostmere")).thenReturn(version);
+        when(weatherService.getVersionedCurrentWeather("Frostmere"))
+                .thenReturn(new Versioned<>(buildCurrentWeatherResponse(), version));
+
+        mockMvc.perform(get("/api/weather/Frostmere/current")
+                        .header("Accept", WeatherBinaryFormat.MEDIA_TYPE_VALUE)
+                        .header("If-None-Match", "\"v1-j\""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(WeatherBinaryFormat.MEDIA_TYPE_VALUE))
+                .andExpect(header().string("ETag", "\"v1-b\""))
+                .andExpect(header().string("Vary", "Accept"));
+        mockMvc.perform(get("/api/weather/Frostmere/current")
+                        .header("Accept", WeatherBinaryFormat.MEDIA_TYPE_VALUE + ", application/json;q=0.5")
+                        .header("If-None-Match", "\"v1-b\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"v1-b\""));
+        mockMvc.perform(get("/api/weather/Frostmere/current")
+                        .header("Accept", "*/*")
+                        .header("If-None-Match", "\"v1-b\""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(header().string("ETag", "\"v1-j\""));
+    }
+
+    @Test
+    void shouldGetCurrentWeatherForMultipleCitiesViaQueryParameter() throws Exception {
+        when(batchWeatherService.getCurrentWeather(List.of("Windholm", "Atlantis")))
+                .thenReturn(buildBatchResponse());
+
+        ResultActions result = mockMvc.perform(get("/api/weather/current").param("cities", "Windholm,Atlantis"));
+
+        result.andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.requested").value(2))
+                .andExpect(jsonPath("$.results.length()").value(1))
+                .andExpect(jsonPath("$.results[0].city").value("Windholm"))
+                .andExpect(jsonPath("$.unknownCities[0]").value("Atlantis"));
+    }
+
+    @Test
+    void shouldGetCurrentWeatherForMultipleCitiesViaRequestBody() throws Exception {
+        when(batchWeatherService.getCurrentWeather(List.of("Windholm", "Atlantis")))
+                .thenReturn(buildBatchResponse());
+
+        ResultActions result = mockMvc.perform(post("/api/weather/current")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"cities\": [\"Windholm\", \"Atlantis\"]}"));
+
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(2))
+                .andExpect(jsonPath("$.results[0].temperature").value(22.5))
+                .andExpect(jsonPath("$.unknownCities[0]").value("Atlantis"));
+    }
+
+    @Test
+    void shouldGetHistoryForCity() throws Exception {
+        HistoryBucket bucket = HistoryBucket.builder()
+                .timestamp("2025-01-14T15:00:00")
+                .samples(3600L)
+                .temperature(new MetricSummary(11.2, 13.9, 12.4))
+                .humidity(new MetricSummary(60.0, 71.0, 66.3))
+                .windSpeed(new MetricSummary(4.1, 18.7, 9.8))
+                .build();
+        when(weatherHistoryService.getHistory("Frostmere", "2025-01-14T15:00:00", null, "hour"))
+                .thenReturn(WeatherHistoryResponse.builder()
+                        .city("Frostmere")
+                        .from("2025-01-14T15:00:00")
+                        .to("2025-01-14T16:00:00")
+                        .resolution("PT1H")
+                        .buckets(List.of(bucket))
+                        .build());
+
+        ResultActions result = mockMvc.perform(get("/api/weather/Frostmere/history")
+                .param("from", "2025-01-14T15:00:00"));
+
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.city").value("Frostmere"))
+                .andExpect(jsonPath("$.resolution").value("PT1H"))
+                .andExpect(jsonPath("$.buckets.length()").value(1))
+                .andExpect(jsonPath("$.buckets[0].samples").value(3600))
+                .andExpect(jsonPath("$.buckets[0].temperature.max").value(13.9))
+                .andExpect(jsonPath("$.buckets[0].windSpeed.average").value(9.8));
+    }
+
+    @Test
+    void shouldRejectInvalidHistoryResolution() throws Exception {
+        when(weatherHistoryService.getHistory("Frostmere", null, null, "5s"))
+                .thenThrow(new IllegalArgumentException("Invalid resolution: 5s"));
+
+        ResultActions result = mockMvc.perform(get("/api/weather/Frostmere/history").param("resolution", "5s"));
+
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid resolution: 5s"));
+    }
+
+    @Test
+    void shouldStreamHourlyForecastPageForCity() throws Exception {
+        HourlyForecastPoint point = HourlyForecastPoint.builder()
+                .time("2025-01-14T16:00:00")
+                .temperature(3.4)
+                .humidity(71)
+                .windSpeed(12.0)
+                .condition(WeatherCondition.CLOUDY)
+                .precipitation(30)
+                .build();
+        when(hourlyForecastService.getHourlyForecast("Frostmere", 384, 2, "abc"))
+                .thenReturn(HourlyForecastResponse.builder()
+                        .city("Frostmere")
+                        .issuedAt("2025-01-14T14:00:00")
+                        .hours(384)
+                        .offset(2)
+                        .points(() -> List.of(point, point).iterator())
+                        .nextCursor("def")
+                        .build());
+
+        ResultActions result = mockMvc.perform(get("/api/weather/Frostmere/forecast/hourly")
+                .param("hours", "384")
+                .param("limit", "2")
+                .param("cursor", "abc"));
+
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.city").value("Frostmere"))
+                .andExpect(jsonPath("$.offset").value(2))
+                .andExpect(jsonPath("$.points.length()").value(2))
+                .andExpect(jsonPath("$.points[0].time").value("2025-01-14T16:00:00"))
+                .andExpect(jsonPath("$.points[0].condition").value("CLOUDY"))
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    void shouldExportHourlyForecastsOfSeveralCities() throws Exception {
+        HourlyForecastResponse forecast = HourlyForecastResponse.builder()
+                .city("Windholm")
+                .issuedAt("2025-01-14T16:00:00")
+                .hours(24)
+                .points(List.of())
+                .build();
+        when(hourlyForecastService.exportHourlyForecast(List.of("Windholm", "Frostmere"), null))
+                .thenReturn(HourlyForecastExport.builder()
+                        .hours(24)
+                        .forecasts(List.of(forecast, forecast))
+                        .build());
+
+        ResultActions result = mockMvc.perform(get("/api/weather/forecast/hourly")
+                .param("cities", "Windholm,Frostmere"));
+
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.hours").value(24))
+                .andExpect(jsonPath("$.forecasts.length()").value(2))
+                .andExpect(jsonPath("$.forecasts[0].nextCursor").isEmpty());
+    }
+
+    @Test
+    void shouldRejectInvalidHourlyForecastCursor() throws Exception {
+        when(hourlyForecastService.getHourlyForecast(null, null, "bogus"))
+                .thenThrow(new IllegalArgumentException("Invalid cursor: bogus"));
+
+        ResultActions result = mockMvc.perform(get("/api/weather/forecast/hourly").param("cursor", "bogus"));
+
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor: bogus"));
+    }
+
+    @Test
+    void shouldOpenReadingStreamForCity() throws Exception {
+        when(weatherStreamService.subscribe("Frostmere")).thenReturn(new SseEmitter());
+
+        ResultActions result = mockMvc.perform(get("/api/weather/Frostmere/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM));
+
+        result.andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void shouldRejectReadingStreamAtCapacity() throws Exception {
+        when(weatherStreamService.subscribe("Frostmere")).thenThrow(new StreamCapacityExceededException(2));
+
+        ResultActions result = mockMvc.perform(get("/api/weather/Frostmere/stream"));
+
+        result.andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message").value("Live stream subscriber limit reached: 2"));
+    }
+
+    @Test
+    void shouldAcceptBatchOfSensorReadings() throws Exception {
+        SensorReading first = SensorReading.builder().timestamp("2025-01-14T15:00:00").temperature(12.4)
+                .humidity(66).windSpeed(9.8).condition(WeatherCondition.RAINY).build();
+        SensorReading second = SensorReading.builder().timestamp("1736866801000").temperature(12.5)
+                .humidity(66).windSpeed(9.1).condition(WeatherCondition.RAINY).build();
+        when(readingIngestService.ingest("Frostmere", List.of(first, second)))
+                .thenReturn(new IngestResponse("Frostmere", 2));
+
+        ResultActions result = mockMvc.perform(post("/api/weather/Frostmere/readings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"timestamp\": \"2025-01-14T15:00:00\", \"temperature\": 12.4, \"humidity\": 66, "
+                        + "\"windSpeed\": 9.8, \"condition\": \"RAINY\"}, "
+                        + "{\"timestamp\": \"1736866801000\", \"temperature\": 12.5, \"humidity\": 66, "
+                        + "\"windSpeed\": 9.1, \"condition\": \"RAINY\"}]"));
+
+        result.andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.city").value("Frostmere"))
+                .andExpect(jsonPath("$.accepted").value(2));
+    }
+
+    @Test
+    void shouldAcceptSingleSensorReading() throws Exception {
+        SensorReading reading = SensorReading.builder().temperature(-3.0).humidity(80).windSpeed(12.0)
+                .condition(WeatherCondition.SNOWY).build();
+        when(readingIngestService.ingest("Frostmere", List.of(reading)))
+                .thenReturn(new IngestResponse("Frostmere", 1));
+
+        ResultActions result = mockMvc.perform(post("/api/weather/Frostmere/readings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"temperature\": -3.0, \"humidity\": 80, \"windSpeed\": 12.0, \"condition\": \"SNOWY\"}"));
+
+        result.andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(1));
+    }
+
+    @Test
+    void shouldAskToRetryWhenIngestionBufferIsFull() throws Exception {
+        when(readingIngestService.ingest(eq("Frostmere"), anyList()))
+                .thenThrow(new IngestCapacityExceededException(1));
+
+        ResultActions result = mockMvc.perform(post("/api/weather/Frostmere/readings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"temperature\": -3.0, \"humidity\": 80, \"windSpeed\": 12.0, \"condition\": \"SNOWY\"}"));
+
+        result.andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message").value("Ingestion buffer full, 1 readings rejected"));
+    }
+
+    @Test
+    void shouldServeBinaryCurrentWeatherWhenAccepted() throws Exception {
+        CurrentWeatherResponse mockResponse = buildCurrentWeatherResponse();
+        when(weatherService.getVersionedCurrentWeather("Windholm")).thenReturn(new Versioned<>(mockResponse, null));
+
+        ResultActions result = mockMvc.perform(get("/api/weather/Windholm/current")
+                .header("Accept", WeatherBinaryFormat.MEDIA_TYPE_VALUE + ", application/json;q=0.5"));
+
+        result.andExpect(status().isOk())
+                .andExpect(content().contentType(WeatherBinaryFormat.MEDIA_TYPE_VALUE));
+        byte[] body = result.andReturn().getResponse().getContentAsByteArray();
+        assertEquals(mockResponse, WeatherBinaryDecoder.decodeCurrentWeather(body));
+    }
+
+    @Test
+    void shouldServeBinaryBatchAndForecastWhenAccepted() throws Exception {
+        when(batchWeatherService.getCurrentWeather(List.of("Windholm", "Atlantis")))
+                .thenReturn(buildBatchResponse());
+        when(weatherService.getVersionedForecastAsync(StationRegistry.DEFAULT_STATION))
+                .thenReturn(CompletableFuture.completedFuture(new Versioned<>(buildForecastResponse(), null)));
+
+        byte[] batch = mockMvc.perform(get("/api/weather/current").param("cities", "Windholm,Atlantis")
+                        .header("Accept", WeatherBinaryFormat.MEDIA_TYPE_VALUE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] forecast = mockMvc.perform(get("/api/weather/forecast")
+                        .header("Accept", WeatherBinaryFormat.MEDIA_TYPE_VALUE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(buildBatchResponse(), WeatherBinaryDecoder.decodeBatch(batch));
+        assertEquals(buildForecastResponse(), WeatherBinaryDecoder.decodeForecast(forecast));
+    }
+
+    private BatchWeatherResponse buildBatchResponse() {
+        return BatchWeatherResponse.builder()
+                .requested(2)
+                .results(List.of(buildCurrentWeatherResponse()))
+                .unknownCities(List.of("Atlantis"))
+                .build();
+    }
+
     private CurrentWeatherResponse buildCurrentWeatherResponse() {
         return CurrentWeatherResponse.builder()
                 .city("Windholm")
@@ -121,7 +572,8 @@ class WeatherControllerTest {
     @Test
     void shouldHandleIllegalArgumentException() throws Exception {
         String errorMessage = "Invalid weather data configuration";
-        when(weatherService.getCurrentWeather()).thenThrow(new IllegalArgumentException(errorMessage));
+        when(weatherService.getVersionedCurrentWeather(StationRegistry.DEFAULT_STATION))
+                .thenThrow(new IllegalArgumentException(errorMessage));
 
         ResultActions result = mockMvc.perform(get("/api/weather/current"));
 
@@ -136,7 +588,8 @@ class WeatherControllerTest {
 
     @Test
     void shouldHandleNullPointerException() throws Exception {
-        when(weatherService.getForecast()).thenThrow(new NullPointerException("Null data encountered"));
+        when(weatherService.getVersionedForecastAsync(StationRegistry.DEFAULT_STATION))
+                .thenThrow(new NullPointerException("Null data encountered"));
 
         ResultActions result = mockMvc.perform(get("/api/weather/forecast"));
 
@@ -151,7 +604,8 @@ class WeatherControllerTest {
 
     @Test
     void shouldHandleGenericException() throws Exception {
-        when(weatherService.getCurrentWeather()).thenThrow(new RuntimeException("Unexpected system error"));
+        when(weatherService.getVersionedCurrentWeather(StationRegistry.DEFAULT_STATION))
+                .thenThrow(new RuntimeException("Unexpected system error"));
 
         ResultActions result = mockMvc.perform(get("/api/weather/current"));
 
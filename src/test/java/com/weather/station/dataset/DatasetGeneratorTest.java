@@ -0,0 +1,184 @@
+package com.weather.station.dataset;
+
+import com.weather.station.cache.ForecastCache;
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.config.WeatherConfigFixtures;
+import com.weather.station.metrics.WeatherMetrics;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.registry.StationDefinition;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.WeatherDataGenerator;
+import com.weather.station.service.WeatherService;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatasetGeneratorTest {
+
+    private static final long JAN_14 = Instant.parse("2025-01-14T00:00:00Z").toEpochMilli();
+
+    @TempDir
+    Path directory;
+
+    private WeatherConfig config;
+    private StationRegistry registry;
+    private WeatherDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        config = WeatherConfigFixtures.defaultConfig();
+        StationRegistry.Builder builder = StationRegistry.builder(2);
+        builder.add(StationDefinition.fromConfig(config));
+        builder.add(new StationDefinition("Frostmere", "Fictionaland", "Europe/Oslo",
+                -30.0, 15.0, -30.0, 5.0, 40, 100, 0.0, 60.0));
+        registry = builder.build();
+        dataGenerator = new WeatherDataGenerator(config);
+    }
+
+    @Test
+    void shouldWriteIdenticalFilesForAnyParallelism() throws IOException {
+        DatasetOptions options = new DatasetOptions(10, 50, JAN_14, DatasetFormat.CSV, directory.resolve("one"), 3);
+
+        DatasetStats sequential = new DatasetGenerator(dataGenerator, registry, 1).generate(options);
+        DatasetStats parallel = new DatasetGenerator(dataGenerator, registry, 4)
+                .generate(new DatasetOptions(10, 50, JAN_14, DatasetFormat.CSV, directory.resolve("four"), 3));
+
+        assertEquals(500, sequential.readings());
+        assertEquals(4, sequential.parts());
+        assertEquals(1, sequential.parallelism());
+        assertEquals(4, parallel.parallelism());
+        assertEquals(sequential.bytes(), parallel.bytes());
+        for (String part : List.of("part-00000.csv", "part-00001.csv", "part-00002.csv", "part-00003.csv")) {
+            assertArrayEquals(Files.readAllBytes(directory.resolve("one").resolve(part)),
+                    Files.readAllBytes(directory.resolve("four").resolve(part)));
+        }
+    }
+
+    @Test
+    void shouldWriteCsvRowsInTimeMajorOrder() throws IOException {
+        new DatasetGenerator(dataGenerator, registry, 2)
+                .generate(new DatasetOptions(3, 2, JAN_14 + 30_000, DatasetFormat.CSV, directory, 3));
+
+        List<String> lines = Files.readAllLines(directory.resolve("part-00000.csv"));
+        assertEquals(7, lines.size());
+        assertEquals(DatasetPartWriter.CSV_HEADER.strip(), lines.get(0));
+        assertTrue(lines.get(1).startsWith("0,Windholm,2025-01-14T00:00:00Z,"));
+        assertTrue(lines.get(2).startsWith("1,Frostmere,2025-01-14T00:00:00Z,"));
+        assertTrue(lines.get(3).startsWith("2,Windholm-1,2025-01-14T00:00:00Z,"));
+        assertTrue(lines.get(4).startsWith("0,Windholm,2025-01-14T00:01:00Z,"));
+        for (String line : lines.subList(1, lines.size())) {
+            String[] columns = line.split(",");
+            assertEquals(7, columns.length);
+            assertNotNull(WeatherCondition.valueOf(columns[6]));
+        }
+    }
+
+    @Test
+    void shouldWriteTheSameReadingsInEveryFormat() throws IOException {
+        DatasetGenerator generator = new DatasetGenerator(dataGenerator, registry, 0);
+        for (DatasetFormat format : DatasetFormat.values()) {
+            generator.generate(new DatasetOptions(4, 3, JAN_14, format, directory.resolve(format.name()), 4));
+        }
+
+        List<String> csv = Files.readAllLines(directory.resolve("CSV").resolve("part-00000.csv"));
+        List<String> ndjson = Files.readAllLines(directory.resolve("NDJSON").resolve("part-00000.ndjson"));
+        ByteBuffer binary = ByteBuffer.wrap(Files.readAllBytes(directory.resolve("BINARY").resolve("part-00000.bin")));
+        assertEquals(12, ndjson.size());
+        assertEquals(12 * DatasetFormat.BINARY_RECORD_BYTES, binary.capacity());
+        for (int i = 0; i < ndjson.size(); i++) {
+            String[] columns = csv.get(i + 1).split(",");
+            assertEquals("{\"station\":" + columns[0] + ",\"city\":\"" + columns[1] + "\",\"timestamp\":\""
+                    + columns[2] + "\",\"temperature\":" + columns[3] + ",\"humidity\":" + columns[4]
+                    + ",\"windSpeed\":" + columns[5] + ",\"condition\":\"" + columns[6] + "\"}", ndjson.get(i));
+
+            assertEquals(Integer.parseInt(columns[0]), binary.getInt());
+            assertEquals(Instant.parse(columns[2]).toEpochMilli(), binary.getLong());
+            assertEquals(Double.parseDouble(columns[3]), binary.getDouble());
+            assertEquals(Integer.parseInt(columns[4]), binary.getInt());
+            assertEquals(Double.parseDouble(columns[5]), binary.getDouble());
+            assertEquals(WeatherCondition.valueOf(columns[6]).ordinal(), binary.get());
+        }
+    }
+
+    @Test
+    void shouldKeepReadingsWithinStationRanges() throws IOException {
+        new DatasetGenerator(dataGenerator, registry, 1)
+                .generate(new DatasetOptions(2, 500, JAN_14, DatasetFormat.BINARY, directory, 2));
+
+        ByteBuffer binary = ByteBuffer.wrap(Files.readAllBytes(directory.resolve("part-00000.bin")));
+        while (binary.hasRemaining()) {
+            int station = binary.getInt();
+            binary.getLong();
+            double temperature = binary.getDouble();
+            int humidity = binary.getInt();
+            double windSpeed = binary.getDouble();
+            binary.get();
+            assertTrue(temperature >= registry.temperatureMin(station)
+                    && temperature <= registry.temperatureMax(station));
+            assertTrue(humidity >= registry.humidityMin(station) && humidity <= registry.humidityMax(station));
+            assertTrue(windSpeed >= registry.windSpeedMin(station) && windSpeed <= registry.windSpeedMax(station));
+        }
+    }
+
+    @Test
+    void shouldMatchDeterministicCurrentWeather() throws IOException {
+        config.getGeneration().setDeterministic(true);
+        dataGenerator = new WeatherDataGenerator(config);
+        WeatherService weatherService = new WeatherService(dataGenerator,
+                new WeatherSimulationEngine(dataGenerator, config, registry, List.of()), registry,
+                ForecastCache.disabled(registry), new WeatherMetrics(false));
+        DatasetGenerator generator = new DatasetGenerator(dataGenerator, registry, 1);
+
+        CurrentWeatherResponse current;
+        long now;
+        do {
+            now = System.currentTimeMillis();
+            current = weatherService.getCurrentWeather("Frostmere");
+        } while (dataGenerator.timeBucket(now) != dataGenerator.timeBucket(System.currentTimeMillis()));
+        generator.generate(new DatasetOptions(2, 1, now, DatasetFormat.CSV, directory, 2));
+
+        String[] columns = Files.readAllLines(directory.resolve("part-00000.csv")).get(2).split(",");
+        assertEquals("Frostmere", columns[1]);
+        assertEquals(current.getTemperature(), Double.parseDouble(columns[3]));
+        assertEquals(current.getHumidity(), Integer.parseInt(columns[4]));
+        assertEquals(current.getWindSpeed(), Double.parseDouble(columns[5]));
+        assertEquals(current.getCondition(), WeatherCondition.valueOf(columns[6]));
+    }
+
+    @Test
+    void shouldReplaceStalePartsOfEarlierRuns() throws IOException {
+        DatasetGenerator generator = new DatasetGenerator(dataGenerator, registry, 2);
+        generator.generate(new DatasetOptions(4, 1, JAN_14, DatasetFormat.CSV, directory, 1));
+        Files.writeString(directory.resolve("notes.txt"), "kept");
+
+        generator.generate(new DatasetOptions(4, 1, JAN_14, DatasetFormat.NDJSON, directory, 2));
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of("notes.txt", "part-00000.ndjson", "part-00001.ndjson"),
+                    files.map(file -> file.getFileName().toString()).sorted().toList());
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidOptions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetOptions(0, 1, JAN_14, DatasetFormat.CSV, directory, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetOptions(1, 0, JAN_14, DatasetFormat.CSV, directory, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetOptions(1, 1, JAN_14, DatasetFormat.CSV, directory, 0));
+        assertThrows(IllegalArgumentException.class, () -> new DatasetGenerator(dataGenerator, registry, -1));
+    }
+}
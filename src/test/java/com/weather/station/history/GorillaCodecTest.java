@@ -0,0 +1,130 @@
+package com.weather.station.history;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GorillaCodecTest {
+
+    private static final long T0 = 1_736_812_800_000L;
+
+    @Test
+    void shouldRoundTripQuantizedSeries() {
+        int count = 10_000;
+        Series series = Series.simulate(count, 42);
+
+        BitWriter bits = new BitWriter();
+        GorillaCodec.Encoder encoder = new GorillaCodec.Encoder(bits, 1);
+        for (int i = 0; i < count; i++) {
+            encoder.add(series.epochMillis[i], series.temperature[i], series.humidity[i],
+                    series.windSpeed[i], series.condition[i]);
+        }
+        byte[] encoded = bits.toByteArray();
+
+        GorillaCodec.Decoder decoder = new GorillaCodec.Decoder(
+                new BitReader(ByteBuffer.wrap(encoded), 0, encoded.length), 1);
+        for (int i = 0; i < count; i++) {
+            decoder.next();
+            assertEquals(series.epochMillis[i], decoder.epochMillis());
+            assertEquals(series.temperature[i], decoder.temperature());
+            assertEquals(series.humidity[i], decoder.humidity());
+            assertEquals(series.windSpeed[i], decoder.windSpeed());
+            assertEquals(series.condition[i], decoder.condition());
+        }
+
+        double ratio = (double) count * HistorySegment.RECORD_SIZE / encoded.length;
+        assertTrue(ratio >= 5.0, "compression ratio " + ratio);
+    }
+
+    @Test
+    void shouldRoundTripArbitraryDoublesLosslessly() {
+        SplittableRandom random = new SplittableRandom(7);
+        int count = 1_000;
+        double[] values = new double[count];
+        long[] epochs = new long[count];
+        long epoch = T0;
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextDouble(-1e6, 1e6);
+            epoch += random.nextInt(1, 100_000);
+            epochs[i] = epoch;
+        }
+        values[1] = Double.NaN;
+        values[2] = -0.0;
+        values[3] = Double.MIN_VALUE;
+        epochs[4] = Long.MIN_VALUE / 4;
+
+        BitWriter bits = new BitWriter();
+        GorillaCodec.Encoder encoder = new GorillaCodec.Encoder(bits, -1);
+        for (int i = 0; i < count; i++) {
+            encoder.add(epochs[i], values[i], i % 101, -values[i], i % 7);
+        }
+        byte[] encoded = bits.toByteArray();
+
+        GorillaCodec.Decoder decoder = new GorillaCodec.Decoder(
+                new BitReader(ByteBuffer.wrap(encoded), 0, encoded.length), -1);
+        for (int i = 0; i < count; i++) {
+            decoder.next();
+            assertEquals(epochs[i], decoder.epochMillis());
+            assertEquals(Double.doubleToRawLongBits(values[i]), Double.doubleToRawLongBits(decoder.temperature()));
+            assertEquals(Double.doubleToRawLongBits(-values[i]), Double.doubleToRawLongBits(decoder.windSpeed()));
+            assertEquals(i % 101, decoder.humidity());
+            assertEquals(i % 7, decoder.condition());
+        }
+    }
+
+    @Test
+    void shouldEraseMantissaBitsWithoutChangingRoundedValue() {
+        for (double value : new double[]{0.1, -3.7, 12.5, 99.9, 1234.5, -45.6}) {
+            double erased = GorillaCodec.erase(value, 1);
+
+            assertEquals(value, GorillaCodec.restore(erased, 10.0));
+            assertTrue(Long.numberOfTrailingZeros(Double.doubleToRawLongBits(erased)) > 30,
+                    "too few bits erased for " + value);
+        }
+    }
+
+    @Test
+    void shouldLeaveValueUntouchedWhenLossless() {
+        assertEquals(0.1, GorillaCodec.erase(0.1, -1));
+        assertEquals(0.0, GorillaCodec.erase(0.0, 1));
+    }
+
+    /**
+     * Mean-reverting series resembling one simulated station, rounded to one decimal.
+     */
+    private record Series(long[] epochMillis, double[] temperature, int[] humidity, double[] windSpeed,
+                          int[] condition) {
+
+        static Series simulate(int count, long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+            Series series = new Series(new long[count], new double[count], new int[count], new double[count],
+                    new int[count]);
+            double temperature = 12.0;
+            double humidity = 65.0;
+            double windSpeed = 10.0;
+            int condition = 2;
+            for (int i = 0; i < count; i++) {
+                temperature = 12.0 + 0.95 * (temperature - 12.0) + 0.3 * gaussian(random);
+                humidity = 65.0 + 0.95 * (humidity - 65.0) + gaussian(random);
+                windSpeed = Math.max(0.0, 10.0 + 0.95 * (windSpeed - 10.0) + 0.8 * gaussian(random));
+                if (random.nextDouble() > 0.97) {
+                    condition = random.nextInt(7);
+                }
+                series.epochMillis[i] = T0 + i * 1000L;
+                series.temperature[i] = Math.round(temperature * 10.0) / 10.0;
+                series.humidity[i] = (int) Math.round(Math.min(100.0, Math.max(0.0, humidity)));
+                series.windSpeed[i] = Math.round(windSpeed * 10.0) / 10.0;
+                series.condition[i] = condition;
+            }
+            return series;
+        }
+
+        private static double gaussian(SplittableRandom random) {
+            double u = 1.0 - random.nextDouble();
+            return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * random.nextDouble());
+        }
+    }
+}
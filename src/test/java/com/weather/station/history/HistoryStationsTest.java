@@ -0,0 +1,67 @@
+package com.weather.station.history;
+
+import com.weather.station.registry.StationDefinition;
+import com.weather.station.registry.StationRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistoryStationsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldStartFromCatalogOrder() throws IOException {
+        HistoryStations stations = HistoryStations.open(directory, registry("Windholm", "Frostmere"));
+
+        assertEquals(0, stations.id(0));
+        assertEquals(1, stations.id(1));
+        assertEquals(List.of("Windholm", "Frostmere"),
+                Files.readAllLines(directory.resolve(HistoryStations.FILE_NAME)));
+    }
+
+    @Test
+    void shouldKeepIdsWhenCatalogIsReordered() throws IOException {
+        HistoryStations.open(directory, registry("Windholm", "Frostmere", "Sunport"));
+
+        HistoryStations reordered = HistoryStations.open(directory, registry("Sunport", "frostmere", "Windholm"));
+
+        assertEquals(2, reordered.id(0));
+        assertEquals(1, reordered.id(1));
+        assertEquals(0, reordered.id(2));
+        assertEquals(2, reordered.station(0));
+        assertEquals(0, reordered.station(2));
+    }
+
+    @Test
+    void shouldAppendNewStationsAndForgetRemovedOnes() throws IOException {
+        HistoryStations.open(directory, registry("Windholm", "Frostmere"));
+
+        HistoryStations changed = HistoryStations.open(directory, registry("Dunecrest", "Windholm"));
+
+        assertEquals(2, changed.id(0));
+        assertEquals(0, changed.id(1));
+        assertEquals(1, changed.station(0));
+        assertEquals(-1, changed.station(1));
+        assertEquals(0, changed.station(2));
+        assertEquals(-1, changed.station(3));
+        assertEquals(List.of("Windholm", "Frostmere", "Dunecrest"),
+                Files.readAllLines(directory.resolve(HistoryStations.FILE_NAME)));
+    }
+
+    private static StationRegistry registry(String... names) {
+        StationRegistry.Builder builder = StationRegistry.builder(names.length);
+        for (String name : names) {
+            builder.add(new StationDefinition(name, "Fictionaland", "UTC",
+                    -15.0, 35.0, -15.0, 20.0, 20, 100, 0.0, 50.0));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,241 @@
+package com.weather.station.history;
+
+import com.weather.station.model.enums.WeatherCondition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistoryStoreTest {
+
+    private static final long T0 = 1_736_812_800_000L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadBackAppendedReadings() throws IOException {
+        try (HistoryStore store = HistoryStore.open(directory, 1024, 0)) {
+            store.append(T0, 0, 12.5, 68, 14.2, WeatherCondition.CLOUDY);
+            store.append(T0 + 1000, 0, 12.7, 67, 13.9, WeatherCondition.RAINY);
+
+            List<HistoryRecord> records = store.read(0, T0, T0 + 1000, 100);
+
+            assertEquals(2, records.size());
+            assertEquals(new HistoryRecord(T0, 0, 12.5, 68, 14.2, WeatherCondition.CLOUDY), records.get(0));
+            assertEquals(new HistoryRecord(T0 + 1000, 0, 12.7, 67, 13.9, WeatherCondition.RAINY), records.get(1));
+        }
+    }
+
+    @Test
+    void shouldScanOnlyReadingsAppendedBeforeMark() throws IOException {
+        try (HistoryStore store = HistoryStore.open(directory, 1024, 0)) {
+            store.append(T0 + 1000, 0, 12.5, 68, 14.2, WeatherCondition.CLOUDY);
+            long mark = store.mark();
+            assertEquals(mark, store.mark());
+            store.append(T0, 0, 12.7, 67, 13.9, WeatherCondition.RAINY);
+
+            List<Long> before = new ArrayList<>();
+            store.scan(T0, T0 + 1000, -1, mark, (epochMillis, station, temperature, humidity, windSpeed, condition) ->
+                    before.add(epochMillis));
+
+            assertEquals(List.of(T0 + 1000), before);
+            assertEquals(2, store.read(0, T0, T0 + 1000, 100).size());
+        }
+    }
+
+    @Test
+    void shouldFilterByTimeRangeAndStation() throws IOException {
+        try (HistoryStore store = HistoryStore.open(directory, 1024, 0)) {
+            for (int i = 0; i < 100; i++) {
+                store.append(T0 + i * 1000L, i % 2, i, 50, 5.0, WeatherCondition.SUNNY);
+            }
+
+            List<HistoryRecord> records = store.read(1, T0 + 10_000, T0 + 20_000, 100);
+
+            assertEquals(5, records.size());
+            assertEquals(T0 + 11_000, records.get(0).epochMillis());
+            assertEquals(T0 + 19_000, records.get(4).epochMillis());
+            assertTrue(records.stream().allMatch(record -> record.station() == 1));
+        }
+    }
+
+    @Test
+    void shouldHonourReadLimit() throws IOException {
+        try (HistoryStore store = HistoryStore.open(directory, 1024, 0)) {
+            for (int i = 0; i < 50; i++) {
+                store.append(T0 + i, 0, i, 50, 5.0, WeatherCondition.SUNNY);
+            }
+
+            assertEquals(10, store.read(0, T0, T0 + 100, 10).size());
+        }
+    }
+
+    @Test
+    void shouldRollOverSegmentsAndScanAcrossThem() throws IOException {
+        try (HistoryStore store = HistoryStore.open(directory, 10, 0)) {
+            for (int i = 0; i < 35; i++) {
+                store.append(T0 + i, 0, i, 50, 5.0, WeatherCondition.SUNNY);
+            }
+
+            assertEquals(35, store.size());
+            assertEquals(4, segmentFiles());
+            assertEquals(35, store.read(0, T0, T0 + 100, 100).size());
+        }
+    }
+
+    @Test
+    void shouldFindReadingsWrittenOutOfOrder() throws IOException {
+        try (HistoryStore store = HistoryStore.open(directory, 1024, 0)) {
+            store.append(T0 + 5000, 0, 1.0, 50, 5.0, WeatherCondition.SUNNY);
+            store.append(T0 + 1000, 0, 2.0, 50, 5.0, WeatherCondition.SUNNY);
+            store.append(T0 + 9000, 0, 3.0, 50, 5.0, WeatherCondition.SUNNY);
+
+            List<HistoryRecord> records = store.read(0, T0, T0 + 2000, 100);
+
+            assertEquals(1, records.size());
+            assertEquals(2.0, records.get(0).temperature());
+        }
+    }
+
+    @Test
+    void shouldResumeAfterReopenWithoutReplay() throws IOException {
+        try (HistoryStore store = HistoryStore.open(directory, 10, 0)) {
+            for (int i = 0; i < 15; i++) {
+                store.append(T0 + i, 0, i, 50, 5.0, WeatherCondition.SUNNY);
+            }
+        }
+
+        try (HistoryStore reopened = HistoryStore.open(directory, 10, 0)) {
+            assertEquals(15, reopened.size());
+            reopened.append(T0 + 15, 0, 15.0, 50, 5.0, WeatherCondition.WINDY);
+
+            List<HistoryRecord> records = reopened.read(0, T0, T0 + 100, 100);
+            assertEquals(16, records.size());
+            assertEquals(WeatherCondition.WINDY, records.get(15).condition());
+            assertEquals(2, segmentFiles());
+        }
+    }
+
+    @Test
+    void shouldDeleteOldestSegmentsBeyondRetention() throws IOException {
+        try (HistoryStore store = HistoryStore.open(directory, 10, 2)) {
+            for (int i = 0; i < 50; i++) {
+                store.append(T0 + i, 0, i, 50, 5.0, WeatherCondition.SUNNY);
+            }
+
+            assertEquals(2, segmentFiles());
+            assertEquals(20, store.size());
+            assertEquals(T0 + 30, store.read(0, T0, T0 + 100, 100).get(0).epochMillis());
+        }
+    }
+
+    @Test
+    void shouldRejectAppendAfterClose() throws IOException {
+        HistoryStore store = HistoryStore.open(directory, 10, 0);
+        store.close();
+
+        assertThrows(IllegalStateException.class,
+                () -> store.append(T0, 0, 1.0, 50, 5.0, WeatherCondition.SUNNY));
+    }
+
+    @Test
+    void shouldRejectForeignFiles() throws IOException {
+        Files.write(directory.resolve("segment-00000000000000000000.dat"), new byte[128]);
+
+        assertThrows(IOException.class, () -> HistoryStore.open(directory, 10, 0));
+    }
+
+    @Test
+    void shouldCompactFullSegmentsAndKeepThemReadable() throws IOException {
+        try (HistoryStore store = HistoryStore.open(directory, new HistoryStoreOptions(100, 0, true, 1))) {
+            for (int i = 0; i < 250; i++) {
+                store.append(T0 + i * 1000L, i % 3, 10.0 + i * 0.01, 50 + i % 5, 5.56, WeatherCondition.SUNNY);
+            }
+            store.awaitCompaction();
+
+            assertEquals(List.of("segment-00000000000000000000.gor", "segment-00000000000000000001.gor",
+                    "segment-00000000000000000002.dat"), segmentFileNames());
+            assertEquals(250, store.size());
+
+            List<HistoryRecord> records = store.read(1, T0, T0 + 250_000, 1000);
+            assertEquals(83, records.size());
+            assertEquals(new HistoryRecord(T0 + 1000, 1, 10.0, 51, 5.6, WeatherCondition.SUNNY), records.get(0));
+            assertEquals(new HistoryRecord(T0 + 4000, 1, 10.0, 54, 5.6, WeatherCondition.SUNNY), records.get(1));
+            assertEquals(T0 + 247_000, records.get(82).epochMillis());
+        }
+    }
+
+    @Test
+    void shouldFilterCompressedSegmentsByTimeRange() throws IOException {
+        try (HistoryStore store = HistoryStore.open(directory, new HistoryStoreOptions(10, 0, true, 1))) {
+            for (int i = 0; i < 25; i++) {
+                store.append(T0 + i * 1000L, 0, i, 50, 5.0, WeatherCondition.SUNNY);
+            }
+            store.awaitCompaction();
+
+            List<HistoryRecord> records = store.read(0, T0 + 5000, T0 + 12_000, 100);
+
+            assertEquals(8, records.size());
+            assertEquals(5.0, records.get(0).temperature());
+            assertEquals(12.0, records.get(7).temperature());
+        }
+    }
+
+    @Test
+    void shouldCompactLeftoverSegmentsOnReopen() throws IOException {
+        try (HistoryStore store = HistoryStore.open(directory, 10, 0)) {
+            for (int i = 0; i < 15; i++) {
+                store.append(T0 + i, 0, i, 50, 5.0, WeatherCondition.SUNNY);
+            }
+        }
+        Files.write(directory.resolve("segment-00000000000000000000.gor.tmp"), new byte[16]);
+
+        try (HistoryStore reopened = HistoryStore.open(directory, new HistoryStoreOptions(10, 0, true, 1))) {
+            reopened.awaitCompaction();
+
+            assertEquals(List.of("segment-00000000000000000000.gor", "segment-00000000000000000001.dat"),
+                    segmentFileNames());
+            assertEquals(15, reopened.size());
+            reopened.append(T0 + 15, 0, 15.0, 50, 5.0, WeatherCondition.WINDY);
+            assertEquals(16, reopened.read(0, T0, T0 + 100, 100).size());
+        }
+
+        try (HistoryStore reopened = HistoryStore.open(directory, 10, 0)) {
+            assertEquals(16, reopened.size());
+        }
+    }
+
+    @Test
+    void shouldDropCompressedSegmentsBeyondRetention() throws IOException {
+        try (HistoryStore store = HistoryStore.open(directory, new HistoryStoreOptions(10, 2, true, 1))) {
+            for (int i = 0; i < 50; i++) {
+                store.append(T0 + i, 0, i, 50, 5.0, WeatherCondition.SUNNY);
+                store.awaitCompaction();
+            }
+
+            assertEquals(List.of("segment-00000000000000000003.gor", "segment-00000000000000000004.dat"),
+                    segmentFileNames());
+            assertEquals(20, store.size());
+        }
+    }
+
+    private List<String> segmentFileNames() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
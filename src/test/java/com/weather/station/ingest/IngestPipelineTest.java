@@ -0,0 +1,130 @@
+package com.weather.station.ingest;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.config.WeatherConfigFixtures;
+import com.weather.station.model.dto.SensorReading;
+import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.service.WeatherDataGenerator;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import com.weather.station.simulation.WeatherSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IngestPipelineTest {
+
+    private final List<WeatherSnapshot> received = new CopyOnWriteArrayList<>();
+    private WeatherSimulationEngine engine;
+    private IngestPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        WeatherConfig config = WeatherConfigFixtures.defaultConfig();
+        config.getSimulation().setEnabled(false);
+        engine = new WeatherSimulationEngine(new WeatherDataGenerator(config), config,
+                WeatherConfigFixtures.singleStationRegistry(config),
+                List.of((station, snapshot) -> received.add(snapshot)));
+        received.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.close();
+        }
+    }
+
+    @Test
+    void shouldWriteReadingsToEngine() {
+        pipeline = new IngestPipeline(engine, 16, 4);
+        long now = System.currentTimeMillis();
+
+        assertTrue(pipeline.offer(0, List.of(reading(10.0), reading(11.0), reading(12.0)),
+                new long[]{now, now + 1, now + 2}));
+
+        assertTrue(pipeline.awaitWritten(Duration.ofSeconds(5)));
+        assertEquals(List.of(10.0, 11.0, 12.0), received.stream().map(WeatherSnapshot::temperature).toList());
+        assertEquals(now + 2, engine.snapshot().epochMillis());
+        assertTrue(engine.hasLiveSensor(0));
+        IngestStats stats = pipeline.stats();
+        assertEquals(3, stats.accepted());
+        assertEquals(3, stats.written());
+        assertEquals(0, stats.pending());
+    }
+
+    @Test
+    void shouldRejectWholeBatchWhenBufferIsFull() {
+        AtomicBoolean armed = new AtomicBoolean();
+        CountDownLatch release = new CountDownLatch(1);
+        WeatherConfig config = WeatherConfigFixtures.defaultConfig();
+        WeatherSimulationEngine blocked = new WeatherSimulationEngine(new WeatherDataGenerator(config), config,
+                WeatherConfigFixtures.singleStationRegistry(config), List.of((station, snapshot) -> {
+                    if (!armed.get()) {
+                        return;
+                    }
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        armed.set(true);
+        pipeline = new IngestPipeline(blocked, 4, 4);
+        long now = System.currentTimeMillis();
+
+        assertTrue(pipeline.offer(0, List.of(reading(1.0), reading(2.0), reading(3.0)), new long[]{now, now, now}));
+        assertFalse(pipeline.offer(0, List.of(reading(4.0), reading(5.0)), new long[]{now, now}));
+        release.countDown();
+
+        assertTrue(pipeline.awaitWritten(Duration.ofSeconds(5)));
+        IngestStats stats = pipeline.stats();
+        assertEquals(3, stats.accepted());
+        assertEquals(2, stats.rejected());
+        assertEquals(4, stats.capacity());
+    }
+
+    @Test
+    void shouldWriteSingleReadings() {
+        pipeline = new IngestPipeline(engine, 16, 4);
+        long now = System.currentTimeMillis();
+
+        assertTrue(pipeline.offer(0, now, 7.5, 55, 12.0, WeatherCondition.WINDY));
+        assertTrue(pipeline.offer(0, now + 1, 7.8, 54, 13.0, WeatherCondition.WINDY));
+
+        assertTrue(pipeline.awaitWritten(Duration.ofSeconds(5)));
+        assertEquals(List.of(7.5, 7.8), received.stream().map(WeatherSnapshot::temperature).toList());
+        assertEquals(WeatherCondition.WINDY, engine.snapshot().condition());
+        assertEquals(2, pipeline.stats().accepted());
+    }
+
+    @Test
+    void shouldDrainBufferOnClose() {
+        pipeline = new IngestPipeline(engine, 1024, 16);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 100; i++) {
+            pipeline.offer(0, List.of(reading(i)), new long[]{now + i});
+        }
+
+        pipeline.close();
+
+        assertEquals(100, received.size());
+        assertFalse(pipeline.offer(0, List.of(reading(1.0)), new long[]{now}));
+    }
+
+    private static SensorReading reading(double temperature) {
+        return SensorReading.builder()
+                .temperature(temperature)
+                .humidity(60)
+                .windSpeed(4.0)
+                .condition(WeatherCondition.CLOUDY)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.weather.station.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadingRingBufferTest {
+
+    @Test
+    void shouldRoundCapacityUpToPowerOfTwo() {
+        assertEquals(8, new ReadingRingBuffer(5).capacity());
+        assertEquals(8, new ReadingRingBuffer(8).capacity());
+        assertEquals(1, new ReadingRingBuffer(1).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new ReadingRingBuffer(0));
+    }
+
+    @Test
+    void shouldDrainReadingsInSequenceOrder() {
+        ReadingRingBuffer buffer = new ReadingRingBuffer(4);
+        long first = buffer.claim(3);
+        for (int i = 0; i < 3; i++) {
+            buffer.put(first + i, i, 1_000L + i, 10.0 + i, 50 + i, 5.0 + i, i);
+        }
+
+        List<String> drained = new ArrayList<>();
+        int count = buffer.drain((station, epochMillis, temperature, humidity, windSpeed, condition) ->
+                drained.add(station + ":" + epochMillis + ":" + temperature + ":" + humidity + ":" + windSpeed
+                        + ":" + condition), 10);
+
+        assertEquals(3, count);
+        assertEquals(List.of("0:1000:10.0:50:5.0:0", "1:1001:11.0:51:6.0:1", "2:1002:12.0:52:7.0:2"), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void shouldRejectBatchesThatDoNotFit() {
+        ReadingRingBuffer buffer = new ReadingRingBuffer(4);
+
+        assertEquals(0, buffer.claim(3));
+        assertEquals(-1, buffer.claim(2));
+        assertEquals(3, buffer.claim(1));
+        assertEquals(-1, buffer.claim(1));
+    }
+
+    @Test
+    void shouldReuseSlotsOnceDrained() {
+        ReadingRingBuffer buffer = new ReadingRingBuffer(2);
+        for (int round = 0; round < 5; round++) {
+            long first = buffer.claim(2);
+            assertEquals(round * 2L, first);
+            buffer.put(first, 0, round, 0, 0, 0, 0);
+            buffer.put(first + 1, 1, round, 0, 0, 0, 0);
+            assertEquals(2, buffer.drain((station, epochMillis, temperature, humidity, windSpeed, condition) -> {
+            }, 10));
+        }
+    }
+
+    @Test
+    void shouldStopAtFirstUnpublishedSlot() {
+        ReadingRingBuffer buffer = new ReadingRingBuffer(4);
+        long first = buffer.claim(2);
+        buffer.put(first + 1, 1, 0, 0, 0, 0, 0);
+
+        assertEquals(0, buffer.drain((station, epochMillis, temperature, humidity, windSpeed, condition) -> {
+        }, 10));
+
+        buffer.put(first, 0, 0, 0, 0, 0, 0);
+        assertEquals(2, buffer.drain((station, epochMillis, temperature, humidity, windSpeed, condition) -> {
+        }, 10));
+    }
+
+    @Test
+    void shouldDeliverEveryReadingFromConcurrentProducers() throws InterruptedException {
+        ReadingRingBuffer buffer = new ReadingRingBuffer(1024);
+        int producers = 4;
+        int perProducer = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perProducer; ) {
+                    long sequence = buffer.claim(1);
+                    if (sequence >= 0) {
+                        buffer.put(sequence, producer, i, 0, 0, 0, 0);
+                        i++;
+                    } else {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+
+        long[] next = new long[producers];
+        long total = 0;
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (total < (long) producers * perProducer && System.nanoTime() < deadline) {
+            total += buffer.drain((station, epochMillis, temperature, humidity, windSpeed, condition) -> {
+                assertEquals(next[station], epochMillis, "Readings of producer " + station + " out of order");
+                next[station]++;
+            }, 256);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals((long) producers * perProducer, total);
+        for (long count : next) {
+            assertEquals(perProducer, count);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.weather.station.ingest;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.config.WeatherConfigFixtures;
+import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.service.WeatherDataGenerator;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import com.weather.station.simulation.WeatherSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UdpReadingListenerTest {
+
+    private final List<WeatherSnapshot> received = new CopyOnWriteArrayList<>();
+    private WeatherSimulationEngine engine;
+    private IngestPipeline pipeline;
+    private UdpReadingListener listener;
+    private DatagramChannel sender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        WeatherConfig config = WeatherConfigFixtures.defaultConfig();
+        config.getSimulation().setEnabled(false);
+        engine = new WeatherSimulationEngine(new WeatherDataGenerator(config), config,
+                WeatherConfigFixtures.singleStationRegistry(config),
+                List.of((station, snapshot) -> received.add(snapshot)));
+        received.clear();
+        pipeline = new IngestPipeline(engine, 16, 4);
+        listener = UdpReadingListener.open(pipeline, 1,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1 << 16);
+        sender = DatagramChannel.open().connect(listener.localAddress());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        sender.close();
+        listener.close();
+        pipeline.close();
+    }
+
+    @Test
+    void shouldPublishDecodedReading() throws IOException {
+        long measuredAt = 1736866800000L;
+        ByteBuffer datagram = ByteBuffer.allocate(SensorDatagramFormat.DATAGRAM_BYTES);
+        SensorDatagramFormat.write(datagram, 0, measuredAt, -4.26, 87, 18.04, WeatherCondition.SNOWY);
+
+        send(datagram.flip());
+
+        awaitReceived(1);
+        assertTrue(pipeline.awaitWritten(Duration.ofSeconds(5)));
+        WeatherSnapshot snapshot = received.get(0);
+        assertEquals(measuredAt, snapshot.epochMillis());
+        assertEquals(-4.3, snapshot.temperature(), 1e-9);
+        assertEquals(87, snapshot.humidity());
+        assertEquals(18.0, snapshot.windSpeed(), 1e-9);
+        assertEquals(WeatherCondition.SNOWY, snapshot.condition());
+        assertTrue(engine.hasLiveSensor(0));
+        assertEquals(new UdpStats(1, 1, 0, 0), listener.stats());
+    }
+
+    @Test
+    void shouldStampReceiptTimeWhenMeasurementTimeIsZero() throws IOException {
+        long before = System.currentTimeMillis();
+        ByteBuffer datagram = ByteBuffer.allocate(SensorDatagramFormat.DATAGRAM_BYTES);
+        SensorDatagramFormat.write(datagram, 0, SensorDatagramFormat.RECEIPT_TIME, 10.0, 50, 2.0,
+                WeatherCondition.SUNNY);
+
+        send(datagram.flip());
+
+        awaitReceived(1);
+        assertTrue(pipeline.awaitWritten(Duration.ofSeconds(5)));
+        long epochMillis = received.get(0).epochMillis();
+        assertTrue(epochMillis >= before && epochMillis <= System.currentTimeMillis());
+    }
+
+    @Test
+    void shouldCountAndDropMalformedDatagrams() throws IOException {
+        send(valid().put(0, (byte) 0));
+        send(valid().put(2, (byte) 2));
+        send(valid().put(3, (byte) WeatherCondition.values().length));
+        send(valid().putInt(4, 1));
+        send(valid().put(20, (byte) 101));
+        send(ByteBuffer.allocate(SensorDatagramFormat.DATAGRAM_BYTES - 1));
+        send(ByteBuffer.allocate(SensorDatagramFormat.DATAGRAM_BYTES + 8).put(valid()).rewind());
+        send(valid());
+
+        awaitReceived(8);
+        assertTrue(pipeline.awaitWritten(Duration.ofSeconds(5)));
+        assertEquals(new UdpStats(8, 1, 7, 0), listener.stats());
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    void shouldStopReceivingOnClose() throws IOException {
+        listener.close();
+
+        send(valid());
+
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(0, listener.stats().received());
+    }
+
+    private static ByteBuffer valid() {
+        ByteBuffer datagram = ByteBuffer.allocate(SensorDatagramFormat.DATAGRAM_BYTES);
+        SensorDatagramFormat.write(datagram, 0, 1736866800000L, 12.0, 60, 5.0, WeatherCondition.CLOUDY);
+        return datagram.flip();
+    }
+
+    private void send(ByteBuffer datagram) throws IOException {
+        sender.write(datagram);
+    }
+
+    private void awaitReceived(long count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (listener.stats().received() < count) {
+            assertTrue(System.nanoTime() - deadline < 0, "Datagrams not received in time");
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+}
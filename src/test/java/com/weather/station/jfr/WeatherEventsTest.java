@@ -0,0 +1,129 @@
+package com.weather.station.jfr;
+
+import com.weather.station.cache.ForecastCache;
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.config.WeatherConfigFixtures;
+import com.weather.station.json.WeatherJsonHttpMessageConverter;
+import com.weather.station.json.WeatherJsonWriter;
+import com.weather.station.metrics.Phase;
+import com.weather.station.metrics.RequestMetricsInterceptor;
+import com.weather.station.metrics.SerializationTimingAdvice;
+import com.weather.station.metrics.WeatherMetrics;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.WeatherDataGenerator;
+import com.weather.station.service.WeatherService;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherEventsTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void shouldRecordServiceAndGenerationEvents() throws Exception {
+        WeatherConfig config = WeatherConfigFixtures.defaultConfig();
+        config.getSimulation().setEnabled(false);
+        StationRegistry registry = WeatherConfigFixtures.singleStationRegistry(config);
+        WeatherDataGenerator generator = new WeatherDataGenerator(config);
+        WeatherService weatherService = new WeatherService(generator,
+                new WeatherSimulationEngine(generator, config, registry, List.of()), registry,
+                ForecastCache.disabled(registry), new WeatherMetrics(false));
+
+        List<RecordedEvent> events = record(() -> {
+            weatherService.getCurrentWeather("Windholm");
+            weatherService.getForecast("Windholm");
+        });
+
+        RecordedEvent current = single(events, "com.weather.station.CurrentWeather");
+        assertEquals("Windholm", current.getString("city"));
+        assertEquals("generated", current.getString("source"));
+
+        RecordedEvent forecast = single(events, "com.weather.station.Forecast");
+        assertEquals("Windholm", forecast.getString("city"));
+        assertEquals(7, forecast.getInt("days"));
+
+        List<String> methods = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.weather.station.Generation"))
+                .map(event -> event.getString("method"))
+                .toList();
+        assertEquals(1, methods.stream().filter("generateTemperature"::equals).count());
+        assertEquals(1, methods.stream().filter("generateForecastDates"::equals).count());
+        assertEquals(7, methods.stream().filter("generateTempMax"::equals).count());
+        // nested inside the forecast call
+        RecordedEvent dates = events.stream()
+                .filter(event -> "generateForecastDates".equals(event.getString("method")))
+                .findFirst().orElseThrow();
+        assertFalse(dates.getStartTime().isBefore(forecast.getStartTime()));
+    }
+
+    @Test
+    void shouldRecordSerializationEventWithPayloadSize() throws Exception {
+        WeatherMetrics metrics = new WeatherMetrics(true);
+        SerializationTimingAdvice advice = new SerializationTimingAdvice(metrics);
+        RequestMetricsInterceptor interceptor = new RequestMetricsInterceptor(metrics);
+        WeatherJsonHttpMessageConverter converter =
+                new WeatherJsonHttpMessageConverter(WeatherJsonWriter.matching(JsonMapper.builder().build()));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/weather/current");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CurrentWeatherResponse body = new CurrentWeatherResponse("Windholm", "2025-01-14T15:32:00", 22.5, 65, 15.3, null);
+
+        List<RecordedEvent> events = record(() -> {
+            ServletServerHttpResponse output = new ServletServerHttpResponse(response);
+            advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON, WeatherJsonHttpMessageConverter.class,
+                    new ServletServerHttpRequest(request), output);
+            converter.write(body, MediaType.APPLICATION_JSON, output);
+            output.flush();
+            interceptor.postHandle(request, response, null, null);
+        });
+
+        RecordedEvent serialization = single(events, "com.weather.station.Serialization");
+        assertEquals("CurrentWeatherResponse", serialization.getString("type"));
+        assertEquals("application/json", serialization.getString("mediaType"));
+        assertEquals(response.getContentAsByteArray().length, serialization.getLong("payloadSize"));
+        assertEquals(1, metrics.phases().get(Phase.SERIALIZATION).count());
+    }
+
+    private List<RecordedEvent> record(ThrowingRunnable action) throws Exception {
+        Path file = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CurrentWeatherEvent.class);
+            recording.enable(ForecastEvent.class);
+            recording.enable(GenerationEvent.class);
+            recording.enable(SerializationEvent.class);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
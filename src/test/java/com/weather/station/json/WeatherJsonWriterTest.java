@@ -0,0 +1,132 @@
+package com.weather.station.json;
+
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ForecastDay;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.model.enums.WeatherCondition;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import tools.jackson.core.json.JsonWriteFeature;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherJsonWriterTest {
+
+    private static final List<String> TRICKY_STRINGS = List.of("Windholm", "", "São Paulo", "Zürich/Nord",
+            "quote \" backslash \\ tab \t newline \n cr \r ff \f bs \b nul \u0000 unit \u001f del \u007f",
+            "emoji 🌧 cjk 東京", "2025-01-14T15:32:00");
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void shouldMatchJacksonForCurrentWeather() {
+        assertMatchesJackson(jsonMapper, currentWeather(new SplittableRandom(1), "Windholm"));
+        for (String city : TRICKY_STRINGS) {
+            assertMatchesJackson(jsonMapper, currentWeather(new SplittableRandom(city.hashCode()), city));
+        }
+    }
+
+    @Test
+    void shouldMatchJacksonForForecast() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (String city : TRICKY_STRINGS) {
+            assertMatchesJackson(jsonMapper, forecast(random, city, 7));
+        }
+        assertMatchesJackson(jsonMapper, forecast(random, "Frostmere", 0));
+        assertMatchesJackson(jsonMapper, forecast(random, "Frostmere", 1).getForecast().get(0));
+    }
+
+    @Test
+    void shouldMatchJacksonForNullsAndSpecialNumbers() {
+        assertMatchesJackson(jsonMapper, new CurrentWeatherResponse());
+        assertMatchesJackson(jsonMapper, new ForecastResponse());
+        assertMatchesJackson(jsonMapper, new ForecastResponse("Windholm", null, Arrays.asList(null, new ForecastDay())));
+        for (double value : new double[]{-0.0, 1.0E7, 1.0E-5, 123456789.125, Double.MIN_VALUE, Double.NaN,
+                Double.NEGATIVE_INFINITY}) {
+            assertMatchesJackson(jsonMapper, new CurrentWeatherResponse("Windholm", "t", value, Integer.MIN_VALUE,
+                    value, WeatherCondition.FOGGY));
+        }
+    }
+
+    @Test
+    void shouldFollowMapperOrderingAndEscapingSettings() {
+        JsonMapper customized = JsonMapper.builder()
+                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY,
+                        !jsonMapper.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY))
+                .configure(JsonWriteFeature.ESCAPE_FORWARD_SLASHES,
+                        !jsonMapper.isEnabled(JsonWriteFeature.ESCAPE_FORWARD_SLASHES))
+                .enable(JsonWriteFeature.ESCAPE_NON_ASCII)
+                .build();
+        SplittableRandom random = new SplittableRandom(11);
+
+        for (String city : TRICKY_STRINGS) {
+            assertMatchesJackson(customized, currentWeather(random, city));
+            assertMatchesJackson(customized, forecast(random, city, 3));
+        }
+    }
+
+    @Test
+    void shouldWriteSupportedTypesThroughConverter() throws Exception {
+        WeatherJsonHttpMessageConverter converter = new WeatherJsonHttpMessageConverter(
+                WeatherJsonWriter.matching(jsonMapper));
+        CurrentWeatherResponse response = currentWeather(new SplittableRandom(3), "Windholm");
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        converter.write(response, MediaType.APPLICATION_JSON, message);
+
+        assertArrayEquals(jsonMapper.writeValueAsBytes(response), message.getBodyAsBytes());
+        assertEquals(MediaType.APPLICATION_JSON, message.getHeaders().getContentType());
+        assertEquals(message.getBodyAsBytes().length, message.getHeaders().getContentLength());
+        assertTrue(converter.canWrite(ForecastResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(String.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(CurrentWeatherResponse.class, MediaType.APPLICATION_JSON));
+    }
+
+    private static void assertMatchesJackson(JsonMapper mapper, Object value) {
+        JsonOutput out = new JsonOutput(16);
+        WeatherJsonWriter.matching(mapper).write(value, out);
+        byte[] expected = mapper.writeValueAsBytes(value);
+
+        assertEquals(new String(expected, StandardCharsets.UTF_8), new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertArrayEquals(expected, out.toByteArray());
+    }
+
+    private static CurrentWeatherResponse currentWeather(SplittableRandom random, String city) {
+        return CurrentWeatherResponse.builder()
+                .city(city)
+                .timestamp("2025-01-14T15:32:00")
+                .temperature(Math.round(random.nextDouble(-15.0, 35.0) * 10) / 10.0)
+                .humidity(random.nextInt(20, 101))
+                .windSpeed(Math.round(random.nextDouble(0.0, 50.0) * 10) / 10.0)
+                .condition(WeatherCondition.values()[random.nextInt(WeatherCondition.values().length)])
+                .build();
+    }
+
+    private static ForecastResponse forecast(SplittableRandom random, String city, int days) {
+        List<ForecastDay> forecast = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            double tempMin = Math.round(random.nextDouble(-15.0, 20.0) * 10) / 10.0;
+            forecast.add(ForecastDay.builder()
+                    .date("2025-01-" + (15 + i))
+                    .tempMin(tempMin)
+                    .tempMax(tempMin + random.nextInt(10))
+                    .condition(WeatherCondition.values()[random.nextInt(WeatherCondition.values().length)])
+                    .precipitation(random.nextInt(0, 101))
+                    .build());
+        }
+        return ForecastResponse.builder()
+                .city(city)
+                .generatedAt("2025-01-14T15:32:00")
+                .forecast(forecast)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.weather.station.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldMapEveryValueIntoABucketThatContainsIt() {
+        int previous = -1;
+        for (long value = 0; value < 1_000_000; value++) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(index == previous || index == previous + 1, "gap at " + value);
+            assertTrue(LatencyHistogram.upperBound(index) >= value);
+            previous = index;
+        }
+        for (long value : new long[]{1L << 40, (1L << 40) + 12345, Long.MAX_VALUE}) {
+            long upper = LatencyHistogram.upperBound(LatencyHistogram.index(value));
+            assertTrue(upper >= value && upper - value <= value / 32, "value " + value);
+        }
+    }
+
+    @Test
+    void shouldReportPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros * 1_000);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(100_000, snapshot.count());
+        assertEquals(50_000, snapshot.p50Micros(), 50_000 * 0.035);
+        assertEquals(99_000, snapshot.p99Micros(), 99_000 * 0.035);
+        assertEquals(99_900, snapshot.p999Micros(), 99_900 * 0.035);
+        assertEquals(100_000, snapshot.maxMicros());
+        assertTrue(snapshot.p999Micros() <= snapshot.maxMicros());
+    }
+
+    @Test
+    void shouldReportZerosWhenEmpty() {
+        assertEquals(new LatencySnapshot(0, 0, 0, 0, 0), new LatencyHistogram().snapshot());
+    }
+
+    @Test
+    void shouldReportZerosAfterReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(2_000_000);
+
+        histogram.reset();
+
+        assertEquals(new LatencySnapshot(0, 0, 0, 0, 0), histogram.snapshot());
+        histogram.record(3_000);
+        assertEquals(3.0, histogram.snapshot().maxMicros());
+    }
+
+    @Test
+    void shouldCountEveryValueRecordedConcurrently() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        histogram.record(1_500);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(800_000, snapshot.count());
+        assertEquals(1.5, snapshot.maxMicros());
+    }
+}
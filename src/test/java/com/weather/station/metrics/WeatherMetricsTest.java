@@ -0,0 +1,75 @@
+package com.weather.station.metrics;
+
+import com.weather.station.exception.StationNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherMetricsTest {
+
+    @Test
+    void shouldRecordRequestsPerEndpointAndErrorsPerType() {
+        WeatherMetrics metrics = new WeatherMetrics(true);
+
+        metrics.recordRequest("GET /api/weather/{city}/current", metrics.start());
+        metrics.recordRequest("GET /api/weather/{city}/current", metrics.start());
+        metrics.recordRequest("GET /api/weather/forecast", metrics.start());
+        metrics.recordRequest(null, metrics.start());
+        metrics.recordError(new StationNotFoundException("Atlantis"));
+        metrics.recordError(new StationNotFoundException("Lemuria"));
+        metrics.recordError(new IllegalArgumentException("Invalid resolution: 5s"));
+        metrics.record(Phase.SERIALIZATION, metrics.start());
+
+        assertEquals(4, metrics.requests());
+        assertEquals(2, metrics.endpoints().get("GET /api/weather/{city}/current").count());
+        assertEquals(1, metrics.endpoints().get("GET /api/weather/forecast").count());
+        assertEquals(2, metrics.endpoints().size());
+        assertEquals(Map.of("IllegalArgumentException", 1L, "StationNotFoundException", 2L), metrics.errors());
+        assertEquals(1, metrics.phases().get(Phase.SERIALIZATION).count());
+        assertEquals(0, metrics.phases().get(Phase.GENERATION).count());
+    }
+
+    @Test
+    void shouldRecordNothingWhenDisabled() {
+        WeatherMetrics metrics = new WeatherMetrics(false);
+
+        assertEquals(0, metrics.start());
+        metrics.recordRequest("GET /api/weather/forecast", metrics.start());
+        metrics.recordError(new IllegalStateException());
+        metrics.record(Phase.ORCHESTRATION, metrics.start());
+
+        assertEquals(0, metrics.requests());
+        assertTrue(metrics.endpoints().isEmpty());
+        assertTrue(metrics.errors().isEmpty());
+        assertEquals(0, metrics.phases().get(Phase.ORCHESTRATION).count());
+    }
+
+    @Test
+    void shouldRecordFirstWeatherRequestsUpToTheLimit() {
+        WeatherMetrics metrics = new WeatherMetrics(true, 2);
+
+        metrics.recordRequest("GET /api/metrics", metrics.start());
+        metrics.recordRequest("GET /api/weather/current", metrics.start());
+        metrics.recordRequest(null, metrics.start());
+        metrics.recordRequest("GET /api/weather/{city}/forecast", metrics.start());
+        metrics.recordRequest("GET /api/weather/forecast", metrics.start());
+
+        assertEquals(2, metrics.firstRequests().count());
+        assertEquals(5, metrics.requests());
+    }
+
+    @Test
+    void shouldClearPhasesButKeepRequestCounters() {
+        WeatherMetrics metrics = new WeatherMetrics(true);
+        metrics.record(Phase.GENERATION, metrics.start());
+        metrics.recordRequest("GET /api/weather/current", metrics.start());
+
+        metrics.resetPhases();
+
+        assertEquals(0, metrics.phases().get(Phase.GENERATION).count());
+        assertEquals(1, metrics.requests());
+        assertEquals(1, metrics.endpoints().get("GET /api/weather/current").count());
+    }
+}
@@ -0,0 +1,44 @@
+package com.weather.station.overload;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadMonitorTest {
+
+    @Test
+    void shouldReportOverloadAboveMaxInFlight() {
+        LoadMonitor monitor = new LoadMonitor(2, Duration.ofMillis(50));
+
+        monitor.enter();
+        monitor.enter();
+        assertFalse(monitor.overloaded());
+        monitor.enter();
+        assertTrue(monitor.overloaded());
+
+        monitor.exit();
+        assertFalse(monitor.overloaded());
+        assertEquals(2, monitor.inFlight());
+    }
+
+    @Test
+    void shouldFollowLatencySpikesAndRecover() {
+        LoadMonitor monitor = new LoadMonitor(100, Duration.ofMillis(50));
+
+        for (int i = 0; i < 40; i++) {
+            monitor.enter();
+            monitor.exit(Duration.ofMillis(200).toNanos());
+        }
+        assertTrue(monitor.overloaded());
+        assertTrue(monitor.latencyMicros() > 150_000);
+
+        for (int i = 0; i < 40; i++) {
+            monitor.enter();
+            monitor.exit(Duration.ofMillis(1).toNanos());
+        }
+        assertFalse(monitor.overloaded());
+        assertEquals(0, monitor.inFlight());
+    }
+}
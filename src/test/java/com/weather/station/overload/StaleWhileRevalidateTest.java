@@ -0,0 +1,169 @@
+package com.weather.station.overload;
+
+import com.weather.station.cache.ForecastCache;
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.config.WeatherConfigFixtures;
+import com.weather.station.exception.ServiceOverloadedException;
+import com.weather.station.exception.StationNotFoundException;
+import com.weather.station.metrics.WeatherMetrics;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.WeatherDataGenerator;
+import com.weather.station.service.WeatherService;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaleWhileRevalidateTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-14T12:00:00Z"));
+    private final List<Runnable> refreshes = new ArrayList<>();
+    // overloaded as soon as one request is in flight
+    private final LoadMonitor monitor = new LoadMonitor(0, Duration.ofMillis(50));
+
+    private StaleWhileRevalidate staleWhileRevalidate;
+
+    @BeforeEach
+    void setUp() {
+        WeatherConfig config = WeatherConfigFixtures.defaultConfig();
+        // every call generates a new response, so identity tells whether one was computed
+        config.getSimulation().setEnabled(false);
+        StationRegistry registry = WeatherConfigFixtures.singleStationRegistry(config);
+        WeatherDataGenerator generator = new WeatherDataGenerator(config);
+        WeatherService weatherService = new WeatherService(generator,
+                new WeatherSimulationEngine(generator, config, registry, List.of()), registry,
+                ForecastCache.disabled(registry), new WeatherMetrics(false));
+        staleWhileRevalidate = new StaleWhileRevalidate(weatherService, registry, monitor, refreshes::add, clock,
+                Duration.ofSeconds(1), Duration.ofSeconds(60));
+    }
+
+    @Test
+    void shouldServeLastResponseWithinFreshnessPeriod() {
+        Served<CurrentWeatherResponse> first = staleWhileRevalidate.getCurrentWeather("Windholm");
+        clock.advance(Duration.ofMillis(999));
+        Served<CurrentWeatherResponse> second = staleWhileRevalidate.getCurrentWeather("windholm");
+
+        assertFalse(first.stale());
+        assertFalse(second.stale());
+        assertSame(first.value(), second.value());
+        assertEquals(999, second.ageMillis());
+        assertTrue(refreshes.isEmpty());
+    }
+
+    @Test
+    void shouldServeStaleResponseWhileOneRefreshRuns() {
+        Served<ForecastResponse> first = staleWhileRevalidate.getForecast();
+        clock.advance(Duration.ofSeconds(5));
+
+        Served<ForecastResponse> stale = staleWhileRevalidate.getForecast();
+        staleWhileRevalidate.getForecast();
+
+        assertTrue(stale.stale());
+        assertEquals(5000, stale.ageMillis());
+        assertSame(first.value(), stale.value());
+        assertEquals(1, refreshes.size(), "one refresh per station at a time");
+
+        refreshes.remove(0).run();
+        Served<ForecastResponse> refreshed = staleWhileRevalidate.getForecast();
+        assertFalse(refreshed.stale());
+        assertNotSame(first.value(), refreshed.value());
+        assertEquals(1, staleWhileRevalidate.stats().refreshes());
+        assertEquals(2, staleWhileRevalidate.stats().stale());
+    }
+
+    @Test
+    void shouldComputeOnTheRequestBeyondMaxStale() {
+        Served<CurrentWeatherResponse> first = staleWhileRevalidate.getCurrentWeather();
+        clock.advance(Duration.ofSeconds(60));
+
+        Served<CurrentWeatherResponse> second = staleWhileRevalidate.getCurrentWeather();
+
+        assertFalse(second.stale());
+        assertNotSame(first.value(), second.value());
+        assertTrue(refreshes.isEmpty());
+    }
+
+    @Test
+    void shouldShedToLastResponseOfAnyAgeUnderOverload() {
+        Served<CurrentWeatherResponse> first = staleWhileRevalidate.getCurrentWeather();
+        clock.advance(Duration.ofHours(1));
+        monitor.enter();
+
+        Served<CurrentWeatherResponse> shed = staleWhileRevalidate.getCurrentWeather();
+
+        assertTrue(shed.stale());
+        assertSame(first.value(), shed.value());
+        assertEquals(1, refreshes.size());
+    }
+
+    @Test
+    void shouldRejectUnderOverloadWithNothingToServe() {
+        monitor.enter();
+
+        assertThrows(ServiceOverloadedException.class, () -> staleWhileRevalidate.getForecast("Windholm"));
+        assertThrows(StationNotFoundException.class, () -> staleWhileRevalidate.getForecast("Atlantis"));
+        assertEquals(1, staleWhileRevalidate.stats().shed());
+        assertTrue(staleWhileRevalidate.stats().overloaded());
+    }
+
+    @Test
+    void shouldServeStaleResponsesWithTheVersionTheyWereBuiltAt() {
+        WeatherConfig config = WeatherConfigFixtures.defaultConfig();
+        config.getGeneration().setDeterministic(true);
+        StationRegistry registry = WeatherConfigFixtures.singleStationRegistry(config);
+        WeatherDataGenerator generator = new WeatherDataGenerator(config);
+        WeatherService weatherService = new WeatherService(generator,
+                new WeatherSimulationEngine(generator, config, registry, List.of()), registry,
+                ForecastCache.disabled(registry), new WeatherMetrics(false));
+        StaleWhileRevalidate seeded = new StaleWhileRevalidate(weatherService, registry, monitor, refreshes::add,
+                clock, Duration.ofSeconds(1), Duration.ofSeconds(60));
+
+        Served<CurrentWeatherResponse> first = seeded.getCurrentWeather();
+        clock.advance(Duration.ofSeconds(5));
+        Served<CurrentWeatherResponse> stale = seeded.getCurrentWeather();
+
+        assertNotNull(first.version());
+        assertTrue(stale.stale());
+        assertSame(first.value(), stale.value());
+        assertSame(first.version(), stale.version());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.weather.station.registry;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StationCatalogLoaderTest {
+
+    private static final StationDefinition DEFAULTS = new StationDefinition(
+            "Windholm", "Fictionaland", "UTC", -15.0, 35.0, -15.0, 20.0, 20, 100, 0.0, 50.0);
+
+    private static final String HEADER = "name,country,timezone,temperature_min,temperature_max,"
+            + "forecast_min,forecast_max,humidity_min,humidity_max,wind_speed_min,wind_speed_max\n";
+
+    @Test
+    void shouldLoadStationsAfterHeader() throws IOException {
+        StationRegistry.Builder builder = StationRegistry.builder(4);
+        builder.add(DEFAULTS);
+
+        int added = StationCatalogLoader.load(new StringReader(HEADER
+                + "Frostmere,Fictionaland,Europe/Oslo,-30.0,15.0,-30.0,5.0,40,100,0.0,60.0\n"
+                + "Sunhaven,Fictionaland,Europe/Madrid,5.0,42.0,5.0,28.0,10,70,0.0,35.0\n"), DEFAULTS, builder);
+        StationRegistry registry = builder.build();
+
+        assertEquals(2, added);
+        assertEquals(3, registry.size());
+        assertEquals(-30.0, registry.temperatureMin(registry.indexOf("Frostmere")));
+        assertEquals(70, registry.humidityMax(registry.indexOf("Sunhaven")));
+    }
+
+    @Test
+    void shouldInheritDefaultsForEmptyColumns() throws IOException {
+        StationRegistry.Builder builder = StationRegistry.builder(1);
+
+        StationCatalogLoader.load(new StringReader(HEADER + "Mistport,,Europe/London,,,,,60\n"), DEFAULTS, builder);
+        StationRegistry registry = builder.build();
+
+        assertEquals("Fictionaland", registry.country(0));
+        assertEquals(-15.0, registry.temperatureMin(0));
+        assertEquals(35.0, registry.temperatureMax(0));
+        assertEquals(60, registry.humidityMin(0));
+        assertEquals(100, registry.humidityMax(0));
+        assertEquals(50.0, registry.windSpeedMax(0));
+    }
+
+    @Test
+    void shouldSkipCommentsBlankLinesAndDuplicates() throws IOException {
+        StationRegistry.Builder builder = StationRegistry.builder(2);
+        builder.add(DEFAULTS);
+
+        int added = StationCatalogLoader.load(new StringReader("# catalog\n" + HEADER
+                + "\n"
+                + "windholm\n"
+                + "Frostmere\n"), DEFAULTS, builder);
+
+        assertEquals(1, added);
+        assertEquals(2, builder.build().size());
+    }
+
+    @Test
+    void shouldReportLineNumberOfMalformedRow() {
+        StationRegistry.Builder builder = StationRegistry.builder(1);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> StationCatalogLoader.load(new StringReader(HEADER + "Frostmere,,UTC,cold\n"), DEFAULTS, builder));
+        assertTrue(ex.getMessage().contains("line 2"), ex.getMessage());
+    }
+}
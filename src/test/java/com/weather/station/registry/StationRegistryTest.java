@@ -0,0 +1,126 @@
+package com.weather.station.registry;
+
+import com.weather.station.exception.StationNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StationRegistryTest {
+
+    private static StationDefinition station(String name) {
+        return new StationDefinition(name, "Fictionaland", "UTC",
+                -15.0, 35.0, -15.0, 20.0, 20, 100, 0.0, 50.0);
+    }
+
+    @Test
+    void shouldAssignDenseIndicesInInsertionOrder() {
+        StationRegistry.Builder builder = StationRegistry.builder(2);
+        assertEquals(0, builder.add(station("Windholm")));
+        assertEquals(1, builder.add(station("Frostmere")));
+
+        StationRegistry registry = builder.build();
+
+        assertEquals(2, registry.size());
+        assertEquals("Windholm", registry.name(StationRegistry.DEFAULT_STATION));
+        assertEquals("Frostmere", registry.name(1));
+    }
+
+    @Test
+    void shouldLookUpCitiesIgnoringCase() {
+        StationRegistry.Builder builder = StationRegistry.builder(2);
+        builder.add(station("Windholm"));
+        builder.add(station("Frostmere"));
+        StationRegistry registry = builder.build();
+
+        assertEquals(1, registry.indexOf("Frostmere"));
+        assertEquals(1, registry.indexOf("FROSTMERE"));
+        assertEquals(0, registry.indexOf("windholm"));
+        assertEquals(-1, registry.indexOf("Atlantis"));
+        assertEquals(-1, registry.indexOf(null));
+    }
+
+    @Test
+    void shouldDeriveSeedKeysFromNamesRegardlessOfOrderOrCase() {
+        StationRegistry.Builder first = StationRegistry.builder(2);
+        first.add(station("Windholm"));
+        first.add(station("Frostmere"));
+        StationRegistry.Builder second = StationRegistry.builder(2);
+        second.add(station("FROSTMERE"));
+        second.add(station("Windholm"));
+
+        StationRegistry registry = first.build();
+        StationRegistry reordered = second.build();
+
+        assertEquals(registry.seedKey(1), reordered.seedKey(0));
+        assertEquals(registry.seedKey(0), reordered.seedKey(1));
+        assertEquals(StationRegistry.seedKey("frostmere"), registry.seedKey(1));
+        assertNotEquals(registry.seedKey(0), registry.seedKey(1));
+    }
+
+    @Test
+    void shouldThrowForUnknownCityOnRequire() {
+        StationRegistry.Builder builder = StationRegistry.builder(1);
+        builder.add(station("Windholm"));
+        StationRegistry registry = builder.build();
+
+        StationNotFoundException ex = assertThrows(StationNotFoundException.class,
+                () -> registry.require("Atlantis"));
+        assertEquals("Unknown station: Atlantis", ex.getMessage());
+    }
+
+    @Test
+    void shouldStorePerStationRanges() {
+        StationRegistry.Builder builder = StationRegistry.builder(1);
+        builder.add(new StationDefinition("Dustvale", "Fictionaland", "Africa/Cairo",
+                10.0, 48.0, 10.0, 32.0, 5, 40, 1.0, 45.0));
+        StationRegistry registry = builder.build();
+
+        assertEquals("Fictionaland", registry.country(0));
+        assertEquals(ZoneId.of("Africa/Cairo"), registry.timezone(0));
+        assertEquals(10.0, registry.temperatureMin(0));
+        assertEquals(48.0, registry.temperatureMax(0));
+        assertEquals(10.0, registry.forecastTemperatureMin(0));
+        assertEquals(32.0, registry.forecastTemperatureMax(0));
+        assertEquals(5, registry.humidityMin(0));
+        assertEquals(40, registry.humidityMax(0));
+        assertEquals(1.0, registry.windSpeedMin(0));
+        assertEquals(45.0, registry.windSpeedMax(0));
+    }
+
+    @Test
+    void shouldRejectDuplicateNamesIgnoringCase() {
+        StationRegistry.Builder builder = StationRegistry.builder(2);
+        builder.add(station("Windholm"));
+
+        assertThrows(IllegalArgumentException.class, () -> builder.add(station("WINDHOLM")));
+    }
+
+    @Test
+    void shouldRejectInvalidRanges() {
+        StationRegistry.Builder builder = StationRegistry.builder(1);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.add(new StationDefinition(
+                "Broken", null, "UTC", 30.0, 10.0, -15.0, 5.0, 20, 100, 0.0, 50.0)));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(new StationDefinition(
+                "Broken", null, "UTC", -15.0, 35.0, -15.0, 20.0, 80, 40, 0.0, 50.0)));
+    }
+
+    @Test
+    void shouldGrowBeyondExpectedSizeAndResolveHundredThousandStations() {
+        int count = 100_000;
+        StationRegistry.Builder builder = StationRegistry.builder(16);
+        for (int i = 0; i < count; i++) {
+            builder.add(station("City-" + i));
+        }
+        StationRegistry registry = builder.build();
+
+        assertEquals(count, registry.size());
+        for (int i = 0; i < count; i += 997) {
+            assertEquals(i, registry.indexOf("city-" + i));
+        }
+        assertEquals(count - 1, registry.indexOf("City-" + (count - 1)));
+        assertEquals(-1, registry.indexOf("City-" + count));
+    }
+}
@@ -0,0 +1,254 @@
+package com.weather.station.rollup;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.config.WeatherConfigFixtures;
+import com.weather.station.history.HistoryRecorder;
+import com.weather.station.history.HistoryStations;
+import com.weather.station.history.HistoryStore;
+import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.registry.StationDefinition;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.WeatherDataGenerator;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import com.weather.station.simulation.WeatherSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollupStoreTest {
+
+    private static final long T0 = LocalDateTime.of(2025, 1, 14, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 3_600_000L;
+
+    @TempDir
+    Path directory;
+
+    private StationRegistry registry;
+    private RollupStore store;
+
+    @BeforeEach
+    void setUp() {
+        StationRegistry.Builder builder = StationRegistry.builder(2);
+        builder.add(new StationDefinition("Windholm", "Fictionaland", "UTC",
+                -15.0, 35.0, -15.0, 20.0, 20, 100, 0.0, 50.0));
+        builder.add(new StationDefinition("Frostmere", "Fictionaland", "Europe/Oslo",
+                -30.0, 15.0, -30.0, 5.0, 40, 100, 0.0, 60.0));
+        registry = builder.build();
+        store = new RollupStore(registry, Duration.ofDays(2), Duration.ofDays(400), Duration.ofDays(3660));
+    }
+
+    @Test
+    void shouldAggregateMinuteBuckets() {
+        store.record(0, T0, 10.0, 60, 5.0);
+        store.record(0, T0 + 20_000, 14.0, 70, 9.0);
+        store.record(0, T0 + MINUTE, 20.0, 80, 1.0);
+
+        List<RollupBucket> buckets = store.query(0, T0, T0 + MINUTE, Duration.ofMinutes(1));
+
+        assertEquals(2, buckets.size());
+        assertEquals(new RollupBucket(T0, 2, 10.0, 14.0, 12.0, 60.0, 70.0, 65.0, 5.0, 9.0, 7.0), buckets.get(0));
+        assertEquals(T0 + MINUTE, buckets.get(1).startMillis());
+        assertEquals(1, buckets.get(1).samples());
+    }
+
+    @Test
+    void shouldMergeTierBucketsIntoCoarserResolution() {
+        for (int minute = 0; minute < 120; minute++) {
+            store.record(0, T0 + minute * MINUTE, minute, 50, 2.0);
+        }
+
+        List<RollupBucket> buckets = store.query(0, T0, T0 + 2 * HOUR - 1, Duration.ofMinutes(30));
+
+        assertEquals(4, buckets.size());
+        assertEquals(T0 + 30 * MINUTE, buckets.get(1).startMillis());
+        assertEquals(30, buckets.get(1).samples());
+        assertEquals(30.0, buckets.get(1).temperatureMin());
+        assertEquals(59.0, buckets.get(1).temperatureMax());
+        assertEquals(44.5, buckets.get(1).temperatureAverage(), 1e-9);
+    }
+
+    @Test
+    void shouldServeLongRangesFromHourTier() {
+        for (int hour = 0; hour < 24 * 365; hour++) {
+            store.record(0, T0 + hour * HOUR, hour % 24, 50, 3.0);
+        }
+
+        List<RollupBucket> hourly = store.query(0, T0, T0 + 365L * 24 * HOUR, Duration.ofHours(1));
+        List<RollupBucket> sixHourly = store.query(0, T0, T0 + 365L * 24 * HOUR, Duration.ofHours(6));
+
+        assertEquals(24 * 365, hourly.size());
+        assertEquals(4 * 365, sixHourly.size());
+        assertEquals(6, sixHourly.get(1).samples());
+        assertEquals(6.0, sixHourly.get(1).temperatureMin());
+        assertEquals(11.0, sixHourly.get(1).temperatureMax());
+    }
+
+    @Test
+    void shouldAlignDayBucketsToStationLocalMidnight() {
+        ZoneId oslo = ZoneId.of("Europe/Oslo");
+        long localMidnight = LocalDateTime.of(2025, 1, 14, 0, 0).atZone(oslo).toInstant().toEpochMilli();
+        store.record(1, localMidnight - 1, -5.0, 90, 10.0);
+        store.record(1, localMidnight, 1.0, 80, 10.0);
+        store.record(1, localMidnight + 23 * HOUR, 3.0, 70, 10.0);
+
+        List<RollupBucket> days = store.query(1, localMidnight - HOUR, localMidnight + 23 * HOUR, Duration.ofDays(1));
+
+        assertEquals(2, days.size());
+        assertEquals(localMidnight - 24 * HOUR, days.get(0).startMillis());
+        assertEquals(localMidnight, days.get(1).startMillis());
+        assertEquals(2, days.get(1).samples());
+        assertEquals(75.0, days.get(1).humidityAverage());
+    }
+
+    @Test
+    void shouldAcceptOutOfOrderReadingsWithinRetention() {
+        store.record(0, T0 + 10 * MINUTE, 10.0, 50, 1.0);
+        store.record(0, T0, 20.0, 50, 1.0);
+
+        List<RollupBucket> buckets = store.query(0, T0, T0 + HOUR, Duration.ofMinutes(1));
+
+        assertEquals(2, buckets.size());
+        assertEquals(20.0, buckets.get(0).temperatureMax());
+    }
+
+    @Test
+    void shouldForgetBucketsBeyondRetention() {
+        store.record(0, T0, 10.0, 50, 1.0);
+        store.record(0, T0 + Duration.ofDays(3).toMillis(), 12.0, 50, 1.0);
+        store.record(0, T0 + 5 * MINUTE, 99.0, 50, 1.0);
+
+        assertTrue(store.query(0, T0, T0 + HOUR, Duration.ofMinutes(1)).isEmpty());
+        assertEquals(10.0, store.query(0, T0, T0 + HOUR, Duration.ofHours(1)).get(0).temperatureMin());
+    }
+
+    @Test
+    void shouldReturnNothingForStationWithoutReadings() {
+        assertTrue(store.query(1, T0, T0 + HOUR, Duration.ofHours(1)).isEmpty());
+    }
+
+    @Test
+    void shouldPickCoarsestDividingTier() {
+        assertEquals(RollupTier.MINUTE, RollupTier.forResolution(Duration.ofMinutes(15)));
+        assertEquals(RollupTier.MINUTE, RollupTier.forResolution(Duration.ofMinutes(90)));
+        assertEquals(RollupTier.HOUR, RollupTier.forResolution(Duration.ofHours(6)));
+        assertEquals(RollupTier.HOUR, RollupTier.forResolution(Duration.ofHours(36)));
+        assertEquals(RollupTier.DAY, RollupTier.forResolution(Duration.ofDays(7)));
+        assertThrows(IllegalArgumentException.class, () -> RollupTier.forResolution(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void shouldAllocateBucketPagesOnlyWhereReadingsFall() {
+        assertEquals(0, store.allocatedPages(0));
+
+        store.record(0, T0, 10.0, 50, 1.0);
+        store.record(0, T0 + MINUTE, 11.0, 50, 1.0);
+        assertEquals(3, store.allocatedPages(0));
+
+        for (int minute = 0; minute < 24 * 60; minute++) {
+            store.record(0, T0 + minute * MINUTE, minute % 40, 50, 1.0);
+        }
+        // a day of minutes touches at most 24 of the 45 minute pages, two hour pages and one day page
+        assertTrue(store.allocatedPages(0) <= 24 + 2 + 1);
+        assertEquals(0, store.allocatedPages(1));
+    }
+
+    @Test
+    void shouldKeepNothingWhenDisabled() {
+        RollupStore disabled = RollupStore.disabled(registry);
+
+        disabled.record(0, T0, 10.0, 50, 1.0);
+
+        assertFalse(disabled.isEnabled());
+        assertTrue(disabled.query(0, T0, T0 + HOUR, Duration.ofMinutes(1)).isEmpty());
+        assertEquals(0, disabled.allocatedPages(0));
+    }
+
+    @Test
+    void shouldBackfillOnlyReadingsStoredBeforeMark() throws IOException {
+        try (HistoryStore history = HistoryStore.open(directory, 1024, 0)) {
+            history.append(T0, 0, 10.0, 50, 1.0, WeatherCondition.SUNNY);
+            history.append(T0 + MINUTE, 0, 12.0, 50, 1.0, WeatherCondition.SUNNY);
+            long mark = history.mark();
+            // recorded live after the mark, but stamped earlier than the readings already stored
+            history.append(T0 + 30_000, 0, 14.0, 50, 1.0, WeatherCondition.SUNNY);
+            store.record(0, T0 + 30_000, 14.0, 50, 1.0);
+
+            assertEquals(2, store.backfill(history, HistoryStations.open(directory, registry), T0, mark));
+
+            List<RollupBucket> buckets = store.query(0, T0, T0 + HOUR, Duration.ofHours(1));
+            assertEquals(3, buckets.get(0).samples());
+        }
+    }
+
+    @Test
+    void shouldRebuildInBackground() throws IOException, InterruptedException {
+        long now = System.currentTimeMillis();
+        try (HistoryStore history = HistoryStore.open(directory, 1024, 0)) {
+            history.append(now - HOUR, 1, 10.0, 50, 1.0, WeatherCondition.SUNNY);
+            history.append(now - MINUTE, 1, 12.0, 50, 1.0, WeatherCondition.SUNNY);
+
+            RollupBackfill backfill = RollupBackfill.start(store, history, HistoryStations.open(directory, registry),
+                    now - 2 * HOUR);
+
+            assertEquals(2, backfill.await());
+            assertTrue(backfill.isDone());
+            assertEquals(2, store.query(1, now - 2 * HOUR, now, Duration.ofDays(1)).stream()
+                    .mapToLong(RollupBucket::samples).sum());
+        }
+    }
+
+    @Test
+    void shouldNotReplayReadingsPublishedWhileRebuilding() throws IOException, InterruptedException {
+        WeatherConfig config = WeatherConfigFixtures.defaultConfig();
+        config.getGeneration().setDeterministic(true);
+        long now = System.currentTimeMillis();
+        try (HistoryStore history = HistoryStore.open(directory, 1024, 0)) {
+            HistoryStations stations = HistoryStations.open(directory, registry);
+            history.append(now - HOUR, 0, 10.0, 50, 1.0, WeatherCondition.SUNNY);
+
+            RollupBackfill backfill = RollupBackfill.start(store, history, stations, now - 2 * HOUR);
+            new WeatherSimulationEngine(new WeatherDataGenerator(config), config, registry,
+                    List.of(new HistoryRecorder(history, stations), new RollupRecorder(store)));
+
+            assertEquals(1, backfill.await());
+            assertEquals(3, history.size());
+            assertEquals(2, store.query(0, now - 2 * HOUR, now + HOUR, Duration.ofDays(1)).stream()
+                    .mapToLong(RollupBucket::samples).sum());
+            assertEquals(1, store.query(1, now - 2 * HOUR, now + HOUR, Duration.ofDays(1)).stream()
+                    .mapToLong(RollupBucket::samples).sum());
+        }
+    }
+
+    @Test
+    void shouldBackfillStationsByNameAfterCatalogIsReordered() throws IOException {
+        try (HistoryStore history = HistoryStore.open(directory, 1024, 0)) {
+            HistoryRecorder recorder = new HistoryRecorder(history, HistoryStations.open(directory, registry));
+            recorder.onReading(0, new WeatherSnapshot(0, T0, "", 10.0, 50, 1.0, WeatherCondition.SUNNY));
+            recorder.onReading(1, new WeatherSnapshot(0, T0, "", -5.0, 90, 2.0, WeatherCondition.SNOWY));
+
+            StationRegistry.Builder builder = StationRegistry.builder(2);
+            builder.add(new StationDefinition("Frostmere", "Fictionaland", "Europe/Oslo",
+                    -30.0, 15.0, -30.0, 5.0, 40, 100, 0.0, 60.0));
+            builder.add(new StationDefinition("Windholm", "Fictionaland", "UTC",
+                    -15.0, 35.0, -15.0, 20.0, 20, 100, 0.0, 50.0));
+            StationRegistry reordered = builder.build();
+            RollupStore rebuilt = new RollupStore(reordered, Duration.ofDays(2), Duration.ofDays(400),
+                    Duration.ofDays(3660));
+
+            assertEquals(2, rebuilt.backfill(history, HistoryStations.open(directory, reordered), T0, T0 + MINUTE));
+            assertEquals(-5.0, rebuilt.query(0, T0, T0, Duration.ofMinutes(1)).get(0).temperatureMin());
+            assertEquals(10.0, rebuilt.query(1, T0, T0, Duration.ofMinutes(1)).get(0).temperatureMin());
+        }
+    }
+}
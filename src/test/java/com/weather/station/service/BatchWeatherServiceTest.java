@@ -0,0 +1,133 @@
+package com.weather.station.service;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.config.WeatherConfigFixtures;
+import com.weather.station.model.dto.BatchWeatherResponse;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.registry.StationDefinition;
+import com.weather.station.registry.StationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchWeatherServiceTest {
+
+    private static final int STATIONS = 1_000;
+
+    @Mock
+    private WeatherService weatherService;
+
+    private ExecutorService executor;
+    private BatchWeatherService batchWeatherService;
+
+    @BeforeEach
+    void setUp() {
+        WeatherConfig config = WeatherConfigFixtures.defaultConfig();
+        config.getBatch().setMaxCities(2_000);
+        config.getBatch().setChunkSize(64);
+
+        StationRegistry.Builder builder = StationRegistry.builder(STATIONS);
+        for (int i = 0; i < STATIONS; i++) {
+            builder.add(new StationDefinition("City-" + i, null, "UTC",
+                    -15.0, 35.0, -15.0, 20.0, 20, 100, 0.0, 50.0));
+        }
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        batchWeatherService = new BatchWeatherService(weatherService, builder.build(), executor, config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldResolveSmallBatchInRequestOrder() {
+        when(weatherService.getCurrentWeather(anyInt()))
+                .thenAnswer(invocation -> response("City-" + invocation.getArgument(0)));
+
+        BatchWeatherResponse response = batchWeatherService.getCurrentWeather(List.of("City-7", "city-3"));
+
+        assertEquals(2, response.getRequested());
+        assertEquals("City-7", response.getResults().get(0).getCity());
+        assertEquals("City-3", response.getResults().get(1).getCity());
+        assertTrue(response.getUnknownCities().isEmpty());
+    }
+
+    @Test
+    void shouldFanOutLargeBatchAndPreserveOrder() {
+        when(weatherService.getCurrentWeather(anyInt()))
+                .thenAnswer(invocation -> response("City-" + invocation.getArgument(0)));
+        List<String> cities = new ArrayList<>();
+        for (int i = STATIONS - 1; i >= 0; i--) {
+            cities.add("City-" + i);
+        }
+
+        BatchWeatherResponse response = batchWeatherService.getCurrentWeather(cities);
+
+        assertEquals(STATIONS, response.getResults().size());
+        for (int i = 0; i < STATIONS; i++) {
+            assertEquals(cities.get(i), response.getResults().get(i).getCity());
+        }
+        verify(weatherService, times(STATIONS)).getCurrentWeather(anyInt());
+    }
+
+    @Test
+    void shouldReportUnknownCitiesWithoutFailingBatch() {
+        when(weatherService.getCurrentWeather(anyInt()))
+                .thenAnswer(invocation -> response("City-" + invocation.getArgument(0)));
+
+        BatchWeatherResponse response = batchWeatherService.getCurrentWeather(
+                List.of("City-1", "Atlantis", "City-2", "El Dorado"));
+
+        assertEquals(4, response.getRequested());
+        assertEquals(2, response.getResults().size());
+        assertEquals(List.of("Atlantis", "El Dorado"), response.getUnknownCities());
+    }
+
+    @Test
+    void shouldRejectEmptyBatch() {
+        assertThrows(IllegalArgumentException.class, () -> batchWeatherService.getCurrentWeather(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> batchWeatherService.getCurrentWeather(null));
+    }
+
+    @Test
+    void shouldRejectOversizedBatch() {
+        List<String> cities = new ArrayList<>();
+        for (int i = 0; i < 2_001; i++) {
+            cities.add("City-" + (i % STATIONS));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> batchWeatherService.getCurrentWeather(cities));
+        verifyNoInteractions(weatherService);
+    }
+
+    @Test
+    void shouldPropagateFailuresFromFanOut() {
+        when(weatherService.getCurrentWeather(anyInt())).thenThrow(new IllegalStateException("boom"));
+        List<String> cities = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            cities.add("City-" + i);
+        }
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> batchWeatherService.getCurrentWeather(cities));
+        assertEquals("boom", ex.getMessage());
+    }
+
+    private static CurrentWeatherResponse response(String city) {
+        return CurrentWeatherResponse.builder().city(city).temperature(10.0).build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.weather.station.service;
+
+import com.weather.station.config.WeatherConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenerationPlanTest {
+
+    private WeatherConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new WeatherConfig();
+        config.getTemperature().setMin(-15.0);
+        config.getTemperature().setMax(35.0);
+        config.getTemperature().setForecastMin(-15.0);
+        config.getTemperature().setForecastMax(20.0);
+        config.getHumidity().setMin(20);
+        config.getHumidity().setMax(100);
+        config.getWindSpeed().setMin(0.0);
+        config.getWindSpeed().setMax(50.0);
+        config.getPrecipitation().setMin(0);
+        config.getPrecipitation().setMax(100);
+        config.getForecast().setDays(7);
+        config.getFormat().setTimestamp("yyyy-MM-dd'T'HH:mm:ss");
+        config.getFormat().setDate("yyyy-MM-dd");
+        config.getFormat().setDecimalPlaces(1);
+    }
+
+    @Test
+    void shouldResolveRangesFromConfig() {
+        GenerationPlan plan = GenerationPlan.compile(config);
+
+        assertEquals(-15.0, plan.getTemperatureMin());
+        assertEquals(35.0, plan.getTemperatureMax());
+        assertEquals(-15.0, plan.getForecastTemperatureMin());
+        assertEquals(20.0, plan.getForecastTemperatureMax());
+        assertEquals(20, plan.getHumidityMin());
+        assertEquals(100, plan.getHumidityMax());
+        assertEquals(0.0, plan.getWindSpeedMin());
+        assertEquals(50.0, plan.getWindSpeedMax());
+        assertEquals(0, plan.getPrecipitationMin());
+        assertEquals(100, plan.getPrecipitationMax());
+        assertEquals(7, plan.getForecastDays());
+    }
+
+    @Test
+    void shouldRoundToConfiguredDecimalPlaces() {
+        GenerationPlan plan = GenerationPlan.compile(config);
+
+        assertEquals(10.0, plan.getRoundingFactor());
+        assertEquals(12.3, plan.round(12.34));
+        assertEquals(-4.6, plan.round(-4.56));
+    }
+
+    @Test
+    void shouldPrecompileFormatters() {
+        GenerationPlan plan = GenerationPlan.compile(config);
+
+        assertEquals("2025-01-15", LocalDate.of(2025, 1, 15).format(plan.getDateFormatter()));
+        assertEquals("2025-01-15T08:30:00",
+                LocalDate.of(2025, 1, 15).atTime(8, 30).format(plan.getTimestampFormatter()));
+    }
+
+    @Test
+    void shouldNotBeAffectedByLaterConfigChanges() {
+        GenerationPlan plan = GenerationPlan.compile(config);
+
+        config.getTemperature().setMax(99.0);
+
+        assertEquals(35.0, plan.getTemperatureMax());
+    }
+
+    @Test
+    void shouldRejectInvertedRange() {
+        config.getHumidity().setMin(80);
+        config.getHumidity().setMax(40);
+
+        assertThrows(IllegalArgumentException.class, () -> GenerationPlan.compile(config));
+    }
+
+    @Test
+    void shouldRejectMissingBucketWhenDeterministic() {
+        config.getGeneration().setDeterministic(true);
+
+        assertThrows(IllegalArgumentException.class, () -> GenerationPlan.compile(config));
+
+        config.getGeneration().setBucket(Duration.ofMinutes(1));
+        assertEquals(60_000L, GenerationPlan.compile(config).getBucketMillis());
+    }
+}
@@ -0,0 +1,218 @@
+package com.weather.station.service;
+
+import com.weather.station.cache.ForecastCache;
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.config.WeatherConfigFixtures;
+import com.weather.station.exception.StationNotFoundException;
+import com.weather.station.metrics.WeatherMetrics;
+import com.weather.station.model.dto.ForecastDay;
+import com.weather.station.model.dto.HourlyForecastExport;
+import com.weather.station.model.dto.HourlyForecastPoint;
+import com.weather.station.model.dto.HourlyForecastResponse;
+import com.weather.station.registry.StationDefinition;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HourlyForecastServiceTest {
+
+    private static final long JAN_14 = LocalDateTime.of(2025, 1, 14, 0, 0).toEpochSecond(ZoneOffset.UTC) / 3600;
+
+    private WeatherConfig config;
+    private StationRegistry registry;
+    private HourlyForecastService hourlyForecastService;
+
+    @BeforeEach
+    void setUp() {
+        config = WeatherConfigFixtures.defaultConfig();
+        config.getBatch().setMaxCities(2);
+
+        StationRegistry.Builder builder = StationRegistry.builder(2);
+        builder.add(StationDefinition.fromConfig(config));
+        builder.add(new StationDefinition("Frostmere", "Fictionaland", "Europe/Oslo",
+                -30.0, 15.0, -30.0, 5.0, 40, 100, 0.0, 60.0));
+        registry = builder.build();
+        hourlyForecastService = new HourlyForecastService(new WeatherDataGenerator(config), registry, config);
+    }
+
+    @Test
+    void shouldReturnFirstPageOfConsecutiveHours() {
+        HourlyForecastResponse page = hourlyForecastService.getHourlyForecast("windholm", null, null, null);
+        List<HourlyForecastPoint> points = points(page);
+
+        assertEquals("Windholm", page.getCity());
+        assertEquals(384, page.getHours());
+        assertEquals(0, page.getOffset());
+        assertEquals(48, points.size());
+        assertNotNull(page.getNextCursor());
+        assertEquals(page.getIssuedAt(), points.get(0).getTime());
+        assertTrue(page.getIssuedAt().endsWith(":00:00"));
+        LocalDateTime first = LocalDateTime.parse(points.get(0).getTime());
+        for (int i = 0; i < points.size(); i++) {
+            assertEquals(first.plusHours(i).toString(), LocalDateTime.parse(points.get(i).getTime()).toString());
+        }
+    }
+
+    @Test
+    void shouldFollowCursorsThroughWholeHorizon() {
+        HourlyForecastResponse page = hourlyForecastService.getHourlyForecast("Frostmere", 100, 30, null);
+        List<HourlyForecastPoint> all = new ArrayList<>(points(page));
+        List<Integer> offsets = new ArrayList<>(List.of(page.getOffset()));
+        while (page.getNextCursor() != null) {
+            page = hourlyForecastService.getHourlyForecast("Frostmere", null, 30, page.getNextCursor());
+            offsets.add(page.getOffset());
+            all.addAll(points(page));
+        }
+
+        assertEquals(List.of(0, 30, 60, 90), offsets);
+        assertEquals(100, all.size());
+        assertEquals(100, page.getHours());
+        assertEquals(10, points(page).size());
+    }
+
+    @Test
+    void shouldContinueTheSameForecastAcrossPages() {
+        long issuedHour = Math.floorDiv(System.currentTimeMillis(), 3_600_000L) - 1;
+        HourlyForecastResponse whole = hourlyForecastService.page(1, issuedHour, 42, 72, 0, 72);
+        HourlyForecastResponse first = hourlyForecastService.page(1, issuedHour, 42, 72, 0, 24);
+        HourlyForecastResponse rest = hourlyForecastService.getHourlyForecast("Frostmere", null, 48,
+                first.getNextCursor());
+
+        List<HourlyForecastPoint> paged = new ArrayList<>(points(first));
+        paged.addAll(points(rest));
+        assertEquals(points(whole), paged);
+        assertEquals(first.getIssuedAt(), rest.getIssuedAt());
+        assertNull(rest.getNextCursor());
+    }
+
+    @Test
+    void shouldGenerateTheSamePointsOnEveryIteration() {
+        HourlyForecastResponse page = hourlyForecastService.getHourlyForecast(24, 24, null);
+
+        assertEquals(points(page), points(page));
+    }
+
+    @Test
+    void shouldPeakAtDailyForecastExtremesInDeterministicMode() {
+        config.getGeneration().setDeterministic(true);
+        WeatherDataGenerator generator = new WeatherDataGenerator(config);
+        hourlyForecastService = new HourlyForecastService(generator, registry, config);
+        WeatherService weatherService = new WeatherService(generator,
+                new WeatherSimulationEngine(generator, config, registry, List.of()), registry,
+                ForecastCache.disabled(registry), new WeatherMetrics(false));
+
+        ForecastDay tomorrow = weatherService.getForecast(StationRegistry.DEFAULT_STATION).getForecast().get(0);
+        HourlyForecastResponse page = hourlyForecastService.getHourlyForecast(48, 48, null);
+
+        int checked = 0;
+        for (HourlyForecastPoint point : points(page)) {
+            if (point.getTime().equals(tomorrow.getDate() + "T05:00:00")) {
+                assertEquals(tomorrow.getTempMin(), point.getTemperature());
+                assertEquals(tomorrow.getCondition(), point.getCondition());
+                checked++;
+            }
+            if (point.getTime().equals(tomorrow.getDate() + "T15:00:00")) {
+                assertEquals(tomorrow.getTempMax(), point.getTemperature());
+                checked++;
+            }
+        }
+        assertEquals(2, checked);
+    }
+
+    @Test
+    void shouldFollowDailyCurveInLocalTime() {
+        List<HourlyForecastPoint> day = points(hourlyForecastService.page(1, JAN_14, 7, 48, 0, 48));
+        // Oslo is UTC+1 in January: local 05:00 and 15:00 are the 4th and 14th hours
+        HourlyForecastPoint coldest = day.get(4);
+        HourlyForecastPoint warmest = day.get(14);
+
+        assertEquals("2025-01-14T05:00:00", coldest.getTime());
+        assertEquals("2025-01-14T15:00:00", warmest.getTime());
+        for (int hour = 4; hour <= 14; hour++) {
+            assertTrue(day.get(hour).getTemperature() >= coldest.getTemperature());
+            assertTrue(day.get(hour).getTemperature() <= warmest.getTemperature());
+        }
+        for (HourlyForecastPoint point : day) {
+            assertTrue(point.getHumidity() >= 40 && point.getHumidity() <= 100);
+            assertTrue(point.getWindSpeed() >= 0.0 && point.getWindSpeed() <= 60.0);
+        }
+    }
+
+    @Test
+    void shouldExportFullForecastsOfEveryCity() {
+        HourlyForecastExport export = hourlyForecastService.exportHourlyForecast(List.of("Frostmere", "Windholm"), 24);
+
+        List<HourlyForecastResponse> forecasts = new ArrayList<>();
+        export.getForecasts().forEach(forecasts::add);
+        assertEquals(24, export.getHours());
+        assertEquals(List.of("Frostmere", "Windholm"),
+                forecasts.stream().map(HourlyForecastResponse::getCity).toList());
+        for (HourlyForecastResponse forecast : forecasts) {
+            assertEquals(24, points(forecast).size());
+            assertNull(forecast.getNextCursor());
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidExports() {
+        assertThrows(IllegalArgumentException.class, () -> hourlyForecastService.exportHourlyForecast(List.of(), 24));
+        assertThrows(IllegalArgumentException.class,
+                () -> hourlyForecastService.exportHourlyForecast(List.of("Windholm", "Frostmere", "Windholm"), 24));
+        assertThrows(StationNotFoundException.class,
+                () -> hourlyForecastService.exportHourlyForecast(List.of("Atlantis"), 24));
+    }
+
+    @Test
+    void shouldRejectInvalidParameters() {
+        String cursor = hourlyForecastService.getHourlyForecast("Frostmere", 48, 24, null).getNextCursor();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> hourlyForecastService.getHourlyForecast("Windholm", null, null, cursor));
+        assertThrows(IllegalArgumentException.class, () -> hourlyForecastService.getHourlyForecast(null, null, "abc"));
+        assertThrows(IllegalArgumentException.class, () -> hourlyForecastService.getHourlyForecast(null, null, "!"));
+        assertThrows(IllegalArgumentException.class, () -> hourlyForecastService.getHourlyForecast(385, null, null));
+        assertThrows(IllegalArgumentException.class, () -> hourlyForecastService.getHourlyForecast(0, null, null));
+        assertThrows(IllegalArgumentException.class, () -> hourlyForecastService.getHourlyForecast(null, 0, null));
+        assertThrows(StationNotFoundException.class,
+                () -> hourlyForecastService.getHourlyForecast("Atlantis", null, null, null));
+    }
+
+    @Test
+    void shouldRejectCursorsOutsideTheForecastWindow() {
+        long nextHour = Math.floorDiv(System.currentTimeMillis(), 3_600_000L) + 1;
+
+        for (long startHour : new long[]{Long.MAX_VALUE, Long.MIN_VALUE, nextHour + 2, nextHour - 385}) {
+            String forged = cursor(1, startHour, 42L, 48, 24);
+            assertThrows(IllegalArgumentException.class,
+                    () -> hourlyForecastService.getHourlyForecast("Frostmere", null, null, forged));
+        }
+        assertEquals(24, hourlyForecastService.getHourlyForecast("Frostmere", null, null,
+                cursor(1, nextHour - 384, 42L, 48, 24)).getOffset());
+    }
+
+    private static String cursor(int station, long startHour, long seed, int hours, int offset) {
+        ByteBuffer buffer = ByteBuffer.allocate(28)
+                .putInt(station)
+                .putLong(startHour)
+                .putLong(seed)
+                .putInt(hours)
+                .putInt(offset);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    private static List<HourlyForecastPoint> points(HourlyForecastResponse page) {
+        List<HourlyForecastPoint> points = new ArrayList<>();
+        page.getPoints().forEach(points::add);
+        return points;
+    }
+}
@@ -0,0 +1,132 @@
+package com.weather.station.service;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.config.WeatherConfigFixtures;
+import com.weather.station.exception.IngestCapacityExceededException;
+import com.weather.station.exception.StationNotFoundException;
+import com.weather.station.ingest.IngestPipeline;
+import com.weather.station.model.dto.IngestResponse;
+import com.weather.station.model.dto.SensorReading;
+import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import com.weather.station.simulation.WeatherSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadingIngestServiceTest {
+
+    private final List<WeatherSnapshot> received = new CopyOnWriteArrayList<>();
+    private WeatherConfig config;
+    private StationRegistry registry;
+    private WeatherSimulationEngine engine;
+    private IngestPipeline pipeline;
+    private ReadingIngestService readingIngestService;
+
+    @BeforeEach
+    void setUp() {
+        config = WeatherConfigFixtures.defaultConfig();
+        config.getSimulation().setEnabled(false);
+        config.getIngest().setMaxReadings(8);
+        registry = WeatherConfigFixtures.singleStationRegistry(config);
+        engine = new WeatherSimulationEngine(new WeatherDataGenerator(config), config, registry,
+                List.of((station, snapshot) -> received.add(snapshot)));
+        received.clear();
+        pipeline = new IngestPipeline(engine, 16, 4);
+        readingIngestService = new ReadingIngestService(registry, pipeline, config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.close();
+    }
+
+    @Test
+    void shouldQueueReadingsAndPublishThem() {
+        IngestResponse response = readingIngestService.ingest("windholm",
+                List.of(reading("1736866800000", 12.3), reading(null, 12.6)));
+
+        assertEquals("Windholm", response.getCity());
+        assertEquals(2, response.getAccepted());
+        assertTrue(pipeline.awaitWritten(Duration.ofSeconds(5)));
+        assertEquals(2, received.size());
+        assertEquals(1736866800000L, received.get(0).epochMillis());
+        assertEquals(12.6, engine.snapshot().temperature(), 1e-9);
+        assertTrue(engine.hasLiveSensor(StationRegistry.DEFAULT_STATION));
+    }
+
+    @Test
+    void shouldParseLocalTimestampsInStationZone() {
+        readingIngestService.ingest("Windholm", List.of(reading("2025-01-14T15:00:00", 10.0)));
+
+        assertTrue(pipeline.awaitWritten(Duration.ofSeconds(5)));
+        long expected = LocalDateTime.parse("2025-01-14T15:00:00").atZone(ZoneId.of("UTC")).toInstant().toEpochMilli();
+        assertEquals(expected, received.get(0).epochMillis());
+    }
+
+    @Test
+    void shouldRejectUnknownCity() {
+        assertThrows(StationNotFoundException.class,
+                () -> readingIngestService.ingest("Atlantis", List.of(reading(null, 10.0))));
+    }
+
+    @Test
+    void shouldRejectEmptyOrOversizedRequests() {
+        assertThrows(IllegalArgumentException.class, () -> readingIngestService.ingest("Windholm", List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> readingIngestService.ingest("Windholm", Collections.nCopies(9, reading(null, 10.0))));
+    }
+
+    @Test
+    void shouldRejectWholeRequestWhenOneReadingIsInvalid() {
+        SensorReading invalid = reading(null, 10.0);
+        invalid.setHumidity(120);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> readingIngestService.ingest("Windholm", List.of(reading(null, 9.0), invalid)));
+
+        assertEquals("Reading 1: humidity must be between 0 and 100", ex.getMessage());
+        assertEquals(0, pipeline.stats().accepted());
+    }
+
+    @Test
+    void shouldRejectInvalidTimestamp() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> readingIngestService.ingest("Windholm", List.of(reading("yesterday", 10.0))));
+
+        assertEquals("Reading 0: Invalid 'timestamp' time: yesterday", ex.getMessage());
+    }
+
+    @Test
+    void shouldFailWhenPipelineRejectsReadings() {
+        IngestPipeline rejecting = new IngestPipeline(engine, 4, 4);
+        rejecting.close();
+        ReadingIngestService closed = new ReadingIngestService(registry, rejecting, config);
+        List<SensorReading> readings = new ArrayList<>();
+        readings.add(reading(null, 10.0));
+
+        assertThrows(IngestCapacityExceededException.class, () -> closed.ingest("Windholm", readings));
+        assertEquals(1, rejecting.stats().rejected());
+    }
+
+    private static SensorReading reading(String timestamp, double temperature) {
+        return SensorReading.builder()
+                .timestamp(timestamp)
+                .temperature(temperature)
+                .humidity(70)
+                .windSpeed(3.5)
+                .condition(WeatherCondition.RAINY)
+                .build();
+    }
+}
@@ -1,12 +1,15 @@
 package com.weather.station.service;
 
 import com.weather.station.config.WeatherConfig;
+import com.weather.station.config.WeatherConfigFixtures;
 import com.weather.station.model.enums.WeatherCondition;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashSet;
 import java.util.List;
@@ -150,6 +153,14 @@ class WeatherDataGeneratorTest {
                 "Timestamp should match ISO 8601 format: " + timestamp);
     }
 
+    @Test
+    void shouldFormatTimestampInGivenZone() {
+        long instant = Instant.parse("2025-01-14T23:30:00Z").toEpochMilli();
+
+        assertEquals("2025-01-14T23:30:00", generator.formatTimestamp(instant, ZoneId.of("UTC")));
+        assertEquals("2025-01-15T13:30:00", generator.formatTimestamp(instant, ZoneId.of("Pacific/Kiritimati")));
+    }
+
     @Test
     void shouldGenerateSevenDayForecastDates() {
         List<String> dates = generator.generateForecastDates();
@@ -173,4 +184,49 @@ class WeatherDataGeneratorTest {
                     "Date should match YYYY-MM-DD format: " + date);
         }
     }
+
+    @Test
+    void shouldGenerateSameSeededValuesOnIndependentGenerators() {
+        WeatherDataGenerator first = deterministicGenerator();
+        WeatherDataGenerator second = deterministicGenerator();
+
+        for (long bucket = 0; bucket < 100; bucket++) {
+            assertEquals(first.generateTemperature(first.seeded(3, bucket, GeneratedField.TEMPERATURE), -15.0, 35.0),
+                    second.generateTemperature(second.seeded(3, bucket, GeneratedField.TEMPERATURE), -15.0, 35.0));
+            assertEquals(first.generateCondition(first.seeded(3, bucket, GeneratedField.CONDITION)),
+                    second.generateCondition(second.seeded(3, bucket, GeneratedField.CONDITION)));
+        }
+    }
+
+    @Test
+    void shouldDecorrelateSeedsAcrossStationBucketAndField() {
+        WeatherDataGenerator seeded = deterministicGenerator();
+        Set<Long> draws = new HashSet<>();
+
+        for (int station = 0; station < 10; station++) {
+            for (long bucket = 0; bucket < 10; bucket++) {
+                for (GeneratedField field : GeneratedField.values()) {
+                    draws.add(seeded.seeded(station, bucket, field).nextLong());
+                }
+            }
+        }
+
+        assertEquals(10 * 10 * GeneratedField.values().length, draws.size());
+    }
+
+    @Test
+    void shouldMapInstantsToTimeBuckets() {
+        WeatherDataGenerator seeded = deterministicGenerator();
+
+        assertEquals(0L, seeded.timeBucket(59_999L));
+        assertEquals(1L, seeded.timeBucket(60_000L));
+        assertEquals(-1L, seeded.timeBucket(-1L));
+        assertEquals(120_000L, seeded.timeBucketStart(2L));
+    }
+
+    private static WeatherDataGenerator deterministicGenerator() {
+        WeatherConfig deterministic = WeatherConfigFixtures.defaultConfig();
+        deterministic.getGeneration().setDeterministic(true);
+        return new WeatherDataGenerator(deterministic);
+    }
 }
@@ -0,0 +1,153 @@
+package com.weather.station.service;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.config.WeatherConfigFixtures;
+import com.weather.station.exception.StationNotFoundException;
+import com.weather.station.model.dto.HistoryBucket;
+import com.weather.station.model.dto.WeatherHistoryResponse;
+import com.weather.station.registry.StationDefinition;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.rollup.RollupStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherHistoryServiceTest {
+
+    private static final long T0 = LocalDateTime.of(2025, 1, 14, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+
+    private StationRegistry registry;
+    private RollupStore rollupStore;
+    private WeatherHistoryService historyService;
+
+    @BeforeEach
+    void setUp() {
+        WeatherConfig config = WeatherConfigFixtures.defaultConfig();
+        config.getRollup().setMaxBuckets(1000);
+
+        StationRegistry.Builder builder = StationRegistry.builder(2);
+        builder.add(StationDefinition.fromConfig(config));
+        builder.add(new StationDefinition("Frostmere", "Fictionaland", "Europe/Oslo",
+                -30.0, 15.0, -30.0, 5.0, 40, 100, 0.0, 60.0));
+        registry = builder.build();
+
+        rollupStore = new RollupStore(registry, Duration.ofDays(2), Duration.ofDays(400), Duration.ofDays(3660));
+        historyService = new WeatherHistoryService(rollupStore, registry, new WeatherDataGenerator(config), config);
+    }
+
+    @Test
+    void shouldReturnRoundedBucketsForCity() {
+        rollupStore.record(0, T0, 10.1, 60, 5.0);
+        rollupStore.record(0, T0 + 1000, 10.2, 61, 5.0);
+        rollupStore.record(0, T0 + 2000, 10.6, 65, 6.0);
+        rollupStore.record(0, T0 + 3_600_000, 20.0, 70, 1.0);
+
+        WeatherHistoryResponse response = historyService.getHistory("windholm", "2025-01-14T00:00:00Z",
+                "2025-01-14T01:30:00Z", "hour");
+
+        assertEquals("Windholm", response.getCity());
+        assertEquals("2025-01-14T00:00:00", response.getFrom());
+        assertEquals("2025-01-14T01:30:00", response.getTo());
+        assertEquals("PT1H", response.getResolution());
+        assertEquals(2, response.getBuckets().size());
+
+        HistoryBucket first = response.getBuckets().get(0);
+        assertEquals("2025-01-14T00:00:00", first.getTimestamp());
+        assertEquals(3L, first.getSamples());
+        assertEquals(10.1, first.getTemperature().getMin());
+        assertEquals(10.6, first.getTemperature().getMax());
+        assertEquals(10.3, first.getTemperature().getAverage());
+        assertEquals(62.0, first.getHumidity().getAverage());
+        assertEquals(5.3, first.getWindSpeed().getAverage());
+    }
+
+    @Test
+    void shouldInterpretLocalTimesInStationZone() {
+        long localMidnight = LocalDateTime.of(2025, 1, 14, 0, 0).atZone(ZoneId.of("Europe/Oslo"))
+                .toInstant().toEpochMilli();
+        rollupStore.record(1, localMidnight + 1000, -3.0, 80, 12.0);
+
+        WeatherHistoryResponse response = historyService.getHistory("Frostmere", "2025-01-14",
+                "2025-01-14T23:59:59", "1d");
+
+        assertEquals(1, response.getBuckets().size());
+        assertEquals("2025-01-14T00:00:00", response.getBuckets().get(0).getTimestamp());
+        assertEquals("PT24H", response.getResolution());
+    }
+
+    @Test
+    void shouldAnswerOneYearHourlyQueryWithDefaultRetention() {
+        WeatherConfig config = WeatherConfigFixtures.defaultConfig();
+        WeatherConfig.RollupConfig rollup = config.getRollup();
+        RollupStore store = new RollupStore(registry, rollup.getMinuteRetention(), rollup.getHourRetention(),
+                rollup.getDayRetention());
+        WeatherHistoryService service = new WeatherHistoryService(store, registry, new WeatherDataGenerator(config),
+                config);
+        int hours = 366 * 24;
+        for (int hour = 0; hour < hours; hour++) {
+            store.record(0, T0 + hour * 3_600_000L, 10.0, 60, 5.0);
+        }
+
+        WeatherHistoryResponse response = service.getHistory("Windholm", String.valueOf(T0),
+                String.valueOf(T0 + (hours - 1) * 3_600_000L), "hour");
+
+        assertEquals(hours, response.getBuckets().size());
+        assertEquals("2025-01-14T00:00:00", response.getBuckets().get(0).getTimestamp());
+        assertEquals("2026-01-14T23:00:00", response.getBuckets().get(hours - 1).getTimestamp());
+    }
+
+    @Test
+    void shouldAcceptEpochMillis() {
+        rollupStore.record(0, T0, 10.0, 60, 5.0);
+
+        WeatherHistoryResponse response = historyService.getHistory("Windholm", String.valueOf(T0),
+                String.valueOf(T0 + 60_000), "minute");
+
+        assertEquals(1, response.getBuckets().size());
+    }
+
+    @Test
+    void shouldParseResolutions() {
+        assertEquals(Duration.ofMinutes(1), WeatherHistoryService.parseResolution("minute"));
+        assertEquals(Duration.ofHours(1), WeatherHistoryService.parseResolution("HOUR"));
+        assertEquals(Duration.ofMinutes(15), WeatherHistoryService.parseResolution("15m"));
+        assertEquals(Duration.ofHours(6), WeatherHistoryService.parseResolution("6h"));
+        assertEquals(Duration.ofDays(7), WeatherHistoryService.parseResolution("7d"));
+        assertEquals(Duration.ofMinutes(90), WeatherHistoryService.parseResolution("PT1H30M"));
+        assertThrows(IllegalArgumentException.class, () -> WeatherHistoryService.parseResolution("30s"));
+        assertThrows(IllegalArgumentException.class, () -> WeatherHistoryService.parseResolution("PT30S"));
+        assertThrows(IllegalArgumentException.class, () -> WeatherHistoryService.parseResolution("0m"));
+    }
+
+    @Test
+    void shouldRejectInvertedRange() {
+        assertThrows(IllegalArgumentException.class, () -> historyService.getHistory("Windholm",
+                "2025-01-15T00:00:00Z", "2025-01-14T00:00:00Z", "hour"));
+    }
+
+    @Test
+    void shouldRejectQueriesExceedingMaxBuckets() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> historyService.getHistory(
+                "Windholm", "2024-01-14T00:00:00Z", "2025-01-14T00:00:00Z", "minute"));
+
+        assertTrue(ex.getMessage().contains("maximum of 1000"));
+    }
+
+    @Test
+    void shouldRejectMalformedTime() {
+        assertThrows(IllegalArgumentException.class, () -> historyService.getHistory("Windholm",
+                "yesterday", null, "hour"));
+    }
+
+    @Test
+    void shouldThrowForUnknownCity() {
+        assertThrows(StationNotFoundException.class, () -> historyService.getHistory("Atlantis",
+                null, null, "hour"));
+    }
+}
@@ -1,16 +1,31 @@
 package com.weather.station.service;
 
+import com.weather.station.cache.ForecastCache;
 import com.weather.station.config.WeatherConfig;
+import com.weather.station.config.WeatherConfigFixtures;
+import com.weather.station.metrics.Phase;
+import com.weather.station.metrics.WeatherMetrics;
 import com.weather.station.model.dto.CurrentWeatherResponse;
 import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.exception.StationNotFoundException;
 import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.registry.StationDefinition;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import com.weather.station.simulation.WeatherSnapshot;
+import com.weather.station.version.ResponseVersion;
+import com.weather.station.version.Versioned;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 
@@ -24,24 +39,30 @@ class WeatherServiceTest {
     private WeatherDataGenerator dataGenerator;
 
     @Mock
-    private WeatherConfig weatherConfig;
+    private WeatherSimulationEngine simulationEngine;
 
-    @InjectMocks
+    private StationRegistry registry;
     private WeatherService weatherService;
+    private final WeatherMetrics metrics = new WeatherMetrics(true);
 
     @BeforeEach
     void setUp() {
-        WeatherConfig.CityConfig cityConfig = new WeatherConfig.CityConfig();
-        cityConfig.setName("Windholm");
-        when(weatherConfig.getCity()).thenReturn(cityConfig);
+        StationRegistry.Builder builder = StationRegistry.builder(2);
+        builder.add(new StationDefinition("Windholm", "Fictionaland", "UTC",
+                -15.0, 35.0, -15.0, 20.0, 20, 100, 0.0, 50.0));
+        builder.add(new StationDefinition("Frostmere", "Fictionaland", "Europe/Oslo",
+                -30.0, 15.0, -30.0, 5.0, 40, 100, 0.0, 60.0));
+        registry = builder.build();
+        weatherService = new WeatherService(dataGenerator, simulationEngine, registry,
+                ForecastCache.disabled(registry), metrics);
     }
 
     @Test
     void shouldGetCurrentWeatherWithWindholmAsCity() {
         when(dataGenerator.generateCurrentTimestamp()).thenReturn("2025-01-14T15:32:00");
-        when(dataGenerator.generateTemperature()).thenReturn(22.5);
-        when(dataGenerator.generateHumidity()).thenReturn(65);
-        when(dataGenerator.generateWindSpeed()).thenReturn(15.3);
+        when(dataGenerator.generateTemperature(anyDouble(), anyDouble())).thenReturn(22.5);
+        when(dataGenerator.generateHumidity(anyInt(), anyInt())).thenReturn(65);
+        when(dataGenerator.generateWindSpeed(anyDouble(), anyDouble())).thenReturn(15.3);
         when(dataGenerator.generateCondition()).thenReturn(WeatherCondition.SUNNY);
 
         CurrentWeatherResponse response = weatherService.getCurrentWeather();
@@ -53,9 +74,9 @@ class WeatherServiceTest {
     @Test
     void shouldGetCurrentWeatherWithAllFieldsPopulated() {
         when(dataGenerator.generateCurrentTimestamp()).thenReturn("2025-01-14T15:32:00");
-        when(dataGenerator.generateTemperature()).thenReturn(22.5);
-        when(dataGenerator.generateHumidity()).thenReturn(65);
-        when(dataGenerator.generateWindSpeed()).thenReturn(15.3);
+        when(dataGenerator.generateTemperature(anyDouble(), anyDouble())).thenReturn(22.5);
+        when(dataGenerator.generateHumidity(anyInt(), anyInt())).thenReturn(65);
+        when(dataGenerator.generateWindSpeed(anyDouble(), anyDouble())).thenReturn(15.3);
         when(dataGenerator.generateCondition()).thenReturn(WeatherCondition.SUNNY);
 
         CurrentWeatherResponse response = weatherService.getCurrentWeather();
@@ -72,29 +93,46 @@ class WeatherServiceTest {
     @Test
     void shouldCallDataGeneratorMethods() {
         when(dataGenerator.generateCurrentTimestamp()).thenReturn("2025-01-14T15:32:00");
-        when(dataGenerator.generateTemperature()).thenReturn(22.5);
-        when(dataGenerator.generateHumidity()).thenReturn(65);
-        when(dataGenerator.generateWindSpeed()).thenReturn(15.3);
+        when(dataGenerator.generateTemperature(anyDouble(), anyDouble())).thenReturn(22.5);
+        when(dataGenerator.generateHumidity(anyInt(), anyInt())).thenReturn(65);
+        when(dataGenerator.generateWindSpeed(anyDouble(), anyDouble())).thenReturn(15.3);
         when(dataGenerator.generateCondition()).thenReturn(WeatherCondition.SUNNY);
 
         weatherService.getCurrentWeather();
 
         verify(dataGenerator).generateCurrentTimestamp();
-        verify(dataGenerator).generateTemperature();
-        verify(dataGenerator).generateHumidity();
-        verify(dataGenerator).generateWindSpeed();
+        verify(dataGenerator).generateTemperature(-15.0, 35.0);
+        verify(dataGenerator).generateHumidity(20, 100);
+        verify(dataGenerator).generateWindSpeed(0.0, 50.0);
         verify(dataGenerator).generateCondition();
     }
 
+    @Test
+    void shouldServeCurrentWeatherFromSimulationSnapshotWhenEnabled() {
+        when(simulationEngine.isEnabled()).thenReturn(true);
+        when(simulationEngine.snapshot(StationRegistry.DEFAULT_STATION)).thenReturn(new WeatherSnapshot(
+                3, 0L, "2025-01-14T15:32:00", 12.5, 68, 14.2, WeatherCondition.CLOUDY));
+
+        CurrentWeatherResponse response = weatherService.getCurrentWeather();
+
+        assertEquals("Windholm", response.getCity());
+        assertEquals("2025-01-14T15:32:00", response.getTimestamp());
+        assertEquals(12.5, response.getTemperature());
+        assertEquals(68, response.getHumidity());
+        assertEquals(14.2, response.getWindSpeed());
+        assertEquals(WeatherCondition.CLOUDY, response.getCondition());
+        verify(dataGenerator, never()).generateTemperature(anyDouble(), anyDouble());
+    }
+
     @Test
     void shouldGetForecastWithWindholmAsCity() {
         List<String> forecastDates = Arrays.asList(
                 "2025-01-15", "2025-01-16", "2025-01-17",
                 "2025-01-18", "2025-01-19", "2025-01-20", "2025-01-21"
         );
-        when(dataGenerator.generateForecastDates()).thenReturn(forecastDates);
-        when(dataGenerator.generateTempMin()).thenReturn(10.0);
-        when(dataGenerator.generateTempMax(anyDouble())).thenReturn(25.0);
+        when(dataGenerator.generateForecastDates(any(LocalDate.class))).thenReturn(forecastDates);
+        when(dataGenerator.generateTempMin(anyDouble(), anyDouble())).thenReturn(10.0);
+        when(dataGenerator.generateTempMax(anyDouble(), anyDouble())).thenReturn(25.0);
         when(dataGenerator.generateCondition()).thenReturn(WeatherCondition.SUNNY);
         when(dataGenerator.generatePrecipitation()).thenReturn(20);
         when(dataGenerator.generateCurrentTimestamp()).thenReturn("2025-01-14T15:32:00");
@@ -111,9 +149,9 @@ class WeatherServiceTest {
                 "2025-01-15", "2025-01-16", "2025-01-17",
                 "2025-01-18", "2025-01-19", "2025-01-20", "2025-01-21"
         );
-        when(dataGenerator.generateForecastDates()).thenReturn(forecastDates);
-        when(dataGenerator.generateTempMin()).thenReturn(10.0);
-        when(dataGenerator.generateTempMax(anyDouble())).thenReturn(25.0);
+        when(dataGenerator.generateForecastDates(any(LocalDate.class))).thenReturn(forecastDates);
+        when(dataGenerator.generateTempMin(anyDouble(), anyDouble())).thenReturn(10.0);
+        when(dataGenerator.generateTempMax(anyDouble(), anyDouble())).thenReturn(25.0);
         when(dataGenerator.generateCondition()).thenReturn(WeatherCondition.SUNNY);
         when(dataGenerator.generatePrecipitation()).thenReturn(20);
         when(dataGenerator.generateCurrentTimestamp()).thenReturn("2025-01-14T15:32:00");
@@ -130,9 +168,9 @@ class WeatherServiceTest {
                 "2025-01-15", "2025-01-16", "2025-01-17",
                 "2025-01-18", "2025-01-19", "2025-01-20", "2025-01-21"
         );
-        when(dataGenerator.generateForecastDates()).thenReturn(forecastDates);
-        when(dataGenerator.generateTempMin()).thenReturn(10.0);
-        when(dataGenerator.generateTempMax(anyDouble())).thenReturn(25.0);
+        when(dataGenerator.generateForecastDates(any(LocalDate.class))).thenReturn(forecastDates);
+        when(dataGenerator.generateTempMin(anyDouble(), anyDouble())).thenReturn(10.0);
+        when(dataGenerator.generateTempMax(anyDouble(), anyDouble())).thenReturn(25.0);
         when(dataGenerator.generateCondition()).thenReturn(WeatherCondition.SUNNY);
         when(dataGenerator.generatePrecipitation()).thenReturn(20);
         when(dataGenerator.generateCurrentTimestamp()).thenReturn("2025-01-14T15:32:00");
@@ -153,4 +191,152 @@ class WeatherServiceTest {
             assertNotNull(response.getForecast().get(i).getPrecipitation());
         }
     }
+
+    @Test
+    void shouldGetCurrentWeatherForCityUsingStationRanges() {
+        when(dataGenerator.generateCurrentTimestamp()).thenReturn("2025-01-14T15:32:00");
+        when(dataGenerator.generateTemperature(-30.0, 15.0)).thenReturn(-4.5);
+        when(dataGenerator.generateHumidity(40, 100)).thenReturn(85);
+        when(dataGenerator.generateWindSpeed(0.0, 60.0)).thenReturn(31.0);
+        when(dataGenerator.generateCondition()).thenReturn(WeatherCondition.SNOWY);
+
+        CurrentWeatherResponse response = weatherService.getCurrentWeather("frostmere");
+
+        assertEquals("Frostmere", response.getCity());
+        assertEquals(-4.5, response.getTemperature());
+        assertEquals(85, response.getHumidity());
+        assertEquals(31.0, response.getWindSpeed());
+        assertEquals(WeatherCondition.SNOWY, response.getCondition());
+    }
+
+    @Test
+    void shouldGetForecastForCityUsingStationRanges() {
+        when(dataGenerator.generateForecastDates(any(LocalDate.class))).thenReturn(List.of("2025-01-15"));
+        when(dataGenerator.generateTempMin(-30.0, 5.0)).thenReturn(-12.0);
+        when(dataGenerator.generateTempMax(-12.0, 15.0)).thenReturn(-2.0);
+        when(dataGenerator.generateCondition()).thenReturn(WeatherCondition.SNOWY);
+        when(dataGenerator.generatePrecipitation()).thenReturn(60);
+        when(dataGenerator.generateCurrentTimestamp()).thenReturn("2025-01-14T15:32:00");
+
+        ForecastResponse response = weatherService.getForecast("Frostmere");
+
+        assertEquals("Frostmere", response.getCity());
+        assertEquals(1, response.getForecast().size());
+        assertEquals(-12.0, response.getForecast().get(0).getTempMin());
+        assertEquals(-2.0, response.getForecast().get(0).getTempMax());
+    }
+
+    @Test
+    void shouldRejectUnknownCity() {
+        assertThrows(StationNotFoundException.class, () -> weatherService.getCurrentWeather("Atlantis"));
+        assertThrows(StationNotFoundException.class, () -> weatherService.getForecast("Atlantis"));
+    }
+
+    @Test
+    void shouldGenerateForecastOncePerLocalDayWhenCached() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-14T23:30:00Z"), ZoneOffset.UTC);
+        weatherService = new WeatherService(dataGenerator, simulationEngine, registry,
+                new ForecastCache(registry, Duration.ofHours(24), 16, clock), metrics);
+        when(dataGenerator.generateForecastDates(any(LocalDate.class))).thenReturn(List.of("2025-01-16"));
+        when(dataGenerator.generateTempMin(anyDouble(), anyDouble())).thenReturn(-12.0);
+        when(dataGenerator.generateTempMax(anyDouble(), anyDouble())).thenReturn(-2.0);
+        when(dataGenerator.generateCondition()).thenReturn(WeatherCondition.SNOWY);
+        when(dataGenerator.generatePrecipitation()).thenReturn(60);
+        when(dataGenerator.generateCurrentTimestamp()).thenReturn("2025-01-14T23:30:00");
+
+        ForecastResponse first = weatherService.getForecast("Frostmere");
+        ForecastResponse second = weatherService.getForecast("Frostmere");
+
+        assertSame(first, second);
+        // 23:30 UTC is already January 15 in Oslo
+        verify(dataGenerator, times(1)).generateForecastDates(LocalDate.of(2025, 1, 15));
+    }
+
+    @Test
+    void shouldRecordGenerationOnlyWhenForecastIsGenerated() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-14T12:00:00Z"), ZoneOffset.UTC);
+        weatherService = new WeatherService(dataGenerator, simulationEngine, registry,
+                new ForecastCache(registry, Duration.ofHours(24), 16, clock), metrics);
+        when(dataGenerator.generateForecastDates(any(LocalDate.class))).thenReturn(List.of("2025-01-15"));
+        when(dataGenerator.generateCondition()).thenReturn(WeatherCondition.SUNNY);
+
+        weatherService.getForecast("Windholm");
+        weatherService.getForecast("Windholm");
+        weatherService.getForecast("Windholm");
+
+        assertEquals(3, metrics.phases().get(Phase.ORCHESTRATION).count());
+        assertEquals(1, metrics.phases().get(Phase.GENERATION).count());
+    }
+
+    @Test
+    void shouldReturnIdenticalResponsesFromIndependentDeterministicReplicas() {
+        WeatherService first = deterministicReplica();
+        WeatherService second = deterministicReplica();
+
+        assertEquals(first.getForecast("Frostmere"), second.getForecast("Frostmere"));
+        assertEquals(first.getCurrentWeather("Windholm"), second.getCurrentWeather("Windholm"));
+        assertNotEquals(first.getForecast("Windholm").getForecast(), first.getForecast("Frostmere").getForecast());
+    }
+
+    @Test
+    void shouldVersionSnapshotResponsesBySequence() {
+        when(simulationEngine.isEnabled()).thenReturn(true);
+        when(simulationEngine.snapshot(StationRegistry.DEFAULT_STATION)).thenReturn(
+                new WeatherSnapshot(3, 1_000L, "2025-01-14T15:32:00", 12.5, 68, 14.2, WeatherCondition.CLOUDY),
+                new WeatherSnapshot(3, 1_000L, "2025-01-14T15:32:00", 12.5, 68, 14.2, WeatherCondition.CLOUDY),
+                new WeatherSnapshot(4, 2_000L, "2025-01-14T15:32:01", 12.6, 68, 14.0, WeatherCondition.CLOUDY));
+
+        ResponseVersion version = weatherService.currentWeatherVersion(StationRegistry.DEFAULT_STATION);
+        Versioned<CurrentWeatherResponse> current =
+                weatherService.getVersionedCurrentWeather(StationRegistry.DEFAULT_STATION);
+        ResponseVersion next = weatherService.currentWeatherVersion(StationRegistry.DEFAULT_STATION);
+
+        assertEquals(version, current.version());
+        assertEquals(1_000L, version.lastModifiedMillis());
+        assertNotEquals(version.etag(), next.etag());
+        verify(dataGenerator, never()).generateTemperature(anyDouble(), anyDouble());
+    }
+
+    @Test
+    void shouldNotVersionRandomCurrentWeather() {
+        assertNull(weatherService.currentWeatherVersion("Windholm"));
+        assertNull(weatherService.getVersionedCurrentWeather("Windholm").version());
+    }
+
+    @Test
+    void shouldVersionDeterministicCurrentWeatherByBucketAcrossReplicas() {
+        WeatherService first = deterministicReplica();
+        WeatherService second = deterministicReplica();
+
+        Versioned<CurrentWeatherResponse> current = first.getVersionedCurrentWeather("Frostmere");
+
+        assertEquals(current.version(), second.currentWeatherVersion("Frostmere"));
+        assertEquals(0, current.version().lastModifiedMillis() % Duration.ofDays(1).toMillis());
+    }
+
+    @Test
+    void shouldVersionCachedForecastUntilItIsRegenerated() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-14T12:00:00Z"), ZoneOffset.UTC);
+        weatherService = new WeatherService(dataGenerator, simulationEngine, registry,
+                new ForecastCache(registry, Duration.ofHours(24), 16, clock), metrics);
+        when(dataGenerator.generateForecastDates(any(LocalDate.class))).thenReturn(List.of("2025-01-15"));
+        when(dataGenerator.generateCondition()).thenReturn(WeatherCondition.SUNNY);
+
+        assertNull(weatherService.forecastVersion("Windholm"));
+        Versioned<ForecastResponse> forecast = weatherService.getVersionedForecast("Windholm");
+
+        assertNotNull(forecast.version());
+        assertEquals(forecast.version(), weatherService.forecastVersion("Windholm"));
+        assertEquals(forecast.version(), weatherService.getVersionedForecast("Windholm").version());
+        assertEquals(forecast, weatherService.getVersionedForecastAsync("Windholm").getNow(null));
+        assertNull(weatherService.forecastVersion("Frostmere"));
+    }
+
+    private WeatherService deterministicReplica() {
+        WeatherConfig config = WeatherConfigFixtures.defaultConfig();
+        config.getGeneration().setDeterministic(true);
+        config.getGeneration().setBucket(Duration.ofDays(1));
+        return new WeatherService(new WeatherDataGenerator(config), simulationEngine, registry,
+                ForecastCache.disabled(registry), metrics);
+    }
 }
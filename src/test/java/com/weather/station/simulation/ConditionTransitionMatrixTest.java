@@ -0,0 +1,57 @@
+package com.weather.station.simulation;
+
+import com.weather.station.model.enums.WeatherCondition;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionTransitionMatrixTest {
+
+    @Test
+    void shouldHaveRowsThatSumToOne() {
+        ConditionTransitionMatrix matrix = new ConditionTransitionMatrix(0.9);
+
+        for (WeatherCondition from : WeatherCondition.values()) {
+            double total = 0.0;
+            for (WeatherCondition to : WeatherCondition.values()) {
+                total += matrix.probability(from, to);
+            }
+            assertEquals(1.0, total, 1e-9, "Row for " + from + " should sum to 1");
+        }
+    }
+
+    @Test
+    void shouldUsePersistenceAsSelfTransitionProbability() {
+        ConditionTransitionMatrix matrix = new ConditionTransitionMatrix(0.9);
+
+        for (WeatherCondition condition : WeatherCondition.values()) {
+            assertEquals(0.9, matrix.probability(condition, condition), 1e-9);
+        }
+    }
+
+    @Test
+    void shouldKeepConditionForLowUniformValues() {
+        ConditionTransitionMatrix matrix = new ConditionTransitionMatrix(1.0);
+
+        for (WeatherCondition condition : WeatherCondition.values()) {
+            assertEquals(condition, matrix.next(condition, 0.0));
+            assertEquals(condition, matrix.next(condition, 0.999));
+        }
+    }
+
+    @Test
+    void shouldFavourPlausibleTransitions() {
+        ConditionTransitionMatrix matrix = new ConditionTransitionMatrix(0.5);
+
+        assertTrue(matrix.probability(WeatherCondition.CLOUDY, WeatherCondition.RAINY)
+                > matrix.probability(WeatherCondition.CLOUDY, WeatherCondition.STORMY));
+        assertTrue(matrix.probability(WeatherCondition.FOGGY, WeatherCondition.SUNNY)
+                > matrix.probability(WeatherCondition.FOGGY, WeatherCondition.STORMY));
+    }
+
+    @Test
+    void shouldRejectInvalidPersistence() {
+        assertThrows(IllegalArgumentException.class, () -> new ConditionTransitionMatrix(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new ConditionTransitionMatrix(-0.1));
+    }
+}
@@ -0,0 +1,283 @@
+package com.weather.station.simulation;
+
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.config.WeatherConfigFixtures;
+import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.registry.StationDefinition;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.WeatherDataGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherSimulationEngineTest {
+
+    private WeatherConfig config;
+    private WeatherSimulationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        config = WeatherConfigFixtures.defaultConfig();
+        engine = new WeatherSimulationEngine(new WeatherDataGenerator(config), config,
+                WeatherConfigFixtures.singleStationRegistry(config), List.of());
+    }
+
+    @Test
+    void shouldPublishInitialSnapshot() {
+        WeatherSnapshot snapshot = engine.snapshot();
+
+        assertNotNull(snapshot);
+        assertEquals(0, snapshot.sequence());
+        assertNotNull(snapshot.condition());
+        assertTrue(snapshot.timestamp().matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}"));
+    }
+
+    @Test
+    void shouldPublishNewSnapshotOnEveryTick() {
+        WeatherSnapshot before = engine.snapshot();
+
+        engine.tick();
+        engine.tick();
+
+        WeatherSnapshot after = engine.snapshot();
+        assertNotSame(before, after);
+        assertEquals(2, after.sequence());
+    }
+
+    @Test
+    void shouldKeepReadingsWithinConfiguredRanges() {
+        for (int i = 0; i < 5_000; i++) {
+            engine.tick();
+            WeatherSnapshot snapshot = engine.snapshot();
+            assertTrue(snapshot.temperature() >= -15.0 && snapshot.temperature() <= 35.0,
+                    "Temperature out of range: " + snapshot.temperature());
+            assertTrue(snapshot.humidity() >= 20 && snapshot.humidity() <= 100,
+                    "Humidity out of range: " + snapshot.humidity());
+            assertTrue(snapshot.windSpeed() >= 0.0 && snapshot.windSpeed() <= 50.0,
+                    "Wind speed out of range: " + snapshot.windSpeed());
+        }
+    }
+
+    @Test
+    void shouldChangeTemperatureSmoothlyBetweenTicks() {
+        double previous = engine.snapshot().temperature();
+        for (int i = 0; i < 1_000; i++) {
+            engine.tick();
+            double current = engine.snapshot().temperature();
+            assertTrue(Math.abs(current - previous) < 5.0,
+                    "Temperature jumped from " + previous + " to " + current);
+            previous = current;
+        }
+    }
+
+    @Test
+    void shouldNotAdvanceWhenDisabled() {
+        config.getSimulation().setEnabled(false);
+        WeatherSnapshot before = engine.snapshot();
+
+        engine.tick();
+
+        assertFalse(engine.isEnabled());
+        assertSame(before, engine.snapshot());
+    }
+
+    @Test
+    void shouldRevertTowardsRangeMidpoint() {
+        double next = WeatherSimulationEngine.step(30.0, -10.0, 30.0, 0.5, 0.0, 0.0);
+
+        assertEquals(20.0, next, 1e-9);
+    }
+
+    @Test
+    void shouldClampStepToRange() {
+        assertEquals(30.0, WeatherSimulationEngine.step(30.0, -10.0, 30.0, 1.0, 1.0, 10.0), 1e-9);
+        assertEquals(-10.0, WeatherSimulationEngine.step(-10.0, -10.0, 30.0, 1.0, 1.0, -10.0), 1e-9);
+    }
+
+    @Test
+    void shouldSimulateEveryStationWithinItsOwnRanges() {
+        StationRegistry.Builder builder = StationRegistry.builder(2);
+        builder.add(StationDefinition.fromConfig(config));
+        builder.add(new StationDefinition("Dustvale", "Fictionaland", "Africa/Cairo",
+                10.0, 48.0, 10.0, 32.0, 5, 40, 0.0, 45.0));
+        WeatherSimulationEngine multiStation = new WeatherSimulationEngine(
+                new WeatherDataGenerator(config), config, builder.build(), List.of());
+
+        for (int i = 0; i < 1_000; i++) {
+            multiStation.tick();
+            WeatherSnapshot dustvale = multiStation.snapshot(1);
+            assertTrue(dustvale.temperature() >= 10.0 && dustvale.temperature() <= 48.0,
+                    "Temperature out of range: " + dustvale.temperature());
+            assertTrue(dustvale.humidity() >= 5 && dustvale.humidity() <= 40,
+                    "Humidity out of range: " + dustvale.humidity());
+        }
+        assertEquals(multiStation.snapshot(0).sequence(), multiStation.snapshot(1).sequence());
+    }
+
+    @Test
+    void shouldFormatTimestampsInStationZone() {
+        StationRegistry.Builder builder = StationRegistry.builder(2);
+        builder.add(StationDefinition.fromConfig(config));
+        builder.add(new StationDefinition("Dustvale", "Fictionaland", "Pacific/Kiritimati",
+                10.0, 48.0, 10.0, 32.0, 5, 40, 0.0, 45.0));
+        WeatherSimulationEngine multiStation = new WeatherSimulationEngine(
+                new WeatherDataGenerator(config), config, builder.build(), List.of());
+
+        WeatherSnapshot dustvale = multiStation.snapshot(1);
+        LocalDateTime local = LocalDateTime.ofInstant(Instant.ofEpochMilli(dustvale.epochMillis()),
+                ZoneId.of("Pacific/Kiritimati"));
+        assertEquals(local.format(new WeatherDataGenerator(config).getPlan().getTimestampFormatter()),
+                dustvale.timestamp());
+        assertNotEquals(multiStation.snapshot(0).timestamp(), dustvale.timestamp());
+    }
+
+    @Test
+    void shouldPublishDeterministicValuesOncePerBucket() {
+        config.getGeneration().setDeterministic(true);
+        WeatherDataGenerator generator = new WeatherDataGenerator(config);
+        List<WeatherSnapshot> received = new ArrayList<>();
+        long bucket;
+        WeatherSimulationEngine seeded;
+        do {
+            received.clear();
+            bucket = generator.timeBucket(System.currentTimeMillis());
+            seeded = new WeatherSimulationEngine(generator, config,
+                    WeatherConfigFixtures.singleStationRegistry(config),
+                    List.of((station, snapshot) -> received.add(snapshot)));
+            seeded.tick();
+            seeded.tick();
+        } while (bucket != generator.timeBucket(System.currentTimeMillis()));
+
+        assertEquals(1, received.size());
+        assertEquals(0, seeded.snapshot().sequence());
+        assertEquals(generator.timeBucketStart(bucket), seeded.snapshot().epochMillis());
+    }
+
+    @Test
+    void shouldNotifyListenersOfEveryPublishedReading() {
+        List<WeatherSnapshot> received = new ArrayList<>();
+        WeatherSimulationEngine observed = new WeatherSimulationEngine(new WeatherDataGenerator(config), config,
+                WeatherConfigFixtures.singleStationRegistry(config),
+                List.of((station, snapshot) -> received.add(snapshot)));
+
+        observed.tick();
+
+        assertEquals(2, received.size());
+        assertSame(observed.snapshot(), received.get(1));
+    }
+
+    @Test
+    void shouldNotRecordInitialReadingsWhenDisabled() {
+        config.getSimulation().setEnabled(false);
+        List<WeatherSnapshot> received = new ArrayList<>();
+        WeatherSimulationEngine observed = new WeatherSimulationEngine(new WeatherDataGenerator(config), config,
+                WeatherConfigFixtures.singleStationRegistry(config),
+                List.of((station, snapshot) -> received.add(snapshot)));
+
+        assertNotNull(observed.snapshot());
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void shouldKeepPublishingWhenListenerFails() {
+        WeatherSimulationEngine observed = new WeatherSimulationEngine(new WeatherDataGenerator(config), config,
+                WeatherConfigFixtures.singleStationRegistry(config),
+                List.of((station, snapshot) -> {
+                    throw new IllegalStateException("listener failure");
+                }));
+
+        observed.tick();
+
+        assertEquals(1, observed.snapshot().sequence());
+    }
+
+    @Test
+    void shouldSkipTickWhilePreviousTickIsRunning() throws InterruptedException {
+        AtomicBoolean blockNext = new AtomicBoolean();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        WeatherSimulationEngine observed = new WeatherSimulationEngine(new WeatherDataGenerator(config), config,
+                WeatherConfigFixtures.singleStationRegistry(config),
+                List.of((station, snapshot) -> {
+                    if (blockNext.compareAndSet(true, false)) {
+                        entered.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                }));
+        blockNext.set(true);
+        Thread slowTick = new Thread(observed::tick);
+        slowTick.start();
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        observed.tick();
+        release.countDown();
+        slowTick.join();
+
+        assertEquals(1, observed.snapshot().sequence());
+    }
+
+    @Test
+    void shouldServeSensorReadingsInsteadOfSimulation() {
+        List<WeatherSnapshot> received = new ArrayList<>();
+        WeatherSimulationEngine observed = new WeatherSimulationEngine(new WeatherDataGenerator(config), config,
+                WeatherConfigFixtures.singleStationRegistry(config),
+                List.of((station, snapshot) -> received.add(snapshot)));
+        long measuredAt = observed.snapshot().epochMillis() - 60_000;
+
+        observed.publishSensorReading(0, measuredAt, 12.34, 55, 7.0, WeatherCondition.RAINY);
+        observed.tick();
+
+        WeatherSnapshot snapshot = observed.snapshot();
+        assertTrue(observed.hasLiveSensor(0));
+        assertEquals(measuredAt, snapshot.epochMillis());
+        assertEquals(12.3, snapshot.temperature(), 1e-9);
+        assertEquals(55, snapshot.humidity());
+        assertEquals(WeatherCondition.RAINY, snapshot.condition());
+        assertEquals(2, received.size());
+        assertTrue(snapshot.sequence() > 0);
+    }
+
+    @Test
+    void shouldRecordButNotServeOutOfOrderSensorReadings() {
+        List<WeatherSnapshot> received = new ArrayList<>();
+        WeatherSimulationEngine observed = new WeatherSimulationEngine(new WeatherDataGenerator(config), config,
+                WeatherConfigFixtures.singleStationRegistry(config),
+                List.of((station, snapshot) -> received.add(snapshot)));
+        long now = System.currentTimeMillis();
+
+        observed.publishSensorReading(0, now, 10.0, 50, 5.0, WeatherCondition.CLOUDY);
+        observed.publishSensorReading(0, now - 1_000, 11.0, 51, 6.0, WeatherCondition.SUNNY);
+
+        assertEquals(10.0, observed.snapshot().temperature(), 1e-9);
+        assertEquals(3, received.size());
+        assertTrue(received.get(2).sequence() > received.get(1).sequence());
+    }
+
+    @Test
+    void shouldResumeSimulationAfterSensorTimeout() {
+        config.getIngest().setSensorTimeout(Duration.ZERO);
+        WeatherSimulationEngine observed = new WeatherSimulationEngine(new WeatherDataGenerator(config), config,
+                WeatherConfigFixtures.singleStationRegistry(config), List.of());
+
+        observed.publishSensorReading(0, System.currentTimeMillis(), 10.0, 50, 5.0, WeatherCondition.CLOUDY);
+        observed.tick();
+
+        assertFalse(observed.hasLiveSensor(0));
+        assertEquals(2, observed.snapshot().sequence());
+    }
+}
@@ -0,0 +1,222 @@
+package com.weather.station.stream;
+
+import com.weather.station.exception.StreamCapacityExceededException;
+import com.weather.station.model.enums.WeatherCondition;
+import com.weather.station.registry.StationDefinition;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.simulation.WeatherSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadingBroadcasterTest {
+
+    private StationRegistry registry;
+    private ExecutorService sender;
+
+    @BeforeEach
+    void setUp() {
+        StationRegistry.Builder builder = StationRegistry.builder(2);
+        builder.add(new StationDefinition("Windholm", "Fictionaland", "UTC",
+                -15.0, 35.0, -15.0, 20.0, 20, 100, 0.0, 50.0));
+        builder.add(new StationDefinition("Frostmere", "Fictionaland", "Europe/Oslo",
+                -30.0, 15.0, -30.0, 5.0, 40, 100, 0.0, 60.0));
+        registry = builder.build();
+        sender = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sender.shutdownNow();
+        sender.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldDeliverReadingsOnlyToSubscribersOfTheStation() throws Exception {
+        ReadingBroadcaster broadcaster = new ReadingBroadcaster(registry, sender, 10);
+        List<WeatherSnapshot> windholm = new CopyOnWriteArrayList<>();
+        List<WeatherSnapshot> frostmere = new CopyOnWriteArrayList<>();
+        broadcaster.subscribe(0, windholm::add);
+        broadcaster.subscribe(1, frostmere::add);
+
+        broadcaster.onReading(1, snapshot(1));
+        awaitDelivered(broadcaster, 1);
+
+        assertTrue(windholm.isEmpty());
+        assertEquals(List.of(snapshot(1)), frostmere);
+    }
+
+    @Test
+    void shouldConflateReadingsForSlowSubscriberWithoutBlockingPublisher() throws Exception {
+        ReadingBroadcaster broadcaster = new ReadingBroadcaster(registry, sender, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> slow = new CopyOnWriteArrayList<>();
+        List<Long> fast = new CopyOnWriteArrayList<>();
+        broadcaster.subscribe(0, snapshot -> {
+            slow.add(snapshot.sequence());
+            awaitQuietly(release);
+        });
+        broadcaster.subscribe(0, snapshot -> fast.add(snapshot.sequence()));
+
+        long start = System.nanoTime();
+        for (long sequence = 1; sequence <= 100; sequence++) {
+            broadcaster.onReading(0, snapshot(sequence));
+            Thread.sleep(sequence == 1 ? 50 : 0);
+        }
+        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+        awaitUntil(() -> slow.contains(100L) && fast.contains(100L));
+
+        assertTrue(publishMillis < 1000, "publisher was blocked for " + publishMillis + "ms");
+        assertEquals(List.of(1L, 100L), slow);
+        assertTrue(broadcaster.stats().conflated() >= 98);
+        assertTrue(isIncreasing(fast));
+    }
+
+    @Test
+    void shouldCancelSubscriptionWhenSinkFails() throws Exception {
+        ReadingBroadcaster broadcaster = new ReadingBroadcaster(registry, sender, 10);
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+        ReadingSubscription subscription = broadcaster.subscribe(0, new ReadingSink() {
+            @Override
+            public void send(WeatherSnapshot snapshot) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                failures.add(ex);
+            }
+        });
+
+        broadcaster.onReading(0, snapshot(1));
+        awaitUntil(subscription::isCancelled);
+
+        assertEquals(1, failures.size());
+        assertEquals(new StreamStats(0, 0, 0, 1), broadcaster.stats());
+    }
+
+    @Test
+    void shouldRejectSubscribersBeyondCapacityAndFreeSlotsOnCancel() {
+        ReadingBroadcaster broadcaster = new ReadingBroadcaster(registry, sender, 2);
+        ReadingSubscription first = broadcaster.subscribe(0, snapshot -> { });
+        broadcaster.subscribe(1, snapshot -> { });
+
+        assertThrows(StreamCapacityExceededException.class, () -> broadcaster.subscribe(0, snapshot -> { }));
+
+        first.cancel();
+        first.cancel();
+        assertEquals(1, broadcaster.stats().subscribers());
+        assertNotNull(broadcaster.subscribe(0, snapshot -> { }));
+    }
+
+    @Test
+    void shouldSkipReadingsOlderThanTheLastDelivered() throws Exception {
+        ReadingBroadcaster broadcaster = new ReadingBroadcaster(registry, sender, 10);
+        List<Long> received = new CopyOnWriteArrayList<>();
+        ReadingSubscription subscription = broadcaster.subscribe(0, snapshot -> received.add(snapshot.sequence()));
+
+        broadcaster.onReading(0, snapshot(5));
+        awaitDelivered(broadcaster, 1);
+        subscription.offer(snapshot(5));
+        subscription.offer(snapshot(4));
+        broadcaster.onReading(0, snapshot(6));
+        awaitUntil(() -> received.contains(6L));
+
+        assertEquals(List.of(5L, 6L), received);
+    }
+
+    @Test
+    void shouldNotLetOlderOfferReplaceNewerPendingReading() throws Exception {
+        ReadingBroadcaster broadcaster = new ReadingBroadcaster(registry, sender, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> received = new CopyOnWriteArrayList<>();
+        ReadingSubscription subscription = broadcaster.subscribe(0, snapshot -> {
+            received.add(snapshot.sequence());
+            awaitQuietly(release);
+        });
+
+        broadcaster.onReading(0, snapshot(1));
+        awaitUntil(() -> received.contains(1L));
+        broadcaster.onReading(0, snapshot(3));
+        subscription.offer(snapshot(2));
+        release.countDown();
+        awaitDelivered(broadcaster, 2);
+
+        assertEquals(List.of(1L, 3L), received);
+        assertEquals(0, broadcaster.stats().conflated());
+    }
+
+    @Test
+    void shouldFanOutToTenThousandSubscribers() throws Exception {
+        int subscribers = 10_000;
+        ReadingBroadcaster broadcaster = new ReadingBroadcaster(registry, sender, subscribers);
+        AtomicLong received = new AtomicLong();
+        for (int i = 0; i < subscribers; i++) {
+            broadcaster.subscribe(i % 2, snapshot -> received.incrementAndGet());
+        }
+
+        for (long sequence = 1; sequence <= 10; sequence++) {
+            broadcaster.onReading(0, snapshot(sequence));
+            broadcaster.onReading(1, snapshot(sequence));
+        }
+        awaitUntil(() -> broadcaster.stats().delivered() + broadcaster.stats().conflated() == subscribers * 10L);
+
+        StreamStats stats = broadcaster.stats();
+        assertEquals(subscribers, stats.subscribers());
+        assertEquals(subscribers * 10L, stats.delivered() + stats.conflated());
+        assertEquals(stats.delivered(), received.get());
+    }
+
+    private static WeatherSnapshot snapshot(long sequence) {
+        return new WeatherSnapshot(sequence, 1_736_870_400_000L + sequence * 1000, "2025-01-14T16:00:00",
+                -3.5, 80, 12.0, WeatherCondition.SNOWY);
+    }
+
+    private static boolean isIncreasing(List<Long> sequences) {
+        for (int i = 1; i < sequences.size(); i++) {
+            if (sequences.get(i) <= sequences.get(i - 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void awaitDelivered(ReadingBroadcaster broadcaster, long delivered) throws InterruptedException {
+        awaitUntil(() -> broadcaster.stats().delivered() >= delivered);
+    }
+
+    private static void awaitUntil(Condition condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.holds()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not reached within 10s");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Condition {
+        boolean holds();
+    }
+}
@@ -0,0 +1,55 @@
+package com.weather.station.version;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseVersionTest {
+
+    private final ResponseVersion version = ResponseVersion.ofSequence('c', 42, 1_736_868_720_500L);
+
+    @Test
+    void shouldCreateQuotedTagsThatDifferBySequenceAndKind() {
+        assertTrue(version.etag().startsWith("\"") && version.etag().endsWith("\""));
+        assertEquals(version, ResponseVersion.ofSequence('c', 42, 1_736_868_720_500L));
+        assertNotEquals(version.etag(), ResponseVersion.ofSequence('c', 43, 0).etag());
+        assertNotEquals(version.etag(), ResponseVersion.ofSequence('f', 42, 0).etag());
+    }
+
+    @Test
+    void shouldCreateSeededTagsIndependentOfProcess() {
+        assertEquals("\"2a-c1b\"", ResponseVersion.ofSeed('c', 42, 47, 0).etag());
+        assertNotEquals(ResponseVersion.ofSeed('c', 42, 47, 0), ResponseVersion.ofSeed('c', 7, 47, 0));
+    }
+
+    @Test
+    void shouldTagEachRepresentationDifferently() {
+        ResponseVersion seeded = ResponseVersion.ofSeed('c', 42, 47, 1_000L);
+
+        assertEquals(new ResponseVersion("\"2a-c1b-j\"", 1_000L), seeded.forRepresentation("j"));
+        assertNotEquals(seeded.forRepresentation("j").etag(), seeded.forRepresentation("b").etag());
+        assertFalse(seeded.forRepresentation("b").notModified(List.of(seeded.forRepresentation("j").etag()), -1));
+    }
+
+    @Test
+    void shouldMatchAnyListedOrWeakTag() {
+        assertTrue(version.notModified(List.of("\"other\"", version.etag()), -1));
+        assertTrue(version.notModified(List.of("W/" + version.etag()), -1));
+        assertTrue(version.notModified(List.of("*"), -1));
+        assertFalse(version.notModified(List.of("\"other\""), -1));
+    }
+
+    @Test
+    void shouldIgnoreModificationDateWhenTagsAreSent() {
+        assertFalse(version.notModified(List.of("\"other\""), Long.MAX_VALUE));
+    }
+
+    @Test
+    void shouldCompareModificationDateToTheSecond() {
+        assertTrue(version.notModified(List.of(), 1_736_868_720_000L));
+        assertFalse(version.notModified(List.of(), 1_736_868_719_000L));
+        assertFalse(version.notModified(List.of(), -1));
+    }
+}
@@ -0,0 +1,94 @@
+package com.weather.station.warmup;
+
+import com.weather.station.cache.ForecastCache;
+import com.weather.station.config.WeatherConfig;
+import com.weather.station.config.WeatherConfigFixtures;
+import com.weather.station.metrics.Phase;
+import com.weather.station.metrics.WeatherMetrics;
+import com.weather.station.model.dto.CurrentWeatherResponse;
+import com.weather.station.model.dto.ForecastResponse;
+import com.weather.station.registry.StationRegistry;
+import com.weather.station.service.WeatherDataGenerator;
+import com.weather.station.service.WeatherService;
+import com.weather.station.simulation.WeatherSimulationEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JitWarmupTest {
+
+    private WeatherService weatherService;
+    private WeatherMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        WeatherConfig config = WeatherConfigFixtures.defaultConfig();
+        config.getSimulation().setEnabled(false);
+        StationRegistry registry = WeatherConfigFixtures.singleStationRegistry(config);
+        WeatherDataGenerator generator = new WeatherDataGenerator(config);
+        metrics = new WeatherMetrics(true);
+        weatherService = new WeatherService(generator,
+                new WeatherSimulationEngine(generator, config, registry, List.of()), registry,
+                ForecastCache.disabled(registry), metrics);
+    }
+
+    @Test
+    void shouldStopAtTheCallCountAndSerializeEveryResponse() {
+        List<Object> written = new ArrayList<>();
+        JitWarmup warmup = new JitWarmup(weatherService, 1, List.of(written::add), metrics, 50,
+                Duration.ofMinutes(1), 10);
+        assertEquals(WarmupState.PENDING, warmup.stats().state());
+
+        WarmupStats stats = warmup.run();
+
+        assertEquals(WarmupState.COMPLETED, stats.state());
+        assertEquals(50, stats.calls());
+        assertEquals(10, stats.firstCalls().count());
+        assertEquals(10, stats.lastCalls().count());
+        assertEquals(100, written.size());
+        assertInstanceOf(CurrentWeatherResponse.class, written.get(0));
+        assertInstanceOf(ForecastResponse.class, written.get(1));
+        assertEquals(stats, warmup.stats());
+    }
+
+    @Test
+    void shouldStopWhenTheTimeBudgetIsSpent() {
+        JitWarmup warmup = new JitWarmup(weatherService, 1, List.of(), metrics, Integer.MAX_VALUE,
+                Duration.ofMillis(50), 100);
+
+        WarmupStats stats = warmup.run();
+
+        assertEquals(WarmupState.COMPLETED, stats.state());
+        assertTrue(stats.calls() > 0);
+        assertTrue(stats.durationMillis() >= 50);
+    }
+
+    @Test
+    void shouldClearPhaseHistogramsAfterwards() {
+        new JitWarmup(weatherService, 1, List.of(), metrics, 20, Duration.ofMinutes(1), 5).run();
+
+        for (Phase phase : Phase.values()) {
+            assertEquals(0, metrics.phases().get(phase).count(), phase.name());
+        }
+    }
+
+    @Test
+    void shouldEndEarlyWhenACallFails() {
+        JitWarmup.Serializer failing = value -> {
+            throw new IOException("disk full");
+        };
+        JitWarmup warmup = new JitWarmup(weatherService, 1, List.of(failing), metrics, 50,
+                Duration.ofMinutes(1), 10);
+
+        WarmupStats stats = warmup.run();
+
+        assertEquals(WarmupState.FAILED, stats.state());
+        assertEquals(0, stats.calls());
+    }
+}